@@ -8,6 +8,7 @@ package org.swisseph;
 
 import org.swisseph.api.ISweJulianDate;
 import org.swisseph.app.SweJulianDate;
+import org.swisseph.app.SweJulianInstant;
 import org.swisseph.app.SweRuntimeException;
 import swisseph.DblObj;
 import swisseph.SweConst;
@@ -20,6 +21,7 @@ import static java.lang.Double.isNaN;
 import static org.swisseph.api.ISweConstants.*;
 import static org.swisseph.api.ISweJulianDate.*;
 import static swisseph.SweConst.ERR;
+import static swisseph.SweConst.OK;
 
 /**
  * {@link ISwissEph} is a wrapper interface to the Swiss Ephemeris API defined in {@link SwephExp}.
@@ -131,6 +133,9 @@ public interface ISwissEph extends Closeable {
     }
 
     default ISweJulianDate initDateTime(ISweJulianDate julianDate) {
+        // derives its local date and time itself, only when they are asked for
+        if (julianDate instanceof SweJulianInstant) return julianDate;
+
         if (null != julianDate.date() && !isNaN(julianDate.localTime())) {
             return julianDate;
         }
@@ -305,6 +310,14 @@ public interface ISwissEph extends Closeable {
         SwephExp.swe_set_sid_mode(sid_mode, t0, ayan_t0);
     }
 
+    /**
+     * @return the sidereal mode set with {@link #swe_set_sid_mode(int, double, double)}, with its
+     * SE_SIDBIT_* bits, or -1 if the engine cannot tell
+     */
+    default int swe_get_sid_mode() {
+        return -1;
+    }
+
     /* get ayanamsa */
     default int swe_get_ayanamsa_ex(double tjd_et, int iflag, double[] daya, StringBuilder serr) {
         return SwephExp.swe_get_ayanamsa_ex(tjd_et, iflag, daya, serr);
@@ -529,6 +542,31 @@ public interface ISwissEph extends Closeable {
         return SwephExp.swe_house_pos(armc, geolat, eps, hsys, xpin, serr);
     }
 
+    /**
+     * The house positions of many points for one ARMC, latitude and obliquity, as
+     * {@link #swe_house_pos(double, double, double, int, double[], StringBuilder)} gives
+     * them one by one.
+     *
+     * @param xlon tropical ecliptic longitudes
+     * @param xlat ecliptic latitudes, null for points on the ecliptic
+     * @param hpos the house positions are returned here, 0 where one cannot be given
+     * @return OK, or ERR if a position could not be given
+     */
+    default int swe_house_pos(double armc, double geolat, double eps, int hsys,
+                              double[] xlon, double[] xlat, double[] hpos, StringBuilder serr) {
+        final double[] xpin = new double[6];
+        int retc = OK;
+
+        for (int i = 0; i < xlon.length; i++) {
+            xpin[0] = xlon[i];
+            xpin[1] = null == xlat ? 0. : xlat[i];
+            hpos[i] = swe_house_pos(armc, geolat, eps, hsys, xpin, serr);
+            if (hpos[i] < 1.) retc = ERR;
+        }
+
+        return retc;
+    }
+
     default String swe_house_name(int hsys) {
         return SwephExp.swe_house_name(hsys);
     }
@@ -724,6 +762,14 @@ public interface ISwissEph extends Closeable {
         SwephExp.swe_set_delta_t_userdef(dt);
     }
 
+    /**
+     * @return the delta t set with {@link #swe_set_delta_t_userdef(double)},
+     * {@link SweConst#SE_DELTAT_AUTOMATIC} if none is, or NaN if the engine cannot tell
+     */
+    default double swe_get_delta_t_userdef() {
+        return Double.NaN;
+    }
+
     default double swe_degnorm(double x) {
         return SwephExp.swe_degnorm(x);
     }
@@ -9,6 +9,8 @@ package org.swisseph;
 
 import swisseph.SwephExp;
 
+import static swisseph.SweConst.SE_DELTAT_AUTOMATIC;
+import static swisseph.SweConst.SE_SIDM_FAGAN_BRADLEY;
 import static swisseph.SwephExp.SWISSEPH_LIBRARY_NAME;
 
 /**
@@ -18,6 +20,10 @@ import static swisseph.SwephExp.SWISSEPH_LIBRARY_NAME;
 public class SwephNative implements ISwissEph {
     protected static final SwephExp swephExp = new SwephExp(SWISSEPH_LIBRARY_NAME);
 
+    // the library keeps a single process-wide value and has no getter for it
+    protected static volatile double delta_t_userdef = SE_DELTAT_AUTOMATIC;
+    protected static volatile int sid_mode = SE_SIDM_FAGAN_BRADLEY;
+
     protected String ephe_path;
     protected boolean topo_set;
     protected double geo_alt;
@@ -56,4 +62,26 @@ public class SwephNative implements ISwissEph {
         this.geo_alt = geoalt;
     }
 
+    @Override
+    public void swe_set_sid_mode(final int sid_mode, final double t0, final double ayan_t0) {
+        ISwissEph.super.swe_set_sid_mode(sid_mode, t0, ayan_t0);
+        SwephNative.sid_mode = sid_mode;
+    }
+
+    @Override
+    public int swe_get_sid_mode() {
+        return sid_mode;
+    }
+
+    @Override
+    public void swe_set_delta_t_userdef(final double dt) {
+        ISwissEph.super.swe_set_delta_t_userdef(dt);
+        delta_t_userdef = dt;
+    }
+
+    @Override
+    public double swe_get_delta_t_userdef() {
+        return delta_t_userdef;
+    }
+
 }
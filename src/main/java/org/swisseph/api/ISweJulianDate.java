@@ -128,11 +128,27 @@ public interface ISweJulianDate extends Serializable, Cloneable {
      */
     double deltaT();
 
+    /**
+     * Attaches delta T computed by an engine<br>
+     * <b>Implementations whose {@link #values()} returns a copy override it</b>
+     */
+    default void deltaT(double deltaT) {
+        values()[IDXD_DELTAT] = deltaT;
+    }
+
     /**
      * @return the date as julian day in ET (Ephemeris Time) or NaN if not calculated yet
      */
     double epheTime();
 
+    /**
+     * Attaches the ephemeris time computed by an engine<br>
+     * <b>Implementations whose {@link #values()} returns a copy override it</b>
+     */
+    default void epheTime(double epheTime) {
+        values()[IDXD_ETIME] = epheTime;
+    }
+
     /**
      * @return local time (decimal hours in time zone) or NaN if not calculated yet
      */
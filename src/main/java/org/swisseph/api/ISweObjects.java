@@ -266,6 +266,45 @@ public interface ISweObjects extends ISweContext, Serializable {
         return house;
     }
 
+    /**
+     * {@link #calculatePlanetHousePosition(int)} for several objects at once. They share the
+     * ARMC, latitude and obliquity, so one batch <code>swe_house_pos()</code> computes what
+     * the house system derives from those only once.
+     *
+     * @return house positions in [1, 13), in the order of the given objects
+     */
+    default double[] calculatePlanetHousePositions(final int... objIds) {
+        final ISweHouseSystem houseSystem = sweOptions().houseSystem();
+        final double[] hpos = new double[objIds.length];
+
+        if (SE_HSYS_WHOLE_SIGN == houseSystem.fid()) {
+            for (int i = 0; i < objIds.length; i++) {
+                hpos[i] = calculatePlanetHousePosition(objIds[i]);
+            }
+            return hpos;
+        }
+
+        // a tropical chart has no ayanamsa to add back
+        final double ayanamsa = sweOptions().ayanamsa().sidereal() ? ayanamsa() : d0;
+
+        final double[] xlon = new double[objIds.length];
+        for (int i = 0; i < objIds.length; i++) {
+            xlon[i] = longitudes()[objIds[i]] + ayanamsa;
+        }
+
+        if (ERR == swissEph().swe_house_pos(ascmc()[SE_ARMC], sweLocation().latitude(),
+                trueObliquity(), houseSystem.fid(), xlon, null, hpos, sweError())) {
+            for (int i = 0; i < objIds.length; i++) {
+                if (hpos[i] < d1) {
+                    throw new SweRuntimeException("Cannot determine the house of object " + objIds[i]
+                            + " in house system " + houseSystem.code() + ": " + sweError());
+                }
+            }
+        }
+
+        return hpos;
+    }
+
     /**
      * The true obliquity of the ecliptic of date, in degrees - mean obliquity plus the
      * nutation in obliquity. This is what <code>swe_houses_ex()</code> builds the cusps
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.api;
+
+import java.io.Serializable;
+
+/**
+ * One retrograde cycle of a planet, with its shadow.
+ * <p>
+ * While retrograde the planet goes back from the longitude of its retrograde station to the
+ * one of its direct station. The <i>pre-retrograde shadow</i> starts when the planet first
+ * reaches that lower longitude on its way forward, before the retrograde station, and the
+ * <i>post-retrograde shadow</i> ends when it is back at the longitude of the retrograde
+ * station, after the direct station. So the planet crosses every degree of the shadow three
+ * times in between.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ * @see org.swisseph.app.SweStations#retrogrades(int, double, double)
+ */
+public interface ISweRetrogradeCycle extends Serializable {
+
+    /**
+     * @return the Swiss Ephemeris object number, e.g. {@code SE_MERCURY}
+     */
+    int planet();
+
+    /**
+     * @return the moment the planet first reaches the longitude of the direct station,
+     *         universal time
+     */
+    ISweJulianDate shadowStart();
+
+    /**
+     * @return the station the planet turns retrograde at
+     */
+    ISweStation retrogradeStation();
+
+    /**
+     * @return the station the planet turns direct at
+     */
+    ISweStation directStation();
+
+    /**
+     * @return the moment the planet is back at the longitude of the retrograde station,
+     *         universal time
+     */
+    ISweJulianDate shadowEnd();
+}
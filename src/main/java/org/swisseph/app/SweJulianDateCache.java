@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.app;
+
+import org.swisseph.ISwissEph;
+import org.swisseph.api.ISweJulianDate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Double.isNaN;
+import static org.swisseph.api.ISweConstants.d0;
+import static org.swisseph.api.ISweJulianDate.IDXD_JULDAY;
+import static org.swisseph.api.ISweJulianDate.IDXD_UTIME;
+import static swisseph.SweConst.SEFLG_EPHMASK;
+
+/**
+ * Bounded memo of the date resolution every chart goes through: local date, time and
+ * time zone into the julian day and universal time ({@link ISwissEph#initJulianDate}), and
+ * the julian day into delta t. Worth having where the same birth dates and "now"
+ * timestamps come back again and again; hand it to
+ * {@link SweObjects#SweObjects(ISwissEph, SweJulianDateCache, ISweJulianDate,
+ * org.swisseph.api.ISweGeoLocation, org.swisseph.api.ISweObjectsOptions, boolean)}.
+ * <br><br>
+ * The first resolution is pure calendar arithmetic, the same for every engine. Delta t is
+ * not: it is keyed with the kind of engine, its ephemeris flag, and the tidal acceleration and
+ * user defined delta t ({@code swe_set_delta_t_userdef}) in effect at the call. Both are
+ * settings of each Java engine, so an engine with a pinned delta t never hands its values to
+ * the others. An engine that cannot tell its user defined delta t
+ * ({@link ISwissEph#swe_get_delta_t_userdef()} is NaN) always computes delta t anew.
+ * <br><br>
+ * Each of the two tables keeps at most {@code capacity} entries, least recently used ones
+ * are evicted. The instance is thread safe and meant to be shared.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweJulianDateCache {
+    private final LruMap<DateKey, double[]> julianDays;
+    private final LruMap<DeltaTKey, Double> deltaTs;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SweJulianDateCache(final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.julianDays = new LruMap<>(capacity);
+        this.deltaTs = new LruMap<>(capacity);
+    }
+
+    /**
+     * Same as {@link ISwissEph#initJulianDate}, remembering the julian day and universal time
+     * resolved for a local date, time and time zone. Instances that already have their julian
+     * day are passed straight through.
+     */
+    public ISweJulianDate initJulianDate(final ISwissEph swissEph, final ISweJulianDate julianDate) {
+        if (null == julianDate) throw new SweRuntimeException("ISweJulianDate is mandatory parameter");
+
+        final double julDay = julianDate.julianDay();
+        final int[] date = julianDate.date();
+
+        if ((d0 <= julDay && !isNaN(julDay)) || null == date || date.length < 3) {
+            return swissEph.initJulianDate(julianDate);
+        }
+
+        final DateKey key = new DateKey(julianDate);
+        final double[] resolved;
+
+        synchronized (julianDays) {
+            resolved = julianDays.get(key);
+        }
+
+        if (null != resolved) {
+            hits.increment();
+            julianDate.values()[IDXD_JULDAY] = resolved[0];
+            julianDate.values()[IDXD_UTIME] = resolved[1];
+            return swissEph.initDateTime(julianDate);
+        }
+
+        misses.increment();
+        final ISweJulianDate result = swissEph.initJulianDate(julianDate);
+
+        synchronized (julianDays) {
+            julianDays.put(key, new double[]{result.julianDay(), result.utime()});
+        }
+
+        return result;
+    }
+
+    /**
+     * Same as {@code swissEph.swe_deltat_ex(julDay, iflag, null)}, remembered under the tidal
+     * acceleration and the user defined delta t the engine reports now
+     * ({@link ISwissEph#swe_get_tid_acc()}, {@link ISwissEph#swe_get_delta_t_userdef()}).
+     */
+    public double deltaT(final ISwissEph swissEph, final double julDay, final int iflag) {
+        final double userDeltaT = swissEph.swe_get_delta_t_userdef();
+        if (isNaN(userDeltaT)) return swissEph.swe_deltat_ex(julDay, iflag, null);
+
+        final DeltaTKey key = new DeltaTKey(julDay, swissEph.swe_get_tid_acc(), userDeltaT,
+                swissEph.isNativeAPI(), iflag & SEFLG_EPHMASK);
+        final Double resolved;
+
+        synchronized (deltaTs) {
+            resolved = deltaTs.get(key);
+        }
+
+        if (null != resolved) {
+            hits.increment();
+            return resolved;
+        }
+
+        misses.increment();
+        final double deltaT = swissEph.swe_deltat_ex(julDay, iflag, null);
+
+        synchronized (deltaTs) {
+            deltaTs.put(key, deltaT);
+        }
+
+        return deltaT;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return share of the lookups answered from the cache, 0 before the first lookup
+     */
+    public double hitRate() {
+        final long h = hits.sum(), total = h + misses.sum();
+        return 0 == total ? d0 : (double) h / total;
+    }
+
+    /**
+     * @return number of entries in both tables
+     */
+    public int size() {
+        int size;
+        synchronized (julianDays) {
+            size = julianDays.size();
+        }
+        synchronized (deltaTs) {
+            size += deltaTs.size();
+        }
+        return size;
+    }
+
+    /**
+     * Drops all entries and resets the statistics
+     */
+    public void clear() {
+        synchronized (julianDays) {
+            julianDays.clear();
+        }
+        synchronized (deltaTs) {
+            deltaTs.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "SweJulianDateCache{size=" + size() + ", hits=" + hits() + ", misses=" + misses() + '}';
+    }
+
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = -1622338420391416563L;
+        private final int capacity;
+
+        LruMap(final int capacity) {
+            super(16, .75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private static final class DateKey {
+        final int year, month, day, calendar;
+        final long localTime, utime;
+        final float timeZone;
+
+        DateKey(final ISweJulianDate julianDate) {
+            this.year = julianDate.year();
+            this.month = julianDate.month();
+            this.day = julianDate.day();
+            this.calendar = julianDate.sweCalendarType();
+            this.localTime = doubleToLongBits(julianDate.localTime());
+            this.utime = doubleToLongBits(julianDate.utime());
+            this.timeZone = julianDate.timeZone();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DateKey)) return false;
+            final DateKey k = (DateKey) o;
+            return year == k.year && month == k.month && day == k.day && calendar == k.calendar
+                    && localTime == k.localTime && utime == k.utime
+                    && Float.compare(timeZone, k.timeZone) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = (year * 13 + month) * 32 + day;
+            h = 31 * h + Long.hashCode(localTime);
+            h = 31 * h + Long.hashCode(utime);
+            h = 31 * h + Float.hashCode(timeZone);
+            return 31 * h + calendar;
+        }
+    }
+
+    private static final class DeltaTKey {
+        final long julDay, tidAcc, userDeltaT;
+        final boolean nativeAPI;
+        final int epheFlag;
+
+        DeltaTKey(final double julDay, final double tidAcc, final double userDeltaT,
+                  final boolean nativeAPI, final int epheFlag) {
+            this.julDay = doubleToLongBits(julDay);
+            this.tidAcc = doubleToLongBits(tidAcc);
+            this.userDeltaT = doubleToLongBits(userDeltaT);
+            this.nativeAPI = nativeAPI;
+            this.epheFlag = epheFlag;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DeltaTKey)) return false;
+            final DeltaTKey k = (DeltaTKey) o;
+            return julDay == k.julDay && tidAcc == k.tidAcc && userDeltaT == k.userDeltaT
+                    && nativeAPI == k.nativeAPI && epheFlag == k.epheFlag;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Long.hashCode(julDay);
+            h = 31 * h + Long.hashCode(tidAcc);
+            h = 31 * h + Long.hashCode(userDeltaT);
+            h = 31 * h + epheFlag;
+            return nativeAPI ? ~h : h;
+        }
+    }
+}
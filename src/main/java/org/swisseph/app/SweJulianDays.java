@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.app;
+
+import org.swisseph.ISwissEph;
+import swisseph.SweDate;
+
+import java.util.stream.IntStream;
+
+import static java.lang.Double.NaN;
+import static swisseph.SweConst.ERR;
+import static swisseph.SweConst.SE_GREG_CAL;
+
+/**
+ * Bulk conversions between calendar dates and julian day numbers over <b>primitive
+ * arrays</b> - one array per field, one row per date - for imports of many dates at once.
+ * <p>
+ * {@link ISwissEph#initJulianDate} and the convenience {@code swe_revjul()} build an
+ * {@link org.swisseph.api.ISweJulianDate} plus an {@code int[]} and a {@code double[]} for
+ * every single date. The methods here write into arrays the caller owns and allocate
+ * nothing per row, so millions of rows cost the arithmetic and nothing else.
+ * <p>
+ * <b>Calendar arithmetic</b> ({@link #julday}, {@link #revjul}, {@link #utcTimeZone}) is
+ * the same in both engines and needs none, so those methods are static. <b>UTC with leap
+ * seconds</b> ({@link #utcToJd}) needs delta t and the leap seconds table, so it runs on
+ * the engines given to the constructor.
+ * <p>
+ * <b>Parallelism.</b> Every method takes a {@code parallel} flag. The arithmetic is split
+ * into chunks of {@link #PARALLEL_CHUNK} rows. The UTC conversion is split into one slice
+ * per engine, and each slice only ever uses its own engine, so pass as many engines as
+ * threads you want to keep busy. A single {@link org.swisseph.SwephNative} instance shares
+ * process-wide state with every other one and should not be used in parallel.
+ *
+ * <pre>
+ * SweJulianDays.julday(year, month, day, hour, minute, second, timeZone, SE_GREG_CAL, jdUT, true);
+ *
+ * SweJulianDays days = new SweJulianDays(swissEph1, swissEph2, swissEph3, swissEph4);
+ * int failed = days.utcToJd(year, month, day, hour, minute, second, SE_GREG_CAL, jdET, jdUT1, true);
+ * </pre>
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweJulianDays {
+
+    /** rows per task when the arithmetic runs in parallel */
+    public static final int PARALLEL_CHUNK = 1 << 13;
+
+    protected final ISwissEph[] swissEphs;
+
+    /**
+     * @param swissEphs the engines for {@link #utcToJd}: one is enough to run sequentially,
+     *            a parallel conversion gives each of them a slice of its own
+     */
+    public SweJulianDays(ISwissEph... swissEphs) {
+        if (null == swissEphs || swissEphs.length == 0) {
+            throw new IllegalArgumentException("At least one ISwissEph is expected");
+        }
+
+        for (ISwissEph swissEph : swissEphs) {
+            if (null == swissEph) throw new IllegalArgumentException("ISwissEph cannot be NULL");
+        }
+
+        this.swissEphs = swissEphs.clone();
+    }
+
+    // ------------------------------------------------------------------ calendar arithmetic
+
+    /**
+     * {@code swe_julday()} for every row: {@code julDay[i]} from {@code year[i]},
+     * {@code month[i]}, {@code day[i]} and the decimal hour {@code hour[i]}.
+     *
+     * @param gregflag {@code SE_GREG_CAL} or {@code SE_JUL_CAL}
+     */
+    public static void julday(final int[] year, final int[] month, final int[] day, final double[] hour,
+                              final int gregflag, final double[] julDay, final boolean parallel) {
+        final int rows = julDay.length;
+        checkLength(rows, year, month, day);
+        checkLength(rows, hour);
+
+        final boolean calType = gregflag == SE_GREG_CAL;
+        forEachChunk(rows, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                julDay[i] = SweDate.swe_julday(year[i], month[i], day[i], hour[i], calType);
+            }
+        });
+    }
+
+    /**
+     * The universal time julian day of local dates: what {@link ISwissEph#initJulianDay}
+     * computes via {@code swe_utc_time_zone()} and {@code swe_julday()}, in one step per
+     * row. Leap seconds are not applied - see {@link #utcToJd} for that.
+     *
+     * @param timeZone the zone of each row in hours, positive east of Greenwich
+     * @param gregflag {@code SE_GREG_CAL} or {@code SE_JUL_CAL}
+     */
+    public static void julday(final int[] year, final int[] month, final int[] day,
+                              final int[] hour, final int[] minute, final double[] second,
+                              final double[] timeZone, final int gregflag,
+                              final double[] julDay, final boolean parallel) {
+        final int rows = julDay.length;
+        checkLength(rows, year, month, day, hour, minute);
+        checkLength(rows, second, timeZone);
+
+        final boolean calType = gregflag == SE_GREG_CAL;
+        forEachChunk(rows, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                // swe_julday() is linear in the hour, so an hour outside 0..24 simply
+                // lands on the neighbouring day - the zone is applied right here
+                final double utime = hour[i] + minute[i] / 60. + second[i] / 3600. - timeZone[i];
+                julDay[i] = SweDate.swe_julday(year[i], month[i], day[i], utime, calType);
+            }
+        });
+    }
+
+    /**
+     * {@code swe_revjul()} for every row: the calendar date and decimal hour of
+     * {@code julDay[i]}.
+     *
+     * @param gregflag {@code SE_GREG_CAL} or {@code SE_JUL_CAL}
+     */
+    public static void revjul(final double[] julDay, final int gregflag,
+                              final int[] year, final int[] month, final int[] day,
+                              final double[] hour, final boolean parallel) {
+        final int rows = julDay.length;
+        checkLength(rows, year, month, day);
+        checkLength(rows, hour);
+
+        final boolean calType = gregflag == SE_GREG_CAL;
+        forEachChunk(rows, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                final double jd = julDay[i];
+                final int ndat = SweDate.swe_revjul_ndat(jd, calType);
+                year[i] = Math.floorDiv(ndat, 10000);
+                month[i] = Math.floorMod(ndat, 10000) / 100;
+                day[i] = Math.floorMod(ndat, 100);
+                hour[i] = (jd - Math.floor(jd + 0.5) + 0.5) * 24.;
+            }
+        });
+    }
+
+    /**
+     * {@code swe_utc_time_zone()} for every row, <b>in place</b>: the six field arrays are
+     * overwritten with the converted date. A second of 60 (a leap second) is kept as such.
+     *
+     * @param timeZone the zone of each row in hours, positive east of Greenwich
+     * @param utcToLocal {@code true} to convert UTC to local time, {@code false} for local
+     *            time to UTC - the sign flip the raw call expects is done here
+     */
+    public static void utcTimeZone(final int[] year, final int[] month, final int[] day,
+                                   final int[] hour, final int[] minute, final double[] second,
+                                   final double[] timeZone, final boolean utcToLocal,
+                                   final boolean parallel) {
+        final int rows = year.length;
+        checkLength(rows, month, day, hour, minute);
+        checkLength(rows, second, timeZone);
+
+        forEachChunk(rows, parallel, (from, to) -> {
+            final int[] ymdhm = new int[5];
+            final double[] dsec = new double[1];
+
+            for (int i = from; i < to; i++) {
+                SweDate.swe_utc_time_zone(year[i], month[i], day[i], hour[i], minute[i], second[i],
+                        utcToLocal ? -timeZone[i] : timeZone[i], ymdhm, dsec);
+
+                year[i] = ymdhm[0];
+                month[i] = ymdhm[1];
+                day[i] = ymdhm[2];
+                hour[i] = ymdhm[3];
+                minute[i] = ymdhm[4];
+                second[i] = dsec[0];
+            }
+        });
+    }
+
+    // ------------------------------------------------------------------ UTC, leap seconds
+
+    /**
+     * {@code swe_utc_to_jd()} for every row: UTC with leap seconds into the julian day in
+     * ET ({@code jdET[i]}) and UT1 ({@code jdUT1[i]}). Dates before 1972 are taken as UT1,
+     * as the single call does.
+     *
+     * @param jdET receives the ephemeris time, may be {@code null} if not wanted
+     * @return the number of rows the engine rejected; their outputs are {@code NaN}
+     */
+    public int utcToJd(final int[] year, final int[] month, final int[] day,
+                       final int[] hour, final int[] minute, final double[] second,
+                       final int gregflag, final double[] jdET, final double[] jdUT1,
+                       final boolean parallel) {
+        return utcToJd(year, month, day, hour, minute, second, null, gregflag, jdET, jdUT1, parallel);
+    }
+
+    /**
+     * The same as {@link #utcToJd(int[], int[], int[], int[], int[], double[], int, double[], double[], boolean)},
+     * for <b>local</b> dates: each row is first moved to UTC with its own zone, exactly as
+     * {@code swe_utc_time_zone()} would. The field arrays are left untouched.
+     *
+     * @param timeZone the zone of each row in hours, positive east of Greenwich;
+     *            {@code null} when the dates already are UTC
+     */
+    public int utcToJd(final int[] year, final int[] month, final int[] day,
+                       final int[] hour, final int[] minute, final double[] second,
+                       final double[] timeZone, final int gregflag,
+                       final double[] jdET, final double[] jdUT1, final boolean parallel) {
+        final int rows = jdUT1.length;
+        checkLength(rows, year, month, day, hour, minute);
+        checkLength(rows, second);
+        if (null != jdET) checkLength(rows, jdET);
+        if (null != timeZone) checkLength(rows, timeZone);
+
+        final int slices = parallel ? Math.min(swissEphs.length, Math.max(1, rows)) : 1;
+        final int[] failed = new int[slices];
+
+        final IntStream stream = IntStream.range(0, slices);
+        (slices > 1 ? stream.parallel() : stream).forEach(slice -> {
+            final int from = (int) ((long) rows * slice / slices);
+            final int to = (int) ((long) rows * (slice + 1) / slices);
+            failed[slice] = utcToJd(swissEphs[slice], from, to, year, month, day,
+                    hour, minute, second, timeZone, gregflag, jdET, jdUT1);
+        });
+
+        int total = 0;
+        for (int count : failed) total += count;
+        return total;
+    }
+
+    /**
+     * One slice of rows on one engine. The scratch arrays are made once per slice.
+     */
+    protected static int utcToJd(final ISwissEph swissEph, final int from, final int to,
+                                 final int[] year, final int[] month, final int[] day,
+                                 final int[] hour, final int[] minute, final double[] second,
+                                 final double[] timeZone, final int gregflag,
+                                 final double[] jdET, final double[] jdUT1) {
+        final StringBuilder serr = new StringBuilder();
+        final double[] dret = new double[2];
+        final double[] dsec = new double[1];
+        final int[] ymdhm = new int[5];
+        int failed = 0;
+
+        for (int i = from; i < to; i++) {
+            ymdhm[0] = year[i];
+            ymdhm[1] = month[i];
+            ymdhm[2] = day[i];
+            ymdhm[3] = hour[i];
+            ymdhm[4] = minute[i];
+            dsec[0] = second[i];
+
+            if (null != timeZone && timeZone[i] != 0.) {
+                SweDate.swe_utc_time_zone(ymdhm[0], ymdhm[1], ymdhm[2], ymdhm[3], ymdhm[4],
+                        dsec[0], timeZone[i], ymdhm, dsec);
+            }
+
+            final int result = swissEph.swe_utc_to_jd(ymdhm[0], ymdhm[1], ymdhm[2], ymdhm[3],
+                    ymdhm[4], dsec[0], gregflag, dret, serr);
+
+            if (result == ERR) {
+                serr.setLength(0);
+                dret[0] = dret[1] = NaN;
+                failed++;
+            }
+
+            if (null != jdET) jdET[i] = dret[0];
+            jdUT1[i] = dret[1];
+        }
+
+        return failed;
+    }
+
+    // ------------------------------------------------------------------ internals
+
+    @FunctionalInterface
+    protected interface RowRange {
+        void convert(int from, int to);
+    }
+
+    protected static void forEachChunk(final int rows, final boolean parallel, final RowRange range) {
+        if (!parallel || rows <= PARALLEL_CHUNK) {
+            range.convert(0, rows);
+            return;
+        }
+
+        final int chunks = (rows + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> range.convert(chunk * PARALLEL_CHUNK,
+                Math.min(rows, (chunk + 1) * PARALLEL_CHUNK)));
+    }
+
+    protected static void checkLength(final int rows, final int[]... arrays) {
+        for (int[] array : arrays) {
+            if (null == array || array.length < rows) {
+                throw new IllegalArgumentException("Every array must hold at least " + rows + " rows");
+            }
+        }
+    }
+
+    protected static void checkLength(final int rows, final double[]... arrays) {
+        for (double[] array : arrays) {
+            if (null == array || array.length < rows) {
+                throw new IllegalArgumentException("Every array must hold at least " + rows + " rows");
+            }
+        }
+    }
+}
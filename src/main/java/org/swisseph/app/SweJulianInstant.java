@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.app;
+
+import org.swisseph.api.ISweJulianDate;
+import swisseph.SweDate;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.lang.Double.NaN;
+import static java.lang.Double.compare;
+import static java.lang.Double.isNaN;
+import static org.swisseph.api.ISweConstants.*;
+
+/**
+ * A julian day with its time zone and calendar - the compact counterpart of
+ * {@link SweJulianDate} for the common path "julian day in, ephemeris time out".
+ * <br><br>
+ * Nothing but the julian day is computed up front. The local date and time are derived on
+ * the first call that needs them, straight from the julian day and without the reverse
+ * calendar and time-zone conversions {@link org.swisseph.ISwissEph#initDateTime} does for
+ * {@link SweJulianDate}, which returns this instance as it is. Delta t depends on the engine
+ * and its tidal acceleration, so it is attached afterwards, by the engine, together with the
+ * ephemeris time. The julian day and the calendar are fixed: setting the local time moves
+ * the time zone instead.
+ * <br><br>
+ * {@link #values()} and {@link #date()} return copies.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweJulianInstant implements ISweJulianDate {
+    private static final long serialVersionUID = -3907215604816335283L;
+
+    private static final byte CAL_DEDUCED = -1, CAL_JULIAN = 0, CAL_GREGORIAN = 1;
+
+    private final double julianDay;
+    private float timeZone;
+    private final byte calendar;
+
+    private double deltaT = NaN;
+    private double epheTime = NaN;
+
+    // derived on demand: local date as yyyymmdd (written last, 0 while not derived yet)
+    private transient volatile int ndat;
+    private transient double localTime;
+    private transient double utime;
+
+    public SweJulianInstant(double julDay) {
+        this(julDay, UT_TMZ);
+    }
+
+    public SweJulianInstant(double julDay, float timeZone) {
+        this(julDay, timeZone, null);
+    }
+
+    /**
+     * @param julDay   julian day number (UT)
+     * @param timeZone hours east of Greenwich the local date and time are given in
+     * @param calendar {@link #SE_GREG_CAL}, {@link #SE_JUL_CAL}, or null to deduce it
+     * @see ISweJulianDate#calendar()
+     */
+    public SweJulianInstant(double julDay, float timeZone, Boolean calendar) {
+        if (d0 > julDay || isNaN(julDay)) {
+            throw new SweRuntimeException("Valid julian day number is expected");
+        }
+
+        this.julianDay = julDay;
+        this.timeZone = timeZone;
+        this.calendar = null == calendar ? CAL_DEDUCED : calendar ? CAL_GREGORIAN : CAL_JULIAN;
+    }
+
+    @Override
+    public Boolean calendar() {
+        return CAL_DEDUCED == calendar ? null : CAL_GREGORIAN == calendar;
+    }
+
+    @Override
+    public double julianDay() {
+        return julianDay;
+    }
+
+    @Override
+    public float timeZone() {
+        return timeZone;
+    }
+
+    @Override
+    public double deltaT() {
+        return deltaT;
+    }
+
+    @Override
+    public void deltaT(final double deltaT) {
+        this.deltaT = deltaT;
+    }
+
+    @Override
+    public double epheTime() {
+        return epheTime;
+    }
+
+    @Override
+    public void epheTime(final double epheTime) {
+        this.epheTime = epheTime;
+    }
+
+    @Override
+    public double utime() {
+        derive();
+        return utime;
+    }
+
+    @Override
+    public double localTime() {
+        derive();
+        return localTime;
+    }
+
+    /**
+     * The julian day stays, so the time zone moves by the difference to the local time of
+     * now, the shorter way round the day.
+     */
+    @Override
+    public void localTime(final double ltime) {
+        if (isNaN(ltime)) throw new SweRuntimeException("Valid local time is expected");
+        this.timeZone = (float) (timeZone + Math.IEEEremainder(ltime - localTime(), d24));
+        this.ndat = i0;
+    }
+
+    @Override
+    public int year() {
+        return Math.floorDiv(derive(), 10000);
+    }
+
+    @Override
+    public int month() {
+        return Math.floorMod(derive(), 10000) / 100;
+    }
+
+    @Override
+    public int day() {
+        return Math.floorMod(derive(), 100);
+    }
+
+    @Override
+    public int[] date() {
+        final int yyyymmdd = derive();
+        return new int[]{Math.floorDiv(yyyymmdd, 10000),
+                Math.floorMod(yyyymmdd, 10000) / 100, Math.floorMod(yyyymmdd, 100)};
+    }
+
+    @Override
+    public double[] values() {
+        return new double[]{timeZone, julianDay, deltaT, utime(), epheTime, localTime()};
+    }
+
+    /**
+     * Nothing to do: the derived times are rounded to the nanosecond already.
+     */
+    @Override
+    public void makeValidTime() {
+    }
+
+    /**
+     * Same results as the {@code swe_revjul()} and {@code swe_utc_time_zone()} pair of
+     * {@link org.swisseph.ISwissEph#initDateTime}, done on the day number directly.
+     *
+     * @return local date as yyyymmdd
+     */
+    private int derive() {
+        int yyyymmdd = ndat;
+        if (i0 != yyyymmdd) return yyyymmdd;
+
+        final double noon = Math.floor(julianDay + d05);
+        final double ut = SweJulianDate.roundToNanos((julianDay - noon + d05) * d24);
+
+        double lt = ut + timeZone, day = noon;
+        if (lt < d0) {
+            lt += d24;
+            day -= d1;
+        } else if (lt >= d24) {
+            lt -= d24;
+            day += d1;
+        }
+
+        this.utime = ut;
+        this.localTime = SweJulianDate.roundToNanos(lt);
+        return this.ndat = SweDate.swe_revjul_ndat(day, gregorianCalendar());
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        if (!(another instanceof ISweJulianDate)) return false;
+        return compare(((ISweJulianDate) another).julianDay(), julianDay) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(julianDay);
+    }
+
+    @Override
+    public String toString() {
+        return "date=" + Arrays.toString(date())
+                + ", vals=" + Arrays.toString(values());
+    }
+}
@@ -21,8 +21,6 @@ import java.util.Arrays;
 
 import static java.lang.Double.isNaN;
 import static org.swisseph.api.ISweConstants.*;
-import static org.swisseph.api.ISweJulianDate.IDXD_DELTAT;
-import static org.swisseph.api.ISweJulianDate.IDXD_ETIME;
 import static swisseph.SweConst.*;
 
 /**
@@ -59,6 +57,10 @@ public class SweObjects implements ISweObjects {
     protected transient StringBuilder sweError =  new StringBuilder(0);
     protected transient SweObjectsSequence sequence;
     protected transient ISwissEph swissEph;
+    protected final transient SweJulianDateCache dateCache;
+
+    // set while completeBuild() builds the objects, which then get their houses in one batch
+    private transient boolean deferHouses;
 
     // ------------------------------------------------------------------------
 
@@ -73,6 +75,15 @@ public class SweObjects implements ISweObjects {
 
     public SweObjects(ISwissEph swissEph, ISweJulianDate sweJulianDate, ISweGeoLocation sweLocation,
                       ISweObjectsOptions sweOptions, boolean buildAscendant) {
+        this(swissEph, null, sweJulianDate, sweLocation, sweOptions, buildAscendant);
+    }
+
+    /**
+     * @param dateCache resolves the julian day and delta t from a shared memo, may be null
+     */
+    public SweObjects(ISwissEph swissEph, SweJulianDateCache dateCache, ISweJulianDate sweJulianDate,
+                      ISweGeoLocation sweLocation, ISweObjectsOptions sweOptions, boolean buildAscendant) {
+        this.dateCache = dateCache;
         this.location = sweLocation;
         this.options = sweOptions;
 
@@ -92,6 +103,7 @@ public class SweObjects implements ISweObjects {
     }
 
     protected SweObjects(ISweJulianDate sweJulianDate, ISweGeoLocation sweLocation, ISweObjectsOptions sweOptions) {
+        this.dateCache = null;
         this.julianDate = sweJulianDate;
         this.location = sweLocation;
         this.options = sweOptions;
@@ -104,6 +116,7 @@ public class SweObjects implements ISweObjects {
     }
 
     protected ISweJulianDate initJulianDate(ISweJulianDate sweJulianDate) {
+        if (null != dateCache) return dateCache.initJulianDate(this.swissEph, sweJulianDate);
         return this.swissEph.initJulianDate(sweJulianDate);
     }
 
@@ -125,8 +138,9 @@ public class SweObjects implements ISweObjects {
         pinTidalAcceleration();
 
         try {
-            julianDate.values()[IDXD_DELTAT] = swissEph.swe_deltat_ex
-                    (julianDate.julianDay(), options.mainFlags(), null);
+            julianDate.deltaT(null != dateCache
+                    ? dateCache.deltaT(swissEph, julianDate.julianDay(), options.mainFlags())
+                    : swissEph.swe_deltat_ex(julianDate.julianDay(), options.mainFlags(), null));
         } finally {
             releaseTidalAcceleration();
         }
@@ -136,6 +150,10 @@ public class SweObjects implements ISweObjects {
      * Pins the tidal acceleration that belongs to the chosen ephemeris, so that anything
      * deriving delta t is reproducible. Must be paired with
      * {@link #releaseTidalAcceleration()} in a finally block.
+     * <p>
+     * With the pure Java engine the setting belongs to the engine, so charts built in
+     * parallel on several engines neither see nor wait for each other's pin. The native
+     * library keeps a single process-wide value.
      */
     protected void pinTidalAcceleration() {
         swissEph.swe_set_tid_acc((options.mainFlags() & SEFLG_MOSEPH) != i0
@@ -147,7 +165,7 @@ public class SweObjects implements ISweObjects {
     }
 
     protected void initEphemerisTime() {
-        julianDate.values()[IDXD_ETIME] = julianDate.julianDay() + julianDate.deltaT() ;
+        julianDate.epheTime(julianDate.julianDay() + julianDate.deltaT());
     }
 
     @Override
@@ -270,7 +288,7 @@ public class SweObjects implements ISweObjects {
         retrogrades[objId] = dres[3] < d0;
         signs[objId] = (int) (dres[0] / d30) + i1;
 
-        if (i0 != signs[LG]) {
+        if (i0 != signs[LG] && !deferHouses) {
             houses[objId] = calculatePlanetHouse(objId);
         }
 
@@ -294,7 +312,7 @@ public class SweObjects implements ISweObjects {
             longitudes[KE] = (longitudes[RA] + d180) % d360;
 
             signs[KE] = (int) (longitudes[KE] / d30) + i1;
-            houses[KE] = calculatePlanetHouse(KE);
+            if (!deferHouses) houses[KE] = calculatePlanetHouse(KE);
         }
 
         return this;
@@ -339,9 +357,40 @@ public class SweObjects implements ISweObjects {
     public SweObjects completeBuild() {
         if (sweError.length() != OK) return this;
         if (i0 == houses[LG]) buildAscendant();
-        if (i0 == houses[CH]) buildSunMoon();
-        if (i0 == houses[KE]) buildMarsKetu();
-        if (i0 == houses[PL]) buildUranusPluto();
+
+        deferHouses = true;
+        try {
+            if (i0 == houses[CH]) buildSunMoon();
+            if (i0 == houses[KE]) buildMarsKetu();
+            if (i0 == houses[PL]) buildUranusPluto();
+        } finally {
+            deferHouses = false;
+        }
+
+        return buildHouses();
+    }
+
+    /**
+     * Gives every object that is built but has no house yet its house, all of them through
+     * one {@link #calculatePlanetHousePositions(int...)}.
+     */
+    protected SweObjects buildHouses() {
+        if (i0 == signs[LG]) return this;
+
+        final int[] objIds = new int[objectsCount()];
+        int count = 0;
+
+        for (int objId = FIRST_OBJECT_ID; objId <= LAST_OBJECT_ID; objId++) {
+            if (i0 != signs[objId] && i0 == houses[objId]) objIds[count++] = objId;
+        }
+
+        if (count == 0) return this;
+
+        final double[] hpos = calculatePlanetHousePositions(Arrays.copyOf(objIds, count));
+        for (int i = 0; i < count; i++) {
+            houses[objIds[i]] = (int) hpos[i];
+        }
+
         return this;
     }
 
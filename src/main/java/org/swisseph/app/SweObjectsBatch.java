@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.app;
+
+import org.swisseph.ISwissEph;
+import org.swisseph.api.ISweAyanamsa;
+import org.swisseph.api.ISweGeoLocation;
+import org.swisseph.api.ISweJulianDate;
+import org.swisseph.api.ISweObjects;
+import org.swisseph.api.ISweObjectsOptions;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds many charts at once, in parallel over a bounded pool of engines.
+ * <p>
+ * A chart is a {@link SweObjects} built completely, with its ayanamsa and obliquity, on an
+ * engine of the pool. Every engine is used by one worker at a time, and there are
+ * {@code parallelism} workers and engines at most; the engines are made by the supplier when
+ * first needed and kept for the next batch until {@link #close()}.
+ * <p>
+ * {@link ISweObjects#initSwissEph} sets the topocentric position and the sidereal mode of the
+ * engine for every chart, and a change of either drops the positions the engine has cached.
+ * So the inputs are taken in the order of these settings, and of the date within them:
+ * a worker takes the next run of inputs from that order, and charts of the same place and
+ * ayanamsa follow each other on its engine without reconfiguring it. The charts are returned
+ * in the order of the inputs all the same, a failed one with its error instead.
+ * <p>
+ * The charts keep the engine they were built on, which goes on with other charts. Call
+ * {@link SweObjects#completeRebuild(ISwissEph)} with an engine of your own before any further
+ * calculation on a chart. The dates of the inputs are completed by the build, as with
+ * {@link SweObjects}, so an input should not share its date with another one. The instance
+ * is thread safe, one batch runs at a time.
+ *
+ * <pre>
+ * try (SweObjectsBatch batch = new SweObjectsBatch(() -&gt; new SwissEph(ephePath), 4)) {
+ *     for (SweObjectsBatch.Chart chart : batch.build(inputs)) {
+ *         if (null != chart.error) log(chart.index, chart.error); else store(chart.objects);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweObjectsBatch implements Closeable {
+    /** inputs a worker takes at once */
+    static final int RUN = 32;
+
+    private final Supplier<? extends ISwissEph> engines;
+    private final SweJulianDateCache dateCache;
+    private final int parallelism;
+
+    private final BlockingQueue<ISwissEph> pool;
+    private final List<ISwissEph> created = new ArrayList<>();
+    private final ExecutorService executor;
+
+    /**
+     * @param engines     makes an engine of the pool
+     * @param parallelism the number of workers and engines
+     */
+    public SweObjectsBatch(Supplier<? extends ISwissEph> engines, int parallelism) {
+        this(engines, parallelism, null);
+    }
+
+    /**
+     * @param dateCache resolves the julian days and delta t from a shared memo, may be null
+     */
+    public SweObjectsBatch(Supplier<? extends ISwissEph> engines, int parallelism, SweJulianDateCache dateCache) {
+        if (null == engines) throw new IllegalArgumentException("Engines are expected");
+        if (parallelism < 1) throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+
+        this.engines = engines;
+        this.dateCache = dateCache;
+        this.parallelism = parallelism;
+        this.pool = new ArrayBlockingQueue<>(parallelism);
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "swe-objects-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the charts of the inputs, in their order
+     */
+    public synchronized List<Chart> build(List<Input> inputs) {
+        if (null == inputs) throw new IllegalArgumentException("Inputs are expected");
+        if (executor.isShutdown()) throw new IllegalStateException("The batch is closed");
+
+        final Integer[] order = new Integer[inputs.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing(inputs::get, SETTINGS));
+
+        final Chart[] charts = new Chart[order.length];
+        final AtomicInteger next = new AtomicInteger();
+        final int workers = Math.min(parallelism, (order.length + RUN - 1) / RUN);
+
+        final List<Future<?>> running = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            running.add(executor.submit(() -> {
+                final ISwissEph swissEph = borrow();
+                try {
+                    for (int from; (from = next.getAndAdd(RUN)) < order.length; ) {
+                        for (int k = from; k < Math.min(from + RUN, order.length); k++) {
+                            charts[order[k]] = build(swissEph, order[k], inputs.get(order[k]));
+                        }
+                    }
+                } finally {
+                    pool.add(swissEph);
+                }
+            }));
+        }
+
+        for (Future<?> worker : running) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SweRuntimeException("Interrupted", e);
+            } catch (ExecutionException e) {
+                throw new SweRuntimeException("Batch failed", e.getCause());
+            }
+        }
+
+        return Arrays.asList(charts);
+    }
+
+    /**
+     * Shuts the workers down and closes the engines of the pool.
+     */
+    @Override
+    public synchronized void close() {
+        executor.shutdown();
+        synchronized (created) {
+            for (ISwissEph swissEph : created) swissEph.close();
+            created.clear();
+        }
+        pool.clear();
+    }
+
+    private Chart build(ISwissEph swissEph, int index, Input input) {
+        try {
+            final SweObjects objects = new SweObjects(swissEph, dateCache, input.julianDate,
+                    input.location, input.options, true).completeBuild();
+
+            // the values built on demand, while the engine is still set up for the chart
+            objects.ayanamsa();
+            objects.trueObliquity();
+            return new Chart(index, objects, null);
+        } catch (RuntimeException e) {
+            return new Chart(index, null, e);
+        }
+    }
+
+    private ISwissEph borrow() {
+        final ISwissEph swissEph = pool.poll();
+        if (null != swissEph) return swissEph;
+
+        final ISwissEph made = engines.get();
+        if (null == made) throw new SweRuntimeException("ISwissEph is mandatory parameter");
+        synchronized (created) {
+            created.add(made);
+        }
+        return made;
+    }
+
+    /**
+     * The settings {@link ISweObjects#initSwissEph} applies, then the date
+     */
+    static final Comparator<Input> SETTINGS = Comparator
+            .comparingInt((Input in) -> sidereal(in.options) ? in.options.ayanamsa().fid() : Integer.MIN_VALUE)
+            .thenComparingDouble(in -> sidereal(in.options) ? in.options.initialJulianDay() : 0.)
+            .thenComparingDouble(in -> sidereal(in.options) ? in.options.initialAyanamsa() : 0.)
+            .thenComparingDouble(in -> null == in.location ? Double.NEGATIVE_INFINITY : in.location.longitude())
+            .thenComparingDouble(in -> null == in.location ? 0. : in.location.latitude())
+            .thenComparingDouble(in -> null == in.location ? 0. : in.location.altitude())
+            .thenComparingDouble(in -> null == in.julianDate ? 0. : in.julianDate.julianDay());
+
+    private static boolean sidereal(ISweObjectsOptions options) {
+        final ISweAyanamsa ayanamsa = null == options ? null : options.ayanamsa();
+        return null != ayanamsa && ayanamsa.sidereal();
+    }
+
+    /**
+     * What a chart is built of
+     */
+    public static final class Input {
+        public final ISweJulianDate julianDate;
+        public final ISweGeoLocation location;
+        public final ISweObjectsOptions options;
+
+        public Input(ISweJulianDate julianDate, ISweGeoLocation location, ISweObjectsOptions options) {
+            this.julianDate = julianDate;
+            this.location = location;
+            this.options = options;
+        }
+
+        @Override
+        public String toString() {
+            return "Input{julianDate=" + julianDate + ", location=" + location + ", options=" + options + '}';
+        }
+    }
+
+    /**
+     * The chart of an input, or the error building it failed with
+     */
+    public static final class Chart {
+        /**
+         * the index of the input
+         */
+        public final int index;
+        /**
+         * the chart, null if it failed
+         */
+        public final ISweObjects objects;
+        /**
+         * what the build failed with, null if it did not
+         */
+        public final RuntimeException error;
+
+        Chart(int index, ISweObjects objects, RuntimeException error) {
+            this.index = index;
+            this.objects = objects;
+            this.error = error;
+        }
+
+        @Override
+        public String toString() {
+            return "Chart{index=" + index + ", " + (null == error ? "objects=" + objects : "error=" + error) + '}';
+        }
+    }
+}
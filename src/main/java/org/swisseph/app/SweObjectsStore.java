@@ -0,0 +1,431 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.app;
+
+import org.swisseph.api.ISweGeoLocation;
+import org.swisseph.api.ISweJulianDate;
+import org.swisseph.api.ISweObjects;
+import org.swisseph.api.ISweObjectsOptions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.swisseph.api.ISweObjects.ASCMC_COUNT;
+import static org.swisseph.api.ISweObjects.CUSPS_COUNT;
+import static org.swisseph.api.ISweObjects.OBJECTS_COUNT;
+
+/**
+ * Many charts kept column by column outside of the heap, in a direct or a memory mapped buffer.
+ * <p>
+ * A {@link SweObjects} is a dozen small arrays, an options, a date and a location, about 1 KB
+ * of heap a chart; millions of them keep the garbage collector busy with nothing but their
+ * headers. A store keeps a chart as a row of fixed size, about 500 bytes, and lays the rows
+ * out by column: the longitudes of the Moon of all the charts follow each other, and so do
+ * their signs, the cusps of the first house and so on. A scan of a column, see
+ * {@link #longitudes(int)}, reads consecutive memory and creates no objects at all.
+ * <p>
+ * {@link #row(int)} hands a row back as an {@link ISweObjects}, a {@link SweObjects} without an
+ * engine made of the values of the row; {@link SweObjects#completeRebuild} calculates it anew
+ * if need be. The date of a row keeps its julian day and delta t, the location its coordinates,
+ * temperature and pressure. The options are kept once in the header, up to
+ * {@link #MAX_OPTIONS} different ones a store, and the rows of the same options share an instance.
+ * <p>
+ * A store has a fixed capacity, at most {@link #maxCapacity()} rows, which is what a buffer
+ * can address. {@link #map(Path, int)} keeps it in a file, which is opened again with the rows
+ * it has; {@link #force()} writes them through. Charts are appended by one thread at a time,
+ * rows and columns read by any thread up to {@link #size()}.
+ *
+ * <pre>
+ * SweObjectsStore store = SweObjectsStore.map(path, 1_000_000);
+ * for (SweObjectsBatch.Chart chart : batch.build(inputs)) store.add(chart.objects);
+ *
+ * DoubleBuffer moon = store.longitudes(CH);
+ * for (int i = 0; i &lt; moon.limit(); i++) if (moon.get(i) &lt; 30.) count++;
+ * </pre>
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweObjectsStore {
+    /** different options a store can keep */
+    public static final int MAX_OPTIONS = 256;
+
+    static final int MAGIC = 0x53574F53; // SWOS
+    static final int VERSION = 1;
+
+    // header: magic, version, capacity, size, options count
+    static final int HEADER = 64;
+    // an options: ayanamsa, house system, true node, 5 flags, initial julian day and ayanamsa
+    static final int OPTIONS = 64;
+
+    // double columns of a row
+    static final int JULDAY = 0, DELTAT = 1, LOCATION = 2, AYANAMSA = 7, OBLIQUITY = 8,
+            LONGITUDES = 9, LATITUDES = LONGITUDES + OBJECTS_COUNT, CUSPS = LATITUDES + OBJECTS_COUNT,
+            ASCMC = CUSPS + CUSPS_COUNT, DOUBLES = ASCMC + ASCMC_COUNT;
+
+    // byte columns of a row, after the retrograde bits
+    static final int SIGNS = 0, HOUSES = OBJECTS_COUNT, OPTION = 2 * OBJECTS_COUNT, BYTES = OPTION + 1;
+
+    static final int ROW = DOUBLES * Double.BYTES + Short.BYTES + BYTES;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int retrogrades, bytes;
+
+    private final List<ISweObjectsOptions> options = new ArrayList<>();
+    private volatile int size;
+
+    /**
+     * A store in a direct buffer
+     *
+     * @param capacity the number of rows
+     */
+    public SweObjectsStore(int capacity) {
+        this(allocate(capacity), capacity, false);
+    }
+
+    private SweObjectsStore(ByteBuffer buffer, int capacity, boolean existing) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.capacity = capacity;
+        this.retrogrades = columns() + DOUBLES * Double.BYTES * capacity;
+        this.bytes = retrogrades + Short.BYTES * capacity;
+
+        if (existing) {
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != capacity) {
+                throw new IllegalArgumentException("Not a chart store");
+            }
+            for (int i = 0, count = buffer.getInt(16); i < count; i++) options.add(readOptions(i));
+            this.size = buffer.getInt(12);
+        } else {
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, capacity).putInt(12, 0).putInt(16, 0);
+        }
+    }
+
+    /**
+     * A store in a file, memory mapped. An existing store is opened with the rows it has and its
+     * own capacity, a new one is created with the given capacity.
+     *
+     * @param capacity the number of rows of a new store
+     */
+    public static SweObjectsStore map(Path file, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+            if (channel.size() >= HEADER) {
+                final ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(header, 0);
+
+                final int existing = header.getInt(8);
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                        || existing < 1 || existing > maxCapacity() || channel.size() != length(existing)) {
+                    throw new IOException("Not a chart store: " + file);
+                }
+                return new SweObjectsStore(channel.map(FileChannel.MapMode.READ_WRITE, 0, length(existing)),
+                        existing, true);
+            }
+
+            checkCapacity(capacity);
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length(capacity));
+            return new SweObjectsStore(buffer, capacity, false);
+        }
+    }
+
+    /**
+     * @return the most rows a store can have
+     */
+    public static int maxCapacity() {
+        return (Integer.MAX_VALUE - columns()) / ROW;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a chart, which must be built completely. Its ayanamsa and obliquity are taken
+     * as well, see {@link SweObjectsBatch} to have them at hand.
+     *
+     * @return the index of the row
+     * @throws IllegalStateException if the store is full or has {@link #MAX_OPTIONS} other options
+     */
+    public synchronized int add(ISweObjects objects) {
+        if (null == objects) throw new IllegalArgumentException("Objects are expected");
+        final int row = size;
+        if (row == capacity) throw new IllegalStateException("The store is full: " + capacity);
+
+        final ISweJulianDate date = objects.sweJulianDate();
+        final ISweGeoLocation location = objects.sweLocation();
+        if (null == date || null == location) throw new IllegalArgumentException("A date and a location are expected");
+        final int option = option(objects.sweOptions());
+
+        putDouble(JULDAY, row, date.julianDay());
+        putDouble(DELTAT, row, date.deltaT());
+        putDouble(LOCATION, row, location.longitude());
+        putDouble(LOCATION + 1, row, location.latitude());
+        putDouble(LOCATION + 2, row, location.altitude());
+        putDouble(LOCATION + 3, row, location.temperature());
+        putDouble(LOCATION + 4, row, location.pressure());
+        putDouble(AYANAMSA, row, objects.ayanamsa());
+        putDouble(OBLIQUITY, row, objects.trueObliquity());
+
+        final boolean[] retrograde = objects.retrogrades();
+        final double[] longitudes = objects.longitudes(), latitudes = objects.latitudes();
+        final int[] signs = objects.signs(), houses = objects.houses();
+
+        short bits = 0;
+        for (int obj = 0; obj < OBJECTS_COUNT; obj++) {
+            putDouble(LONGITUDES + obj, row, longitudes[obj]);
+            putDouble(LATITUDES + obj, row, latitudes[obj]);
+            buffer.put(bytes + (SIGNS + obj) * capacity + row, (byte) signs[obj]);
+            buffer.put(bytes + (HOUSES + obj) * capacity + row, (byte) houses[obj]);
+            if (retrograde[obj]) bits |= 1 << obj;
+        }
+        buffer.putShort(retrogrades + Short.BYTES * row, bits);
+        buffer.put(bytes + OPTION * capacity + row, (byte) option);
+
+        final double[] cusps = objects.cusps(), ascmc = objects.ascmc();
+        for (int i = 0; i < CUSPS_COUNT; i++) putDouble(CUSPS + i, row, cusps[i]);
+        for (int i = 0; i < ASCMC_COUNT; i++) putDouble(ASCMC + i, row, ascmc[i]);
+
+        buffer.putInt(12, size = row + 1);
+        return row;
+    }
+
+    /**
+     * A row as a chart without an engine, see {@link SweObjects#completeRebuild}
+     */
+    public ISweObjects row(int row) {
+        checkRow(row);
+        final SweJulianDate date = new SweJulianDate(getDouble(JULDAY, row));
+        date.deltaT(getDouble(DELTAT, row));
+        date.epheTime(date.julianDay() + date.deltaT());
+
+        final SweGeoLocation location = new SweGeoLocation(getDouble(LOCATION, row), getDouble(LOCATION + 1, row),
+                getDouble(LOCATION + 2, row), getDouble(LOCATION + 3, row), getDouble(LOCATION + 4, row));
+
+        final Row objects = new Row(date, location, options.get(buffer.get(bytes + OPTION * capacity + row) & 0xFF));
+        objects.ayanamsa = getDouble(AYANAMSA, row);
+        objects.obliquity = getDouble(OBLIQUITY, row);
+
+        final int bits = buffer.getShort(retrogrades + Short.BYTES * row);
+        for (int obj = 0; obj < OBJECTS_COUNT; obj++) {
+            objects.longitudes[obj] = getDouble(LONGITUDES + obj, row);
+            objects.latitudes[obj] = getDouble(LATITUDES + obj, row);
+            objects.signs[obj] = buffer.get(bytes + (SIGNS + obj) * capacity + row);
+            objects.houses[obj] = buffer.get(bytes + (HOUSES + obj) * capacity + row);
+            objects.retrogrades[obj] = (bits & 1 << obj) != 0;
+        }
+        for (int i = 0; i < CUSPS_COUNT; i++) objects.cusps[i] = getDouble(CUSPS + i, row);
+        for (int i = 0; i < ASCMC_COUNT; i++) objects.ascmc[i] = getDouble(ASCMC + i, row);
+        return objects;
+    }
+
+    public double julianDay(int row) {
+        checkRow(row);
+        return getDouble(JULDAY, row);
+    }
+
+    public boolean retrograde(int row, int objId) {
+        checkRow(row);
+        return (buffer.getShort(retrogrades + Short.BYTES * row) & 1 << object(objId)) != 0;
+    }
+
+    public ISweObjectsOptions options(int row) {
+        checkRow(row);
+        return options.get(buffer.get(bytes + OPTION * capacity + row) & 0xFF);
+    }
+
+    /**
+     * The columns below are read-only views of the rows there are, index by index;
+     * rows added later are not in them.
+     *
+     * @return the julian days, universal time
+     */
+    public DoubleBuffer julianDays() {
+        return doubles(JULDAY);
+    }
+
+    public DoubleBuffer ayanamsas() {
+        return doubles(AYANAMSA);
+    }
+
+    public DoubleBuffer longitudes(int objId) {
+        return doubles(LONGITUDES + object(objId));
+    }
+
+    public DoubleBuffer latitudes(int objId) {
+        return doubles(LATITUDES + object(objId));
+    }
+
+    /**
+     * @param cusp 1 to 12, as {@link ISweObjects#cusps()}
+     */
+    public DoubleBuffer cusps(int cusp) {
+        if (cusp < 0 || cusp >= CUSPS_COUNT) throw new IllegalArgumentException("Invalid cusp: " + cusp);
+        return doubles(CUSPS + cusp);
+    }
+
+    /**
+     * @param index as {@link ISweObjects#ascmc()}
+     */
+    public DoubleBuffer ascmc(int index) {
+        if (index < 0 || index >= ASCMC_COUNT) throw new IllegalArgumentException("Invalid ascmc: " + index);
+        return doubles(ASCMC + index);
+    }
+
+    /**
+     * @return the signs, 1 to 12
+     */
+    public ByteBuffer signs(int objId) {
+        return bytes(SIGNS + object(objId));
+    }
+
+    /**
+     * @return the houses, 1 to 12
+     */
+    public ByteBuffer houses(int objId) {
+        return bytes(HOUSES + object(objId));
+    }
+
+    /**
+     * @return the retrograde objects of the rows, bit {@code objId} set for a retrograde one
+     */
+    public ShortBuffer retrogrades() {
+        return slice(retrogrades, Short.BYTES * size).asShortBuffer();
+    }
+
+    /**
+     * Writes the rows through to the file of a mapped store, nothing to do for another one.
+     */
+    public void force() {
+        if (buffer instanceof MappedByteBuffer) ((MappedByteBuffer) buffer).force();
+    }
+
+    @Override
+    public String toString() {
+        return "SweObjectsStore{size=" + size + ", capacity=" + capacity + ", options=" + options.size() + '}';
+    }
+
+    private DoubleBuffer doubles(int column) {
+        return slice(columns() + column * Double.BYTES * capacity, Double.BYTES * size).asDoubleBuffer();
+    }
+
+    private ByteBuffer bytes(int column) {
+        return slice(bytes + column * capacity, size);
+    }
+
+    private ByteBuffer slice(int offset, int length) {
+        final ByteBuffer slice = buffer.asReadOnlyBuffer();
+        slice.limit(offset + length).position(offset);
+        return slice.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private void putDouble(int column, int row, double value) {
+        buffer.putDouble(columns() + (column * capacity + row) * Double.BYTES, value);
+    }
+
+    private double getDouble(int column, int row) {
+        return buffer.getDouble(columns() + (column * capacity + row) * Double.BYTES);
+    }
+
+    /**
+     * @return the index of the options in the header, added if new
+     */
+    private int option(ISweObjectsOptions sweOptions) {
+        if (null == sweOptions) throw new IllegalArgumentException("Options are expected");
+        for (int i = options.size() - 1; i >= 0; i--) {
+            if (same(options.get(i), sweOptions)) return i;
+        }
+
+        final int i = options.size();
+        if (i == MAX_OPTIONS) throw new IllegalStateException("The store has " + MAX_OPTIONS + " options already");
+
+        final int at = HEADER + OPTIONS * i;
+        buffer.putInt(at, sweOptions.ayanamsa().fid()).putInt(at + 4, sweOptions.houseSystem().fid())
+                .putInt(at + 8, sweOptions.trueNode() ? 1 : 0).putInt(at + 12, sweOptions.mainFlags())
+                .putInt(at + 16, sweOptions.houseFlags()).putInt(at + 20, sweOptions.calcFlags())
+                .putInt(at + 24, sweOptions.riseSetFlags()).putInt(at + 28, sweOptions.transitFlags())
+                .putDouble(at + 32, sweOptions.initialJulianDay()).putDouble(at + 40, sweOptions.initialAyanamsa());
+        buffer.putInt(16, i + 1);
+
+        options.add(sweOptions);
+        return i;
+    }
+
+    private ISweObjectsOptions readOptions(int i) {
+        final int at = HEADER + OPTIONS * i;
+        return new SweObjectsOptions(SweAyanamsa.byFid(buffer.getInt(at)), SweHouseSystem.byFid(buffer.getInt(at + 4)),
+                buffer.getInt(at + 8) != 0, buffer.getInt(at + 12), buffer.getInt(at + 16), buffer.getInt(at + 20),
+                buffer.getDouble(at + 32), buffer.getDouble(at + 40), buffer.getInt(at + 24), buffer.getInt(at + 28));
+    }
+
+    private static boolean same(ISweObjectsOptions a, ISweObjectsOptions b) {
+        return a == b || a.ayanamsa().fid() == b.ayanamsa().fid()
+                && a.houseSystem().fid() == b.houseSystem().fid()
+                && a.trueNode() == b.trueNode()
+                && a.mainFlags() == b.mainFlags()
+                && a.houseFlags() == b.houseFlags()
+                && a.calcFlags() == b.calcFlags()
+                && a.riseSetFlags() == b.riseSetFlags()
+                && a.transitFlags() == b.transitFlags()
+                && Double.compare(a.initialJulianDay(), b.initialJulianDay()) == 0
+                && Double.compare(a.initialAyanamsa(), b.initialAyanamsa()) == 0;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IllegalArgumentException("Invalid row: " + row + ", size " + size);
+    }
+
+    private static int object(int objId) {
+        if (objId < 0 || objId >= OBJECTS_COUNT) throw new IllegalArgumentException("Invalid object: " + objId);
+        return objId;
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 1 || capacity > maxCapacity()) throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        return capacity;
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(length(checkCapacity(capacity)));
+    }
+
+    /**
+     * @return the offset of the columns, after the header and the options
+     */
+    private static int columns() {
+        return HEADER + OPTIONS * MAX_OPTIONS;
+    }
+
+    private static int length(int capacity) {
+        return columns() + ROW * capacity;
+    }
+
+    /**
+     * A row, its arrays filled by the store
+     */
+    private static final class Row extends SweObjects {
+        private static final long serialVersionUID = 2707394461850182646L;
+
+        Row(ISweJulianDate julianDate, ISweGeoLocation location, ISweObjectsOptions options) {
+            super(julianDate, location, options);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.app;
+
+import org.swisseph.api.ISweJulianDate;
+import org.swisseph.api.ISweRetrogradeCycle;
+import org.swisseph.api.ISweStation;
+
+/**
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweRetrogradeCycle implements ISweRetrogradeCycle {
+    private static final long serialVersionUID = -5308114612830929417L;
+
+    protected final ISweJulianDate shadowStart;
+    protected final ISweStation retrogradeStation;
+    protected final ISweStation directStation;
+    protected final ISweJulianDate shadowEnd;
+
+    public SweRetrogradeCycle(ISweJulianDate shadowStart, ISweStation retrogradeStation,
+                              ISweStation directStation, ISweJulianDate shadowEnd) {
+        this.shadowStart = shadowStart;
+        this.retrogradeStation = retrogradeStation;
+        this.directStation = directStation;
+        this.shadowEnd = shadowEnd;
+    }
+
+    @Override
+    public int planet() {
+        return retrogradeStation.planet();
+    }
+
+    @Override
+    public ISweJulianDate shadowStart() {
+        return shadowStart;
+    }
+
+    @Override
+    public ISweStation retrogradeStation() {
+        return retrogradeStation;
+    }
+
+    @Override
+    public ISweStation directStation() {
+        return directStation;
+    }
+
+    @Override
+    public ISweJulianDate shadowEnd() {
+        return shadowEnd;
+    }
+
+    @Override
+    public String toString() {
+        return "planet " + planet() + " in shadow from JD " + shadowStart.julianDay()
+                + ", retrograde from JD " + retrogradeStation.julianDate().julianDay()
+                + " to JD " + directStation.julianDate().julianDay()
+                + ", in shadow to JD " + shadowEnd.julianDay();
+    }
+}
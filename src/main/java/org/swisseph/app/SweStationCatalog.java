@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+
+package org.swisseph.app;
+
+import org.swisseph.api.ISweStation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The stations of a set of planets over a date range, computed once by {@link SweStations}
+ * and then looked up by binary search.
+ * <p>
+ * Stations are a fixed property of the ephemeris, yet {@link SweStations#next} runs a full
+ * speed transit search for every call, and a few more calculations to tell the kind of the
+ * station. A catalog answers {@link #next}, {@link #previous} and {@link #between} with the
+ * very same stations, in {@code O(log n)} and without an engine. The planets Mercury to
+ * Pluto have about 1800 stations a century, so a catalog of the whole range of the ephemeris
+ * files is small; {@link #write} and {@link #read} keep it on disk between runs, as plain
+ * data: the range, and the planet, date, longitude and kind of every station.
+ * <p>
+ * A catalog only knows its own range: a query that reaches beyond it throws an
+ * {@link IllegalArgumentException}, see {@link #covers(int, double)}. The frame is the one
+ * of the {@link SweStations} it was built with. The instance is immutable and thread safe.
+ *
+ * <pre>
+ * SweStationCatalog catalog = SweStationCatalog.build(() -&gt; new SweStations(engine()),
+ *         new int[]{SE_MERCURY, SE_VENUS, SE_MARS}, fromJdUT, toJdUT);
+ * ISweStation next = catalog.next(SE_MERCURY, jdUT);
+ * </pre>
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ * @see SweStations
+ */
+public final class SweStationCatalog {
+    static final int MAGIC = 0x53575343; // SWSC
+    static final int VERSION = 1;
+
+    private final double fromJdUT, toJdUT;
+    private final Map<Integer, Stations> planets;
+
+    /**
+     * Computes the stations of the planets one after the other.
+     *
+     * @param stations the search to compute them with
+     * @param planets  Swiss Ephemeris object numbers; those without stations are kept with none
+     * @param fromJdUT start of the range, universal time, inclusive
+     * @param toJdUT   end of the range, universal time, inclusive
+     */
+    public static SweStationCatalog build(SweStations stations, int[] planets, double fromJdUT, double toJdUT) {
+        check(planets, fromJdUT, toJdUT);
+        return new SweStationCatalog(fromJdUT, toJdUT, stations.between(planets, fromJdUT, toJdUT));
+    }
+
+    /**
+     * Computes the stations of the planets in parallel, a planet per task of the common pool.
+     *
+     * @param stations gives the search of a task, on an engine of the thread it is called on
+     * @see SweStations#between(Supplier, int[], double, double)
+     * @see #build(SweStations, int[], double, double)
+     */
+    public static SweStationCatalog build(Supplier<? extends SweStations> stations, int[] planets,
+                                          double fromJdUT, double toJdUT) {
+        check(planets, fromJdUT, toJdUT);
+        return new SweStationCatalog(fromJdUT, toJdUT, SweStations.between(stations, planets, fromJdUT, toJdUT));
+    }
+
+    private SweStationCatalog(double fromJdUT, double toJdUT, Map<Integer, List<ISweStation>> found) {
+        this.fromJdUT = fromJdUT;
+        this.toJdUT = toJdUT;
+        this.planets = new HashMap<>();
+        for (Map.Entry<Integer, List<ISweStation>> e : found.entrySet()) {
+            planets.put(e.getKey(), new Stations(e.getValue()));
+        }
+    }
+
+    private static void check(int[] planets, double fromJdUT, double toJdUT) {
+        if (null == planets || planets.length == 0) throw new IllegalArgumentException("Planets are expected");
+        if (!(toJdUT > fromJdUT)) throw new IllegalArgumentException("Invalid range: " + fromJdUT + " - " + toJdUT);
+    }
+
+    public double fromJdUT() {
+        return fromJdUT;
+    }
+
+    public double toJdUT() {
+        return toJdUT;
+    }
+
+    /**
+     * @return whether the planet is in the catalog and the date within its range
+     */
+    public boolean covers(int planet, double jdUT) {
+        return planets.containsKey(planet) && jdUT >= fromJdUT && jdUT <= toJdUT;
+    }
+
+    /**
+     * The first station at or after {@code jdUT}, as {@link SweStations#next} finds it.
+     *
+     * @return the station, or {@code null} if there is none up to the end of the range
+     */
+    public ISweStation next(int planet, double jdUT) {
+        final Stations s = stations(planet, jdUT);
+        final int i = s.ceiling(jdUT);
+        return i < s.jdUT.length ? s.stations[i] : null;
+    }
+
+    /**
+     * The last station at or before {@code jdUT}, as {@link SweStations#previous} finds it.
+     *
+     * @return the station, or {@code null} if there is none back to the start of the range
+     */
+    public ISweStation previous(int planet, double jdUT) {
+        final Stations s = stations(planet, jdUT);
+        final int i = s.ceiling(Math.nextUp(jdUT)) - 1;
+        return i >= 0 ? s.stations[i] : null;
+    }
+
+    /**
+     * Every station in a date range, in chronological order, as {@link SweStations#between}
+     * finds them.
+     *
+     * @param fromJdUT start of the range, universal time, inclusive
+     * @param toJdUT   end of the range, universal time, inclusive
+     */
+    public List<ISweStation> between(int planet, double fromJdUT, double toJdUT) {
+        if (toJdUT < fromJdUT) return between(planet, toJdUT, fromJdUT);
+        stations(planet, toJdUT);
+
+        final Stations s = stations(planet, fromJdUT);
+        final int from = s.ceiling(fromJdUT), to = s.ceiling(Math.nextUp(toJdUT));
+        if (from >= to) return Collections.emptyList();
+        return Collections.unmodifiableList(Arrays.asList(s.stations).subList(from, to));
+    }
+
+    /**
+     * Writes the catalog to a stream, which is left open.
+     */
+    public void write(OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeDouble(fromJdUT);
+        data.writeDouble(toJdUT);
+        data.writeInt(planets.size());
+
+        for (Map.Entry<Integer, Stations> e : planets.entrySet()) {
+            final Stations s = e.getValue();
+            data.writeInt(e.getKey());
+            data.writeInt(s.stations.length);
+            for (int i = 0; i < s.stations.length; i++) {
+                data.writeDouble(s.jdUT[i]);
+                data.writeDouble(s.stations[i].longitude());
+                data.writeBoolean(s.stations[i].retrograde());
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a catalog {@link #write} wrote from a stream, which is left open. The stations
+     * are made anew of their values, with a {@link SweJulianInstant} as their date.
+     *
+     * @throws IOException if the stream does not hold a catalog
+     */
+    public static SweStationCatalog read(InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) throw new IOException("Not a station catalog");
+
+        final double fromJdUT = data.readDouble(), toJdUT = data.readDouble();
+        final int count = data.readInt();
+        if (!(toJdUT > fromJdUT) || count < 1) throw new IOException("Not a station catalog");
+
+        final Map<Integer, List<ISweStation>> found = new HashMap<>();
+        for (int p = 0; p < count; p++) {
+            final int planet = data.readInt(), size = data.readInt();
+            if (size < 0 || found.containsKey(planet)) throw new IOException("Not a station catalog");
+
+            final List<ISweStation> stations = new ArrayList<>(Math.min(size, 1024));
+            double previous = fromJdUT;
+            for (int i = 0; i < size; i++) {
+                final double jdUT = data.readDouble(), longitude = data.readDouble();
+                final boolean retrograde = data.readBoolean();
+
+                // in order and within the range, or the lookups would not find them
+                if (!(jdUT >= previous && jdUT <= toJdUT)) throw new IOException("Not a station catalog");
+                try {
+                    stations.add(new SweStation(planet, new SweJulianInstant(jdUT), longitude, retrograde));
+                } catch (SweRuntimeException e) {
+                    throw new IOException("Not a station catalog", e);
+                }
+                previous = jdUT;
+            }
+            found.put(planet, stations);
+        }
+        return new SweStationCatalog(fromJdUT, toJdUT, found);
+    }
+
+    private Stations stations(int planet, double jdUT) {
+        final Stations s = planets.get(planet);
+        if (null == s) throw new IllegalArgumentException("Object " + planet + " is not in the catalog");
+        if (!(jdUT >= fromJdUT && jdUT <= toJdUT)) {
+            throw new IllegalArgumentException("JD " + jdUT + " is out of the catalog range "
+                    + fromJdUT + " - " + toJdUT);
+        }
+        return s;
+    }
+
+    /**
+     * The stations of one planet in chronological order, with their dates for the search
+     */
+    private static final class Stations {
+        final ISweStation[] stations;
+        final double[] jdUT;
+
+        Stations(List<ISweStation> found) {
+            this.stations = found.toArray(new ISweStation[0]);
+            this.jdUT = new double[stations.length];
+            for (int i = 0; i < stations.length; i++) jdUT[i] = stations[i].julianDate().julianDay();
+        }
+
+        /**
+         * @return the index of the first station at or after the date, the count if none is
+         */
+        int ceiling(double jd) {
+            int lo = 0, hi = jdUT.length;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (jdUT[mid] < jd) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
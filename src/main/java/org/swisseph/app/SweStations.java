@@ -7,14 +7,21 @@
 package org.swisseph.app;
 
 import org.swisseph.ISwissEph;
+import org.swisseph.api.ISweRetrogradeCycle;
 import org.swisseph.api.ISweStation;
 import swisseph.SwissephException;
 import swisseph.TCPlanet;
 import swisseph.TransitCalculator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static swisseph.SweConst.*;
 
@@ -41,6 +48,10 @@ import static swisseph.SweConst.*;
  * calculating if you use it.
  * <p>
  * Dates in and out are <b>universal time</b>.
+ * <p>
+ * An instance keeps the calculator of every planet it was asked for, so it is meant for one
+ * thread like its engine, and is best kept for many queries. {@link #between(Supplier, int[],
+ * double, double)} runs several planets at once, each on an instance of its own thread.
  *
  * <pre>
  * SweStations stations = new SweStations(swissEph);
@@ -72,9 +83,22 @@ public class SweStations {
     /** guards {@link #between(int, double, double)} against a non-advancing search */
     protected static final int MAX_ITERATIONS = 10000;
 
+    /** days from a station the search for the end of its shadow takes the first step by */
+    protected static final double SHADOW_STEP = 1.;
+
+    /** how close to the longitude of a station the end of a shadow is, in degrees */
+    protected static final double SHADOW_PRECISION = 1e-7;
+
     protected final ISwissEph swissEph;
     protected final int flags;
 
+    /** the calculator of every planet asked for, null for those without one */
+    private final Map<Integer, TransitCalculator> calculators = new HashMap<>();
+
+    /** the output of {@link #longitude(int, double)}, the speed in xx[3] */
+    private final double[] xx = new double[6];
+    private final StringBuilder serr = new StringBuilder();
+
     /**
      * @param swissEph the engine to calculate with; either implementation will do, but the
      *            native one agrees with {@code swetest} exactly
@@ -107,9 +131,9 @@ public class SweStations {
      *         anything whose speeds are not available
      */
     public boolean hasStations(int planet) {
+        final TransitCalculator tc = calculator(planet);
         try {
-            TransitCalculator tc = newCalculator(planet);
-            return tc.getMinOffset() < 0. && tc.getMaxOffset() > 0.;
+            return null != tc && tc.getMinOffset() < 0. && tc.getMaxOffset() > 0.;
         } catch (RuntimeException notSupported) {
             return false;
         }
@@ -149,14 +173,14 @@ public class SweStations {
         if (toJdUT < fromJdUT) return between(planet, toJdUT, fromJdUT);
         if (!hasStations(planet)) return Collections.emptyList();
 
-        final TransitCalculator tc = newCalculator(planet);
+        final TransitCalculator tc = calculator(planet);
         final List<ISweStation> found = new ArrayList<>();
         double jd = fromJdUT, previous = Double.NEGATIVE_INFINITY;
 
         for (int i = 0; i < MAX_ITERATIONS && jd <= toJdUT; i++) {
             final double station;
             try {
-                station = TransitCalculator.getTransitUT(tc, jd, false);
+                station = search(tc, jd, false);
             } catch (SwissephException outOfRange) {
                 break;
             }
@@ -169,7 +193,7 @@ public class SweStations {
                 continue;
             }
 
-            found.add(station(planet, station));
+            found.add(station(planet, tc, station));
             previous = station;
             jd = station + SEARCH_STEP;
         }
@@ -177,23 +201,175 @@ public class SweStations {
         return found;
     }
 
+    /**
+     * Every station of several planets in a date range, on the engine of this instance.
+     *
+     * @param planets Swiss Ephemeris object numbers
+     * @return the stations of every planet as {@link #between(int, double, double)} finds
+     *         them, in the order of the planets
+     */
+    public Map<Integer, List<ISweStation>> between(int[] planets, double fromJdUT, double toJdUT) {
+        final Map<Integer, List<ISweStation>> found = new LinkedHashMap<>();
+        for (int planet : planets) found.put(planet, between(planet, fromJdUT, toJdUT));
+        return found;
+    }
+
+    /**
+     * Every station of several planets in a date range, the planets in parallel on the common
+     * fork join pool. A task takes the instance to search with from {@code stations}, called
+     * on the thread it runs on, so that gives an instance per thread, e.g. of a
+     * {@code ThreadLocal}; those keep their calculators from one call to the next.
+     *
+     * @param stations gives an instance on an engine of the calling thread
+     * @param planets Swiss Ephemeris object numbers
+     * @return the stations of every planet as {@link #between(int, double, double)} finds
+     *         them, in the order of the planets
+     */
+    public static Map<Integer, List<ISweStation>> between(Supplier<? extends SweStations> stations,
+                                                          int[] planets, double fromJdUT, double toJdUT) {
+        final List<List<ISweStation>> found = Arrays.stream(planets).parallel()
+                .mapToObj(planet -> stations.get().between(planet, fromJdUT, toJdUT))
+                .collect(Collectors.toList());
+
+        final Map<Integer, List<ISweStation>> map = new LinkedHashMap<>();
+        for (int i = 0; i < planets.length; i++) map.put(planets[i], found.get(i));
+        return map;
+    }
+
+    /**
+     * Every retrograde cycle whose retrograde station is in a date range, with its shadow, in
+     * chronological order.
+     * <p>
+     * The stations come from {@link #between(int, double, double)}, extended by those before
+     * and after the range the shadows lie between. The ends of a shadow are then found from
+     * the stations on: the planet moves one way only between two stations, so the search
+     * steps away from the station, doubling the step until the planet has passed the
+     * longitude of the other station, and closes in on it by Newton steps within that bracket.
+     * That is a few calculations for each end, where a longitude transit search would start
+     * from scratch. Cycles the ephemeris has no neighbouring stations for are left out.
+     *
+     * @param planet Swiss Ephemeris object number
+     * @param fromJdUT start of the range, universal time, inclusive
+     * @param toJdUT end of the range, universal time, inclusive
+     * @return the cycles found; empty when the object has no stations or the range holds none
+     */
+    public List<ISweRetrogradeCycle> retrogrades(int planet, double fromJdUT, double toJdUT) {
+        if (toJdUT < fromJdUT) return retrogrades(planet, toJdUT, fromJdUT);
+        if (!hasStations(planet)) return Collections.emptyList();
+
+        final List<ISweStation> stations = new ArrayList<>(between(planet, fromJdUT, toJdUT));
+        final ISweStation before = previous(planet, stations.isEmpty() ? fromJdUT
+                : stations.get(0).julianDate().julianDay() - SEARCH_STEP);
+        if (null != before) stations.add(0, before);
+        for (int i = 0; i < 2 && !stations.isEmpty(); i++) {
+            final ISweStation after = next(planet, stations.get(stations.size() - 1).julianDate().julianDay()
+                    + SEARCH_STEP);
+            if (null == after) break;
+            stations.add(after);
+        }
+
+        final List<ISweRetrogradeCycle> found = new ArrayList<>();
+        for (int i = 1; i + 2 < stations.size(); i++) {
+            final ISweStation retrograde = stations.get(i), direct = stations.get(i + 1);
+            final double jdUT = retrograde.julianDate().julianDay();
+            if (!retrograde.retrograde() || direct.retrograde() || jdUT < fromJdUT || jdUT > toJdUT) continue;
+
+            final double start = shadow(planet, retrograde, stations.get(i - 1), direct.longitude());
+            final double end = shadow(planet, direct, stations.get(i + 2), retrograde.longitude());
+            found.add(new SweRetrogradeCycle(swissEph.getJulianDate(start), retrograde, direct,
+                    swissEph.getJulianDate(end)));
+        }
+
+        return found;
+    }
+
+    /**
+     * The retrograde cycles of several planets in a date range, on the engine of this instance.
+     *
+     * @param planets Swiss Ephemeris object numbers
+     * @return the cycles of every planet as {@link #retrogrades(int, double, double)} finds
+     *         them, in the order of the planets
+     */
+    public Map<Integer, List<ISweRetrogradeCycle>> retrogrades(int[] planets, double fromJdUT, double toJdUT) {
+        final Map<Integer, List<ISweRetrogradeCycle>> found = new LinkedHashMap<>();
+        for (int planet : planets) found.put(planet, retrogrades(planet, fromJdUT, toJdUT));
+        return found;
+    }
+
+    /**
+     * The retrograde cycles of several planets in a date range, the planets in parallel like
+     * {@link #between(Supplier, int[], double, double)}.
+     *
+     * @param stations gives an instance on an engine of the calling thread
+     * @param planets Swiss Ephemeris object numbers
+     * @return the cycles of every planet as {@link #retrogrades(int, double, double)} finds
+     *         them, in the order of the planets
+     */
+    public static Map<Integer, List<ISweRetrogradeCycle>> retrogrades(Supplier<? extends SweStations> stations,
+                                                                      int[] planets, double fromJdUT, double toJdUT) {
+        final List<List<ISweRetrogradeCycle>> found = Arrays.stream(planets).parallel()
+                .mapToObj(planet -> stations.get().retrogrades(planet, fromJdUT, toJdUT))
+                .collect(Collectors.toList());
+
+        final Map<Integer, List<ISweRetrogradeCycle>> map = new LinkedHashMap<>();
+        for (int i = 0; i < planets.length; i++) map.put(planets[i], found.get(i));
+        return map;
+    }
+
     // ------------------------------------------------------------------ internals
 
     protected ISweStation find(int planet, double jdUT, boolean backwards) {
         if (!hasStations(planet)) return null;
+        final TransitCalculator tc = calculator(planet);
         try {
-            return station(planet, TransitCalculator.getTransitUT(newCalculator(planet), jdUT, backwards));
+            return station(planet, tc, search(tc, jdUT, backwards));
         } catch (SwissephException outOfRange) {
             return null;
         }
     }
 
+    /**
+     * The calculator of the planet, made by {@link #newCalculator(int)} once, null for an
+     * object that has none.
+     */
+    protected TransitCalculator calculator(int planet) {
+        if (calculators.containsKey(planet)) return calculators.get(planet);
+
+        TransitCalculator tc;
+        try {
+            tc = newCalculator(planet);
+        } catch (RuntimeException notSupported) {
+            tc = null;
+        }
+        calculators.put(planet, tc);
+        return tc;
+    }
+
+    private static double search(TransitCalculator tc, double jdUT, boolean backwards) {
+        if (tc instanceof StationCalculator) ((StationCalculator) tc).reset();
+        return TransitCalculator.getTransitUT(tc, jdUT, backwards);
+    }
+
     /**
      * A calculator for the transit of the longitudinal speed over zero, i.e. for a station.
      */
     protected TransitCalculator newCalculator(int planet) {
-        return new TCPlanet(swissEph, planet,
-                flags | SEFLG_TRANSIT_LONGITUDE | SEFLG_TRANSIT_SPEED, 0.);
+        return new StationCalculator(swissEph, planet,
+                flags | SEFLG_TRANSIT_LONGITUDE | SEFLG_TRANSIT_SPEED);
+    }
+
+    /**
+     * The station at a date the calculator of the planet has just found. The search has seen
+     * the speed on both sides of it already, so only the longitude is calculated here; it
+     * falls back to {@link #station(int, double)} if the search did not, e.g. when it started
+     * right at the station.
+     */
+    protected ISweStation station(int planet, TransitCalculator tc, double jdUT) {
+        if (!(tc instanceof StationCalculator) || !((StationCalculator) tc).sided()) {
+            return station(planet, jdUT);
+        }
+        return new SweStation(planet, swissEph.getJulianDate(jdUT), position(planet, jdUT)[0],
+                ((StationCalculator) tc).retrograde());
     }
 
     /**
@@ -229,4 +405,114 @@ public class SweStations {
 
         return xx;
     }
+
+    /**
+     * The date the planet is at a longitude between two stations, moving one way from the
+     * first one to the other one.
+     *
+     * @param from the station to search from
+     * @param to the station the planet passes the longitude before
+     * @return the date, universal time
+     */
+    protected double shadow(int planet, ISweStation from, ISweStation to, double longitude) {
+        final double jdUT0 = from.julianDate().julianDay(), limitUT = to.julianDate().julianDay();
+        final double dir = limitUT > jdUT0 ? 1. : -1.;
+        final double jdET0 = jdUT0 + swissEph.swe_deltat(jdUT0);
+        final double limit = limitUT + swissEph.swe_deltat(limitUT);
+
+        // g is the way still to go to the longitude, unwrapped from the station on
+        double a = jdET0, lonA = longitude(planet, a), ga = difference(longitude, lonA), va = xx[3];
+        double b = a, lonB = lonA, gb = ga, vb = va;
+        for (double step = SHADOW_STEP; gb * ga > 0.; step *= 2) {
+            a = b;
+            lonA = lonB;
+            ga = gb;
+            va = vb;
+            if ((b - limit) * dir >= 0.) {
+                throw new SweRuntimeException("Object " + planet + " does not reach " + longitude
+                        + " between the stations at JD " + jdUT0 + " and " + limitUT);
+            }
+            b = dir > 0. ? Math.min(b + step, limit) : Math.max(b - step, limit);
+            lonB = longitude(planet, b);
+            gb = ga - difference(lonB, lonA);
+            vb = xx[3];
+        }
+
+        // Newton steps from the nearer end, bisection where they leave the bracket
+        for (int i = 0; i < 60; i++) {
+            if (Math.abs(ga) <= SHADOW_PRECISION || Math.abs(gb) <= SHADOW_PRECISION || Math.abs(b - a) < 1e-9) break;
+
+            double t = Math.abs(ga) < Math.abs(gb) ? a + ga / va : b + gb / vb;
+            if (!((t - a) * (t - b) < 0.)) t = (a + b) / 2;
+
+            final double lon = longitude(planet, t), g = ga - difference(lon, lonA), v = xx[3];
+            if ((g > 0.) == (ga > 0.)) {
+                a = t;
+                lonA = lon;
+                ga = g;
+                va = v;
+            } else {
+                b = t;
+                lonB = lon;
+                gb = g;
+                vb = v;
+            }
+        }
+
+        final double jdET = Math.abs(ga) < Math.abs(gb) ? a : b;
+        return jdET - swissEph.swe_deltat(jdET);
+    }
+
+    /**
+     * {@code swe_calc()} at a date in ephemeris time, the longitude returned, the speed left
+     * in {@code xx[3]}.
+     */
+    private double longitude(int planet, double jdET) {
+        if (swissEph.swe_calc(jdET, planet, flags | SEFLG_SPEED, xx, serr) < 0) {
+            throw new SweRuntimeException("swe_calc failed for object " + planet
+                    + " at JD " + jdET + ": " + serr);
+        }
+        return xx[0];
+    }
+
+    /** lon1 - lon2 in -180 .. 180 */
+    private static double difference(double lon1, double lon2) {
+        return Math.IEEEremainder(lon1 - lon2, 360.);
+    }
+
+    /**
+     * The speed transit over zero, which remembers the latest date it calculated a positive
+     * and a negative speed at. Between the start of a search and the station the speed keeps
+     * one sign, and beyond it, up to where the search stops, the other one, whichever way
+     * the search goes. So the station is retrograde where the latest positive speed is before
+     * the latest negative one.
+     */
+    static final class StationCalculator extends TCPlanet {
+        private double positive, negative;
+
+        StationCalculator(ISwissEph swissEph, int planet, int flags) {
+            super(swissEph, planet, flags, 0.);
+            reset();
+        }
+
+        void reset() {
+            positive = negative = Double.NaN;
+        }
+
+        boolean sided() {
+            return positive == positive && negative == negative;
+        }
+
+        boolean retrograde() {
+            return positive < negative;
+        }
+
+        @Override
+        protected double calc(double jdET) {
+            final double speed = super.calc(jdET);
+            if (speed > 0.) positive = jdET;
+            else if (speed < 0.) negative = jdET;
+            return speed;
+        }
+    }
 }
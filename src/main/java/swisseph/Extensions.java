@@ -8,6 +8,9 @@
 
 package swisseph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 final class Extensions {
 
@@ -40,7 +43,18 @@ final class Extensions {
   // two days.
   protected static double getTransit(TransitCalculator tc, double jdET, boolean back, double jdMax)
          throws IllegalArgumentException, SwissephException {
+    if (null != tc.proxy && !tc.proxied && tc.canBracket()) {
+      return getTransitProxied(tc, jdET, back, jdMax);
+    }
+    return getTransitDirect(tc, jdET, back, jdMax);
+  }
+
+  // The search itself, on the proxy while tc.proxied is set, otherwise on the
+  // engine
+  private static double getTransitDirect(TransitCalculator tc, double jdET, boolean back,
+      double jdMax) throws IllegalArgumentException, SwissephException {
     jdET = tc.preprocessDate(jdET, back);
+    tc.evaluations = 0;
 
     double offset = tc.getOffset();
 
@@ -77,7 +91,7 @@ final class Extensions {
 
     timePrec /= extPrecision;
 
-    val = tc.calc(jdET);
+    val = tc.evaluate(jdET);
     if (tc.checkIdenticalResult(offset, val)) { // If not 0.0 but "very small", then
                             // interpolate after another calculation
                             // in the calculation loop below
@@ -95,6 +109,11 @@ final class Extensions {
           "No transit possible due to lack of variation of speed or position.");
     }
 
+    if (tc.bracketing && tc.canBracket()) {
+      return getTransitBracketing(tc, jdET, val, offset, min, max, degPrec / extPrecision,
+          timePrec, back, jdMax);
+    }
+
     while (true) {
       if (tc.rollover) {
         while (val >= tc.rolloverVal) { val -= tc.rolloverVal; }
@@ -118,7 +137,7 @@ final class Extensions {
       if (jdET == lastJD) {
         return jdET;
       }
-      val = tc.calc(jdET);
+      val = tc.evaluate(jdET);
       if (val == Double.POSITIVE_INFINITY) {
         return jdET;
       }
@@ -178,6 +197,430 @@ final class Extensions {
     }
   }
 
+  // The bracketing search: how far a look ahead may go beyond the date the
+  // current speed reaches the offset, and at most in steps of the stepping
+  // search, which the speed may be too low to say much about:
+  static final double OVERSHOOT = .02;
+  static final double LOOKAHEAD = 4.;
+
+  // See TransitCalculator.setBracketing(). Every step of the stepping search is
+  // a lower limit of the time to the transit. Where the speed of the object says
+  // that the transit is further away, the search looks ahead to just beyond it
+  // instead. The look ahead is kept only if the speed has the same direction on
+  // both of its ends and in the mean, and turns() sees no turning point in
+  // between either; otherwise the search does the safe steps until it has passed
+  // the turning point. Once the value changes its side of the offset, refine()
+  // closes in on the transit.
+  private static double getTransitBracketing(TransitCalculator tc, double jdET, double val,
+      double offset, double min, double max, double valPrec, double timePrec, boolean back,
+      double jdMax) {
+    double dir = (back ? -1. : 1.);
+    double g = difference(tc, normalize(tc, val), offset);
+    double speed = tc.lastSpeed;
+    double lastJD = Double.NaN, lastG = 0., lastS = Double.NaN;
+    double turned = 0.; // direction of the speed behind a turning point ahead, if any
+    double turnedBy = jdET; // and the date it has been passed by
+    double lookahead = LOOKAHEAD; // in steps, halved whenever a turn got in the way
+
+    while (true) {
+      val = normalize(tc, val);
+      double next = tc.getNextJD(jdET, (tc.rollover && val < offset ? val + tc.rolloverVal : val),
+          offset, min, max, back);
+      double step = SMath.max(SMath.abs(next - jdET), timePrec);
+      next = jdET + dir * step;
+
+      // Without a speed from the calculation the one of the last step is no
+      // reliable sign of a turning point, so there is no look ahead then
+      double s = (speed == speed ? speed : slope(tc, lastJD, lastG, jdET, g, lastS));
+      if (turned * s > 0. || (jdET - turnedBy) * dir >= 0.) { turned = 0.; }
+
+      // A look ahead expected to pass the transit may go up to LOOKAHEAD steps,
+      // one cut short only as far as it has not been in the way of a turn yet
+      boolean ahead = false;
+      double reach = reach(tc, g, s * dir);
+      double probe = reach * (1. + OVERSHOOT) + timePrec;
+      if (speed == speed && turned == 0. && reach > step && (probe <= LOOKAHEAD * step || lookahead > 1.)) {
+        ahead = true;
+        next = jdET + dir * (probe <= LOOKAHEAD * step ? probe : lookahead * step);
+        if ((back && next < jdMax && jdET - step >= jdMax) || (!back && next > jdMax && jdET + step <= jdMax)) {
+          next = jdMax;
+        }
+      }
+
+      double nextVal = tc.evaluate(next);
+      if (nextVal == Double.POSITIVE_INFINITY) {
+        return next;
+      }
+      nextVal = normalize(tc, nextVal);
+      if (tc.checkIdenticalResult(offset, nextVal)) {
+        return next;
+      }
+      double nextG = difference(tc, nextVal, offset);
+      double nextSpeed = tc.lastSpeed;
+
+      double mean = slope(tc, jdET, g, next, nextG, s);
+      if (!ahead) { mean = bounded(tc, mean, next - jdET, min, max); }
+      if (ahead) {
+        double ns = (nextSpeed == nextSpeed ? nextSpeed : mean);
+        if (!(s * ns > 0.) || !(s * mean > 0.) || turns(tc, next - jdET, s, mean, ns)) {
+          turned = (s > 0. ? -1. : 1.);
+          turnedBy = next;
+          if (probe > LOOKAHEAD * step) { lookahead /= 2.; }
+          continue;
+        }
+      }
+
+      // With a rollover the transit is the first multiple of the rollover value
+      // on the way of the value, which may have gone more than half way round:
+      double end = g + mean * (next - jdET);
+      double k = 0.;
+      if (tc.rollover) {
+        k = tc.rolloverVal * (end > g ? SMath.floor(g / tc.rolloverVal) + 1. : SMath.ceil(g / tc.rolloverVal) - 1.);
+      }
+      if ((g - k) * (end - k) <= 0.) {
+        return refine(tc, jdET, g - k, speed, next, end - k, nextSpeed, offset, valPrec, timePrec);
+      }
+
+      lastJD = jdET;
+      lastG = g;
+      lastS = s;
+      jdET = next;
+      val = nextVal;
+      g = nextG;
+      speed = nextSpeed;
+
+      if ((back && jdET < jdMax) ||
+          (!back && jdET > jdMax)) {
+        throw new SwissephException(jdET, SwissephException.BEYOND_USER_TIME_LIMIT,
+            -1, "User time limit of " + jdMax + " has been reached.");
+      }
+    }
+  }
+
+  // See TransitCalculator.getTransitsUT(). One pass over the time range with
+  // the steps of getTransit() and getTransitBracketing(), taken for the nearest
+  // offsets above and below the value: the value cannot pass either of them
+  // within a step, unless the step is a look ahead, which runs into the one it
+  // moves to. Every offset the value passes within a step is refined on its own.
+  static List<TransitEvent> getTransits(TransitCalculator tc, double[] offsets, double jdET,
+      double jdEnd) {
+    int n = offsets.length;
+    if (!tc.rollover) {
+      for (int i = 0; i < n; i++) {
+        if (offsets[i] < tc.getMinOffset() || offsets[i] > tc.getMaxOffset()) {
+          throw new SwissephException(jdET, SwissephException.OUT_OF_TIME_RANGE,
+              "No transit possible due to offset " + offsets[i] + " out of range.");
+        }
+      }
+    }
+    Integer[] order = new Integer[n];
+    double[] targets = new double[n];
+    for (int i = 0; i < n; i++) { order[i] = i; }
+    Arrays.sort(order, (i1, i2) -> Double.compare(normalize(tc, offsets[i1]), normalize(tc, offsets[i2])));
+    for (int i = 0; i < n; i++) { targets[i] = normalize(tc, offsets[order[i]]); }
+
+    double max = tc.getMaxSpeed();
+    double min = tc.getMinSpeed();
+    if (max == 0. && min == 0.) { // No possible change in position or speed
+      throw new SwissephException(jdET, SwissephException.OUT_OF_TIME_RANGE,
+          "No transit possible due to lack of variation of speed or position.");
+    }
+    double degPrec = tc.getDegreePrecision(jdET)/2.;
+    double timePrec = tc.getTimePrecision(degPrec)/tc.getPrecisionFactor();
+    double valPrec = degPrec/tc.getPrecisionFactor();
+    boolean bracketing = tc.bracketing;
+
+    List<TransitEvent> events = new ArrayList<>();
+    tc.evaluations = 0;
+    double val = normalize(tc, tc.evaluate(jdET));
+    double speed = tc.lastSpeed;
+    double lastJD = Double.NaN, lastVal = 0., lastS = Double.NaN;
+    double turned = 0., turnedBy = jdET, lookahead = LOOKAHEAD;
+
+    while (n > 0 && jdET < jdEnd) {
+      // the distances to the nearest offsets above and below
+      int hi = 0;
+      while (hi < n && targets[hi] <= val) { hi++; }
+      int lo = hi - 1;
+      while (lo >= 0 && targets[lo] == val) { lo--; }
+      double up = (hi < n ? targets[hi] - val : (tc.rollover ? targets[0] + tc.rolloverVal - val : Double.POSITIVE_INFINITY));
+      double down = (lo >= 0 ? val - targets[lo] : (tc.rollover ? val - targets[n - 1] + tc.rolloverVal : Double.POSITIVE_INFINITY));
+
+      double step = Double.POSITIVE_INFINITY;
+      if (max > 0.) { step = SMath.min(step, up / max); }
+      if (min < 0.) { step = SMath.min(step, down / -min); }
+      if (step == Double.POSITIVE_INFINITY) {
+        break; // beyond every offset and moving away only
+      }
+      step = SMath.max(step, timePrec);
+      double next = SMath.min(jdET + step, jdEnd);
+
+      double s = (speed == speed ? speed : slope(tc, lastJD, lastVal, jdET, val, lastS));
+      if (turned * s > 0. || jdET >= turnedBy) { turned = 0.; }
+
+      boolean ahead = false;
+      double reach = (s > 0. ? up / s : -down / s);
+      double probe = reach * (1. + OVERSHOOT) + timePrec;
+      if (bracketing && speed == speed && turned == 0. && reach > step
+          && (probe <= LOOKAHEAD * step || lookahead > 1.)) {
+        ahead = true;
+        next = SMath.min(jdET + (probe <= LOOKAHEAD * step ? probe : lookahead * step), jdEnd);
+      }
+
+      double nextVal = normalize(tc, tc.evaluate(next));
+      double nextSpeed = tc.lastSpeed;
+      double mean = slope(tc, jdET, val, next, nextVal, s);
+      if (!ahead) { mean = bounded(tc, mean, next - jdET, min, max); }
+      if (ahead) {
+        double ns = (nextSpeed == nextSpeed ? nextSpeed : mean);
+        if (!(s * ns > 0.) || !(s * mean > 0.) || turns(tc, next - jdET, s, mean, ns)) {
+          turned = (s > 0. ? -1. : 1.);
+          turnedBy = next;
+          if (probe > LOOKAHEAD * step) { lookahead /= 2.; }
+          continue;
+        }
+      }
+
+      // the offsets passed, in the order they were passed, as multiples of the
+      // rollover value may be on the way
+      double end = val + mean * (next - jdET);
+      int i = (end > val ? hi : lo);
+      double wrap = 0.;
+      while (true) {
+        if (i >= n || i < 0) {
+          if (!tc.rollover) { break; }
+          wrap += (i >= n ? tc.rolloverVal : -tc.rolloverVal);
+          i = (i >= n ? 0 : n - 1);
+        }
+        double target = targets[i] + wrap;
+        if (end > val ? target > end : target < end) { break; }
+
+        double jd = refine(tc, jdET, val - target, speed, next, end - target, nextSpeed,
+            targets[i], valPrec, timePrec);
+        events.add(new TransitEvent(order[i], offsets[order[i]], jd, (end > val ? 1 : -1)));
+        i += (end > val ? 1 : -1);
+      }
+
+      lastJD = jdET;
+      lastVal = val;
+      lastS = s;
+      jdET = next;
+      val = nextVal;
+      speed = nextSpeed;
+    }
+
+    return events;
+  }
+
+  // See TransitCalculator.setProxy(). The search runs on the proxy, and the
+  // date it finds is refined on the engine. Where the transit of the engine is
+  // behind the start date, e.g. one the search started just after, the search
+  // goes on from the one of the proxy. Where the engine has no transit near the
+  // one of the proxy, the search is run again on the engine alone, so that the
+  // result is always one of the engine.
+  private static double getTransitProxied(TransitCalculator tc, double jdET, boolean back,
+      double jdMax) {
+    double start = jdET;
+    int evaluations = 0;
+    while (true) {
+      double jd;
+      tc.proxied = true;
+      try {
+        jd = getTransit(tc, jdET, back, jdMax);
+      } finally {
+        tc.proxied = false;
+      }
+      tc.evaluations = 0;
+      double transit = refineOnEngine(tc, jd, normalize(tc, tc.getOffset()));
+      tc.evaluations += evaluations;
+      if (Double.isNaN(transit)) {
+        evaluations = tc.evaluations;
+        transit = getTransitDirect(tc, start, back, jdMax);
+        tc.evaluations += evaluations;
+        return transit;
+      }
+      if (back ? transit <= start : transit >= start) {
+        return transit;
+      }
+      evaluations = tc.evaluations;
+
+      double timePrec = tc.getTimePrecision(tc.getDegreePrecision(jd)/2.)/tc.getPrecisionFactor();
+      jdET = jd + (back ? -timePrec : timePrec);
+    }
+  }
+
+  // The transit of the engine next to the one of the proxy at jd: bracketed
+  // from there by the speed of the proxy, which is off by no more than the
+  // tolerance of the proxy, so the bracket is narrow. NaN if there is no
+  // bracket to be found, with a proxy that has no speed or is that far off.
+  private static double refineOnEngine(TransitCalculator tc, double jd, double offset) {
+    double degPrec = tc.getDegreePrecision(jd)/2.;
+    double timePrec = tc.getTimePrecision(degPrec)/tc.getPrecisionFactor();
+    double valPrec = degPrec/tc.getPrecisionFactor();
+
+    // the speed of the proxy at the date, as a secant of its own
+    int evaluations = tc.evaluations;
+    double h = SMath.max(timePrec, 1e-4), s;
+    tc.proxied = true;
+    try {
+      s = difference(tc, normalize(tc, tc.evaluate(jd + h)), normalize(tc, tc.evaluate(jd - h))) / (2 * h);
+    } finally {
+      tc.proxied = false;
+      tc.evaluations = evaluations;
+    }
+
+    double g = difference(tc, normalize(tc, tc.evaluate(jd)), offset);
+    double speed = tc.lastSpeed;
+    if (SMath.abs(g) <= valPrec) {
+      return jd;
+    }
+    if (!(s != 0.)) {
+      return Double.NaN;
+    }
+
+    // step out from the date by twice the way the speed predicts, and further
+    // as long as the value is on the same side of the offset
+    double dt = -g / s;
+    dt = (dt < 0. ? -1. : 1.) * SMath.max(2 * SMath.abs(dt), timePrec);
+    for (int i = 0; i < 16; i++) {
+      double b = jd + dt;
+      double gb = difference(tc, normalize(tc, tc.evaluate(b)), offset);
+      double sb = tc.lastSpeed;
+      if (g * gb <= 0.) {
+        return refine(tc, jd, g, speed, b, gb, sb, offset, valPrec, timePrec);
+      }
+      jd = b;
+      g = gb;
+      speed = sb;
+      dt *= 2;
+    }
+    return Double.NaN;
+  }
+
+  // Closes in on the transit between a and b, where the value is on either side
+  // of the offset, ga and gb being the values relative to it: by a Newton step
+  // from the end nearer to it, a secant step without a speed, and a bisection
+  // where the step leaves the bracket or the bracket did not shrink to half of
+  // it within three steps.
+  private static double refine(TransitCalculator tc, double a, double ga, double sa,
+      double b, double gb, double sb, double offset, double valPrec, double timePrec) {
+    double width = SMath.abs(b - a);
+
+    if (ga == 0.) { return a; }
+    if (gb == 0.) { return b; }
+
+    for (int i = 1; ; i++) {
+      // As precise as the stepping search: the value cannot change by more than
+      // the precision across the bracket, or does not
+      if (SMath.abs(b - a) <= timePrec || SMath.abs(ga - gb) <= 2. * valPrec) {
+        return a + (b - a) * ga / (ga - gb);
+      }
+
+      double c = (SMath.abs(ga) < SMath.abs(gb) ? a - ga / sa : b - gb / sb);
+      if (c != c) {
+        c = a + (b - a) * ga / (ga - gb);
+      }
+      if ((c - a) * (c - b) >= 0. || (i % 3 == 0 && SMath.abs(b - a) > width / 2.)) {
+        c = (a + b) / 2.;
+      }
+      if (i % 3 == 0) {
+        width = SMath.abs(b - a);
+      }
+
+      double val = tc.evaluate(c);
+      if (val == Double.POSITIVE_INFINITY) {
+        return c;
+      }
+      val = normalize(tc, val);
+      if (tc.checkIdenticalResult(offset, val)) {
+        return c;
+      }
+      // relative to the straight line between the ends, as they may be unwrapped
+      double line = ga + (gb - ga) * (c - a) / (b - a);
+      double gc = line + difference(tc, val - offset - line, 0.);
+      if (SMath.abs(gc) <= valPrec) {
+        return c;
+      }
+
+      if (ga * gc < 0.) {
+        b = c; gb = gc; sb = tc.lastSpeed;
+      } else {
+        a = c; ga = gc; sa = tc.lastSpeed;
+      }
+    }
+  }
+
+  private static double normalize(TransitCalculator tc, double val) {
+    if (tc.rollover) {
+      while (val >= tc.rolloverVal) { val -= tc.rolloverVal; }
+      while (val < 0.) { val += tc.rolloverVal; }
+    }
+    return val;
+  }
+
+  // The value relative to the offset, the shorter way round with a rollover
+  private static double difference(TransitCalculator tc, double val, double offset) {
+    double d = val - offset;
+    if (tc.rollover) {
+      d %= tc.rolloverVal;
+      if (d >= tc.rolloverVal / 2.) { d -= tc.rolloverVal; }
+      if (d < -tc.rolloverVal / 2.) { d += tc.rolloverVal; }
+    }
+    return d;
+  }
+
+  // The mean speed between two dates, NaN without a first one. With a rollover
+  // the value may have moved more than half the way round, so it is the move
+  // nearest to the one of the given speed.
+  private static double slope(TransitCalculator tc, double jd1, double g1, double jd2, double g2,
+      double speed) {
+    double move = (speed == speed ? speed * (jd2 - jd1) : 0.);
+    return (move + difference(tc, g2 - g1 - move, 0.)) / (jd2 - jd1);
+  }
+
+  // A step of the stepping search is no longer than the extreme speeds allow,
+  // but the speed at its start may have turned within it, e.g. a planet that
+  // has been retrograde: a mean speed beyond the extremes is then the move the
+  // other way round, if that one is within them.
+  private static double bounded(TransitCalculator tc, double mean, double dt, double min,
+      double max) {
+    if (!tc.rollover || (mean >= min && mean <= max)) { return mean; }
+    double other = mean + (mean > max ? -tc.rolloverVal : tc.rolloverVal) / SMath.abs(dt);
+    return (other >= min && other <= max ? other : mean);
+  }
+
+  // True if the value may turn between two dates dt apart, seen from the speeds
+  // on both ends and the mean speed between them: with a rollover if the value
+  // went a way too different from the one predicted by the first speed to tell
+  // which way round it went, otherwise if the cubic of the speeds and the values
+  // has a turning point in between.
+  private static boolean turns(TransitCalculator tc, double dt, double s0, double mean, double s1) {
+    if (tc.rollover && SMath.abs((mean - s0) * dt) > tc.rolloverVal / 8.) {
+      return true;
+    }
+    // the derivative of the cubic over [0, 1]: a u^2 + b u + d0
+    double d0 = s0 * dt, d1 = s1 * dt, m = mean * dt;
+    double a = 3. * (d0 + d1) - 6. * m;
+    double b = 6. * m - 4. * d0 - 2. * d1;
+    double u = -b / (2. * a);
+    return u > 0. && u < 1. && (a * u * u + b * u + d0) * d0 <= 0.;
+  }
+
+  // The time until the value reaches the offset at the speed of the object in
+  // the direction of the search, NaN if never
+  private static double reach(TransitCalculator tc, double g, double speed) {
+    if (!(speed != 0.)) {
+      return Double.NaN;
+    }
+    if (!tc.rollover) {
+      double t = -g / speed;
+      return (t > 0. ? t : Double.NaN);
+    }
+    double dist = (speed > 0. ? -g : g);
+    if (dist < 0.) { dist += tc.rolloverVal; }
+    return dist / SMath.abs(speed);
+  }
+
   // The precision of a distance calculation is related to the barycentric distance
   // E.g.: java Swetest -b1.1.0 -p0 -n100000 -fR -bary | sort -n
   protected static final double maxBaryDist[] = new double[] {
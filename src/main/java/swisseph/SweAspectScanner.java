@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import org.swisseph.ISwissEph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exact aspects between every pair of a set of bodies over a time range.
+ * <p>
+ * A {@code TCPlanetPlanet} search per pair and aspect calculates both bodies again and again
+ * for each of them. Here all bodies are calculated once per step, with their speeds, and the
+ * separation {@code lon1 - lon2} of every pair is followed through the samples: the speeds
+ * tell how far it went round within a step, so a pair crosses an aspect where the separation
+ * passes {@code angle} or {@code 360 - angle} on the way. Only these crossings are refined, by
+ * Newton steps on the two bodies concerned. Where the separation of a pair turns within a step,
+ * as around the station of one of them, the step is split at the turn first.
+ * <p>
+ * The step must be short enough for the relative speed of any pair to change its sign once
+ * at most within it, which one day is for the planets, the Moon and the nodes. Longitudes are
+ * those of the flags given to {@code swe_calc()}, e.g. sidereal or equatorial ones. An instance
+ * is meant for one thread.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweAspectScanner {
+    public static final double DEFAULT_STEP = 1.;
+    static final double PRECISION = 1e-6; // degrees of the separation
+    static final int MAX_ITERATIONS = 30;
+
+    private final ISwissEph swissEph;
+    private final int[] bodies;
+    private final double[] aspects;
+    private final int iflag;
+    private final double step;
+
+    // the separations an aspect is exact at, ascending, and the aspect of each
+    private final double[] targets;
+    private final int[] aspectOf;
+
+    private final double[] xx = new double[6], yy = new double[6];
+    private final StringBuilder serr = new StringBuilder();
+    private int calculations;
+
+    /**
+     * @param swissEph the engine computing the bodies
+     * @param bodies   the bodies, e.g. SE_SUN .. SE_PLUTO
+     * @param aspects  the aspect angles in degrees, e.g. 0, 60, 90, 120 and 180
+     * @param iflag    flags for {@code swe_calc()}, SEFLG_SPEED is added
+     */
+    public SweAspectScanner(ISwissEph swissEph, int[] bodies, double[] aspects, int iflag) {
+        this(swissEph, bodies, aspects, iflag, DEFAULT_STEP);
+    }
+
+    /**
+     * @param step days between two samples of the bodies
+     */
+    public SweAspectScanner(ISwissEph swissEph, int[] bodies, double[] aspects, int iflag, double step) {
+        if (null == swissEph) throw new IllegalArgumentException("ISwissEph cannot be NULL");
+        if (null == bodies || bodies.length < 2) throw new IllegalArgumentException("Two bodies at least are expected");
+        if (null == aspects || aspects.length == 0) throw new IllegalArgumentException("Aspects are expected");
+        if (!(step > 0.)) throw new IllegalArgumentException("Invalid step: " + step);
+
+        this.swissEph = swissEph;
+        this.bodies = bodies.clone();
+        this.aspects = aspects.clone();
+        this.iflag = iflag | SweConst.SEFLG_SPEED;
+        this.step = step;
+
+        final List<double[]> separations = new ArrayList<>();
+        for (int a = 0; a < aspects.length; a++) {
+            final double angle = SwissLib.swe_degnorm(aspects[a]);
+            separations.add(new double[]{angle, a});
+            final double other = SwissLib.swe_degnorm(360. - angle);
+            if (other != angle) separations.add(new double[]{other, a});
+        }
+        separations.sort((s1, s2) -> Double.compare(s1[0], s2[0]));
+
+        this.targets = new double[separations.size()];
+        this.aspectOf = new int[separations.size()];
+        for (int t = 0; t < targets.length; t++) {
+            targets[t] = separations.get(t)[0];
+            aspectOf[t] = (int) separations.get(t)[1];
+        }
+    }
+
+    /**
+     * @return how many {@code swe_calc()} calls the aspects took so far
+     */
+    public int calculations() {
+        return calculations;
+    }
+
+    /**
+     * @param tjdUT0 julian day in UT the range starts with, exclusive
+     * @param tjdUT1 julian day in UT the range ends with, inclusive
+     * @return the exact aspects in the range in the order of time
+     */
+    public Aspect[] aspects(double tjdUT0, double tjdUT1) {
+        if (!(tjdUT1 > tjdUT0)) throw new IllegalArgumentException("Invalid range: " + tjdUT0 + " - " + tjdUT1);
+
+        final int n = bodies.length;
+        final double tjdET1 = tjdUT1 + swissEph.swe_deltat(tjdUT1);
+        double t0 = tjdUT0 + swissEph.swe_deltat(tjdUT0);
+
+        double[] lon0 = new double[n], speed0 = new double[n];
+        double[] lon1 = new double[n], speed1 = new double[n];
+        sample(t0, lon0, speed0);
+
+        final List<Aspect> found = new ArrayList<>();
+        while (t0 < tjdET1) {
+            final double t1 = Math.min(t0 + step, tjdET1);
+            sample(t1, lon1, speed1);
+
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    final double d0 = SwissLib.swe_degnorm(lon0[i] - lon0[j]), v0 = speed0[i] - speed0[j];
+                    final double v1 = speed1[i] - speed1[j];
+                    final double d1 = unwrap(d0, lon1[i] - lon1[j], (v0 + v1) / 2 * (t1 - t0));
+
+                    if (v0 * v1 >= 0.) {
+                        crossings(i, j, t0, d0, v0, t1, d1, v1, found);
+                        continue;
+                    }
+
+                    // the separation turns: split the step where the relative speed is 0
+                    final double tm = t0 + (t1 - t0) * v0 / (v0 - v1);
+                    final double separation = pair(i, j, tm), vm = yy[3];
+                    final double dm = unwrap(d0, separation, (v0 + vm) / 2 * (tm - t0));
+                    crossings(i, j, t0, d0, v0, tm, dm, vm, found);
+                    crossings(i, j, tm, dm, vm, t1, d1, v1, found);
+                }
+            }
+
+            t0 = t1;
+            final double[] lon = lon0, speed = speed0;
+            lon0 = lon1;
+            speed0 = speed1;
+            lon1 = lon;
+            speed1 = speed;
+        }
+
+        found.sort((a1, a2) -> Double.compare(a1.tjdUT, a2.tjdUT));
+        return found.toArray(new Aspect[0]);
+    }
+
+    /**
+     * The aspects of a pair whose separation goes from d0 at t0 to the unwrapped d1 at t1 one
+     * way: every target in {@code (d0, d1]}, each multiple of 360 degrees apart as well.
+     */
+    private void crossings(int i, int j, double t0, double d0, double v0, double t1, double d1, double v1,
+                           List<Aspect> found) {
+        if (d1 == d0) return;
+
+        final boolean up = d1 > d0;
+        final double lo = up ? d0 : d1, hi = up ? d1 : d0;
+        final double base = 360. * Math.floor(lo / 360.);
+
+        for (double wrap = base; wrap <= hi; wrap += 360.) {
+            for (int t = 0; t < targets.length; t++) {
+                final double target = targets[t] + wrap;
+                // up: (d0, d1], down: [d1, d0)
+                if (up ? (target <= d0 || target > d1) : (target < d1 || target >= d0)) continue;
+
+                final double tjdET = refine(i, j, targets[t], t0, d0 - target, v0, t1, d1 - target, v1);
+                found.add(new Aspect(bodies[i], bodies[j], aspects[aspectOf[t]], targets[t],
+                        tjdET - swissEph.swe_deltat(tjdET)));
+            }
+        }
+    }
+
+    /**
+     * Closes in on the date between a and b the separation of the pair is at the target, g
+     * being the separation relative to it and v its speed: by a Newton step from the end
+     * nearer to it, the secant or a bisection where that leaves the bracket.
+     */
+    private double refine(int i, int j, double target, double a, double ga, double va, double b, double gb,
+                          double vb) {
+        for (int k = 0; k < MAX_ITERATIONS; k++) {
+            if (Math.abs(ga) <= PRECISION) return a;
+            if (Math.abs(gb) <= PRECISION) return b;
+
+            double t = Math.abs(ga) < Math.abs(gb) ? a - ga / va : b - gb / vb;
+            final double lo = Math.min(a, b), hi = Math.max(a, b);
+            if (!(t > lo && t < hi)) t = a - ga * (b - a) / (gb - ga);
+            if (!(t > lo && t < hi)) t = (a + b) / 2;
+            if (hi - lo < 1e-10) return t;
+
+            final double g = SwissLib.swe_difdeg2n(pair(i, j, t), target);
+            final double v = yy[3];
+            if ((g < 0.) == (ga < 0.)) {
+                a = t;
+                ga = g;
+                va = v;
+            } else {
+                b = t;
+                gb = g;
+                vb = v;
+            }
+        }
+
+        return Math.abs(ga) < Math.abs(gb) ? a : b;
+    }
+
+    /**
+     * @return the separation of the pair at the date, its speed in yy[3]
+     */
+    private double pair(int i, int j, double tjdET) {
+        calc(tjdET, bodies[i], xx);
+        final double lon = xx[0], speed = xx[3];
+        calc(tjdET, bodies[j], yy);
+        yy[3] = speed - yy[3];
+        return lon - yy[0];
+    }
+
+    private void sample(double tjdET, double[] lon, double[] speed) {
+        for (int i = 0; i < bodies.length; i++) {
+            calc(tjdET, bodies[i], xx);
+            lon[i] = xx[0];
+            speed[i] = xx[3];
+        }
+    }
+
+    private void calc(double tjdET, int body, double[] x) {
+        calculations++;
+        if (swissEph.swe_calc(tjdET, body, iflag, x, serr) == SweConst.ERR) {
+            throw new SwissephException(tjdET, SwissephException.UNDEFINED_ERROR, SweConst.ERR, serr);
+        }
+    }
+
+    /**
+     * @return the separation nearest to d0 plus the move expected
+     */
+    private static double unwrap(double d0, double d, double move) {
+        return d0 + move + SwissLib.swe_difdeg2n(d - d0 - move, 0.);
+    }
+
+    /**
+     * An exact aspect between two bodies
+     */
+    public static final class Aspect {
+        public final int planet1, planet2;
+        /**
+         * the aspect angle as it was given
+         */
+        public final double aspect;
+        /**
+         * {@code lon1 - lon2} at the aspect, 0 .. 360: the angle or 360 minus it, e.g. 90 for
+         * the waxing and 270 for the waning square of the Moon to the Sun
+         */
+        public final double separation;
+        public final double tjdUT;
+
+        Aspect(int planet1, int planet2, double aspect, double separation, double tjdUT) {
+            this.planet1 = planet1;
+            this.planet2 = planet2;
+            this.aspect = aspect;
+            this.separation = separation;
+            this.tjdUT = tjdUT;
+        }
+
+        @Override
+        public String toString() {
+            return "Aspect{planet1=" + planet1 + ", planet2=" + planet2 + ", aspect=" + aspect
+                    + ", separation=" + separation + ", tjdUT=" + tjdUT + '}';
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import org.swisseph.ISwissEph;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Astrocartography: the places on earth where a body is on one of the four angles at one
+ * moment - its <b>MC and IC lines</b> (meridians) and its <b>ASC and DSC lines</b> (the
+ * curves where it rises and sets).
+ * <p>
+ * Each body's right ascension and declination is computed once by {@code swe_calc()}. The
+ * lines then follow in closed form from the Greenwich ARMC ({@link SweHouseGrid}):
+ * <ul>
+ * <li>MC: longitude = RA - ARMC(Greenwich), the IC 180 degrees away;</li>
+ * <li>ASC and DSC: the semi-arc {@code H0 = acos(-tan(lat) tan(decl))} gives
+ * longitude = RA -/+ H0 - ARMC(Greenwich) at each latitude. Beyond latitude 90 - |decl| the
+ * body never rises or sets and the lines end.</li>
+ * </ul>
+ * There is no house calculation per position, which is what makes this so much cheaper than
+ * searching a grid of charts for bodies on the angles.
+ * <p>
+ * <b>In mundo or zodiacal.</b> In mundo lines use the body's own position, its ecliptic
+ * latitude included. Zodiacal lines use the ecliptic degree of the body, i.e. where that
+ * degree is the ascendant or MC of a chart. They agree for the Sun.
+ * <p>
+ * Longitudes are positive east, in the range -180 to 180, so a line crossing the
+ * antimeridian jumps by 360 degrees between two points.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweAstrocartography {
+    public static final int MC = 0, IC = 1, ASC = 2, DSC = 3;
+
+    private final SweHouseGrid epoch;
+    private final int[] bodies;
+    private final double[] rightAscension, declination;
+
+    /**
+     * @param swissEph the engine computing the epoch and the body positions
+     * @param tjdUT    julian day in UT
+     * @param iflag    ephemeris flags for {@code swe_calc()}, SEFLG_SIDEREAL is ignored
+     * @param bodies   the bodies, e.g. SE_SUN .. SE_PLUTO
+     * @param inMundo  true for the body's own position, false for its ecliptic degree
+     */
+    public SweAstrocartography(ISwissEph swissEph, double tjdUT, int iflag, int[] bodies, boolean inMundo) {
+        if (null == bodies) throw new IllegalArgumentException("Bodies are expected");
+
+        iflag &= ~(SweConst.SEFLG_SIDEREAL | SweConst.SEFLG_EQUATORIAL | SweConst.SEFLG_RADIANS);
+
+        this.epoch = new SweHouseGrid(swissEph, tjdUT, iflag);
+        this.bodies = bodies.clone();
+        this.rightAscension = new double[bodies.length];
+        this.declination = new double[bodies.length];
+
+        final double[] xx = new double[6];
+        final StringBuilder serr = new StringBuilder();
+        final double eps = epoch.obliquity();
+
+        for (int i = 0; i < bodies.length; i++) {
+            if (swissEph.swe_calc(epoch.julianDayET(), bodies[i], inMundo ? iflag | SweConst.SEFLG_EQUATORIAL
+                    : iflag, xx, serr) == SweConst.ERR) {
+                throw new SwissephException(epoch.julianDayET(), SwissephException.UNDEFINED_ERROR, SweConst.ERR, serr);
+            }
+
+            if (inMundo) {
+                rightAscension[i] = xx[0];
+                declination[i] = xx[1];
+            } else { // the ecliptic degree, latitude 0, into the equator
+                rightAscension[i] = SwissLib.swe_degnorm(SweHouse.atan2d(
+                        SweHouse.sind(xx[0]) * SweHouse.cosd(eps), SweHouse.cosd(xx[0])));
+                declination[i] = SweHouse.asind(SweHouse.sind(eps) * SweHouse.sind(xx[0]));
+            }
+        }
+    }
+
+    /**
+     * @return the epoch quantities the lines are traced from
+     */
+    public SweHouseGrid epoch() {
+        return epoch;
+    }
+
+    public int bodiesCount() {
+        return bodies.length;
+    }
+
+    public int body(int i) {
+        return bodies[i];
+    }
+
+    /**
+     * @return right ascension of the i-th body in degrees
+     */
+    public double rightAscension(int i) {
+        return rightAscension[i];
+    }
+
+    /**
+     * @return declination of the i-th body in degrees
+     */
+    public double declination(int i) {
+        return declination[i];
+    }
+
+    /**
+     * @return geographic longitude of the i-th body's MC line
+     */
+    public double mcLongitude(int i) {
+        return lon180(rightAscension[i] - epoch.greenwichArmc());
+    }
+
+    /**
+     * @return geographic longitude of the i-th body's IC line
+     */
+    public double icLongitude(int i) {
+        return lon180(rightAscension[i] + 180. - epoch.greenwichArmc());
+    }
+
+    /**
+     * @return geographic longitude where the i-th body rises at the latitude, NaN where it
+     * does not rise
+     */
+    public double ascLongitude(int i, double geolat) {
+        final double h0 = semiArc(declination[i], geolat);
+        return Double.isNaN(h0) ? h0 : lon180(rightAscension[i] - h0 - epoch.greenwichArmc());
+    }
+
+    /**
+     * @return geographic longitude where the i-th body sets at the latitude, NaN where it
+     * does not set
+     */
+    public double dscLongitude(int i, double geolat) {
+        final double h0 = semiArc(declination[i], geolat);
+        return Double.isNaN(h0) ? h0 : lon180(rightAscension[i] + h0 - epoch.greenwichArmc());
+    }
+
+    /**
+     * Traces all four lines of every body through the given latitudes.
+     *
+     * @param latitudes ascending latitudes the polylines are sampled at
+     * @param parallel  bodies in parallel
+     * @return four lines per body - MC, IC, ASC, DSC - in the order of the bodies
+     */
+    public Line[] lines(final double[] latitudes, final boolean parallel) {
+        final Line[] lines = new Line[bodies.length * 4];
+        final IntStream stream = IntStream.range(0, bodies.length);
+
+        (parallel && bodies.length > 1 ? stream.parallel() : stream).forEach(i -> {
+            final int n = latitudes.length;
+            final double[] mc = new double[n], ic = new double[n];
+            Arrays.fill(mc, mcLongitude(i));
+            Arrays.fill(ic, icLongitude(i));
+
+            lines[i * 4 + MC] = new Line(bodies[i], MC, latitudes.clone(), mc);
+            lines[i * 4 + IC] = new Line(bodies[i], IC, latitudes.clone(), ic);
+
+            final double[] lat = new double[n], asc = new double[n], dsc = new double[n];
+            int k = 0;
+            for (double geolat : latitudes) {
+                final double h0 = semiArc(declination[i], geolat);
+                if (Double.isNaN(h0)) continue;
+
+                final double meridian = rightAscension[i] - epoch.greenwichArmc();
+                lat[k] = geolat;
+                asc[k] = lon180(meridian - h0);
+                dsc[k++] = lon180(meridian + h0);
+            }
+
+            lines[i * 4 + ASC] = new Line(bodies[i], ASC, Arrays.copyOf(lat, k), Arrays.copyOf(asc, k));
+            lines[i * 4 + DSC] = new Line(bodies[i], DSC, Arrays.copyOf(lat, k), Arrays.copyOf(dsc, k));
+        });
+
+        return lines;
+    }
+
+    /**
+     * @return evenly spaced latitudes from {@code from} to {@code to} inclusive
+     */
+    public static double[] latitudes(double from, double to, double step) {
+        if (!(step > 0.) || to < from) throw new IllegalArgumentException("Invalid latitude range");
+
+        final int n = (int) Math.floor((to - from) / step + 1e-9) + 1;
+        final double[] latitudes = new double[n];
+        for (int i = 0; i < n; i++) latitudes[i] = from + i * step;
+        return latitudes;
+    }
+
+    /**
+     * @return half the arc above the horizon, in degrees of hour angle, NaN if the body is
+     * circumpolar or never rises at the latitude
+     */
+    static double semiArc(double decl, double geolat) {
+        final double x = -SweHouse.tand(geolat) * SweHouse.tand(decl);
+        return x < -1. || x > 1. ? Double.NaN : SweHouse.acosd(x);
+    }
+
+    static double lon180(double lon) {
+        lon = SwissLib.swe_degnorm(lon);
+        return lon > 180. ? lon - 360. : lon;
+    }
+
+    /**
+     * One line as a polyline: {@code longitudes[k]} at {@code latitudes[k]}
+     */
+    public static final class Line {
+        public final int body, angle;
+        public final double[] latitudes, longitudes;
+
+        Line(int body, int angle, double[] latitudes, double[] longitudes) {
+            this.body = body;
+            this.angle = angle;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+        }
+
+        public int size() {
+            return latitudes.length;
+        }
+
+        @Override
+        public String toString() {
+            return "Line{body=" + body + ", angle=" + angle + ", points=" + size() + '}';
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import org.swisseph.ISwissEph;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A proxy of {@code swe_calc()} by Chebyshev polynomials, for the root finding of the transit
+ * searches. See {@link TransitCalculator#setProxy(SweChebyshevProxy)}.
+ * <p>
+ * Over a window of days the coordinates of a body are very smooth. For every body and flags
+ * asked for, the time is covered by windows, each one with a polynomial of degree 7 per
+ * coordinate in the Chebyshev basis: the Hermite polynomial through the positions and speeds
+ * of the engine at the 4 Chebyshev nodes of the window. The speeds are the derivative of the
+ * polynomial. A window is checked against the engine in its middle, halved until it is within
+ * the tolerance, and the next one of the body is twice as long while it is well within it. So
+ * a window costs 5 engine calculations, and the Moon takes a few days per window, an outer
+ * planet a few months.
+ * <p>
+ * Longitudes are unwrapped within a window and normalized again when evaluated. A date the
+ * engine fails for within a window is passed on to the engine. A proxy keeps its windows
+ * until {@link #clear()} and is meant for one thread, like the engine it calls.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweChebyshevProxy {
+    public static final double DEFAULT_TOLERANCE = 1e-4;
+    static final int NODES = 4, DEGREE = 2 * NODES - 1;
+    static final double FIRST_WINDOW = 8., MIN_WINDOW = 1. / 16, MAX_WINDOW = 512.;
+
+    // x of the nodes on [-1, 1], and the inverse of the Hermite conditions: values and
+    // derivatives at the nodes to the Chebyshev coefficients
+    static final double[] NODE = new double[NODES];
+    static final double[][] HERMITE;
+
+    static {
+        final double[][] conditions = new double[2 * NODES][];
+        for (int i = 0; i < NODES; i++) {
+            NODE[i] = Math.cos(Math.PI * (i + .5) / NODES);
+            final double[] t = new double[DEGREE + 1], dt = new double[DEGREE + 1];
+            chebyshev(NODE[i], t, dt);
+            conditions[i] = t;
+            conditions[NODES + i] = dt;
+        }
+        HERMITE = invert(conditions);
+    }
+
+    private final ISwissEph swissEph;
+    private final double tolerance;
+    private final Map<Long, Series> series = new HashMap<>();
+    private final double[] xx = new double[6], t = new double[DEGREE + 1], dt = new double[DEGREE + 1];
+    private final StringBuilder serr = new StringBuilder();
+    private int calculations;
+
+    public SweChebyshevProxy(ISwissEph swissEph) {
+        this(swissEph, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param swissEph  the engine the polynomials are fitted to
+     * @param tolerance the largest difference to the engine in the middle of a window, in
+     *                  degrees or AU as the flags give the coordinates
+     */
+    public SweChebyshevProxy(ISwissEph swissEph, double tolerance) {
+        if (null == swissEph) throw new IllegalArgumentException("ISwissEph cannot be NULL");
+        if (!(tolerance > 0.)) throw new IllegalArgumentException("Invalid tolerance: " + tolerance);
+        this.swissEph = swissEph;
+        this.tolerance = tolerance;
+    }
+
+    public ISwissEph getSwissEph() {
+        return swissEph;
+    }
+
+    /**
+     * @return how many {@code swe_calc()} calls of the engine the proxy took so far
+     */
+    public int calculations() {
+        return calculations;
+    }
+
+    /**
+     * @return how many windows the proxy holds
+     */
+    public int windows() {
+        int windows = 0;
+        for (Series s : series.values()) windows += s.windows.size();
+        return windows;
+    }
+
+    public void clear() {
+        series.clear();
+    }
+
+    /**
+     * {@code swe_calc()} from the polynomials, with the speeds whether SEFLG_SPEED is given or
+     * not.
+     *
+     * @return the flags of the engine, or what the engine returns where it fails
+     */
+    public int swe_calc(double tjdET, int ipl, int iflag, double[] xx, StringBuilder serr) {
+        iflag &= ~(SweConst.SEFLG_SPEED | SweConst.SEFLG_SPEED3);
+        final long key = ((long) ipl << 32) | (iflag & 0xffffffffL);
+        Series s = series.get(key);
+        if (null == s) series.put(key, s = new Series(ipl, iflag));
+
+        final Window window = s.window(tjdET);
+        if (null == window) {
+            calculations++;
+            return swissEph.swe_calc(tjdET, ipl, iflag | SweConst.SEFLG_SPEED, xx, serr);
+        }
+
+        window.evaluate(tjdET, xx);
+        return window.retflag;
+    }
+
+    /**
+     * The windows of one body and flags
+     */
+    private final class Series {
+        final int ipl, iflag;
+        final double period; // of the longitude, 0 for rectangular coordinates
+        final TreeMap<Double, Window> windows = new TreeMap<>();
+        double length = FIRST_WINDOW;
+
+        Series(int ipl, int iflag) {
+            this.ipl = ipl;
+            this.iflag = iflag;
+            this.period = (iflag & SweConst.SEFLG_XYZ) != 0 ? 0.
+                    : (iflag & SweConst.SEFLG_RADIANS) != 0 ? 2 * Math.PI : 360.;
+        }
+
+        /**
+         * @return the window of the date, a new one between its neighbours if there is none,
+         * null where the engine fails
+         */
+        Window window(double tjdET) {
+            final Map.Entry<Double, Window> before = windows.floorEntry(tjdET);
+            if (null != before && tjdET <= before.getValue().end) return before.getValue();
+
+            final Map.Entry<Double, Window> after = windows.higherEntry(tjdET);
+            final double from = null == before ? Double.NEGATIVE_INFINITY : before.getValue().end;
+            final double to = null == after ? Double.POSITIVE_INFINITY : after.getKey();
+
+            while (true) {
+                // next to a neighbour if it is near, around the date otherwise
+                double start = tjdET - length / 2, end = tjdET + length / 2;
+                if (start < from || tjdET - from < length) {
+                    start = from;
+                    end = from + length;
+                } else if (end > to || to - tjdET < length) {
+                    start = to - length;
+                    end = to;
+                }
+                if (start < from) start = from;
+                if (end > to) end = to;
+
+                final Window window = fit(start, end);
+                if (null == window) return null;
+
+                final double error = window.error();
+                if (error != error) return null;
+
+                if (error > tolerance && length > MIN_WINDOW) {
+                    length /= 2;
+                    continue;
+                }
+                if (error < tolerance / 16 && length < MAX_WINDOW) length *= 2;
+
+                windows.put(start, window);
+                return window;
+            }
+        }
+
+        /**
+         * The Hermite polynomials of the window, null where the engine fails
+         */
+        Window fit(double start, double end) {
+            final Window window = new Window(this, start, end);
+            final double half = (end - start) / 2, middle = (start + end) / 2;
+            final double[][] values = new double[3][2 * NODES];
+
+            for (int i = 0; i < NODES; i++) {
+                final int ret = calc(middle + half * NODE[i]);
+                if (ret < 0) return null;
+                window.retflag = ret;
+
+                for (int k = 0; k < 3; k++) {
+                    double value = xx[k];
+                    // the longitude continues the one of the node before, by its speed
+                    if (k == 0 && period > 0. && i > 0) {
+                        final double move = (values[0][NODES + i - 1] / half + xx[3]) / 2
+                                * half * (NODE[i] - NODE[i - 1]);
+                        value = values[0][i - 1] + move
+                                + Math.IEEEremainder(value - values[0][i - 1] - move, period);
+                    }
+                    values[k][i] = value;
+                    values[k][NODES + i] = xx[k + 3] * half;
+                }
+            }
+
+            for (int k = 0; k < 3; k++) {
+                for (int c = 0; c <= DEGREE; c++) {
+                    double sum = 0.;
+                    for (int r = 0; r < 2 * NODES; r++) sum += HERMITE[c][r] * values[k][r];
+                    window.coefficients[k][c] = sum;
+                }
+            }
+            return window;
+        }
+
+        int calc(double tjdET) {
+            calculations++;
+            return swissEph.swe_calc(tjdET, ipl, iflag | SweConst.SEFLG_SPEED, xx, serr);
+        }
+    }
+
+    private final class Window {
+        final Series series;
+        final double start, end;
+        final double[][] coefficients = new double[3][DEGREE + 1];
+        int retflag;
+
+        Window(Series series, double start, double end) {
+            this.series = series;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * @return the largest difference of a coordinate to the engine in the middle, NaN
+         * where the engine fails
+         */
+        double error() {
+            final double middle = (start + end) / 2;
+            final int ret = series.calc(middle);
+            if (ret < 0) return Double.NaN;
+            retflag = ret;
+
+            final double[] engine = xx.clone(), proxy = new double[6];
+            evaluate(middle, proxy);
+
+            double error = 0.;
+            for (int k = 0; k < 3; k++) {
+                double d = proxy[k] - engine[k];
+                if (k == 0 && series.period > 0.) d = Math.IEEEremainder(d, series.period);
+                error = Math.max(error, Math.abs(d));
+            }
+            return error;
+        }
+
+        void evaluate(double tjdET, double[] x) {
+            final double half = (end - start) / 2;
+            chebyshev((tjdET - (start + end) / 2) / half, t, dt);
+
+            for (int k = 0; k < 3; k++) {
+                double value = 0., speed = 0.;
+                for (int c = 0; c <= DEGREE; c++) {
+                    value += coefficients[k][c] * t[c];
+                    speed += coefficients[k][c] * dt[c];
+                }
+                if (k == 0 && series.period > 0.) {
+                    value -= series.period * Math.floor(value / series.period);
+                }
+                x[k] = value;
+                x[k + 3] = speed / half;
+            }
+        }
+    }
+
+    /**
+     * The Chebyshev polynomials of the first kind and their derivatives at x
+     */
+    static void chebyshev(double x, double[] t, double[] dt) {
+        t[0] = 1.;
+        t[1] = x;
+        dt[0] = 0.;
+        dt[1] = 1.;
+        for (int k = 2; k < t.length; k++) {
+            t[k] = 2 * x * t[k - 1] - t[k - 2];
+            dt[k] = 2 * t[k - 1] + 2 * x * dt[k - 1] - dt[k - 2];
+        }
+    }
+
+    /**
+     * Gauss-Jordan with partial pivoting
+     */
+    static double[][] invert(double[][] m) {
+        final int n = m.length;
+        final double[][] a = new double[n][2 * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(m[i], 0, a[i], 0, n);
+            a[i][n + i] = 1.;
+        }
+
+        for (int c = 0; c < n; c++) {
+            int pivot = c;
+            for (int r = c + 1; r < n; r++) if (Math.abs(a[r][c]) > Math.abs(a[pivot][c])) pivot = r;
+            final double[] row = a[pivot];
+            a[pivot] = a[c];
+            a[c] = row;
+
+            final double p = row[c];
+            for (int k = 0; k < 2 * n; k++) row[k] /= p;
+            for (int r = 0; r < n; r++) {
+                if (r == c || a[r][c] == 0.) continue;
+                final double f = a[r][c];
+                for (int k = 0; k < 2 * n; k++) a[r][k] -= f * row[k];
+            }
+        }
+
+        final double[][] inverse = new double[n][n];
+        for (int i = 0; i < n; i++) System.arraycopy(a[i], n, inverse[i], 0, n);
+        return inverse;
+    }
+}
@@ -151,16 +151,8 @@ public class SweDate implements Serializable {
 
   public static final IDate DT_GC0 = swe_revjul(JD_GC0, SE_GREG_CAL);
 
-    // private static ThreadLocal<Integer> double = new ThreadLocal<Integer>() {
-        // @Override protected Integer initialValue() { return SweConst.SE_TIDAL_DEFAULT; }
-    // };
-
-  private static double  TID_ACC = SE_TIDAL_DEFAULT;
-  private static boolean IS_TID_ACC_MANUAL = false;
   private static boolean INIT_DT_DONE = false;
   
-  private static boolean init_leapseconds_done=true;
-  
   // JD for the start of the Gregorian calendar system (October 15, 1582):
   private double jdCO = JD_GC0;
   
@@ -449,7 +441,8 @@ public class SweDate implements Serializable {
 
   /**
   * Queries the delta T value for the given Julian Day number - this is a static method.
-  * Delta T is calculated with a tidal acceleration of SE_TIDAL_DEFAULT.
+  * Delta T is calculated with the tidal acceleration of the first SwissEph object
+  * created, see {@link #getGlobalTidalAcc()}.
   * @param tjd Julian Day number
   * @return delta T
   * @see swisseph.SweConst#SE_TIDAL_DEFAULT
@@ -461,21 +454,12 @@ public class SweDate implements Serializable {
   }
 
   /**
-  * Delta t as fixed by swe_set_delta_t_userdef(), in days, or SE_DELTAT_AUTOMATIC when the
-  * model is in charge. Thread local for the same reason the rest of the state is: two
-  * threads may be computing charts with different settings.
+  * The same as {@link #getDeltaT(double)}, with the tidal acceleration, the user
+  * defined delta T and the delta T model of the SwissEph object <code>swed</code>
+  * belongs to.
   */
-  private static final ThreadLocal<Double> USER_DELTA_T =
-      ThreadLocal.withInitial(() -> SweConst.SE_DELTAT_AUTOMATIC);
-
-  /** @see #USER_DELTA_T */
-  static void setUserDeltaT(double dt) {
-    USER_DELTA_T.set(dt);
-  }
-
-  /** @see #USER_DELTA_T */
-  static double getUserDeltaT() {
-    return USER_DELTA_T.get();
+  static double getDeltaT(SwissData swed, double tjd) {
+    return calc_deltaT(swed, tjd);
   }
 
   /**
@@ -864,13 +848,14 @@ public class SweDate implements Serializable {
   //////////////////////////////////////////////////////////////////////////////
 
   /**
-  * Returns the tidal acceleration used in calculations of delta T.<br>
+  * Returns the tidal acceleration used in calculations of delta T by the first
+  * SwissEph object created. Every SwissEph object has its own, see
+  * SwissEph.swe_get_tid_acc().<br>
   * Was <code>double swe_get_tid_acc()</code> in the original C sources.
   * @return Tidal acceleration
   */
   public static double getGlobalTidalAcc() {
-    return TID_ACC;
-// return tid_acc.get();
+    return getSwissEph().swed.tid_acc;
   }
 
   /* function sets tidal acceleration of the Moon.
@@ -886,6 +871,20 @@ public class SweDate implements Serializable {
   static void swe_set_tid_acc(double t_acc) {
     setGlobalTidalAcc(t_acc);
   }
+
+  /**
+  * Sets the tidal acceleration of the SwissEph object <code>swed</code> belongs to.
+  * @see #setGlobalTidalAcc(double)
+  */
+  static void swe_set_tid_acc(SwissData swed, double t_acc) {
+    if (t_acc == SweConst.SE_TIDAL_AUTOMATIC) {
+      swed.tid_acc = SweConst.SE_TIDAL_DEFAULT;
+      swed.is_tid_acc_manual = false;
+      return;
+    }
+    swed.tid_acc = t_acc;
+    swed.is_tid_acc_manual = true;
+  }
   /**
   * Sets the tidal acceleration used in calculations of delta T.
   * t_acc can be either<br>
@@ -895,8 +894,10 @@ public class SweDate implements Serializable {
   * Corresponds to <code>void swe_set_tid_acc(double)</code> method in the original
   * C version.<br>
   * <b>ATTENTION: this method changes the tidal acceleration of the moon
-  * globally, so <i>any</i> calculation of delta T following this call
-  * will be affected.</b>
+  * of the first SwissEph object created, so <i>any</i> calculation of
+  * delta T by that object or by the static methods of this class following
+  * this call will be affected. Other SwissEph objects keep their own value,
+  * see SwissEph.swe_set_tid_acc(double).</b>
   * @param t_acc tidal acceleration
   * @see swisseph.SweConst#SE_TIDAL_DE403
   * @see swisseph.SweConst#SE_TIDAL_DE404
@@ -911,22 +912,23 @@ public class SweDate implements Serializable {
   * @see swisseph.SweConst#SE_TIDAL_DEFAULT
   */
   public static void setGlobalTidalAcc(double t_acc) {
-    if (t_acc == SweConst.SE_TIDAL_AUTOMATIC) {
-      TID_ACC = SweConst.SE_TIDAL_DEFAULT;
-// tid_acc.set(SweConst.SE_TIDAL_DEFAULT);
-      IS_TID_ACC_MANUAL = false;
-      return;
-    }
-    TID_ACC = t_acc;
-// tid_acc.set(t_acc);
-    IS_TID_ACC_MANUAL = true;
+    swe_set_tid_acc(getSwissEph().swed, t_acc);
   }
 
   /**
   * @see #setGlobalTidalAcc(double, int, int)
   */
   static void swi_set_tid_acc(double tjd_ut, int iflag, int denum) {
-    setGlobalTidalAcc(tjd_ut, iflag, denum);
+    setGlobalTidalAcc(getSwissEph(), tjd_ut, iflag, denum);
+  }
+
+  /**
+  * The same as {@link #swi_set_tid_acc(double, int, int)}, but the DE number is looked up
+  * in the files opened by <code>sw</code> - the object doing the calculation - instead of
+  * in the first SwissEph object ever created.
+  */
+  static void swi_set_tid_acc(SwissEph sw, double tjd_ut, int iflag, int denum) {
+    setGlobalTidalAcc(sw, tjd_ut, iflag, denum);
   }
   /**
   * Sets the tidal acceleration used in calculations of delta T.
@@ -948,25 +950,27 @@ public class SweDate implements Serializable {
   * @see swisseph.SweConst#SE_TIDAL_AUTOMATIC
   * @see swisseph.SweConst#SE_TIDAL_DEFAULT
   */
-  static synchronized void setGlobalTidalAcc(double tjd_ut, int iflag, int denum) {
-    final SwissEph sw = getSwissEph();
+  static void setGlobalTidalAcc(double tjd_ut, int iflag, int denum) {
+    setGlobalTidalAcc(getSwissEph(), tjd_ut, iflag, denum);
+  }
+
+  private static void setGlobalTidalAcc(SwissEph sw, double tjd_ut, int iflag, int denum) {
     double xx[] = new double[6];
     double tjd_et;
     int retval = 0;
     /* manual tid_acc overrides automatic tid_acc */
-    if (IS_TID_ACC_MANUAL)
+    if (sw.swed.is_tid_acc_manual)
       return;
     if (denum == 0) {
       if ((iflag & SweConst.SEFLG_MOSEPH) != 0) {
-        TID_ACC = SweConst.SE_TIDAL_DE404;
-// tid_acc.set(SweConst.SE_TIDAL_DE404);
+        sw.swed.tid_acc = SweConst.SE_TIDAL_DE404;
         return;
       }
       if ((iflag & SweConst.SEFLG_JPLEPH) != 0) {
         if (sw.swed.jpl_file_is_open) {
 	  denum = sw.swed.jpldenum;
         } else {
-	  tjd_et = tjd_ut + SweDate.getDeltaT(tjd_ut);
+	  tjd_et = tjd_ut + getDeltaT(sw.swed, tjd_ut);
 	  iflag = SweConst.SEFLG_JPLEPH|SweConst.SEFLG_J2000|SweConst.SEFLG_TRUEPOS|SweConst.SEFLG_ICRS|SweConst.SEFLG_BARYCTR;
 	  retval = sw.swe_calc(tjd_et, SweConst.SE_JUPITER, iflag, xx, null);
 	  if (sw.swed.jpl_file_is_open && (retval & SweConst.SEFLG_JPLEPH) != 0) {
@@ -976,7 +980,7 @@ public class SweDate implements Serializable {
       }
       /* SEFLG_SWIEPH wanted or SEFLG_JPLEPH failed: */
       if (denum == 0) {
-        tjd_et = tjd_ut + SweDate.getDeltaT(tjd_ut);
+        tjd_et = tjd_ut + getDeltaT(sw.swed, tjd_ut);
         if (sw.swed.fidat[SwephData.SEI_FILE_MOON].fptr == null ||
           tjd_et < sw.swed.fidat[SwephData.SEI_FILE_MOON].tfstart + 1 ||
 	  tjd_et > sw.swed.fidat[SwephData.SEI_FILE_MOON].tfend - 1) {
@@ -992,24 +996,15 @@ public class SweDate implements Serializable {
       }
     }
     switch(denum) {
-      case 200: TID_ACC = SweConst.SE_TIDAL_DE200; break;
-      case 403: TID_ACC = SweConst.SE_TIDAL_DE403; break;
-      case 404: TID_ACC = SweConst.SE_TIDAL_DE404; break;
-      case 405: TID_ACC = SweConst.SE_TIDAL_DE405; break;
-      case 406: TID_ACC = SweConst.SE_TIDAL_DE406; break;
-      case 421: TID_ACC = SweConst.SE_TIDAL_DE421; break; 
-      case 430: TID_ACC = SweConst.SE_TIDAL_DE430; break;
-      case 431: TID_ACC = SweConst.SE_TIDAL_DE431; break;
-      default: TID_ACC = SweConst.SE_TIDAL_DEFAULT; break;
-//      case 200: tid_acc.set(SweConst.SE_TIDAL_DE200); break;
-//      case 403: tid_acc.set(SweConst.SE_TIDAL_DE403); break;
-//      case 404: tid_acc.set(SweConst.SE_TIDAL_DE404); break;
-//      case 405: tid_acc.set(SweConst.SE_TIDAL_DE405); break;
-//      case 406: tid_acc.set(SweConst.SE_TIDAL_DE406); break;
-//      case 421: tid_acc.set(SweConst.SE_TIDAL_DE421); break; 
-//      case 430: tid_acc.set(SweConst.SE_TIDAL_DE430); break;
-//      case 431: tid_acc.set(SweConst.SE_TIDAL_DE431); break;
-//      default: tid_acc.set(SweConst.SE_TIDAL_DEFAULT); break;
+      case 200: sw.swed.tid_acc = SweConst.SE_TIDAL_DE200; break;
+      case 403: sw.swed.tid_acc = SweConst.SE_TIDAL_DE403; break;
+      case 404: sw.swed.tid_acc = SweConst.SE_TIDAL_DE404; break;
+      case 405: sw.swed.tid_acc = SweConst.SE_TIDAL_DE405; break;
+      case 406: sw.swed.tid_acc = SweConst.SE_TIDAL_DE406; break;
+      case 421: sw.swed.tid_acc = SweConst.SE_TIDAL_DE421; break;
+      case 430: sw.swed.tid_acc = SweConst.SE_TIDAL_DE430; break;
+      case 431: sw.swed.tid_acc = SweConst.SE_TIDAL_DE431; break;
+      default: sw.swed.tid_acc = SweConst.SE_TIDAL_DEFAULT; break;
     }
   }
 
@@ -1157,7 +1152,28 @@ public class SweDate implements Serializable {
   //////////////////////////////////////////////////////////////////////
   public static final IDate swe_revjul(double jd, boolean calType) {
     final IDate dt = new IDate();
+    final int ndat = swe_revjul_ndat(jd, calType);
+    dt.year = Math.floorDiv(ndat, 10000);
+    dt.month = Math.floorMod(ndat, 10000) / 100;
+    dt.day = Math.floorMod(ndat, 100);
+    dt.hour = (jd - SMath.floor (jd + 0.5) + 0.5) * 24.0;
+    return dt;
+  }
+
+  /**
+  * swe_revjul() without the IDate object: the calendar date of a julian day
+  * number packed into one int as year * 10000 + month * 100 + day, the same
+  * form the leap seconds table uses. Negative (astronomical) years unpack with
+  * Math.floorDiv(ndat, 10000), Math.floorMod(ndat, 10000) / 100 and
+  * Math.floorMod(ndat, 100). The hour of the day is
+  * (jd - floor(jd + 0.5) + 0.5) * 24.
+  * @param jd Julian Day number
+  * @param calType calendar type (Gregorian or Julian calendar system)
+  * @return year * 10000 + month * 100 + day
+  */
+  public static int swe_revjul_ndat(double jd, boolean calType) {
     double u0,u1,u2,u3,u4;
+    int year, month, day;
 
     u0 = jd + 32082.5;
     if (calType == SE_GREG_CAL) {
@@ -1170,14 +1186,13 @@ public class SweDate implements Serializable {
     u2 = SMath.floor (u0 + 123.0);
     u3 = SMath.floor ( (u2 - 122.2) / 365.25);
     u4 = SMath.floor ( (u2 - SMath.floor (365.25 * u3) ) / 30.6001);
-    dt.month = (int) (u4 - 1.0);
-    if (dt.month > 12) {
-      dt.month -= 12;
+    month = (int) (u4 - 1.0);
+    if (month > 12) {
+      month -= 12;
     }
-    dt.day = (int) (u2 - SMath.floor (365.25 * u3) - SMath.floor (30.6001 * u4));
-    dt.year = (int) (u3 + SMath.floor ( (u4 - 2.0) / 12.0) - 4800);
-    dt.hour = (jd - SMath.floor (jd + 0.5) + 0.5) * 24.0;
-    return dt;
+    day = (int) (u2 - SMath.floor (365.25 * u3) - SMath.floor (30.6001 * u4));
+    year = (int) (u3 + SMath.floor ( (u4 - 2.0) / 12.0) - 4800);
+    return year * 10000 + month * 100 + day;
   }
 
   ////////////////////////////////////////////////////////////////////////////
@@ -1388,18 +1403,21 @@ public class SweDate implements Serializable {
    * double tjd 	= 	julian day in UT
    */
   public static double calc_deltaT(double tjd) {
+    return calc_deltaT(getSwissEph().swed, tjd);
+  }
+
+  static double calc_deltaT(SwissData swed, double tjd) {
     // A value pinned with swe_set_delta_t_userdef() wins over the model, as in swephlib.c.
     // The check belongs here rather than in getDeltaT(), because swe_deltat() and
     // swe_deltat_ex() call this directly.
-    final double userDeltaT = USER_DELTA_T.get();
-    if (userDeltaT != SweConst.SE_DELTAT_AUTOMATIC) {
-      return userDeltaT;
+    if (swed.delta_t_userdef != SweConst.SE_DELTAT_AUTOMATIC) {
+      return swed.delta_t_userdef;
     }
+    final double tid_acc = swed.tid_acc;
     double ans = 0;
     double B, Y, Ygreg, dd;
     int iy;
-    final SwissEph sw = getSwissEph();
-    int deltat_model = sw.swed.astro_models[SweConst.SE_MODEL_DELTAT];
+    int deltat_model = swed.astro_models[SweConst.SE_MODEL_DELTAT];
     if (deltat_model == 0) deltat_model = SweConst.SEMOD_DELTAT_DEFAULT;
     /* read additional values from swedelta.txt */
     /*AS_BOOL use_espenak_meeus = DELTAT_ESPENAK_MEEUS_2006;*/
@@ -1417,7 +1435,7 @@ public class SweDate implements Serializable {
      * and IERS at 1 Jan 1955, with a linear term over the 1000 days before that date to
      * keep the curve continuous. */
     if (deltat_model == SweConst.SEMOD_DELTAT_STEPHENSON_ETC_2016 && tjd < 2435108.5) {
-      double d = deltat_stephenson_etc_2016(tjd);
+      double d = deltat_stephenson_etc_2016(tjd, tid_acc);
       if (tjd >= 2434108.5) {
         d += (1.0 - (2435108.5 - tjd) / 1000.0) * 0.6610218 / 86400.0;
       }
@@ -1425,7 +1443,7 @@ public class SweDate implements Serializable {
     }
     /*if (use_espenak_meeus && tjd < 2317746.13090277789) {*/
     if (deltat_model == SweConst.SEMOD_DELTAT_ESPENAK_MEEUS_2006 && tjd < 2317746.13090277789) {
-      return deltat_espenak_meeus_1620(tjd);
+      return deltat_espenak_meeus_1620(tjd, tid_acc);
     }
     /* If the macro DELTAT_ESPENAK_MEEUS_2006 is FALSE:
      * Before 1620, we follow Stephenson & Morrsion 2004. For the tabulated 
@@ -1433,7 +1451,7 @@ public class SweDate implements Serializable {
      */
     if (Y < TABSTART) {
       if (Y < TAB2_END) {
-        return deltat_stephenson_morrison_1600(tjd);
+        return deltat_stephenson_morrison_1600(tjd, tid_acc);
       } else {
         /* between 1600 and 1620:
          * linear interpolation between 
@@ -1444,7 +1462,7 @@ public class SweDate implements Serializable {
 	  dd = (Y - TAB2_END) / B;
 	  /*ans = dt2[iy] + dd * (dt[0] / 100.0 - dt2[iy]);*/
 	  ans = dt2[iy] + dd * (dt[0] - dt2[iy]);
-	  ans = adjust_for_tidacc(ans, Ygreg);
+	  ans = adjust_for_tidacc(ans, Ygreg, tid_acc);
 	  return ans / 86400.0;
         }
       }
@@ -1454,12 +1472,12 @@ public class SweDate implements Serializable {
      * See AA page K11.
      */
     if (Y >= TABSTART) {
-      return deltat_aa(tjd);
+      return deltat_aa(tjd, tid_acc, deltat_model);
     }
     return ans / 86400.0;
   }
 
-  private static double deltat_aa(double tjd) {
+  private static double deltat_aa(double tjd, double tid_acc, int deltat_model) {
     double ans = 0, ans2, ans3;
     double p, B, B2, Y, dd;
     double d[] = new double[6];
@@ -1478,13 +1496,13 @@ public class SweDate implements Serializable {
       ans = dt[iy];
       k = iy + 1;
       if( k >= tabsiz )
-        return deltat_aa_label_done(ans, Y); /* No data, can't go on. */
+        return deltat_aa_label_done(ans, Y, tid_acc); /* No data, can't go on. */
       /* The fraction of tabulation interval */
       p = Y - p;
       /* First order interpolated value */
       ans += p*(dt[k] - dt[iy]);
       if( (iy-1 < 0) || (iy+2 >= tabsiz) )
-        return deltat_aa_label_done(ans, Y); /* can't do second differences */
+        return deltat_aa_label_done(ans, Y, tid_acc); /* can't do second differences */
       /* Make table of first differences */
       k = iy - 2;
       for( i=0; i<5; i++ ) {
@@ -1500,20 +1518,20 @@ public class SweDate implements Serializable {
       B = 0.25*p*(p-1.0);
       ans += B*(d[1] + d[2]);
       if( iy+2 >= tabsiz )
-        return deltat_aa_label_done(ans, Y);
+        return deltat_aa_label_done(ans, Y, tid_acc);
       /* Compute third differences */
       for( i=0; i<3; i++ )
         d[i] = d[i+1] - d[i];
       B = 2.0*B/3.0;
       ans += (p-0.5)*B*d[1];
       if( (iy-2 < 0) || (iy+3 > tabsiz) )
-        return deltat_aa_label_done(ans, Y);
+        return deltat_aa_label_done(ans, Y, tid_acc);
       /* Compute fourth differences */
       for( i=0; i<2; i++ )
         d[i] = d[i+1] - d[i];
       B = 0.125*B*(p+1.0)*(p-2.0);
       ans += B*(d[0] + d[1]);
-      return deltat_aa_label_done(ans, Y); /* No data, can't go on. */
+      return deltat_aa_label_done(ans, Y, tid_acc); /* No data, can't go on. */
     }
     /* today - :
      * Formula Stephenson (1997; p. 507),
@@ -1521,8 +1539,6 @@ public class SweDate implements Serializable {
      * similar to what Meeus 1998 had suggested.
      * Slow transition within 100 years.
      */
-    int deltat_model = getSwissEph().swed.astro_models[SweConst.SE_MODEL_DELTAT];
-    if (deltat_model == 0) deltat_model = SweConst.SEMOD_DELTAT_DEFAULT;
     if (deltat_model == SweConst.SEMOD_DELTAT_STEPHENSON_ETC_2016) {
       /* 3rd degree polynomial based on data given by
        * Stephenson/Morrison/Hohenkerk 2016, http://astro.ukho.gov.uk/nao/lvm/
@@ -1627,7 +1643,7 @@ public class SweDate implements Serializable {
    * <p>
    * Ported from <code>deltat_stephenson_etc_2016()</code> in swephlib.c.
    */
-  private static double deltat_stephenson_etc_2016(double tjd) {
+  private static double deltat_stephenson_etc_2016(double tjd, double tid_acc) {
     double t, dt, Ygreg;
     int irec = -1;
     Ygreg = 2000.0 + (tjd - SwephData.J2000) / 365.2425;
@@ -1654,7 +1670,7 @@ public class SweDate implements Serializable {
     // The parameters of the above formulae are for a tidal acceleration of
     // SE_TIDAL_STEPHENSON_2016, and the adjustment is applied for all epochs, not only
     // before 1955.
-    dt = adjust_for_tidacc(dt, Ygreg, SweConst.SE_TIDAL_STEPHENSON_2016, true);
+    dt = adjust_for_tidacc(dt, Ygreg, tid_acc, SweConst.SE_TIDAL_STEPHENSON_2016, true);
     dt /= 86400.0;
     return dt;
   }
@@ -1665,7 +1681,7 @@ public class SweDate implements Serializable {
     return (-20 + 32 * u * u);
   }
 
-  private static double deltat_stephenson_morrison_1600(double tjd) {
+  private static double deltat_stephenson_morrison_1600(double tjd, double tid_acc) {
     double ans = 0, ans2, ans3;
     double p, B, dd;
     double tjd0;
@@ -1680,17 +1696,17 @@ public class SweDate implements Serializable {
       /*B = (Y - LTERM_EQUATION_YSTART) * 0.01;
       ans = -20 + LTERM_EQUATION_COEFF * B * B;*/
       ans = deltat_longterm_morrison_stephenson(tjd);
-      ans = adjust_for_tidacc(ans, Y);
+      ans = adjust_for_tidacc(ans, Y, tid_acc);
       /* transition from formula to table over 100 years */
       if (Y >= TAB2_START - 100) {
         /* starting value of table dt2: */
-        ans2 = adjust_for_tidacc(dt2[0], TAB2_START);
+        ans2 = adjust_for_tidacc(dt2[0], TAB2_START, tid_acc);
         /* value of formula at epoch TAB2_START */
         /* B = (TAB2_START - LTERM_EQUATION_YSTART) * 0.01;
         ans3 = -20 + LTERM_EQUATION_COEFF * B * B;*/
         tjd0 = (TAB2_START - 2000) * 365.2425 + SwephData.J2000;
         ans3 = deltat_longterm_morrison_stephenson(tjd0);
-        ans3 = adjust_for_tidacc(ans3, Y);
+        ans3 = adjust_for_tidacc(ans3, Y, tid_acc);
         dd = ans3 - ans2;
         B = (Y - (TAB2_START - 100)) * 0.01;
         /* fit to starting point of table dt2. */
@@ -1706,13 +1722,13 @@ public class SweDate implements Serializable {
       dd = (Yjul - (TAB2_START + TAB2_STEP * iy)) / TAB2_STEP;
       ans = dt2[iy] + (dt2[iy+1] - dt2[iy]) * dd;
       /* correction for tidal acceleration used by our ephemeris */
-      ans = adjust_for_tidacc(ans, Y);
+      ans = adjust_for_tidacc(ans, Y, tid_acc);
     }
     ans /= 86400.0;
     return ans;
   }
 
-  private static double deltat_espenak_meeus_1620(double tjd) {
+  private static double deltat_espenak_meeus_1620(double tjd, double tid_acc) {
     double ans = 0;
     double Ygreg;
     double u;
@@ -1754,13 +1770,13 @@ public class SweDate implements Serializable {
       u = Ygreg - 2000;
       ans = ((((0.00002373599 * u + 0.000651814) * u + 0.0017275) * u - 0.060374) * u + 0.3345) * u + 63.86;
     }
-    ans = adjust_for_tidacc(ans, Ygreg);
+    ans = adjust_for_tidacc(ans, Ygreg, tid_acc);
     ans /= 86400.0;
     return ans;
   }
 
-  private static double deltat_aa_label_done(double ans, double Y) {
-    ans = adjust_for_tidacc(ans, Y);
+  private static double deltat_aa_label_done(double ans, double Y, double tid_acc) {
+    ans = adjust_for_tidacc(ans, Y, tid_acc);
     return ans / 86400.0;
   }
 
@@ -1839,8 +1855,8 @@ public class SweDate implements Serializable {
    * Entries after 1955 are referred to atomic time standards and
    * are not affected by errors in Lunar or planetary theory.
    */
-  private static double adjust_for_tidacc(double ans, double Y) {
-    return adjust_for_tidacc(ans, Y, SweConst.SE_TIDAL_26, false);
+  private static double adjust_for_tidacc(double ans, double Y, double tid_acc) {
+    return adjust_for_tidacc(ans, Y, tid_acc, SweConst.SE_TIDAL_26, false);
   }
 
   /**
@@ -1848,12 +1864,12 @@ public class SweDate implements Serializable {
    * acceleration the tabulated values were derived with is a parameter, and models such as
    * Stephenson/Morrison/Hohenkerk 2016 need the correction applied after 1955 as well.
    */
-  private static double adjust_for_tidacc(double ans, double Y, double tid_acc0,
-      boolean adjust_after_1955) {
+  private static double adjust_for_tidacc(double ans, double Y, double tid_acc,
+      double tid_acc0, boolean adjust_after_1955) {
     double B;
     if( Y < 1955.0 || adjust_after_1955 ) {
       B = (Y - 1955.0);
-      ans += -0.000091 * (TID_ACC - tid_acc0) * B * B;
+      ans += -0.000091 * (tid_acc - tid_acc0) * B * B;
     }
     return ans;
   }
@@ -1960,8 +1976,24 @@ public class SweDate implements Serializable {
   */
   public static SDate getLocalTimeFromUTC(int iyear, int imonth, int iday,
   int ihour, int imin, double dsec, double d_timezone) {
-    int iyear_out, imonth_out, iday_out, ihour_out, imin_out;
-    double dsec_out;
+    final int[] ymdhm = new int[5];
+    final double[] dsec_out = new double[1];
+    swe_utc_time_zone(iyear, imonth, iday, ihour, imin, dsec, d_timezone, ymdhm, dsec_out);
+    return new SDate(ymdhm[0], ymdhm[1], ymdhm[2], ymdhm[3], ymdhm[4], dsec_out[0]);
+  }
+
+  /**
+  * The form of {@link #getLocalTimeFromUTC(int, int, int, int, int, double, double)}
+  * that writes into arrays supplied by the caller instead of creating an SDate,
+  * with the signature of swe_utc_time_zone() in the original API: a
+  * <b>positive</b> d_timezone converts local time to UTC.
+  * @param ioutYearMonthDayHourMin receives year, month, day, hour and minute
+  * @param dsec_out receives the second in dsec_out[0]
+  */
+  public static void swe_utc_time_zone(int iyear, int imonth, int iday,
+  int ihour, int imin, double dsec, double d_timezone,
+  int[] ioutYearMonthDayHourMin, double[] dsec_out) {
+    int ihour_out, imin_out, ndat;
     double tjd, d;
     boolean have_leapsec = false;
     double dhour;
@@ -1981,111 +2013,45 @@ public class SweDate implements Serializable {
       dhour -= 24.0;
     }
 
-    IDate dt = swe_revjul(tjd + 0.001, SE_GREG_CAL);
-    iyear_out = dt.year;
-    imonth_out = dt.month;
-    iday_out = dt.day;
+    ndat = swe_revjul_ndat(tjd + 0.001, SE_GREG_CAL);
     ihour_out = (int) dhour;
     d = (dhour - (double) ihour_out) * 60;
     imin_out = (int) d;
-    dsec_out = (d - (double) imin_out) * 60;
-    if (have_leapsec) dsec_out += 1.0;
-
-    return new SDate(iyear_out, imonth_out, iday_out, ihour_out, imin_out, dsec_out);
+    ioutYearMonthDayHourMin[0] = Math.floorDiv(ndat, 10000);
+    ioutYearMonthDayHourMin[1] = Math.floorMod(ndat, 10000) / 100;
+    ioutYearMonthDayHourMin[2] = Math.floorMod(ndat, 100);
+    ioutYearMonthDayHourMin[3] = ihour_out;
+    ioutYearMonthDayHourMin[4] = imin_out;
+    dsec_out[0] = (d - (double) imin_out) * 60 + (have_leapsec ? 1.0 : 0.0);
   }
 
   /*
    * functions for the handling of UTC
    */
 
-  /* Leap seconds were inserted at the end of the following days:*/
-  private static final int NLEAP_SECONDS = 26;
-  private static final int NLEAP_SECONDS_SPACE = 100;
-  private static final int leap_seconds[] = new int[] {
-  19720630,
-  19721231,
-  19731231,
-  19741231,
-  19751231,
-  19761231,
-  19771231,
-  19781231,
-  19791231,
-  19810630,
-  19820630,
-  19830630,
-  19850630,
-  19871231,
-  19891231,
-  19901231,
-  19920630,
-  19930630,
-  19940630,
-  19951231,
-  19970630,
-  19981231,
-  20051231,
-  20081231,
-  20120630,
-  20150630,
-  0,  /* keep this 0 as end mark */
-  // JAVA ONLY to have the array extended to NLEAP_SECONDS_SPACE elements:
-  0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-  0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-  0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-  0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-  };
+  /* Leap seconds were inserted at the end of the days of this table; it is immutable,
+   * so replacing it is a single volatile write and all engines and threads share it. */
+  private static volatile SweLeapSeconds leapSeconds = SweLeapSeconds.BUILT_IN;
   private static final double J1972 = 2441317.5;
   private static final int NLEAP_INIT = 10;
 
-  /* Read additional leap second dates from external file, if given.
-   */
-  private static int init_leapsec() {
-    FilePtr fp = null;
-    int ndat, ndat_last;
-    int tabsiz = 0;
-    int i;
-    String s;
-    if (!init_leapseconds_done) {
-      init_leapseconds_done = true;
-      tabsiz = NLEAP_SECONDS;
-      ndat_last = leap_seconds[NLEAP_SECONDS - 1];
-      /* no error message if file is missing */
-      try {
-        final SwissEph sw = getSwissEph();
-        if ((fp = sw.swi_fopen(-1, "seleapsec.txt", sw.swed.ephepath, null)) == null)
-          return NLEAP_SECONDS;
-        while ((s=fp.readLine()) != null) {
-          s = s.trim();
-          if (s.startsWith("#") || s.length() == 0)
-            continue;
-          ndat = SwissLib.atoi(s);
-          if (ndat <= ndat_last)
-            continue;
-          /* table space is limited. no error msg, if exceeded */
-          if (tabsiz >= NLEAP_SECONDS_SPACE)
-            return tabsiz;
-          leap_seconds[tabsiz] = ndat;
-          tabsiz++;
-        }
-        if (tabsiz > NLEAP_SECONDS) leap_seconds[tabsiz] = 0; /* end mark */
-        fp.close();
-      } catch (java.io.IOException e) {
-      } catch (SwissephException e) {
-        return tabsiz;
-      }
-      try { fp.close(); } catch (java.io.IOException e) {}
-      return tabsiz;
-    }
-    /* find table size */
-    tabsiz = NLEAP_SECONDS;
-    for (i = NLEAP_SECONDS; i < NLEAP_SECONDS_SPACE; i++) {
-      if (leap_seconds[i] == 0)
-        break;
-      else
-        tabsiz++;
-    }
-    return tabsiz;
+  /**
+  * Returns the leap seconds table used by the UTC conversions of all engines.
+  * @return the table, {@link SweLeapSeconds#BUILT_IN} unless replaced
+  * @see #setLeapSeconds(SweLeapSeconds)
+  */
+  public static SweLeapSeconds getLeapSeconds() {
+    return leapSeconds;
+  }
+
+  /**
+  * Replaces the leap seconds table used by the UTC conversions of all engines,
+  * e.g. by one read from <code>seleapsec.txt</code> with
+  * {@link SweLeapSeconds#loadFromEphePath(String)}.
+  * @param table the new table, null restores {@link SweLeapSeconds#BUILT_IN}
+  */
+  public static void setLeapSeconds(SweLeapSeconds table) {
+    leapSeconds = null == table ? SweLeapSeconds.BUILT_IN : table;
   }
 
   /**
@@ -2119,7 +2085,7 @@ public class SweDate implements Serializable {
     double[] dret = new double[2];
     double tjd_ut1, tjd_et, tjd_et_1972, dhour, d;
     int iyear2, imonth2, iday2;
-    int i, j, ndat, nleap, tabsiz_nleap;
+    int ndat;
     /*
      * error handling: invalid iyear etc.
      */
@@ -2136,23 +2102,12 @@ public class SweDate implements Serializable {
      || (dsec >= 60 && (imin < 59 || ihour < 23 || tjd_ut1 < J1972))) {
       return "invalid time: " + ihour + ":" + imin + ":" + dsec;
     }
-    /*
-     * number of leap seconds since 1972:
-     */
-    tabsiz_nleap = init_leapsec();
     ndat = iyear * 10000 + imonth * 100 + iday;
     /*
      * if input second is 60: is it a valid leap second ?
      */
     if (dsec >= 60) {
-      j = 0;
-      for (i = 0; i < tabsiz_nleap; i++) {
-        if (ndat == leap_seconds[i]) {
-          j = 1;
-          break;
-        }
-      }
-      if (j != 1) {
+      if (!leapSeconds.isLeapSecondDay(ndat)) {
         return "invalid time (no leap second!): " + ihour + ":" + imin + ":" + dsec;
       }
     }
@@ -2216,9 +2171,28 @@ public class SweDate implements Serializable {
       double dsec,
       boolean gregflag,
       boolean checkValidInput) throws SwissephException {
-    double[] dret = new double[2];
+    return getJDfromUTC(iyear, imonth, iday, ihour, imin, dsec, gregflag,
+        checkValidInput, new double[2]);
+  }
+
+  /**
+  * The same as {@link #getJDfromUTC(int, int, int, int, int, double, boolean, boolean)},
+  * but the result is written into <code>dret</code>, which is also returned, so
+  * converting many dates does not create an array for each.
+  * @param dret receives the julian day in ET in dret[0] and in UT1 in dret[1]
+  * @return dret
+  */
+  public static double[] getJDfromUTC(int iyear,
+      int imonth,
+      int iday,
+      int ihour,
+      int imin,
+      double dsec,
+      boolean gregflag,
+      boolean checkValidInput,
+      double[] dret) throws SwissephException {
     double tjd_ut1, tjd_et, tjd_et_1972, dhour, d;
-    int i, j, ndat, nleap, tabsiz_nleap;
+    int ndat, nleap;
     /*
      * error handling: invalid iyear etc.
      */
@@ -2250,14 +2224,9 @@ public class SweDate implements Serializable {
     /*
      * number of leap seconds since 1972:
      */
-    tabsiz_nleap = init_leapsec();
-    nleap = NLEAP_INIT; /* initial difference between UTC and TAI in 1972 */
     ndat = iyear * 10000 + imonth * 100 + iday;
-    for (i = 0; i < tabsiz_nleap; i++) {
-      if (ndat <= leap_seconds[i])
-        break;
-      nleap++;
-    }
+    /* initial difference between UTC and TAI in 1972 */
+    nleap = NLEAP_INIT + leapSeconds.countBefore(ndat);
     /*
      * For input dates > today:
      * If leap seconds table is not up to date, we'd better interpret the
@@ -2325,7 +2294,7 @@ public class SweDate implements Serializable {
   public static SDate getUTCfromJDET(double tjd_et, boolean gregflag) {
     int i;
     int second_60 = 0;
-    int iyear, imonth, iday, ihour, imin, iyear2, imonth2, iday2, nleap, ndat, tabsiz_nleap;
+    int iyear, imonth, iday, ihour, imin, iyear2, imonth2, iday2, nleap, ndat;
     double dsec, d, tjd, tjd_et_1972, tjd_ut, dret[];
     /*
      * if tjd_et is before 1 jan 1972 UTC, return UT1
@@ -2343,7 +2312,7 @@ public class SweDate implements Serializable {
      * minimum number of leap seconds since 1972; we may be missing one leap
      * second
      */
-    tabsiz_nleap = init_leapsec();
+    final SweLeapSeconds table = leapSeconds;
 //   swe_revjul(tjd_ut-1, SE_GREG_CAL, &iyear2, &imonth2, &iday2, &d);
     IDate dt=swe_revjul(tjd_ut-1, SE_GREG_CAL);
     iyear2 = dt.year;
@@ -2351,21 +2320,16 @@ public class SweDate implements Serializable {
     iday2 = dt.day;
     d = dt.hour;
     ndat = iyear2 * 10000 + imonth2 * 100 + iday2;
-    nleap = 0;
-    for (i = 0; i < tabsiz_nleap; i++) {
-      if (ndat <= leap_seconds[i])
-        break;
-      nleap++;
-    }
+    nleap = table.countBefore(ndat);
     /* date of potentially missing leapsecond */
-    if (nleap < tabsiz_nleap) {
-      i = leap_seconds[nleap];
+    if (nleap < table.size()) {
+      i = table.date(nleap);
       iyear2 = i / 10000;
       imonth2 = (i % 10000) / 100;;
       iday2 = i % 100;
       tjd = swe_julday(iyear2, imonth2, iday2, 0, SE_GREG_CAL);
 //     swe_revjul(tjd+1, SE_GREG_CAL, &iyear2, &imonth2, &iday2, &d);
-      dt=swe_revjul(tjd_ut+1, SE_GREG_CAL);
+      dt=swe_revjul(tjd+1, SE_GREG_CAL);
       iyear2 = dt.year;
       imonth2 = dt.month;
       iday2 = dt.day;
@@ -649,7 +649,7 @@ private double sunRA_ralast;
       OffSetYear = (SweDate.getJulDay(StartYear, 1, 1, 0, gregflag) - JDNDays) / 365.25;
       return (OffSetYear * OffSetYear / 100.0 / 2.0 * COD * Y2D) / 1000.0;
     }
-    return SweDate.getDeltaT(JDNDays) * D2S;
+    return SweDate.getDeltaT(sw.swed, JDNDays) * D2S;
   }
 
   /*###################################################################
@@ -1356,8 +1356,8 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
   }
 
   /** Limiting magnitude in dark skies<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See SwissEph.swe_set_tid_acc(double).</b>
   * @param tjdut UT julian day number
   * @param dgeo geographic position<br>
   * <pre> dgeo[0]: geographic longitude
@@ -1409,14 +1409,14 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
   *  |1  OK, scotopic vision
   *  |2  OK, near limit photopic/scotopic
   * </pre>
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see SwissEph#swe_set_tid_acc(double)
   */
   public int swe_vis_limit_mag(double tjdut, double[] dgeo, double[] datm, double[] dobs, StringBuilder ObjectName, int helflag, double[] dret, StringBuilder serr) {
     int retval = SweConst.OK, i;
     int scotopic_flag[] = new int[]{0};
     double AltO[] = new double[1], AziO[] = new double[1], AltM[] = new double[1], AziM[] = new double[1], AltS[] = new double[1], AziS[] = new double[1];
     double sunra;
-    SweDate.swi_set_tid_acc(tjdut, helflag, 0);
+    SweDate.swi_set_tid_acc(sw, tjdut, helflag, 0);
     sunra = SunRA(tjdut, helflag, serr);
     default_heliacal_parameters(datm, dgeo, dobs, helflag);
     sw.swe_set_topo(dgeo[0], dgeo[1], dgeo[2]);
@@ -1526,13 +1526,13 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
   }
 
   /**
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
-  * @see SweDate#setGlobalTidalAcc(double)
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See SwissEph.swe_set_tid_acc(double).</b>
+  * @see SwissEph#swe_set_tid_acc(double)
   */
   public int swe_topo_arcus_visionis(double tjdut, double[] dgeo, double[] datm, double[] dobs, int helflag, double mag, double azi_obj, double alt_obj, double azi_sun, double azi_moon, double alt_moon, double[] dret, StringBuilder serr) {
     double sunra;
-    SweDate.swi_set_tid_acc(tjdut, helflag, 0);
+    SweDate.swi_set_tid_acc(sw, tjdut, helflag, 0);
     sunra = SunRA(tjdut, helflag, serr);
     if (serr != null && serr.length() > 0)
       return SweConst.ERR;
@@ -1622,9 +1622,9 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
   }
 
   /**
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
-  * @see SweDate#setGlobalTidalAcc(double)
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See SwissEph.swe_set_tid_acc(double).</b>
+  * @see SwissEph#swe_set_tid_acc(double)
   */
   public int swe_heliacal_angle(double tjdut, double[] dgeo, double[] datm, double[] dobs, int helflag, double mag, double azi_obj, double azi_sun, double azi_moon, double alt_moon, double[] dret, StringBuilder serr) {
     if (dgeo[2] < SwephData.SEI_ECL_GEOALT_MIN || dgeo[2] > SwephData.SEI_ECL_GEOALT_MAX) {
@@ -1634,7 +1634,7 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
       }
       return SweConst.ERR;
     }
-    SweDate.swi_set_tid_acc(tjdut, helflag, 0);
+    SweDate.swi_set_tid_acc(sw, tjdut, helflag, 0);
     return HeliacalAngle(mag, dobs, azi_obj, alt_moon, azi_moon, tjdut, azi_sun, dgeo, datm, helflag, dret, serr);
   }
 
@@ -1823,8 +1823,8 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
   *  '28=CVAact [deg] 'new
   *  '29=MSk [-]
   * </pre>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See SwissEph.swe_set_tid_acc(double).</b>
   * @param JDNDaysUT Julian day number of the start date for the search
   * @param dgeo Geographic location; double[3] = [longitude, latitude, altitude in meters]
   * @param datm Athmospheric conditions; double[4]:<br>
@@ -1879,10 +1879,10 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
   * @see SweConst#SE_HELFLAG_VISLIM_DARK
   * @see SweConst#SE_HELFLAG_VISLIM_NOMOON
   * @see SweConst#SE_HELFLAG_AV
-  * @see SweDate#setGlobalTidalAcc(double)
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see SwissEph#swe_set_tid_acc(double)
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See SwissEph.swe_set_tid_acc(double).</b>
+  * @see SwissEph#swe_set_tid_acc(double)
   */
   public int swe_heliacal_pheno_ut(double JDNDaysUT, double[] dgeo, double[] datm, double[] dobs, String ObjectNameIn, int TypeEvent, int helflag, double[] darr, StringBuilder serr) {
     double[] AziS = new double[1], AltS = new double[1], AltS2 = new double[1], AziO = new double[1], AltO = new double[1], AltO2 = new double[1], GeoAltO = new double[1], MagnO = new double[1];
@@ -1909,7 +1909,7 @@ private int Magnitude(double JDNDaysUT, double[] dgeo, StringBuilder ObjectName,
       }
       return SweConst.ERR;
     }
-    SweDate.swi_set_tid_acc(JDNDaysUT, helflag, 0);
+    SweDate.swi_set_tid_acc(sw, JDNDaysUT, helflag, 0);
     sunra = SunRA(JDNDaysUT, helflag, serr);
     /* note, the fixed stars functions rewrite the star name. The input string 
        may be too short, so we have to make sure we have enough space */
@@ -3249,8 +3249,8 @@ darr[30] = darr[26] + darr[27] + darr[28] + darr[29];
   */
   /**
   * This method calculates the Julian day of the next heliacal phenomenon after a given start date. It works between geographic latitudes 60s 60n.
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See SwissEph.swe_set_tid_acc(double).</b>
   * @param JDNDaysUTStart Julian day number of the start date for the search
   * @param dgeo Geographic location; double[3] = [longitude, latitude, altitude in meters]
   * @param datm Athmospheric conditions; double[4]:<br>
@@ -3305,7 +3305,7 @@ darr[30] = darr[26] + darr[27] + darr[28] + darr[29];
   * @see SweConst#SE_HELFLAG_VISLIM_DARK
   * @see SweConst#SE_HELFLAG_VISLIM_NOMOON
   * @see SweConst#SE_HELFLAG_AV
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see SwissEph#swe_set_tid_acc(double)
   */
   public int swe_heliacal_ut(double JDNDaysUTStart, double[] dgeo, double[] datm, double[] dobs, String ObjectNameIn, int TypeEvent, int helflag, double[] dret, StringBuilder serr_ret) {
     int retval, Planet, itry;
@@ -3321,7 +3321,7 @@ darr[30] = darr[26] + darr[27] + darr[28] + darr[29];
       }
       return SweConst.ERR;
     }
-    SweDate.swi_set_tid_acc(JDNDaysUTStart, helflag, 0);
+    SweDate.swi_set_tid_acc(sw, JDNDaysUTStart, helflag, 0);
     if ((helflag & SweConst.SE_HELFLAG_LONG_SEARCH) != 0)
       MaxCountSynodicPeriod = MAX_COUNT_SYNPER_MAX;
   /*  if (helflag & SE_HELFLAG_SEARCH_1_PERIOD)
@@ -198,27 +198,28 @@ final class SweHouse {
 //    return (double)((x) * SwissData.CS2DEG);
 //  }
 
-  private double sind(double x) {
+  // package visible for SweAstrocartography, which works in the same degrees
+  static double sind(double x) {
     return SMath.sin(x * SwissData.DEGTORAD);
   }
-  private double cosd(double x) {
+  static double cosd(double x) {
     return SMath.cos(x * SwissData.DEGTORAD);
   }
-  private double tand(double x) {
+  static double tand(double x) {
     return SMath.tan(x * SwissData.DEGTORAD);
   }
-  private double asind(double x) {
+  static double asind(double x) {
     return (SMath.asin(x) * SwissData.RADTODEG);
   }
-//Never used anywhere//  private double acosd(double x) {
-//Never used anywhere//    return (SMath.acos(x) * SwissData.RADTODEG);
-//Never used anywhere//  }
-  private double atand(double x) {
+  static double acosd(double x) {
+    return (SMath.acos(x) * SwissData.RADTODEG);
+  }
+  static double atand(double x) {
     return (SMath.atan(x) * SwissData.RADTODEG);
   }
-//Never used anywhere//  private double atan2d(double y, double x) {
-//Never used anywhere//    return (SMath.atan2(y, x) * SwissData.RADTODEG);
-//Never used anywhere//  }
+  static double atan2d(double y, double x) {
+    return (SMath.atan2(y, x) * SwissData.RADTODEG);
+  }
 
 
 
@@ -312,9 +313,66 @@ final class SweHouse {
                  double[] cusp,
                  double[] ascmc,
                  int aOffs) {
+    return swe_houses(tjd_ut, iflag, geolat, geolon, hsys, cusp, ascmc, aOffs, null, null);
+  }
+
+  /**
+  * Houses plus the speeds of the cusps and of the ascmc points in degrees (or radians) per
+  * day, see {@link #differentiate}.
+  * <p>
+  * Delta t, obliquity, nutation and the sidereal time are evaluated once. Over the second
+  * either side of the moment they change by far less than the result resolves, except for
+  * the ARMC, so the two extra samples are just {@link #swe_houses_armc} one second of ARMC
+  * apart, as in swehouse.c. Only the sidereal projections (SE_SIDBIT_ECL_T0,
+  * SE_SIDBIT_SSY_PLANE) still need the full calculation at both sides.
+  *
+  * @param cusp_speed may be null
+  * @param ascmc_speed may be null
+  */
+  int swe_houses_ex2(double tjd_ut,
+                     int iflag,
+                     double geolat,
+                     double geolon,
+                     int hsys,
+                     double[] cusp,
+                     double[] ascmc,
+                     double[] cusp_speed,
+                     double[] ascmc_speed) {
+    return swe_houses(tjd_ut, iflag, geolat, geolon, hsys, cusp, ascmc, 0, cusp_speed, ascmc_speed);
+  }
+
+  /**
+  * The ARMC form of {@link #swe_houses_ex2}: the speeds are differentiated over the ARMC,
+  * one second of time advancing it by <code>ARMCS / 86400</code> degrees.
+  */
+  int swe_houses_armc_ex2(double armc,
+                          double geolat,
+                          double eps,
+                          int hsys,
+                          double[] cusp,
+                          double[] ascmc,
+                          double[] cusp_speed,
+                          double[] ascmc_speed) {
+    final int retc = swe_houses_armc(armc, geolat, eps, hsys, cusp, ascmc, 0);
+    if (retc != SweConst.ERR && (null != cusp_speed || null != ascmc_speed)) {
+      armcSpeeds(armc, geolat, eps, hsys, hsys, 0., cusp, ascmc, cusp_speed, ascmc_speed);
+    }
+    return retc;
+  }
+
+  private int swe_houses(double tjd_ut,
+                         int iflag,
+                         double geolat,
+                         double geolon,
+                         int hsys,
+                         double[] cusp,
+                         double[] ascmc,
+                         int aOffs,
+                         double[] cusp_speed,
+                         double[] ascmc_speed) {
     int i, retc = 0;
     double armc, eps_mean, nutlo[]=new double[2];
-    double tjde = tjd_ut + SweDate.getDeltaT(tjd_ut);
+    double tjde = tjd_ut + SweDate.getDeltaT(swed, tjd_ut);
     SidData sip = swed.sidd;
     int ito;
     if (Character.toUpperCase((char)hsys) == 'G') {
@@ -331,26 +389,113 @@ final class SweHouse {
       nutlo[i] *= SwissData.RADTODEG;
       /*houses_to_sidereal(tjde, geolat, hsys, eps, cusp, ascmc, iflag);*/
     armc = SwissLib.swe_degnorm(sl.swe_sidtime0(tjd_ut, eps_mean + nutlo[1], nutlo[0]) * 15 + geolon);
+    final boolean speeds = null != cusp_speed || null != ascmc_speed;
     if ((iflag & SweConst.SEFLG_SIDEREAL)!=0) {
       if ((sip.sid_mode & SweConst.SE_SIDBIT_ECL_T0)!=0) {
         retc = sidereal_houses_ecl_t0(tjde, armc, eps_mean + nutlo[1], nutlo, geolat, hsys, cusp, ascmc, aOffs);
       } else if ((sip.sid_mode & SweConst.SE_SIDBIT_SSY_PLANE)!=0) {
         retc = sidereal_houses_ssypl(tjde, armc, eps_mean + nutlo[1], nutlo, geolat, hsys, cusp, ascmc, aOffs);
       } else {
-        retc = sidereal_houses_trad(tjde, iflag, armc, eps_mean + nutlo[1], nutlo[0], geolat, hsys, cusp, ascmc, aOffs);
+        final double ay = siderealOffset(tjde, iflag, nutlo[0]);
+        retc = sidereal_houses_trad(ay, armc, eps_mean + nutlo[1], geolat, hsys, cusp, ascmc, aOffs);
+        if (speeds && retc != SweConst.ERR) {
+          armcSpeeds(armc, geolat, eps_mean + nutlo[1], hsys,
+              Character.toUpperCase((char) hsys) == 'W' ? 'E' : hsys, ay, cusp, ascmc, cusp_speed, ascmc_speed);
+        }
+      }
+      if (speeds && retc != SweConst.ERR && (sip.sid_mode & (SweConst.SE_SIDBIT_ECL_T0 | SweConst.SE_SIDBIT_SSY_PLANE))!=0) {
+        timeSpeeds(tjd_ut, iflag & ~SweConst.SEFLG_RADIANS, geolat, geolon, hsys, cusp, ascmc, cusp_speed, ascmc_speed);
       }
     } else {
       retc = swe_houses_armc(armc, geolat, eps_mean + nutlo[1], hsys, cusp, ascmc, aOffs);
+      if (speeds && retc != SweConst.ERR) {
+        armcSpeeds(armc, geolat, eps_mean + nutlo[1], hsys, hsys, 0., cusp, ascmc, cusp_speed, ascmc_speed);
+      }
     }
     if ((iflag & SweConst.SEFLG_RADIANS)!=0) {
       for (i = 1; i <= ito; i++)
         cusp[i] *= SwissData.DEGTORAD;
       for (i = 0; i < SweConst.SE_NASCMC; i++)
         ascmc[i+aOffs] *= SwissData.DEGTORAD;
+      if (speeds && retc != SweConst.ERR) toRadians(cusp_speed, ascmc_speed);
     }
     return retc;
   }
 
+  // scratch for the two samples either side, one SweHouse per SwissEph is used by one thread
+  private double[] cuspMinus, cuspPlus, ascmcMinus, ascmcPlus;
+  private SweHouseContext context;
+
+  private SweHouseContext context() {
+    if (null == context) context = new SweHouseContext();
+    return context;
+  }
+
+  /**
+  * The speeds from two {@link #swe_houses_armc} samples one second of ARMC either side,
+  * shifted into the frame of the central result by the sidereal offset <code>ay</code>
+  * (0 for tropical houses). <code>hsys2</code> is what the samples are computed with -
+  * sidereal whole signs are sampled as equal houses, as sidereal_houses_trad() does.
+  */
+  private void armcSpeeds(double armc, double geolat, double eps, int hsys, int hsys2, double ay,
+                          double[] cusp, double[] ascmc, double[] cusp_speed, double[] ascmc_speed) {
+    if (null == cuspMinus) {
+      cuspMinus = new double[37];
+      cuspPlus = new double[37];
+      ascmcMinus = new double[SweConst.SE_NASCMC + 2];
+      ascmcPlus = new double[SweConst.SE_NASCMC + 2];
+    }
+
+    final double darmc = HOUSE_SPEED_DT * ARMCS;
+    if (swe_houses_armc(armc - darmc, geolat, eps, hsys2, cuspMinus, ascmcMinus, 0) == SweConst.ERR
+        || swe_houses_armc(armc + darmc, geolat, eps, hsys2, cuspPlus, ascmcPlus, 0) == SweConst.ERR) {
+      return;   // positions are valid, speeds are not available here
+    }
+
+    if (0. != ay) {
+      final int ito = cuspsCount(hsys);
+      for (int i = 1; i <= ito; i++) {
+        cuspMinus[i] = SwissLib.swe_degnorm(cuspMinus[i] - ay);
+        cuspPlus[i] = SwissLib.swe_degnorm(cuspPlus[i] - ay);
+      }
+      for (int i = 0; i < SweConst.SE_NASCMC; i++) {
+        if (i == 2) continue;   // armc
+        ascmcMinus[i] = SwissLib.swe_degnorm(ascmcMinus[i] - ay);
+        ascmcPlus[i] = SwissLib.swe_degnorm(ascmcPlus[i] - ay);
+      }
+    }
+
+    differentiate(hsys, cusp, ascmc, cuspMinus, ascmcMinus, cuspPlus, ascmcPlus,
+        HOUSE_SPEED_DT, cusp_speed, ascmc_speed);
+  }
+
+  /**
+  * The speeds from two full house calculations one second of time either side - for the
+  * sidereal projections, whose auxiliary ecliptic moves with the date.
+  */
+  private void timeSpeeds(double tjd_ut, int iflag, double geolat, double geolon, int hsys,
+                          double[] cusp, double[] ascmc, double[] cusp_speed, double[] ascmc_speed) {
+    final double dt = HOUSE_SPEED_DT;
+    final double[] cm = new double[37], cp = new double[37];
+    final double[] am = new double[SweConst.SE_NASCMC + 2], ap = new double[SweConst.SE_NASCMC + 2];
+
+    if (swe_houses(tjd_ut - dt, iflag, geolat, geolon, hsys, cm, am) == SweConst.ERR
+        || swe_houses(tjd_ut + dt, iflag, geolat, geolon, hsys, cp, ap) == SweConst.ERR) {
+      return;
+    }
+
+    differentiate(hsys, cusp, ascmc, cm, am, cp, ap, dt, cusp_speed, ascmc_speed);
+  }
+
+  private static void toRadians(double[] cusp_speed, double[] ascmc_speed) {
+    if (null != cusp_speed) {
+      for (int i = 0; i < cusp_speed.length; i++) cusp_speed[i] *= SwissData.DEGTORAD;
+    }
+    if (null != ascmc_speed) {
+      for (int i = 0; i < ascmc_speed.length; i++) ascmc_speed[i] *= SwissData.DEGTORAD;
+    }
+  }
+
   /*
    * houses to sidereal
    * ------------------
@@ -580,22 +725,18 @@ final class SweHouse {
   }
 
   /* common simplified procedure */
-  private int sidereal_houses_trad(double tjde,
-                                   int iflag,
+  private int sidereal_houses_trad(double ay,
                                    double armc,
                                    double eps,
-                                   double nutl,
                                    double lat,
                                    int hsys,
                                    double[] cusp,
                                    double[] ascmc,
                                    int aOffs) {
     int i, retc = SweConst.OK;
-    double ay;
     int ito;
     char ihs = Character.toUpperCase((char)hsys);
     char ihs2 = ihs;
-    ay = sw.swe_get_ayanamsa(tjde);
     if (ihs == 'G') {
       ito = 36;
     } else {
@@ -614,10 +755,9 @@ final class SweHouse {
     // includes nutation in longitude unless the caller asked for SEFLG_NONUT, and then
     // subtracts that alone. This port has only the older swe_get_ayanamsa(), which is the
     // SEFLG_NONUT form, so the nutation has to be subtracted separately to get the same
-    // frame - and must NOT be when the caller did ask for SEFLG_NONUT.
-    final double dnut = (iflag & SweConst.SEFLG_NONUT) != 0 ? 0. : nutl;
+    // frame - and must NOT be when the caller did ask for SEFLG_NONUT. See siderealOffset().
     for (i = 1; i <= ito; i++) {
-      cusp[i] = SwissLib.swe_degnorm(cusp[i] - ay - dnut);
+      cusp[i] = SwissLib.swe_degnorm(cusp[i] - ay);
       if (ihs == 'W') /* whole sign houses */
         cusp[i] -= (cusp[i] % 30);
     }
@@ -630,11 +770,19 @@ final class SweHouse {
       if (i == 2) /* armc */ {
         continue;
       }
-      ascmc[aOffs+i] = SwissLib.swe_degnorm(ascmc[aOffs+i] - ay - dnut);
+      ascmc[aOffs+i] = SwissLib.swe_degnorm(ascmc[aOffs+i] - ay);
     }
     return retc;
   }
 
+  /**
+  * What sidereal_houses_trad() subtracts: the ayanamsa, plus the nutation in longitude
+  * unless SEFLG_NONUT.
+  */
+  private double siderealOffset(double tjde, int iflag, double nutl) {
+    return sw.swe_get_ayanamsa(tjde) + ((iflag & SweConst.SEFLG_NONUT) != 0 ? 0. : nutl);
+  }
+
   /*
    * this function is required for very special computations
    * where no date is given for house calculation,
@@ -675,7 +823,22 @@ final class SweHouse {
                       double cusp[],
                       double ascmc[],
                       int aOffs) {
-    Houses h=new Houses();
+    return swe_houses_armc(armc, geolat, eps, hsys, cusp, ascmc, aOffs, context());
+  }
+
+  /**
+  * {@link #swe_houses_armc(double, double, double, int, double[], double[], int)} with
+  * the scratch and the cached trigonometry of the given context.
+  */
+  int swe_houses_armc(double armc,
+                      double geolat,
+                      double eps,
+                      int hsys,
+                      double cusp[],
+                      double ascmc[],
+                      int aOffs,
+                      SweHouseContext ctx) {
+    Houses h = ctx.h;
     int i, retc = 0;
     int ito;
     if (Character.toUpperCase((char)hsys) == 'G') {
@@ -687,7 +850,7 @@ final class SweHouse {
     retc = CalcH(armc,
                  geolat,
                  eps,
-                 (char)hsys, 2, h);
+                 (char)hsys, 2, ctx);
     cusp[0] = 0;
     for (i = 1; i <= ito; i++) {
       cusp[i] = h.cusp[i];
@@ -766,7 +929,7 @@ final class SweHouse {
     }
   }
 
-  private int CalcH(double th, double fi, double ekl, char hsy, int iteration_count, Houses hsp )
+  private int CalcH(double th, double fi, double ekl, char hsy, int iteration_count, SweHouseContext ctx)
   /* *********************************************************
    *  Arguments: th = sidereal time (angle 0..360 degrees
    *             hsy = letter code for house system;
@@ -805,10 +968,13 @@ final class SweHouse {
     double a, c, f, fh1, fh2, xh1, xh2, rectasc, ad3, acmc, vemc;
     int i, ih, ih2, retc = SweConst.OK;
     double sine, cose;
-    double x[] = new double[3], krHorizonLon; /* BK 14.02.2006 */
-    cose  = cosd(ekl);
-    sine  = sind(ekl);
-    tane  = tand(ekl);
+    double x[] = ctx.x, krHorizonLon; /* BK 14.02.2006 */
+    final Houses hsp = ctx.h;
+    /* trigonometry of obliquity and latitude, kept by the context while they repeat */
+    ctx.obliquity(ekl);
+    cose  = ctx.cose;
+    sine  = ctx.sine;
+    tane  = ctx.tane;
     /* north and south poles */
     if (SMath.abs(SMath.abs(fi) - 90) < VERY_SMALL) {
       if (fi < 0) {
@@ -817,7 +983,10 @@ final class SweHouse {
         fi = 90 - VERY_SMALL;
       }
     }
-    tanfi = tand(fi);
+    ctx.latitude(fi);
+    tanfi = ctx.tanfi;
+    cosfi = ctx.cosfi;
+    double sinfi = ctx.sinfi;
     /* mc */
     if (SMath.abs(th - 90) > VERY_SMALL
       && SMath.abs(th - 270) > VERY_SMALL) {
@@ -835,7 +1004,7 @@ final class SweHouse {
     } /*  if */
     hsp.mc = SwissLib.swe_degnorm(hsp.mc);
     /* ascendant */
-    hsp.ac = Asc1 (th + 90, fi, sine, cose);
+    hsp.ac = Asc1tan (th + 90, tanfi, sine, cose);
     hsp.cusp[1] = hsp.ac;
     hsp.cusp[10] = hsp.mc;
     hsy=Character.toUpperCase(hsy);
@@ -870,10 +1039,13 @@ final class SweHouse {
             }
           }
           th = SwissLib.swe_degnorm(th + 180);
+          /* the horizon is the equator of this system, from here on fi is its pole */
+          sinfi = sind(fi);
+          cosfi = cosd(fi);
+          tanfi = tand(fi);
         }
-        fh1 = asind(sind (fi) / 2);
-        fh2 = asind(SMath.sqrt (3.0) / 2 * sind(fi));
-        cosfi = cosd(fi);
+        fh1 = asind(sinfi / 2);
+        fh2 = asind(SMath.sqrt (3.0) / 2 * sinfi);
         if (SMath.abs(cosfi) == 0) {        /* '==' should be save! */
           if (fi > 0) {
             xh1 = xh2 = 90; /* cosfi = VERY_SMALL; */
@@ -887,7 +1059,7 @@ final class SweHouse {
         hsp.cusp [11] = Asc1 (th + 90 - xh1, fh1, sine, cose);
         hsp.cusp [12] = Asc1 (th + 90 - xh2, fh2, sine, cose);
         if (hsy == 'H') {
-          hsp.cusp [1] = Asc1 (th + 90, fi, sine, cose);
+          hsp.cusp [1] = Asc1tan (th + 90, tanfi, sine, cose);
         }
         hsp.cusp [2] = Asc1 (th + 90 + xh2, fh2, sine, cose);
         hsp.cusp [3] = Asc1 (th + 90 + xh1, fh1, sine, cose);
@@ -916,6 +1088,7 @@ final class SweHouse {
             fi = -90 - fi;
           }
           th = SwissLib.swe_degnorm(th + 180);
+          tanfi = tand(fi);  /* the restored fi need not be the bits it started with */
           acmc = SwissLib.swe_difdeg2n(hsp.ac, hsp.mc);
           if (acmc < 0) {
             hsp.ac = SwissLib.swe_degnorm(hsp.ac + 180);
@@ -929,16 +1102,16 @@ final class SweHouse {
           makePorphyry(hsp);
           break;
         }
-        sina = sind(hsp.mc) * sine / cosd(fi);
+        sina = sind(hsp.mc) * sine / cosfi;
         if (sina > 1) sina = 1;
         if (sina < -1) sina = -1;
         cosa = SMath.sqrt(1 - sina * sina);          /* always >> 0 */
         c = atand(tanfi / cosa);
         ad3 = asind(sind(c) * sina) / 3.0;
-        hsp.cusp [11] = Asc1 (th + 30 - 2 * ad3, fi, sine, cose);
-        hsp.cusp [12] = Asc1 (th + 60 - ad3, fi, sine, cose);
-        hsp.cusp [2] = Asc1 (th + 120 + ad3, fi, sine, cose);
-        hsp.cusp [3] = Asc1 (th + 150 + 2 * ad3, fi, sine, cose);
+        hsp.cusp [11] = Asc1tan (th + 30 - 2 * ad3, tanfi, sine, cose);
+        hsp.cusp [12] = Asc1tan (th + 60 - ad3, tanfi, sine, cose);
+        hsp.cusp [2] = Asc1tan (th + 120 + ad3, tanfi, sine, cose);
+        hsp.cusp [3] = Asc1tan (th + 150 + 2 * ad3, tanfi, sine, cose);
         break;
       case 'O':   /* Porphyry houses */
 //porphyry:
@@ -1056,7 +1229,7 @@ final class SweHouse {
          */
         int j;
         double am = th;
-        double xm[] = new double[3];
+        double xm[] = ctx.xm;
         for (i = 1; i <= 12; i++) {
           j = i + 10;
           if (j > 12) j -= 12;
@@ -1121,7 +1294,7 @@ final class SweHouse {
         }
         /*************** forth/second quarter ***************/
         /* note: Gauquelin sectors are counted in clockwise direction */
-        a = asind(tand(fi) * tane);
+        a = asind(tanfi * tane);
         for (ih = 2; ih <= 9; ih++) {
           ih2 = 10 - ih;
           fh1 = atand(sind(a * ih2 / 9) / tane);
@@ -1245,7 +1418,7 @@ final class SweHouse {
           x[0] = SwissLib.swe_degnorm(x[0] + (th-90));    /* B4. Rotate back -> RA of house cusp as result. */
           /* B5. Where's this house cusp on ecliptic? */
           /* ... so last but not least - get ecliptic longitude of house cusp: */
-          hsp.cusp[i+1] = atand(tand(x[0])/cosd(ekl));
+          hsp.cusp[i+1] = atand(tand(x[0])/cose);
           if (x[0] > 90 && x[0] <= 270)
             hsp.cusp[i+1] = SwissLib.swe_degnorm(hsp.cusp[i+1] + 180);
           hsp.cusp[i+1] = SwissLib.swe_degnorm(hsp.cusp[i+1]);
@@ -1282,7 +1455,7 @@ final class SweHouse {
           makePorphyry(hsp);
           break;
         }
-        a = asind(tand(fi) * tane);
+        a = asind(tanfi * tane);
         fh1 = atand(sind(a / 3) / tane);
         fh2 = atand(sind(a * 2 / 3) / tane);
         /* ************  house 11 ******************** */
@@ -1412,7 +1585,7 @@ final class SweHouse {
     } /*  if */
     hsp.equasc = SwissLib.swe_degnorm(hsp.equasc);
     /* "co-ascendant" W. Koch */
-    hsp.coasc1 = SwissLib.swe_degnorm(Asc1 (th - 90, fi, sine, cose) + 180);
+    hsp.coasc1 = SwissLib.swe_degnorm(Asc1tan (th - 90, tanfi, sine, cose) + 180);
     /* "co-ascendant" M. Munkasey */
     if (fi >= 0) {
       hsp.coasc2 = Asc1 (th + 90, 90 - fi, sine, cose);
@@ -1420,7 +1593,7 @@ final class SweHouse {
       hsp.coasc2 = Asc1 (th + 90, -90 - fi, sine, cose);
     }
     /* "polar ascendant" M. Munkasey */
-    hsp.polasc = Asc1 (th - 90, fi, sine, cose);
+    hsp.polasc = Asc1tan (th - 90, tanfi, sine, cose);
     return retc;
   } /* procedure houses */
 
@@ -1446,18 +1619,23 @@ final class SweHouse {
 
   /******************************/
   private double Asc1 (double x1, double f, double sine, double cose) {
+    return Asc1tan (x1, tand(f), sine, cose);
+  }
+
+  /* Asc1() with the tangent of the pole height, which CalcH() has at hand for the latitude */
+  private double Asc1tan (double x1, double tanf, double sine, double cose) {
     int n;
     double ass;
     x1 = SwissLib.swe_degnorm(x1);
     n  = (int) ((x1 / 90) + 1);
     if (n == 1) {
-      ass = ( Asc2 (x1, f, sine, cose));
+      ass = ( Asc2 (x1, tanf, sine, cose));
     } else if (n == 2) {
-      ass = (180 - Asc2 (180 - x1, - f, sine, cose));
+      ass = (180 - Asc2 (180 - x1, - tanf, sine, cose));
     } else if (n == 3) {
-      ass = (180 + Asc2 (x1 - 180, - f, sine, cose));
+      ass = (180 + Asc2 (x1 - 180, - tanf, sine, cose));
     } else {
-      ass = (360 - Asc2 (360- x1,  f, sine, cose));
+      ass = (360 - Asc2 (360- x1,  tanf, sine, cose));
     }
     ass = SwissLib.swe_degnorm(ass);
     if (SMath.abs(ass - 90) < VERY_SMALL)        /* rounding, e.g.: if */ {
@@ -1475,10 +1653,10 @@ final class SweHouse {
     return ass;
   }  /* Asc1 */
 
-  private double Asc2 (double x, double f, double sine, double cose) {
+  private double Asc2 (double x, double tanf, double sine, double cose) {
     int n;
     double ass, sinx;
-    ass = - tand(f) * sine + cose * cosd(x);
+    ass = - tanf * sine + cose * cosd(x);
     if (SMath.abs(ass) < VERY_SMALL) {
       ass = 0;
     }
@@ -1556,17 +1734,180 @@ final class SweHouse {
   */
   double swe_house_pos(double armc, double geolat, double eps,
                        int hsys, double xpin[], StringBuilder serr) {
+    return swe_house_pos(new HousePosFrame(armc, geolat, eps, hsys), xpin, serr);
+  }
+
+  /**
+  * The house positions of many points for one ARMC, latitude and obliquity. What the
+  * house system derives from those three alone - ascendant, MC, the Alcabitius semi-arc,
+  * the Koch ascensional difference of the MC, the Krusinski house plane - is computed once
+  * instead of once per point.
+  *
+  * @param xlon tropical ecliptic longitudes
+  * @param xlat ecliptic latitudes, null for points on the ecliptic
+  * @param hpos the house positions are returned here, 0 where one cannot be given
+  * @param serr the last error message or warning, may be null
+  * @return SweConst.OK, or SweConst.ERR if a position could not be given
+  * @see #swe_house_pos(double, double, double, int, double[], StringBuilder)
+  */
+  int swe_house_pos(double armc, double geolat, double eps, int hsys,
+                    double[] xlon, double[] xlat, double[] hpos, StringBuilder serr) {
+    final HousePosFrame frame = new HousePosFrame(armc, geolat, eps, hsys);
+    final double[] xpin = new double[6];
+    final StringBuilder err = new StringBuilder();
+    int retc = SweConst.OK;
+    if (serr != null) { serr.setLength(0); }
+    for (int i = 0; i < xlon.length; i++) {
+      xpin[0] = xlon[i];
+      xpin[1] = null == xlat ? 0 : xlat[i];
+      hpos[i] = swe_house_pos(frame, xpin, err);
+      if (hpos[i] < 1) retc = SweConst.ERR;
+      if (err.length() > 0 && serr != null) {
+        serr.setLength(0);
+        serr.append(err);
+      }
+    }
+    return retc;
+  }
+
+  /**
+  * What swe_house_pos() derives from the ARMC, latitude and obliquity alone, whatever
+  * the point.
+  */
+  private final class HousePosFrame {
+    final double armc, geolat, eps, sine, cose;
+    final char hsys;
+    double asc, mc, demc;       /* A E V W O B U K */
+    double sda;                 /* B */
+    double admc, samc;          /* K */
+    boolean mc_circumpolar;     /* K */
+    double raaz, oblaz, xasc0;  /* U */
+
+    HousePosFrame(double armc, double geolat, double eps, int hsys) {
+      this.armc = armc;
+      this.geolat = geolat;
+      this.eps = eps;
+      this.sine = sind(eps);
+      this.cose = cosd(eps);
+      this.hsys = Character.toUpperCase((char)hsys);
+      double tant, x[] = new double[3], xasc[] = new double[3], raep, xtemp; /* BK 21.02.2006 */
+      switch (this.hsys) {
+        case 'A':
+        case 'E':
+        case 'V':
+        case 'W':
+        case 'O':
+        case 'B':
+        case 'U':
+          asc = Asc1 (SwissLib.swe_degnorm(armc + 90), geolat, sine, cose);
+          demc = atand(sind(armc) * tand(eps));
+          /* while MC is always south,
+           * Asc must always be in eastern hemisphere */
+          if (geolat >= 0 && 90 - geolat + demc < 0) {
+            asc = SwissLib.swe_degnorm(asc + 180);
+          }
+          if (geolat < 0 && -90 - geolat + demc > 0) {
+            asc = SwissLib.swe_degnorm(asc + 180);
+          }
+          break;
+        case 'K':
+          demc = atand(sind(armc) * tand(eps));
+          admc = tand(eps) * tand(geolat) * sind(armc);
+          /* midheaven is circumpolar */
+          if (SMath.abs(admc) > 1) {
+            if (admc > 1)
+              admc = 1;
+            else
+              admc = -1;
+            mc_circumpolar = true;
+          }
+          admc = asind(admc);
+          samc = 90 + admc;
+          break;
+      }
+      if (this.hsys == 'O' || this.hsys == 'B') {
+        /* mc */
+        if (SMath.abs(armc - 90) > VERY_SMALL
+                && SMath.abs(armc - 270) > VERY_SMALL) {
+          tant = tand(armc);
+          mc = SwissLib.swe_degnorm(atand(tant / cose));
+          if (armc > 90 && armc <= 270) {
+            mc = SwissLib.swe_degnorm(mc + 180);
+          }
+        } else {
+          if (SMath.abs(armc - 90) <= VERY_SMALL) {
+            mc = 90;
+          } else {
+            mc = 270;
+          }
+        }
+      }
+      if (this.hsys == 'B') { /* Alcabitius */
+        double dek, r;
+        dek = asind(sind(asc) * sine);  /* declination of Ascendant */
+        /* must treat the case fi == 90 or -90 */
+        r = -tand(geolat) * tand(dek);
+        /* must treat the case of abs(r) > 1; probably does not happen
+         * because dek becomes smaller when fi is large, as ac is close to
+         * zero Aries/Libra in that case.
+         */
+        sda = SMath.acos(r) * SwissData.RADTODEG;       /* semidiurnal arc, measured on equator */
+      }
+      if (this.hsys == 'U') { /* Krusinski-Pisa-Goelzer */
+        /*
+         * Descr: find the house plane 'asc-zenith' - where it intersects 
+         * with equator and at what angle, and then simple find arc 
+         * from asc on that plane to planet's meridian intersection 
+         * with this plane.
+         */
+        /* I. find plane of 'asc-zenith' great circle relative to equator: 
+         *   solve spherical triangle 'EP-asc-intersection of house circle with equator' */
+        /* Ia. Find intersection of house plane with equator: */
+        x[0] = asc; x[1] = 0.0; x[2] = 1.0;          /* 1. Start with ascendant on ecliptic     */
+        SwissLib.swe_cotrans(x, x, -eps);                     /* 2. Transform asc into equatorial coords */
+        raep = SwissLib.swe_degnorm(armc + 90);               /* 3. RA of east point                     */
+        x[0] = SwissLib.swe_degnorm(raep - x[0]);             /* 4. Rotation - found arc raas-raep      */
+        SwissLib.swe_cotrans(x, x, -(90-geolat));             /* 5. Transform into horizontal coords - arc EP-asc on horizon */
+        xtemp = atand(tand(x[0])/cosd((90-geolat))); /* 6. Rotation from horizon on circle perpendicular to equator */
+        if (x[0] > 90 && x[0] <= 270)
+        xtemp = SwissLib.swe_degnorm(xtemp + 180);
+        x[0] = SwissLib.swe_degnorm(xtemp);
+        raaz = SwissLib.swe_degnorm(raep - x[0]); /* result: RA of intersection 'asc-zenith' great circle with equator */
+        /* Ib. Find obliquity to equator of 'asc-zenith' house plane: */
+        x[0] = raaz; x[1] = 0.0; 
+        x[0] = SwissLib.swe_degnorm(raep - x[0]);  /* 1. Rotate start point relative to EP   */
+        SwissLib.swe_cotrans(x, x, -(90-geolat));  /* 2. Transform into horizontal coords    */
+        x[1] = x[1] + 90;                 /* 3. Add 90 deg do decl - so get the point on house plane most distant from equ. */
+        SwissLib.swe_cotrans(x, x, 90-geolat);     /* 4. Rotate back to equator              */
+        oblaz = x[1];                     /* 5. Obliquity of house plane to equator */
+        /* II. Next find asc and planet position on house plane, 
+         *     so to find relative distance of planet from 
+         *     coords beginning. */
+        /* IIa. Asc on house plane relative to intersection 
+         *      of equator with 'asc-zenith' plane. */
+        xasc[0] = asc; xasc[1] = 0.0; xasc[2] = 1.0;
+        SwissLib.swe_cotrans(xasc, xasc, -eps);
+        xasc[0] = SwissLib.swe_degnorm(xasc[0] - raaz);
+        xtemp = atand(tand(xasc[0])/cosd(oblaz));
+        if (xasc[0] > 90 && xasc[0] <= 270)
+        xtemp = SwissLib.swe_degnorm(xtemp + 180);
+        xasc0 = SwissLib.swe_degnorm(xtemp);
+      }
+    }
+  }
+
+  private double swe_house_pos(HousePosFrame frame, double xpin[], StringBuilder serr) {
+    final double armc = frame.armc, eps = frame.eps, cose = frame.cose;
+    final char hsys = frame.hsys;
+    double geolat = frame.geolat;
     double xp[]=new double[6], xeq[]=new double[6], ra, de, mdd, mdn, sad, san;
-    double hpos, sinad, ad, a, admc, adp, samc, demc, asc, mc, acmc, tant;
+    double hpos, sinad, ad, a, adp, asc, mc, acmc, tant;
     double fh, ra0, tanfi, fac, dfac;
-    double x[] = new double[3], xasc[] = new double[3], raep, raaz, oblaz, xtemp; /* BK 21.02.2006 */
-    double sine = sind(eps);
-    double cose = cosd(eps);
+    double x[] = new double[3], xtemp;
     boolean is_above_hor = false;
     boolean is_invalid = false;
     boolean is_circumpolar = false;
     if (serr != null) { serr.setLength(0); }
-    hsys = Character.toUpperCase((char)hsys);
     xeq[0] = xpin[0];
     xeq[1] = xpin[1];
     xeq[2] = 1;
@@ -1587,14 +1928,7 @@ final class SweHouse {
       case 'E':
       case 'V':
       case 'W':
-        asc = Asc1 (SwissLib.swe_degnorm(armc + 90), geolat, sine, cose);
-        demc = atand(sind(armc) * tand(eps));
-        if (geolat >= 0 && 90 - geolat + demc < 0) {
-          asc = SwissLib.swe_degnorm(asc + 180);
-        }
-        if (geolat < 0 && -90 - geolat + demc > 0) {
-          asc = SwissLib.swe_degnorm(asc + 180);
-        }
+        asc = frame.asc;
         xp[0] = SwissLib.swe_degnorm(xpin[0] - asc);
         if (hsys == 'V') {
           xp[0] = SwissLib.swe_degnorm(xp[0] + 15);
@@ -1609,31 +1943,8 @@ final class SweHouse {
       break;
       case 'O':  /* Porphyry */
       case 'B':  /* Alcabitius */
-        asc = Asc1 (SwissLib.swe_degnorm(armc + 90), geolat, sine, cose);
-        demc = atand(sind(armc) * tand(eps));
-        /* mc */
-        if (SMath.abs(armc - 90) > VERY_SMALL
-                && SMath.abs(armc - 270) > VERY_SMALL) {
-          tant = tand(armc);
-          mc = SwissLib.swe_degnorm(atand(tant / cose));
-          if (armc > 90 && armc <= 270) {
-            mc = SwissLib.swe_degnorm(mc + 180);
-          }
-        } else {
-          if (SMath.abs(armc - 90) <= VERY_SMALL) {
-            mc = 90;
-          } else {
-            mc = 270;
-          }
-        }
-        /* while MC is always south,
-         * Asc must always be in eastern hemisphere */
-        if (geolat >= 0 && 90 - geolat + demc < 0) {
-          asc = SwissLib.swe_degnorm(asc + 180);
-        }
-        if (geolat < 0 && -90 - geolat + demc > 0) {
-          asc = SwissLib.swe_degnorm(asc + 180);
-        }
+        asc = frame.asc;
+        mc = frame.mc;
         if (hsys ==  'O') {
           xp[0] = SwissLib.swe_degnorm(xpin[0] - asc);
           /* to make sure that a call with a house cusp position returns
@@ -1652,16 +1963,7 @@ final class SweHouse {
             hpos += 3 + (xp[0] - 180 + acmc) * 3 / acmc;
           }
         } else { /* Alcabitius */
-          double dek, r, sna, sda;
-          dek = asind(sind(asc) * sine);  /* declination of Ascendant */
-          /* must treat the case fi == 90 or -90 */
-          tanfi = tand(geolat);
-          r = -tanfi * tand(dek);
-          /* must treat the case of abs(r) > 1; probably does not happen
-           * because dek becomes smaller when fi is large, as ac is close to
-           * zero Aries/Libra in that case.
-           */
-          sda = SMath.acos(r) * SwissData.RADTODEG;       /* semidiurnal arc, measured on equator */
+          double sna, sda = frame.sda;
           sna = 180 - sda;                /* complement, seminocturnal arc */
           if (mdd > 0) {
             if (mdd < sda)
@@ -1705,9 +2007,8 @@ final class SweHouse {
        * if possible; make sure house positions 4 - 9 only appear on western
        * hemisphere */ 
       case 'K': 
-        demc = atand(sind(armc) * tand(eps));
         is_invalid = false;
-        is_circumpolar = false;
+        is_circumpolar = frame.mc_circumpolar;
         /* object is within a circumpolar circle */
         if (90 - geolat < de || -90 - geolat > de) {
           adp = 90;
@@ -1722,17 +2023,7 @@ final class SweHouse {
         else {
           adp = asind(tand(geolat) * tand(de));
         }
-        admc = tand(eps) * tand(geolat) * sind(armc);
-        /* midheaven is circumpolar */
-        if (SMath.abs(admc) > 1) {
-          if (admc > 1)
-            admc = 1;
-          else
-            admc = -1;
-          is_circumpolar = true;
-        }
-        admc = asind(admc);
-        samc = 90 + admc;
+        final double admc = frame.admc, samc = frame.samc;
         if (samc == 0)
           is_invalid = true;
         if (SMath.abs(samc) > 0) {
@@ -1784,54 +2075,8 @@ final class SweHouse {
          * cuts house plane, giving exact planet's house position.
          * Input data: ramc, geolat, asc.
          */
-        asc = Asc1 (SwissLib.swe_degnorm(armc + 90), geolat, sine, cose);
-        demc = atand(sind(armc) * tand(eps));
-        /* while MC is always south, 
-         * Asc must always be in eastern hemisphere */
-        if (geolat >= 0 && 90 - geolat + demc < 0) {
-          asc = SwissLib.swe_degnorm(asc + 180);
-        }
-        if (geolat < 0 && -90 - geolat + demc > 0) {
-          asc = SwissLib.swe_degnorm(asc + 180);
-        }
-        /*
-         * Descr: find the house plane 'asc-zenith' - where it intersects 
-         * with equator and at what angle, and then simple find arc 
-         * from asc on that plane to planet's meridian intersection 
-         * with this plane.
-         */
-        /* I. find plane of 'asc-zenith' great circle relative to equator: 
-         *   solve spherical triangle 'EP-asc-intersection of house circle with equator' */
-        /* Ia. Find intersection of house plane with equator: */
-        x[0] = asc; x[1] = 0.0; x[2] = 1.0;          /* 1. Start with ascendant on ecliptic     */
-        SwissLib.swe_cotrans(x, x, -eps);                     /* 2. Transform asc into equatorial coords */
-        raep = SwissLib.swe_degnorm(armc + 90);               /* 3. RA of east point                     */
-        x[0] = SwissLib.swe_degnorm(raep - x[0]);             /* 4. Rotation - found arc raas-raep      */
-        SwissLib.swe_cotrans(x, x, -(90-geolat));             /* 5. Transform into horizontal coords - arc EP-asc on horizon */
-        xtemp = atand(tand(x[0])/cosd((90-geolat))); /* 6. Rotation from horizon on circle perpendicular to equator */
-        if (x[0] > 90 && x[0] <= 270)
-        xtemp = SwissLib.swe_degnorm(xtemp + 180);
-        x[0] = SwissLib.swe_degnorm(xtemp);
-        raaz = SwissLib.swe_degnorm(raep - x[0]); /* result: RA of intersection 'asc-zenith' great circle with equator */
-        /* Ib. Find obliquity to equator of 'asc-zenith' house plane: */
-        x[0] = raaz; x[1] = 0.0; 
-        x[0] = SwissLib.swe_degnorm(raep - x[0]);  /* 1. Rotate start point relative to EP   */
-        SwissLib.swe_cotrans(x, x, -(90-geolat));  /* 2. Transform into horizontal coords    */
-        x[1] = x[1] + 90;                 /* 3. Add 90 deg do decl - so get the point on house plane most distant from equ. */
-        SwissLib.swe_cotrans(x, x, 90-geolat);     /* 4. Rotate back to equator              */
-        oblaz = x[1];                     /* 5. Obliquity of house plane to equator */
-        /* II. Next find asc and planet position on house plane, 
-         *     so to find relative distance of planet from 
-         *     coords beginning. */
-        /* IIa. Asc on house plane relative to intersection 
-         *      of equator with 'asc-zenith' plane. */
-        xasc[0] = asc; xasc[1] = 0.0; xasc[2] = 1.0;
-        SwissLib.swe_cotrans(xasc, xasc, -eps);
-        xasc[0] = SwissLib.swe_degnorm(xasc[0] - raaz);
-        xtemp = atand(tand(xasc[0])/cosd(oblaz));
-        if (xasc[0] > 90 && xasc[0] <= 270)
-        xtemp = SwissLib.swe_degnorm(xtemp + 180);
-        xasc[0] = SwissLib.swe_degnorm(xtemp);
+        /* I. and IIa. - the house plane and the asc on it - are in the frame */
+        final double raaz = frame.raaz, oblaz = frame.oblaz;
         /* IIb. Planet on house plane relative to intersection 
          *      of equator with 'asc-zenith' plane */
         xp[0] = SwissLib.swe_degnorm(xeq[0] - raaz);        /* Rotate on equator  */
@@ -1839,7 +2084,7 @@ final class SweHouse {
         if (xp[0] > 90 && xp[0] <= 270)
           xtemp = SwissLib.swe_degnorm(xtemp + 180);
         xp[0] = SwissLib.swe_degnorm(xtemp);
-        xp[0] = SwissLib.swe_degnorm(xp[0]-xasc[0]); /* find arc between asc and planet, and get planet house position  */
+        xp[0] = SwissLib.swe_degnorm(xp[0]-frame.xasc0); /* find arc between asc and planet, and get planet house position  */
         /* IIc. Distance from planet to house plane on declination circle: */
         x[0] = xeq[0];
         x[1] = xeq[1];
@@ -1976,7 +2221,7 @@ final class SweHouse {
            * a value within the house, 0.001" is added */
           xp[0] = SwissLib.swe_degnorm(xp[0] + MILLIARCSEC);
         }
-        if ((char)hsys == 'G') {
+        if (hsys == 'G') {
           xp[0] = 360 - xp[0]; /* Gauquelin sectors are in clockwise direction */
           hpos = xp[0] / 10.0 + 1;
         } else {
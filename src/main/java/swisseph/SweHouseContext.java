@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+/**
+ * A reusable context for the house calculation of {@code swe_houses_armc()}: the scratch
+ * the calculation works in, and the sine, cosine and tangent of the obliquity and of the
+ * latitude, which are computed again only when they change.
+ * <p>
+ * {@link #houses(double, double, double, int, double[], double[])} allocates nothing, so
+ * a loop over many ARMCs - a day of ascendants, a grid of places, an ingress search -
+ * produces no garbage and takes the trigonometry of the latitude and obliquity only once.
+ * The results are exactly those of {@code swe_houses_armc()}.
+ * <p>
+ * A context is not thread safe; give every thread its own.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweHouseContext {
+    // CalcH() and swe_houses_armc() keep nothing in the SweHouse, all their state is here
+    private static final SweHouse CORE = new SweHouse(null, null, null);
+
+    final Houses h = new Houses();
+    final double[] x = new double[3], xm = new double[3];
+
+    private double ekl = Double.NaN, fi = Double.NaN;
+    double sine, cose, tane;
+    double sinfi, cosfi, tanfi;
+
+    /**
+     * Same as {@code swe_houses_armc()}: {@code cusp[1..12]} ({@code [1..36]} for the
+     * Gauquelin sectors) and {@code ascmc[0..9]}.
+     *
+     * @param armc   the ARMC in degrees
+     * @param geolat geographic latitude
+     * @param eps    the true obliquity of the ecliptic
+     * @param hsys   the house system
+     * @return {@link SweConst#OK}, or {@link SweConst#ERR} if the system is not defined
+     * there and Porphyry cusps were given instead
+     */
+    public int houses(double armc, double geolat, double eps, int hsys, double[] cusp, double[] ascmc) {
+        return CORE.swe_houses_armc(armc, geolat, eps, hsys, cusp, ascmc, 0, this);
+    }
+
+    void obliquity(double ekl) {
+        if (ekl == this.ekl) return;
+        this.ekl = ekl;
+        this.sine = SweHouse.sind(ekl);
+        this.cose = SweHouse.cosd(ekl);
+        this.tane = SweHouse.tand(ekl);
+    }
+
+    void latitude(double fi) {
+        if (fi == this.fi) return;
+        this.fi = fi;
+        this.sinfi = SweHouse.sind(fi);
+        this.cosfi = SweHouse.cosd(fi);
+        this.tanfi = SweHouse.tand(fi);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import org.swisseph.ISwissEph;
+import org.swisseph.api.ISweHouseSystem;
+
+import java.util.stream.IntStream;
+
+import static org.swisseph.api.ISweEnum.NIL_FID;
+
+/**
+ * House cusps for a whole <b>grid of geographic positions at one moment</b>, e.g. for
+ * relocation maps.
+ * <p>
+ * {@code swe_houses_ex()} derives delta t, obliquity, nutation and the sidereal time from the
+ * julian day again for every position, although none of them depends on where the chart is
+ * cast. The constructor computes them once. Each position then only needs its ARMC, which is
+ * the Greenwich ARMC plus the longitude, and one {@code swe_houses_armc()}. The houses are
+ * computed by the Java port of {@code swe_houses_armc()} in a {@link SweHouseContext} per
+ * row, so rows run in parallel whatever engine gave the epoch, and a row takes the
+ * trigonometry of its latitude once.
+ * <p>
+ * Flags as for {@code swe_houses_ex()}: {@link SweConst#SEFLG_SIDEREAL} gives the traditional
+ * sidereal houses (tropical houses minus the ayanamsa) with the mode set on the engine,
+ * {@link SweConst#SEFLG_NONUT} leaves the nutation out of the ayanamsa. The projections
+ * selected by {@link SweConst#SE_SIDBIT_ECL_T0} and {@link SweConst#SE_SIDBIT_SSY_PLANE}, and
+ * implied by the J2000, J1900 and B1950 modes, need a full {@code swe_houses_ex()} per position
+ * and are rejected with an {@link IllegalArgumentException}.
+ *
+ * <pre>
+ * SweHouseGrid grid = new SweHouseGrid(swissEph, tjdUT, 0);
+ * double[] cusps = new double[lats.length * lons.length * 12];
+ * double[] ascmc = new double[lats.length * lons.length * SE_NASCMC];
+ * grid.houses(lats, lons, SE_HSYS_PLACIDUS, cusps, ascmc, true);
+ * // house h at (lats[r], lons[c]): cusps[(r * lons.length + c) * 12 + h - 1]
+ * </pre>
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweHouseGrid {
+    private final boolean sidereal;
+    private final double tjdUT, tjdET;
+    private final double obliquity, nutation, greenwichArmc, ayanamsa;
+
+    /**
+     * @param swissEph the engine computing delta t, obliquity, nutation, sidereal time
+     *                 and - for sidereal houses - the ayanamsa
+     * @param tjdUT    julian day in UT
+     * @param iflag    0, {@link SweConst#SEFLG_SIDEREAL}, {@link SweConst#SEFLG_NONUT}
+     * @throws IllegalArgumentException for sidereal houses in a projection of the sidereal mode
+     */
+    public SweHouseGrid(ISwissEph swissEph, double tjdUT, int iflag) {
+        checkSiderealMode(swissEph, iflag);
+
+        this.sidereal = (iflag & SweConst.SEFLG_SIDEREAL) != 0;
+        this.tjdUT = tjdUT;
+        this.tjdET = tjdUT + swissEph.swe_deltat_ex(tjdUT, iflag, null);
+
+        final double[] xx = new double[6];
+        final StringBuilder serr = new StringBuilder();
+
+        if (swissEph.swe_calc(tjdET, SweConst.SE_ECL_NUT, 0, xx, serr) == SweConst.ERR) {
+            throw new SwissephException(tjdET, SwissephException.UNDEFINED_ERROR, SweConst.ERR, serr);
+        }
+
+        this.obliquity = xx[0];     // true obliquity
+        this.nutation = xx[2];      // nutation in longitude
+        this.greenwichArmc = SwissLib.swe_degnorm(swissEph.swe_sidtime0(tjdUT, obliquity, nutation) * 15);
+
+        // what sidereal_houses_trad() subtracts
+        if (sidereal) {
+            this.ayanamsa = swissEph.swe_get_ayanamsa(tjdET)
+                    + ((iflag & SweConst.SEFLG_NONUT) != 0 ? 0. : nutation);
+        } else {
+            this.ayanamsa = 0.;
+        }
+    }
+
+    /**
+     * Sidereal houses are the traditional ones only, see the class comment
+     */
+    static void checkSiderealMode(ISwissEph swissEph, int iflag) {
+        if (null == swissEph) throw new IllegalArgumentException("ISwissEph cannot be NULL");
+        if ((iflag & SweConst.SEFLG_SIDEREAL) == 0) return;
+
+        final int sidMode = swissEph.swe_get_sid_mode();
+        if (sidMode < 0) throw new IllegalArgumentException("The sidereal mode of the engine is unknown");
+
+        final int mode = sidMode % SweConst.SE_SIDBITS;
+        final boolean projected = mode == SweConst.SE_SIDM_J2000 || mode == SweConst.SE_SIDM_J1900
+                || mode == SweConst.SE_SIDM_B1950 || (sidMode & (SweConst.SE_SIDBIT_ECL_T0
+                | SweConst.SE_SIDBIT_SSY_PLANE)) != 0 && mode != SweConst.SE_SIDM_TRUE_CITRA
+                && mode != SweConst.SE_SIDM_TRUE_REVATI;
+
+        if (projected) {
+            throw new IllegalArgumentException("Sidereal mode " + sidMode
+                    + " projects onto another plane, its houses need swe_houses_ex()");
+        }
+    }
+
+    public double julianDayUT() {
+        return tjdUT;
+    }
+
+    public double julianDayET() {
+        return tjdET;
+    }
+
+    /**
+     * @return true obliquity of the ecliptic in degrees
+     */
+    public double obliquity() {
+        return obliquity;
+    }
+
+    /**
+     * @return nutation in longitude in degrees
+     */
+    public double nutation() {
+        return nutation;
+    }
+
+    /**
+     * @return ARMC at Greenwich in degrees, the apparent sidereal time times 15
+     */
+    public double greenwichArmc() {
+        return greenwichArmc;
+    }
+
+    /**
+     * @return the ayanamsa (with nutation unless SEFLG_NONUT) subtracted from sidereal houses,
+     * 0 for tropical ones
+     */
+    public double ayanamsa() {
+        return ayanamsa;
+    }
+
+    /**
+     * @param geolon geographic longitude, positive east
+     * @return ARMC at that longitude in degrees
+     */
+    public double armc(double geolon) {
+        return SwissLib.swe_degnorm(greenwichArmc + geolon);
+    }
+
+    /**
+     * @see #houses(double[], double[], int, double[], double[], boolean)
+     */
+    public int houses(double[] latitudes, double[] longitudes, ISweHouseSystem hsys,
+                      double[] cusps, double[] ascmc, boolean parallel) {
+        if (null == hsys || NIL_FID == hsys.fid()) {
+            throw new IllegalArgumentException("House system is expected: " + hsys);
+        }
+
+        return houses(latitudes, longitudes, hsys.fid(), cusps, ascmc, parallel);
+    }
+
+    /**
+     * Computes the houses at every (latitude, longitude) pair. Position {@code p} of row
+     * {@code r} and column {@code c} is {@code r * longitudes.length + c}; its cusps are
+     * {@code cusps[p * n .. p * n + n - 1]} with {@code n} = {@link #cuspsCount(int)}, its
+     * points {@code ascmc[p * SE_NASCMC .. p * SE_NASCMC + SE_NASCMC - 1]} in the order of
+     * {@code swe_houses()}.
+     *
+     * @param latitudes  one row per latitude
+     * @param longitudes one column per longitude, positive east
+     * @param hsys       house system as in {@code swe_houses()}
+     * @param cusps      output, may be null if only the points are wanted
+     * @param ascmc      output, may be null if only the cusps are wanted
+     * @param parallel   rows in parallel
+     * @return the number of positions where the system is not defined (Placidus, Koch and
+     * Gauquelin in the polar circles) and Porphyry cusps were given instead
+     */
+    public int houses(double[] latitudes, double[] longitudes, int hsys,
+                      double[] cusps, double[] ascmc, boolean parallel) {
+        final int rows = latitudes.length, cols = longitudes.length, n = cuspsCount(hsys);
+        final long points = (long) rows * cols;
+
+        if ((null != cusps && cusps.length < points * n)
+                || (null != ascmc && ascmc.length < points * SweConst.SE_NASCMC)) {
+            throw new IllegalArgumentException("Output arrays must hold " + points + " positions");
+        }
+
+        final double[] armcs = new double[cols];
+        for (int c = 0; c < cols; c++) armcs[c] = armc(longitudes[c]);
+
+        final int[] failed = new int[rows];
+        final IntStream stream = IntStream.range(0, rows);
+
+        (parallel && rows > 1 ? stream.parallel() : stream).forEach(r -> {
+            final SweHouseContext ctx = new SweHouseContext();
+            final double[] cusp = new double[37], points10 = new double[10];
+            for (int c = 0; c < cols; c++) {
+                if (houses(ctx, armcs[c], latitudes[r], hsys, cusp, points10) == SweConst.ERR) failed[r]++;
+
+                final int p = r * cols + c;
+                if (null != cusps) System.arraycopy(cusp, 1, cusps, p * n, n);
+                if (null != ascmc) System.arraycopy(points10, 0, ascmc, p * SweConst.SE_NASCMC, SweConst.SE_NASCMC);
+            }
+        });
+
+        int sum = 0;
+        for (int f : failed) sum += f;
+        return sum;
+    }
+
+    /**
+     * The houses at one position, in the layout of {@code swe_houses()}: {@code cusp[1..n]},
+     * {@code ascmc[0..9]}.
+     *
+     * @param armc ARMC of the position, see {@link #armc(double)}
+     * @return {@link SweConst#OK}, or {@link SweConst#ERR} if Porphyry cusps were given instead
+     */
+    public int houses(double armc, double geolat, int hsys, double[] cusp, double[] ascmc) {
+        return houses(new SweHouseContext(), armc, geolat, hsys, cusp, ascmc);
+    }
+
+    /**
+     * @see #houses(double, double, int, double[], double[])
+     */
+    public int houses(SweHouseContext ctx, double armc, double geolat, int hsys, double[] cusp, double[] ascmc) {
+        return houses(ctx, armc, geolat, obliquity, sidereal ? ayanamsa : Double.NaN, hsys, cusp, ascmc);
+    }
+
+    /**
+     * The houses of {@code swe_houses_armc()}, turned into traditional sidereal houses unless
+     * the ayanamsa is NaN.
+     */
+    static int houses(SweHouseContext ctx, double armc, double geolat, double eps, double ayanamsa,
+                      int hsys, double[] cusp, double[] ascmc) {
+        if (Double.isNaN(ayanamsa)) return ctx.houses(armc, geolat, eps, hsys, cusp, ascmc);
+
+        // the same steps as sidereal_houses_trad()
+        final char ihs = Character.toUpperCase((char) hsys);
+        final int ito = cuspsCount(hsys);
+        final int retc = ctx.houses(armc, geolat, eps, ihs == 'W' ? 'E' : hsys, cusp, ascmc);
+
+        for (int i = 1; i <= ito; i++) {
+            cusp[i] = SwissLib.swe_degnorm(cusp[i] - ayanamsa);
+            if (ihs == 'W') cusp[i] -= cusp[i] % 30;
+        }
+        if (ihs == 'N') {
+            for (int i = 1; i <= ito; i++) cusp[i] = (i - 1) * 30;
+        }
+        for (int i = 0; i < SweConst.SE_NASCMC; i++) {
+            if (i != 2) ascmc[i] = SwissLib.swe_degnorm(ascmc[i] - ayanamsa);
+        }
+
+        return retc;
+    }
+
+    /**
+     * @return 36 for the Gauquelin sectors, otherwise 12
+     */
+    public static int cuspsCount(int hsys) {
+        return SweHouse.cuspsCount(hsys);
+    }
+}
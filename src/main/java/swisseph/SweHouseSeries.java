@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import org.swisseph.ISwissEph;
+
+/**
+ * House cusps for <b>one location at many moments</b>, e.g. the ascendant every minute over
+ * days or years for lagna tables and rectification.
+ * <p>
+ * {@code swe_houses_ex()} computes delta t, obliquity, nutation and the sidereal time from
+ * scratch for every moment. Here they are computed at the ends of a segment only - by a
+ * {@link SweHouseGrid} - and interpolated linearly in between: the ARMC advances with the
+ * sidereal rate ({@code SweHouse.ARMCS}) corrected to the exact sidereal times at both ends,
+ * the obliquity and the ayanamsa follow the same line. A segment is at most a day long and
+ * is halved while its midpoint departs from the interpolation by more than the tolerance, so
+ * the epoch is refreshed only when nutation and obliquity change by more than that. Each
+ * moment then costs one {@code swe_houses_armc()} in a reused {@link SweHouseContext}.
+ * <p>
+ * Flags as for {@link SweHouseGrid}. An instance keeps its current segment and its context,
+ * so it is meant for one thread, with an engine of that thread; moments in ascending order
+ * reuse the segments best.
+ *
+ * <pre>
+ * SweHouseSeries series = new SweHouseSeries(swissEph, 13.08, 80.27, 0, SweHouseSeries.DEFAULT_TOLERANCE);
+ * double[] ascmc = new double[1440 * SE_NASCMC];
+ * series.houses(tjdUT, 1. / 1440, 1440, SE_HSYS_PLACIDUS, null, ascmc);
+ * // ascendant of minute k: ascmc[k * SE_NASCMC + SE_ASC]
+ * </pre>
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweHouseSeries {
+    /**
+     * Default tolerance on the interpolated ARMC, obliquity and ayanamsa in degrees
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+
+    static final double MAX_SEGMENT = 1., MIN_SEGMENT = 1. / 1440;
+
+    private final ISwissEph swissEph;
+    private final int iflag;
+    private final boolean sidereal;
+    private final double geolat, geolon, tolerance;
+    private final SweHouseContext ctx = new SweHouseContext();
+
+    private SweHouseGrid a, b;
+    private double span = MAX_SEGMENT / 2, darmc;
+    private int epochs;
+
+    /**
+     * @param swissEph  the engine computing the epoch quantities
+     * @param geolat    geographic latitude
+     * @param geolon    geographic longitude, positive east
+     * @param iflag     0, {@link SweConst#SEFLG_SIDEREAL}, {@link SweConst#SEFLG_NONUT}
+     * @param tolerance largest error in degrees allowed in the interpolated ARMC, obliquity
+     *                  and ayanamsa, e.g. {@link #DEFAULT_TOLERANCE}
+     */
+    public SweHouseSeries(ISwissEph swissEph, double geolat, double geolon, int iflag, double tolerance) {
+        SweHouseGrid.checkSiderealMode(swissEph, iflag);
+        if (!(tolerance >= 0.)) throw new IllegalArgumentException("Invalid tolerance: " + tolerance);
+
+        this.swissEph = swissEph;
+        this.iflag = iflag;
+        this.sidereal = (iflag & SweConst.SEFLG_SIDEREAL) != 0;
+        this.geolat = geolat;
+        this.geolon = geolon;
+        this.tolerance = tolerance;
+    }
+
+    public double geolat() {
+        return geolat;
+    }
+
+    public double geolon() {
+        return geolon;
+    }
+
+    /**
+     * @return how many times the epoch quantities were computed in full so far
+     */
+    public int epochs() {
+        return epochs;
+    }
+
+    /**
+     * Computes the houses at {@code tjdUT + k * step} for k = 0 .. count - 1. Moment {@code k}
+     * has its cusps at {@code cusps[k * n .. k * n + n - 1]} with {@code n} =
+     * {@link SweHouseGrid#cuspsCount(int)}, its points at
+     * {@code ascmc[k * SE_NASCMC .. k * SE_NASCMC + SE_NASCMC - 1]} in the order of
+     * {@code swe_houses()}.
+     *
+     * @param tjdUT julian day in UT of the first moment
+     * @param step  days between two moments
+     * @param count number of moments
+     * @param hsys  house system as in {@code swe_houses()}
+     * @param cusps output, may be null if only the points are wanted
+     * @param ascmc output, may be null if only the cusps are wanted
+     * @return the number of moments where the system is not defined and Porphyry cusps were
+     * given instead
+     */
+    public int houses(double tjdUT, double step, int count, int hsys, double[] cusps, double[] ascmc) {
+        final int n = SweHouseGrid.cuspsCount(hsys);
+
+        if (count < 0 || !(step > 0.) && count > 1) {
+            throw new IllegalArgumentException("Invalid series: " + count + " moments " + step + " days apart");
+        }
+        if ((null != cusps && cusps.length < (long) count * n)
+                || (null != ascmc && ascmc.length < (long) count * SweConst.SE_NASCMC)) {
+            throw new IllegalArgumentException("Output arrays must hold " + count + " moments");
+        }
+
+        final double[] cusp = new double[37], points10 = new double[10];
+        int failed = 0;
+
+        for (int k = 0; k < count; k++) {
+            if (houses(tjdUT + k * step, hsys, cusp, points10) == SweConst.ERR) failed++;
+
+            if (null != cusps) System.arraycopy(cusp, 1, cusps, k * n, n);
+            if (null != ascmc) System.arraycopy(points10, 0, ascmc, k * SweConst.SE_NASCMC, SweConst.SE_NASCMC);
+        }
+
+        return failed;
+    }
+
+    /**
+     * The houses at one moment, in the layout of {@code swe_houses()}: {@code cusp[1..n]},
+     * {@code ascmc[0..9]}.
+     *
+     * @return {@link SweConst#OK}, or {@link SweConst#ERR} if Porphyry cusps were given instead
+     */
+    public int houses(double tjdUT, int hsys, double[] cusp, double[] ascmc) {
+        segment(tjdUT);
+
+        final double f = fraction(tjdUT);
+        return SweHouseGrid.houses(ctx, SwissLib.swe_degnorm(armc(a) + f * darmc), geolat,
+                a.obliquity() + f * (b.obliquity() - a.obliquity()),
+                sidereal ? a.ayanamsa() + f * (b.ayanamsa() - a.ayanamsa()) : Double.NaN,
+                hsys, cusp, ascmc);
+    }
+
+    /**
+     * @return the interpolated ARMC at the moment in degrees
+     */
+    public double armc(double tjdUT) {
+        segment(tjdUT);
+        return SwissLib.swe_degnorm(armc(a) + fraction(tjdUT) * darmc);
+    }
+
+    /**
+     * @return the interpolated true obliquity at the moment in degrees
+     */
+    double obliquity(double tjdUT) {
+        segment(tjdUT);
+        return a.obliquity() + fraction(tjdUT) * (b.obliquity() - a.obliquity());
+    }
+
+    /**
+     * @return the interpolated ayanamsa subtracted from sidereal houses, 0 for tropical ones
+     */
+    double ayanamsa(double tjdUT) {
+        segment(tjdUT);
+        return a.ayanamsa() + fraction(tjdUT) * (b.ayanamsa() - a.ayanamsa());
+    }
+
+    /**
+     * Makes {@code a .. b} a segment holding the moment, continuing from the current one when
+     * the moment follows it.
+     */
+    private void segment(final double t) {
+        if (null != a && t >= a.julianDayUT() && t <= b.julianDayUT()) return;
+
+        SweHouseGrid start = null != b && t > b.julianDayUT() && t - b.julianDayUT() <= MAX_SEGMENT ? b : epoch(t);
+
+        while (true) {
+            a = start;
+            span = Math.min(MAX_SEGMENT, span * 2);
+            b = epoch(a.julianDayUT() + span);
+            darmc = armcAdvance(a, b);
+
+            while (span > MIN_SEGMENT) {
+                final SweHouseGrid m = epoch(a.julianDayUT() + span / 2);
+                if (error(m) <= tolerance) break;
+
+                span /= 2;
+                b = m;
+                darmc = armcAdvance(a, b);
+            }
+
+            if (t <= b.julianDayUT()) return;
+            start = b;
+        }
+    }
+
+    /**
+     * @return how far the midpoint of the segment is from its interpolation
+     */
+    private double error(final SweHouseGrid m) {
+        final double f = fraction(m.julianDayUT());
+        double error = Math.abs(SwissLib.swe_difdeg2n(armc(a) + f * darmc, armc(m)));
+        error = Math.max(error, Math.abs(a.obliquity() + f * (b.obliquity() - a.obliquity()) - m.obliquity()));
+        return Math.max(error, Math.abs(a.ayanamsa() + f * (b.ayanamsa() - a.ayanamsa()) - m.ayanamsa()));
+    }
+
+    private double fraction(final double t) {
+        final double dt = b.julianDayUT() - a.julianDayUT();
+        return dt > 0. ? (t - a.julianDayUT()) / dt : 0.;
+    }
+
+    private double armc(final SweHouseGrid epoch) {
+        return epoch.armc(geolon);
+    }
+
+    /**
+     * @return the ARMC advance from one epoch to the other, the whole turns included
+     */
+    private double armcAdvance(final SweHouseGrid from, final SweHouseGrid to) {
+        final double expected = SweHouse.ARMCS * (to.julianDayUT() - from.julianDayUT());
+        return expected + SwissLib.swe_difdeg2n(armc(to), armc(from) + expected);
+    }
+
+    private SweHouseGrid epoch(final double tjdUT) {
+        epochs++;
+        return new SweHouseGrid(swissEph, tjdUT, iflag);
+    }
+}
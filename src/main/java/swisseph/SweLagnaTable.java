@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import org.swisseph.ISwissEph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Lagna table: the moments the <b>ascendant enters each sign</b> at one location, over a day
+ * or a range of days.
+ * <p>
+ * A {@code TCHouses} transit search per sign samples the houses blindly from scratch. Here
+ * the ascendant is not searched for at all: an ecliptic degree is the ascendant when it
+ * rises, i.e. at the ARMC {@code RA - H0} with the semi-arc {@code H0 = acos(-tan(lat)
+ * tan(decl))} of that degree. The ARMC grows monotonically with time, so the range is walked
+ * once, one sidereal day after the other, taking each sign boundary from its rising ARMC
+ * on the {@link SweHouseSeries} of the location. Every ingress is then checked against the
+ * ascendant of the house engine, and corrected by a secant step if needed, so it takes one
+ * or two house evaluations.
+ * <p>
+ * Flags as for {@link SweHouseGrid}; with {@link SweConst#SEFLG_SIDEREAL} the signs are
+ * sidereal. Beyond the polar circles the ascendant is not monotonic, so these latitudes are
+ * not supported. An instance is meant for one thread; {@link #ingresses(Supplier, double[],
+ * double[], int, double, double, boolean)} runs a batch of locations in parallel.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweLagnaTable {
+    static final double SIDEREAL_DAY = 360. / SweHouse.ARMCS;
+    static final double PRECISION = 1e-6; // degrees of the ascendant, a JD resolves about 1.5e-7
+
+    private final SweHouseSeries series;
+    private final double geolat;
+    private final double[] cusp = new double[13], ascmc = new double[10];
+    private int evaluations;
+
+    /**
+     * @param swissEph the engine computing the epoch quantities
+     * @param geolat   geographic latitude, within the polar circles
+     * @param geolon   geographic longitude, positive east
+     * @param iflag    0, {@link SweConst#SEFLG_SIDEREAL}, {@link SweConst#SEFLG_NONUT}
+     */
+    public SweLagnaTable(ISwissEph swissEph, double geolat, double geolon, int iflag) {
+        this.series = new SweHouseSeries(swissEph, geolat, geolon, iflag, SweHouseSeries.DEFAULT_TOLERANCE);
+        this.geolat = geolat;
+    }
+
+    /**
+     * @return how many house evaluations the ingresses took so far
+     */
+    public int evaluations() {
+        return evaluations;
+    }
+
+    /**
+     * @return epoch evaluations of the underlying series so far
+     */
+    public int epochs() {
+        return series.epochs();
+    }
+
+    /**
+     * @param tjdUT0 julian day in UT the range starts with, inclusive
+     * @param tjdUT1 julian day in UT the range ends with, exclusive
+     * @return the ingresses in the range in the order of time
+     */
+    public Ingress[] ingresses(double tjdUT0, double tjdUT1) {
+        if (!(tjdUT1 >= tjdUT0)) throw new IllegalArgumentException("Invalid range: " + tjdUT0 + " - " + tjdUT1);
+
+        if (Math.abs(geolat) >= 90. - series.obliquity(tjdUT0)) {
+            throw new IllegalArgumentException("Latitude beyond the polar circle: " + geolat);
+        }
+
+        // the first rising of every boundary, in the order the day brings them
+        final double armc0 = series.armc(tjdUT0);
+        final double[] first = new double[12];
+        final Integer[] order = new Integer[12];
+
+        for (int sign = 0; sign < 12; sign++) {
+            final double rising = risingArmc(sign, tjdUT0);
+            first[sign] = tjdUT0 + SwissLib.swe_degnorm(rising - armc0) / SweHouse.ARMCS;
+            order[sign] = sign;
+        }
+        Arrays.sort(order, (s1, s2) -> Double.compare(first[s1], first[s2]));
+
+        final List<Ingress> ingresses = new ArrayList<>();
+        for (int day = 0; first[order[0]] + day * SIDEREAL_DAY < tjdUT1; day++) {
+            for (int sign : order) {
+                final double estimate = first[sign] + day * SIDEREAL_DAY;
+                if (estimate >= tjdUT1 + SIDEREAL_DAY / 24) continue;
+
+                final double tjdUT = refine(sign, estimate);
+                if (tjdUT >= tjdUT0 && tjdUT < tjdUT1) ingresses.add(new Ingress(sign, tjdUT));
+            }
+        }
+
+        ingresses.sort((i1, i2) -> Double.compare(i1.tjdUT, i2.tjdUT));
+        return ingresses.toArray(new Ingress[0]);
+    }
+
+    /**
+     * The ingresses of a batch of locations, {@code (latitudes[i], longitudes[i])}, over the
+     * same range. A location takes its engine from {@code engines}, called on the thread it
+     * runs on, so that gives an engine per thread, e.g. of a {@code ThreadLocal}, set up the
+     * same way on every thread for sidereal signs.
+     *
+     * @param engines  gives an engine of the calling thread
+     * @param parallel locations in parallel, on the common fork join pool
+     * @return the ingresses of each location, in the order of the locations
+     */
+    public static Ingress[][] ingresses(Supplier<? extends ISwissEph> engines, double[] latitudes,
+                                        double[] longitudes, int iflag, double tjdUT0, double tjdUT1,
+                                        boolean parallel) {
+        if (null == engines) throw new IllegalArgumentException("Engines are expected");
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("A longitude is expected for every latitude");
+        }
+
+        final Ingress[][] ingresses = new Ingress[latitudes.length][];
+        final IntStream stream = IntStream.range(0, latitudes.length);
+
+        (parallel && latitudes.length > 1 ? stream.parallel() : stream).forEach(i -> ingresses[i] =
+                new SweLagnaTable(engines.get(), latitudes[i], longitudes[i], iflag).ingresses(tjdUT0, tjdUT1));
+
+        return ingresses;
+    }
+
+    /**
+     * Moves the estimate to the rising of the sign boundary, then to where the house engine
+     * gives it as the ascendant.
+     */
+    private double refine(final int sign, double tjdUT) {
+        for (int i = 0; i < 3; i++) {
+            final double d = SwissLib.swe_difdeg2n(risingArmc(sign, tjdUT), series.armc(tjdUT));
+            tjdUT += d / SweHouse.ARMCS;
+            if (Math.abs(d) < PRECISION) break;
+        }
+
+        double d = SwissLib.swe_difdeg2n(sign * 30., ascendant(tjdUT));
+        for (int i = 0; i < 3 && Math.abs(d) > PRECISION; i++) {
+            final double dt = SIDEREAL_DAY / 86400; // a sidereal second
+            final double speed = SwissLib.swe_difdeg2n(ascendant(tjdUT + dt), sign * 30. - d) / dt;
+            tjdUT += d / speed;
+            d = SwissLib.swe_difdeg2n(sign * 30., ascendant(tjdUT));
+        }
+
+        return tjdUT;
+    }
+
+    /**
+     * @return the ARMC the boundary of the sign rises at, the ecliptic degree converted to
+     * the equator with the obliquity of the moment
+     */
+    private double risingArmc(final int sign, final double tjdUT) {
+        final double lon = sign * 30. + series.ayanamsa(tjdUT), eps = series.obliquity(tjdUT);
+        final double ra = SweHouse.atan2d(SweHouse.sind(lon) * SweHouse.cosd(eps), SweHouse.cosd(lon));
+        final double decl = SweHouse.asind(SweHouse.sind(eps) * SweHouse.sind(lon));
+        return SwissLib.swe_degnorm(ra - SweAstrocartography.semiArc(decl, geolat));
+    }
+
+    private double ascendant(final double tjdUT) {
+        evaluations++;
+        series.houses(tjdUT, SweConst.SE_HSYS_EQUAL, cusp, ascmc);
+        return ascmc[SweConst.SE_ASC];
+    }
+
+    /**
+     * The ascendant entering a sign
+     */
+    public static final class Ingress {
+        /**
+         * 0 for Aries .. 11 for Pisces
+         */
+        public final int sign;
+        public final double tjdUT;
+
+        Ingress(int sign, double tjdUT) {
+            this.sign = sign;
+            this.tjdUT = tjdUT;
+        }
+
+        @Override
+        public String toString() {
+            return "Ingress{sign=" + sign + ", tjdUT=" + tjdUT + '}';
+        }
+    }
+}
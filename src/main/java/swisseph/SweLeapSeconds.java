@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Immutable, sorted table of the days (yyyymmdd, UTC) at the end of which a leap second was
+ * inserted. It is parsed once and then only read, so one instance is shared by all engines and
+ * threads; lookups are binary searches.<br>
+ * {@link #BUILT_IN} is the table compiled into this release. Like {@code init_leapsec()} of the
+ * C library, the loaders only add the dates of a {@code seleapsec.txt} file that come after its
+ * last date, so an outdated file can never remove a known leap second. Install a loaded table
+ * with {@link SweDate#setLeapSeconds(SweLeapSeconds)}.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class SweLeapSeconds implements Serializable {
+    private static final long serialVersionUID = 5282217301462431042L;
+
+    /** The file name used by the C library */
+    public static final String FILE_NAME = "seleapsec.txt";
+
+    /** Leap seconds were inserted at the end of the following days */
+    public static final SweLeapSeconds BUILT_IN = new SweLeapSeconds(new int[]{
+            19720630, 19721231, 19731231, 19741231, 19751231, 19761231, 19771231, 19781231,
+            19791231, 19810630, 19820630, 19830630, 19850630, 19871231, 19891231, 19901231,
+            19920630, 19930630, 19940630, 19951231, 19970630, 19981231, 20051231, 20081231,
+            20120630, 20150630});
+
+    private final int[] dates;
+
+    private SweLeapSeconds(final int[] dates) {
+        this.dates = dates;
+    }
+
+    /**
+     * @param dates days (yyyymmdd) ending with a leap second, in any order
+     * @return the table of exactly these dates, duplicates removed
+     */
+    public static SweLeapSeconds of(final int... dates) {
+        final int[] sorted = dates.clone();
+        Arrays.sort(sorted);
+
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i] < 10000101) {
+                throw new IllegalArgumentException("Not a yyyymmdd date: " + sorted[i]);
+            }
+            if (n == 0 || sorted[n - 1] != sorted[i]) sorted[n++] = sorted[i];
+        }
+
+        return new SweLeapSeconds(n == sorted.length ? sorted : Arrays.copyOf(sorted, n));
+    }
+
+    /**
+     * @param file a file in the format of {@code seleapsec.txt}
+     * @return the built-in table extended by the later dates of the file
+     */
+    public static SweLeapSeconds load(final Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            return BUILT_IN.extendedBy(reader);
+        }
+    }
+
+    /**
+     * @param in a stream in the format of {@code seleapsec.txt}, it is not closed
+     * @return the built-in table extended by the later dates of the stream
+     */
+    public static SweLeapSeconds load(final InputStream in) throws IOException {
+        return BUILT_IN.extendedBy(new InputStreamReader(in, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param resource a classpath resource in the format of {@code seleapsec.txt},
+     *                 e.g. {@link #FILE_NAME}
+     * @return the built-in table extended by the later dates of the resource
+     * @throws FileNotFoundException if there is no such resource
+     */
+    public static SweLeapSeconds loadResource(final String resource) throws IOException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (null == loader) loader = SweLeapSeconds.class.getClassLoader();
+
+        try (InputStream in = loader.getResourceAsStream(resource)) {
+            if (null == in) throw new FileNotFoundException(resource);
+            return load(in);
+        }
+    }
+
+    /**
+     * Looks for {@link #FILE_NAME} in the directories of an ephemeris path
+     * (separated by ';' or ':', see {@link SwissData#PATH_SEPARATOR}), the way {@code swi_fopen} does.
+     *
+     * @return the built-in table extended by the first file found, or {@link #BUILT_IN}
+     */
+    public static SweLeapSeconds loadFromEphePath(final String ephepath) throws IOException {
+        if (null == ephepath) return BUILT_IN;
+
+        for (String dir : ephepath.split("[" + SwissData.PATH_SEPARATOR + "]")) {
+            if (dir.trim().isEmpty()) continue;
+            final Path file = Paths.get(dir.trim(), FILE_NAME);
+            if (Files.isRegularFile(file)) return load(file);
+        }
+
+        return BUILT_IN;
+    }
+
+    private SweLeapSeconds extendedBy(final Reader reader) throws IOException {
+        final BufferedReader lines = reader instanceof BufferedReader
+                ? (BufferedReader) reader : new BufferedReader(reader);
+
+        int[] extended = dates;
+        int n = dates.length, last = last();
+
+        for (String s; (s = lines.readLine()) != null; ) {
+            s = s.trim();
+            if (s.isEmpty() || s.startsWith("#")) continue;
+
+            final int ndat = SwissLib.atoi(s);
+            if (ndat <= last) continue;
+
+            if (n == extended.length) extended = Arrays.copyOf(extended, n + 8);
+            extended[n++] = last = ndat;
+        }
+
+        return n == dates.length ? this : new SweLeapSeconds(Arrays.copyOf(extended, n));
+    }
+
+    /**
+     * @return the number of leap seconds in the table
+     */
+    public int size() {
+        return dates.length;
+    }
+
+    /**
+     * @return the i-th day (yyyymmdd) ending with a leap second, in ascending order
+     */
+    public int date(final int i) {
+        return dates[i];
+    }
+
+    /**
+     * @return the latest day ending with a leap second, 0 if the table is empty
+     */
+    public int last() {
+        return dates.length == 0 ? 0 : dates[dates.length - 1];
+    }
+
+    /**
+     * @param ndat day as yyyymmdd
+     * @return the number of leap seconds inserted before the day begins,
+     * i.e. also the index of the first leap second day not before {@code ndat}
+     */
+    public int countBefore(final int ndat) {
+        final int i = Arrays.binarySearch(dates, ndat);
+        return i < 0 ? -i - 1 : i;
+    }
+
+    /**
+     * @param ndat day as yyyymmdd
+     * @return true if the day ends with a leap second, i.e. its 23:59:60 is a valid time
+     */
+    public boolean isLeapSecondDay(final int ndat) {
+        return Arrays.binarySearch(dates, ndat) >= 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o instanceof SweLeapSeconds && Arrays.equals(dates, ((SweLeapSeconds) o).dates));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(dates);
+    }
+
+    @Override
+    public String toString() {
+        return "SweLeapSeconds" + Arrays.toString(dates);
+    }
+}
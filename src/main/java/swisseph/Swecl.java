@@ -616,7 +616,7 @@ final class Swecl {
     int retflag, retflag2;
     double dcore[]=new double[10];
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_ut, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_ut, ifl, 0);
     if ((retflag = eclipse_where(tjd_ut, SweConst.SE_SUN, null, ifl, geopos, dcore, serr)) < 0) {
       return retflag;
     }
@@ -638,7 +638,7 @@ final class Swecl {
     double dcore[]=new double[10];
     if (ipl < 0) ipl = 0;
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_ut, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_ut, ifl, 0);
     /* function calls for Pluto with asteroid number 134340
      * are treated as calls for Pluto as main body SE_PLUTO */
     if (ipl == SweConst.SE_AST_OFFSET + 134340) {
@@ -690,7 +690,7 @@ final class Swecl {
     iflag = SweConst.SEFLG_SPEED | SweConst.SEFLG_EQUATORIAL | ifl;
     iflag2 = iflag | SweConst.SEFLG_RADIANS;
     iflag  = iflag | SweConst.SEFLG_XYZ;
-    deltat = SweDate.getDeltaT(tjd_ut);
+    deltat = SweDate.getDeltaT(swed, tjd_ut);
     tjd = tjd_ut + deltat;
     /* moon in cartesian coordinates */
     if ((retc = sw.swe_calc(tjd, SweConst.SE_MOON, iflag, rm, serr)) == SweConst.ERR) {
@@ -976,7 +976,7 @@ final class Swecl {
       return SweConst.ERR;
     }
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_ut, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_ut, ifl, 0);
     if ((retflag = eclipse_how(tjd_ut, SweConst.SE_SUN, null, ifl, geopos[0],
                                geopos[1], geopos[2], attr, serr)) == SweConst.ERR) {
       return retflag;
@@ -1022,7 +1022,7 @@ final class Swecl {
     geopos[0] = geolon;
     geopos[1] = geolat;
     geopos[2] = geohgt;
-    te = tjd_ut + SweDate.getDeltaT(tjd_ut);
+    te = tjd_ut + SweDate.getDeltaT(swed, tjd_ut);
     sw.swe_set_topo(geolon, geolat, geohgt);
     if (calc_planet_star(te, ipl, starname, iflag, ls, serr) == SweConst.ERR) {
       return SweConst.ERR;
@@ -1262,7 +1262,7 @@ final class Swecl {
     boolean dont_times = false;
     int iflag, iflagcart;
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_start, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_start, ifl, 0);
     iflag = SweConst.SEFLG_EQUATORIAL | ifl;
     iflagcart = iflag | SweConst.SEFLG_XYZ;
     if (ifltype == (SweConst.SE_ECL_PARTIAL | SweConst.SE_ECL_CENTRAL)) {
@@ -1359,9 +1359,9 @@ final class Swecl {
         find_maximum(dc[0], dc[1], dc[2], dt, dtint, dctr);
         tjd += dtint.val + dt;
       }
-      tjds = tjd - SweDate.getDeltaT(tjd);
-      tjds = tjd - SweDate.getDeltaT(tjds);
-      tjds = tjd = tjd - SweDate.getDeltaT(tjds);
+      tjds = tjd - SweDate.getDeltaT(swed, tjd);
+      tjds = tjd - SweDate.getDeltaT(swed, tjds);
+      tjds = tjd = tjd - SweDate.getDeltaT(swed, tjds);
       if ((retflag = eclipse_where(tjd, SweConst.SE_SUN, null, ifl, geopos, dcore, serr)) ==
                                                                  SweConst.ERR) {
         return retflag;
@@ -1546,7 +1546,7 @@ final class Swecl {
       k = 2;
       for (i = 0; i < 2; i++) {
         j = i + k;
-        tt = tret[j] + SweDate.getDeltaT(tret[j]);
+        tt = tret[j] + SweDate.getDeltaT(swed, tret[j]);
         if (sw.swe_calc(tt, SweConst.SE_SUN, iflag, ls, serr) == SweConst.ERR) {
           return SweConst.ERR;
         }
@@ -1571,7 +1571,7 @@ final class Swecl {
             dt > 0.01;
             j++, dt /= 3) {
           for (i = 0, t = tjd; i <= 1; i++, t -= dt) {
-            tt = t + SweDate.getDeltaT(t);
+            tt = t + SweDate.getDeltaT(swed, t);
             if (sw.swe_calc(tt, SweConst.SE_SUN, iflag, ls, serr) ==
                                                                  SweConst.ERR) {
               return SweConst.ERR;
@@ -1704,7 +1704,7 @@ final class Swecl {
       ipl = SweConst.SE_PLUTO;
     }
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_start, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_start, ifl, 0);
     iflag = SweConst.SEFLG_EQUATORIAL | ifl;
     iflagcart = iflag | SweConst.SEFLG_XYZ;
     backward &= 1L;
@@ -1811,7 +1811,7 @@ final class Swecl {
         find_maximum(dc[0], dc[1], dc[2], dt, dtint, dctr);
         tjd += dtint.val + dt;
       }
-      tjd -= SweDate.getDeltaT(tjd);
+      tjd -= SweDate.getDeltaT(swed, tjd);
       tjds = tjd;
       if ((retflag = eclipse_where(tjd, ipl, starname, ifl, geopos, dcore, serr)) == SweConst.ERR)
         return retflag;
@@ -2033,7 +2033,7 @@ final class Swecl {
       k = 2;
       for (i = 0; i < 2; i++) {
         j = i + k;
-        tt = tret[j] + SweDate.getDeltaT(tret[j]);
+        tt = tret[j] + SweDate.getDeltaT(swed, tret[j]);
         if (calc_planet_star(tt, ipl, starname, iflag, ls, serr) == SweConst.ERR)
             return SweConst.ERR;
         if (sw.swe_calc(tt, SweConst.SE_MOON, iflag, lm, serr) == SweConst.ERR)
@@ -2054,7 +2054,7 @@ final class Swecl {
              dt > 0.01;
              j++, dt /= 3) {
           for (i = 0, t = tjd; i <= 1; i++, t -= dt) {
-            tt = t + SweDate.getDeltaT(t);
+            tt = t + SweDate.getDeltaT(swed, t);
             if (calc_planet_star(tt, ipl, starname, iflag, ls, serr) == SweConst.ERR)
               return SweConst.ERR;
             if (sw.swe_calc(tt, SweConst.SE_MOON, iflag, lm, serr) == SweConst.ERR)
@@ -2196,7 +2196,7 @@ final class Swecl {
       return SweConst.ERR;
     }
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_start, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_start, ifl, 0);
     if ((retflag = eclipse_when_loc(tjd_start, ifl, geopos, tret, attr,
                                                         backward, serr)) <= 0) {
       return retflag;
@@ -2259,7 +2259,7 @@ final class Swecl {
       ipl = SweConst.SE_PLUTO;
     }
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_start, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_start, ifl, 0);
     if ((retflag = occult_when_loc(tjd_start, ipl, starname, ifl, geopos, tret, attr, backward, serr)) <= 0)
       return retflag;
     /*
@@ -2413,8 +2413,8 @@ final class Swecl {
         }
         continue;
       }
-      tret[0] = tjd - SweDate.getDeltaT(tjd);
-      tret[0] = tjd - SweDate.getDeltaT(tret[0]);
+      tret[0] = tjd - SweDate.getDeltaT(swed, tjd);
+      tret[0] = tjd - SweDate.getDeltaT(swed, tret[0]);
       if ((backward!=0 && tret[0] >= tjd_start - 0.0001)
         || (backward==0 && tret[0] <= tjd_start + 0.0001)) {
         if (backward!=0) {
@@ -2499,8 +2499,8 @@ final class Swecl {
             tret[j] += dt1.val;
           }
         }
-        tret[2] -= SweDate.getDeltaT(tret[2]);
-        tret[3] -= SweDate.getDeltaT(tret[3]);
+        tret[2] -= SweDate.getDeltaT(swed, tret[2]);
+        tret[3] -= SweDate.getDeltaT(swed, tret[3]);
       }
       /* contacts 1 and 4 */
       dc[1] = rsplusrm - dctrmin;
@@ -2563,8 +2563,8 @@ final class Swecl {
           tret[j] += dt1.val;
         }
       }
-      tret[1] -= SweDate.getDeltaT(tret[1]);
-      tret[4] -= SweDate.getDeltaT(tret[4]);
+      tret[1] -= SweDate.getDeltaT(swed, tret[1]);
+      tret[4] -= SweDate.getDeltaT(swed, tret[4]);
       /*
        * visibility of eclipse phases
        */
@@ -2800,8 +2800,8 @@ final class Swecl {
 //    goto next_try;
         continue;
       }
-      tret[0] = tjd - SweDate.getDeltaT(tjd);
-      tret[0] = tjd - SweDate.getDeltaT(tret[0]);
+      tret[0] = tjd - SweDate.getDeltaT(swed, tjd);
+      tret[0] = tjd - SweDate.getDeltaT(swed, tret[0]);
       if ((backward!=0 && tret[0] >= tjd_start - 0.0001) 
           || (backward==0 && tret[0] <= tjd_start + 0.0001)) {
         /* t = tjd + direction;*/
@@ -2877,8 +2877,8 @@ final class Swecl {
             tret[j] += dt1.val;
           }
         }
-        tret[2] -= SweDate.getDeltaT(tret[2]);
-        tret[3] -= SweDate.getDeltaT(tret[3]);
+        tret[2] -= SweDate.getDeltaT(swed, tret[2]);
+        tret[3] -= SweDate.getDeltaT(swed, tret[3]);
       }
       /* contacts 1 and 4 */
       dc[1] = rsplusrm - dctrmin;
@@ -2931,8 +2931,8 @@ final class Swecl {
           tret[j] += dt1.val;
         }
       }
-      tret[1] -= SweDate.getDeltaT(tret[1]);
-      tret[4] -= SweDate.getDeltaT(tret[4]);
+      tret[1] -= SweDate.getDeltaT(swed, tret[1]);
+      tret[4] -= SweDate.getDeltaT(swed, tret[4]);
       /*  
        * visibility of eclipse phases 
        */
@@ -3053,7 +3053,7 @@ final class Swecl {
       xra[i] = xin[i];
     xra[2] = 1;
     if (calc_flag == SweConst.SE_ECL2HOR) {
-          tjd_et = tjd_ut + SweDate.getDeltaT(tjd_ut);
+          tjd_et = tjd_ut + SweDate.getDeltaT(swed, tjd_ut);
       sw.swe_calc(tjd_et, SweConst.SE_ECL_NUT, 0, x, null);
       eps_true = x[0];
           sl.swe_cotrans(xra, 0, xra, 0, -eps_true);
@@ -3129,7 +3129,7 @@ final class Swecl {
     xout[1] = xaz[1];
     /* ecliptic positions */
     if (calc_flag == SweConst.SE_HOR2ECL) {
-      tjd_et = tjd_ut + SweDate.getDeltaT(tjd_ut);
+      tjd_et = tjd_ut + SweDate.getDeltaT(swed, tjd_ut);
       sw.swe_calc(tjd_et, SweConst.SE_ECL_NUT, 0, x, null);
       eps_true = x[0];
       sl.swe_cotrans(xaz, 0, x, 0, eps_true);
@@ -3446,7 +3446,7 @@ final class Swecl {
     }
     ifl = ifl & ~SweConst.SEFLG_TOPOCTR;
     ifl &= ~(SweConst.SEFLG_JPLHOR | SweConst.SEFLG_JPLHOR_APPROX);
-    SweDate.swi_set_tid_acc(tjd_ut, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_ut, ifl, 0);
     retc = lun_eclipse_how(tjd_ut, ifl, attr, dcore, serr);
     if (geopos == null) {
       return retc;
@@ -3497,7 +3497,7 @@ final class Swecl {
      * if mean sidereal time will be used */
     iflag = SweConst.SEFLG_SPEED | SweConst.SEFLG_EQUATORIAL | ifl;
     iflag  = iflag | SweConst.SEFLG_XYZ;
-    deltat = SweDate.getDeltaT(tjd_ut);
+    deltat = SweDate.getDeltaT(swed, tjd_ut);
     tjd = tjd_ut + deltat;
     /* moon in cartesian coordinates */
     if (sw.swe_calc(tjd, SweConst.SE_MOON, iflag, rm, serr) == SweConst.ERR) {
@@ -3670,7 +3670,7 @@ final class Swecl {
     int iflag;
     int iflagcart;
     ifl &= SweConst.SEFLG_EPHMASK;
-    SweDate.swi_set_tid_acc(tjd_start, ifl, 0);
+    SweDate.swi_set_tid_acc(sw, tjd_start, ifl, 0);
     iflag = SweConst.SEFLG_EQUATORIAL | ifl;
     iflagcart = iflag | SweConst.SEFLG_XYZ;
     if (ifltype == 0) {
@@ -3784,9 +3784,9 @@ final class Swecl {
         find_maximum(dc[0], dc[1], dc[2], dt, dtint, dctr);
         tjd += dtint.val + dt;
       }
-      tjd2 = tjd - SweDate.getDeltaT(tjd);
-      tjd2 = tjd - SweDate.getDeltaT(tjd2);
-      tjd = tjd - SweDate.getDeltaT(tjd2);
+      tjd2 = tjd - SweDate.getDeltaT(swed, tjd);
+      tjd2 = tjd - SweDate.getDeltaT(swed, tjd2);
+      tjd = tjd - SweDate.getDeltaT(swed, tjd2);
       if ((retflag = swe_lun_eclipse_how(tjd, ifl, null, attr, serr)) ==
                                                                  SweConst.ERR) {
         return retflag;
@@ -4304,8 +4304,8 @@ final class Swecl {
   */
   int swe_pheno_ut(double tjd_ut, int ipl, int iflag, double[] attr,
                    StringBuilder serr) {
-    SweDate.swi_set_tid_acc(tjd_ut, iflag, 0);
-    return swe_pheno(tjd_ut + SweDate.getDeltaT(tjd_ut), ipl, iflag, attr, serr);
+    SweDate.swi_set_tid_acc(sw, tjd_ut, iflag, 0);
+    return swe_pheno(tjd_ut + SweDate.getDeltaT(swed, tjd_ut), ipl, iflag, attr, serr);
   }
 
   private int find_maximum(double y00, double y11, double y2, double dx,
@@ -4433,7 +4433,7 @@ final class Swecl {
                  StringBuilder serr)
   {
     int i, j, k, ii, calc_culm, nculm = -1;
-    double tjd_et = tjd_ut + SweDate.getDeltaT(tjd_ut);
+    double tjd_et = tjd_ut + SweDate.getDeltaT(swed, tjd_ut);
     double xc[]=new double[6], xh[][]=new double[20][6], ah[]=new double[6],
            aha;
     double tculm[]=new double[4], tcu, tc[]=new double[20], h[]=new double[20],
@@ -4454,7 +4454,7 @@ final class Swecl {
       }
       return SweConst.ERR;
     }
-    SweDate.swi_set_tid_acc(tjd_ut, epheflag, 0);  
+    SweDate.swi_set_tid_acc(sw, tjd_ut, epheflag, 0);  
     /* function calls for Pluto with asteroid number 134340
      * are treated as calls for Pluto as main body SE_PLUTO */
     if (ipl == SweConst.SE_AST_OFFSET + 134340) {
@@ -4497,7 +4497,7 @@ final class Swecl {
     for (ii = 0, t = tjd_ut - twohrs; ii <= jmax; ii++, t += twohrs) {
       tc[ii] = t;
       if (!do_fixstar) {
-        te = t + SweDate.getDeltaT(t);
+        te = t + SweDate.getDeltaT(swed, t);
         if (sw.swe_calc(te, ipl, iflag, xc, serr) == SweConst.ERR) {
           return SweConst.ERR;
         }
@@ -4567,7 +4567,7 @@ final class Swecl {
         dt /= 3;
         for (; dt > 0.0001; dt /= 3) {
           for (i = 0, tt = tcu - dt; i < 3; tt += dt, i++) {
-            te = tt + SweDate.getDeltaT(tt);
+            te = tt + SweDate.getDeltaT(swed, tt);
             if (!do_fixstar) {
               if (sw.swe_calc(te, ipl, iflag, xc, serr) == SweConst.ERR) {
                 return SweConst.ERR;
@@ -4597,7 +4597,7 @@ final class Swecl {
           }
           tc[j] = tculm[i];
           if (!do_fixstar) {
-            te = tc[j] + SweDate.getDeltaT(tc[j]);
+            te = tc[j] + SweDate.getDeltaT(swed, tc[j]);
             if (sw.swe_calc(te, ipl, iflag, xc, serr) == SweConst.ERR) {
               return SweConst.ERR;
             }
@@ -4657,7 +4657,7 @@ final class Swecl {
       for (i = 0; i < 20; i++) {
         t = (t2[0] + t2[1]) / 2;
         if (!do_fixstar) {
-          te = t + SweDate.getDeltaT(t);
+          te = t + SweDate.getDeltaT(swed, t);
           if (sw.swe_calc(te, ipl, iflag, xc, serr) == SweConst.ERR) {
             return SweConst.ERR;
           }
@@ -4716,7 +4716,7 @@ final class Swecl {
                              double[] geopos, StringBuilder starname,
                              DblObj tret, StringBuilder serr) {
     int i;
-    double tjd_et = tjd_ut + SweDate.getDeltaT(tjd_ut);
+    double tjd_et = tjd_ut + SweDate.getDeltaT(swed, tjd_ut);
     double armc, armc0, arxc, x0[]=new double[6], x[]=new double[6], t, te;
     double mdd;
     int iflag = epheflag;
@@ -4771,7 +4771,7 @@ final class Swecl {
         }
         if (!do_fixstar) {
   //        te = t + swe_deltat(t);
-          te = t + SweDate.getDeltaT(t);
+          te = t + SweDate.getDeltaT(swed, t);
           if (sw.swe_calc(te, ipl, iflag, x, serr) == SweConst.ERR) {
             return SweConst.ERR;
           }
@@ -5806,8 +5806,8 @@ final class Swecl {
                      double[] xnasc, double[] xndsc,
                      double[] xperi, double[] xaphe,
                      StringBuilder serr) {
-    SweDate.swi_set_tid_acc(tjd_ut, iflag, 0);
-    return swe_nod_aps(tjd_ut + SweDate.getDeltaT(tjd_ut),
+    SweDate.swi_set_tid_acc(sw, tjd_ut, iflag, 0);
+    return swe_nod_aps(tjd_ut + SweDate.getDeltaT(swed, tjd_ut),
                         ipl, iflag, method, xnasc, xndsc, xperi, xaphe,
                         serr);
   }
@@ -5862,7 +5862,7 @@ final class Swecl {
      * geometrically from ecl. longitude and latitude 
      */
     if (imeth == 0 || imeth == 1) {
-      t_et = t_ut + SweDate.getDeltaT(t_ut);
+      t_et = t_ut + SweDate.getDeltaT(swed, t_ut);
       eps = sl.swi_epsiln(t_et, iflag) * SwissData.RADTODEG;
       sl.swi_nutation(t_et, iflag, nutlo);
       nutlo[0] *= SwissData.RADTODEG;
@@ -207,6 +207,9 @@ final class SwissData {
   boolean geopos_is_set=false;		/* geopos_is_set, for topocentric */
   boolean ayana_is_set=false;		/* ayana_is_set, ayanamsa is set */
   boolean is_old_starfile=false;	/* is_old_starfile, fixstars.cat is used (default is sefstars.txt) */
+  double tid_acc=SweConst.SE_TIDAL_DEFAULT;	/* tid_acc, tidal acceleration of the Moon */
+  boolean is_tid_acc_manual=false;	/* is_tid_acc_manual, tid_acc set by swe_set_tid_acc() */
+  double delta_t_userdef=SweConst.SE_DELTAT_AUTOMATIC;	/* delta_t_userdef, set by swe_set_delta_t_userdef() */
 
   final GenConst gcdat;
   final FileData[] fidat = new FileData[SwephData.SEI_NEPHFILES];
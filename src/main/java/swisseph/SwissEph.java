@@ -119,6 +119,7 @@ public class SwissEph implements ISwissEph {
   SweHouse sh=null;
   SweHel shl=null;
   Swecl sc=null;
+  private volatile TransitSpeeds transitSpeeds = TransitSpeeds.SHARED;
   
     @Override
     public boolean isNativeAPI() {
@@ -280,8 +281,8 @@ public class SwissEph implements ISwissEph {
   * This is the main calculation routine for all planets, asteroids, lunar
   * nodes and apogees.
   * See swe_calc(...) for more information.<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The Julian Day number in UT (Universal Time).
   * @param ipl The body to be calculated. See
   * <A HREF="SweConst.html">SweConst</A> for a list of bodies
@@ -295,15 +296,15 @@ public class SwissEph implements ISwissEph {
   * @return iflag or SweConst.ERR (-1); iflag MAY have changed from input
   * parameter!
   * @see SwissEph#swe_calc(double, int, int, double[], java.lang.StringBuilder)
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_calc_ut(double tjd_ut, int ipl, int iflag, double xx[],
                          StringBuilder serr) {
     double deltat;
     int retval = SweConst.OK;
-    SweDate.swi_set_tid_acc(tjd_ut, iflag, 0);  
-    deltat = SweDate.getDeltaT(tjd_ut);
+    SweDate.swi_set_tid_acc(this, tjd_ut, iflag, 0);  
+    deltat = SweDate.getDeltaT(swed, tjd_ut);
     retval = swe_calc(tjd_ut + deltat, ipl, iflag, xx, serr);
     return retval;
   }
@@ -366,8 +367,8 @@ public class SwissEph implements ISwissEph {
   /**
   * This method will probably be deprecated some time in future or change
   * parameters. Use swe_calc() or swe_calc_ut() instead.
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param jdET The Julian Day number in ET (UT + deltaT).
   * @param ipl The body to be calculated. See
   * <A HREF="SweConst.html">SweConst</A> for a list of bodies
@@ -632,7 +633,7 @@ public class SwissEph implements ISwissEph {
       }
       swed.fixfp = null;
     }
-    SweDate.swe_set_tid_acc(SweConst.SE_TIDAL_AUTOMATIC);
+    SweDate.swe_set_tid_acc(swed, SweConst.SE_TIDAL_AUTOMATIC);
     swed.geopos_is_set = false;
     swed.ayana_is_set = false;
     swed.is_old_starfile = false;
@@ -663,8 +664,8 @@ public class SwissEph implements ISwissEph {
   * http://th-mack.de/datafiles.<P><B>Note: Opposed to the behaviour of
   * the C version, the Java version does not evaluate environment variables.
   * This is also true for the environment variable SE_EPHE_PATH!</B><BR>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param path The search path for the Swiss Ephemeris
   * and JPL
   * data files. If null or empty, a default path will be used.
@@ -673,7 +674,7 @@ public class SwissEph implements ISwissEph {
   * as <code>&quot;C\\:\\swiss\\ephe&quot;</code>.
   * You can specify multiple path elements separated by the (unquoted) ':' or
   * ';' character.
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public void swe_set_ephe_path(String path) {
@@ -705,7 +706,7 @@ if(path == null) return;
     iflag = SweConst.SEFLG_SWIEPH|SweConst.SEFLG_J2000|SweConst.SEFLG_TRUEPOS|SweConst.SEFLG_ICRS;
     swe_calc(SwephData.J2000, SweConst.SE_MOON, iflag, xx, null);
     if (swed.fidat[SwephData.SEI_FILE_MOON].fptr != null) {
-      SweDate.swi_set_tid_acc(0, 0, swed.fidat[SwephData.SEI_FILE_MOON].sweph_denum);
+      SweDate.swi_set_tid_acc(this, 0, 0, swed.fidat[SwephData.SEI_FILE_MOON].sweph_denum);
     }
   }
 
@@ -947,6 +948,10 @@ if(path == null) return;
     if (sid_mode < 0)
       sid_mode = 0;
     SidData sip = swed.sidd;
+    // the same mode again keeps the positions calculated so far, see swe_set_topo()
+    boolean wasSet = swed.ayana_is_set;
+    int lastMode = sip.sid_mode;
+    double lastT0 = sip.t0, lastAyanT0 = sip.ayan_t0;
     sip.sid_mode = sid_mode;
     if (sid_mode >= SweConst.SE_SIDBITS) {
       sid_mode %= SweConst.SE_SIDBITS;
@@ -970,9 +975,17 @@ if(path == null) return;
       sip.t0 = SwephData.ayanamsa[sid_mode].t0;
       sip.ayan_t0 = SwephData.ayanamsa[sid_mode].ayan_t0;
     }
+    if (wasSet && sip.sid_mode == lastMode && sip.t0 == lastT0 && sip.ayan_t0 == lastAyanT0) {
+      return;
+    }
     swi_force_app_pos_etc();
   }
 
+  @Override
+  public int swe_get_sid_mode() {
+    return swed.sidd.sid_mode;
+  }
+
   /* the ayanamsa (precession in longitude)
    * according to Newcomb's definition: 360 -
    * longitude of the vernal point of t referred to the
@@ -1042,7 +1055,7 @@ if(path == null) return;
   */
   @Override
   public double swe_get_ayanamsa_ut(double tjd_ut) {
-    return swe_get_ayanamsa(tjd_ut + SweDate.getDeltaT(tjd_ut));
+    return swe_get_ayanamsa(tjd_ut + SweDate.getDeltaT(swed, tjd_ut));
   }
 
   /**
@@ -1150,8 +1163,8 @@ if(path == null) return;
   * sefstars.txt.<BR>
   * On Output it returns the complete name (traditional plus nomenclature
   * name), e.g. "<CODE>Alpheratz,alAnd</CODE>".<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd The Julian Day in ET
   * @param iflag Any of the SweConst.SEFLG_* flags
   * @param xx A double[6] used as output parameter only. This returns
@@ -1165,7 +1178,7 @@ if(path == null) return;
   * parameter!
   * @see #swe_fixstar(java.lang.StringBuilder, double, int, double[], java.lang.StringBuilder)
   * @see #preloadFixstarsFile(java.lang.StringBuilder)
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_fixstar(StringBuilder star, double tjd, int iflag, double xx[],
@@ -1382,8 +1395,8 @@ String slast_starname;
   * sefstars.txt.<BR>
   * On Output it returns the complete name (traditional plus nomenclature
   * name), e.g. "<CODE>Alpheratz,alAnd</CODE>".<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The Julian Day in UT
   * @param iflag Any of the SweConst.SEFLG_* flags
   * @param xx A double[6] used as output parameter only. This returns
@@ -1397,13 +1410,13 @@ String slast_starname;
   * parameter!
   * @see #swe_fixstar(java.lang.StringBuilder, double, int, double[], java.lang.StringBuilder)
   * @see #preloadFixstarsFile(java.lang.StringBuilder)
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_fixstar_ut(StringBuilder star, double tjd_ut, int iflag,
                             double[] xx, StringBuilder serr) {
-    SweDate.swi_set_tid_acc(tjd_ut, iflag, 0);  
-    return swe_fixstar(star, tjd_ut + SweDate.getDeltaT(tjd_ut),
+    SweDate.swi_set_tid_acc(this, tjd_ut, iflag, 0);  
+    return swe_fixstar(star, tjd_ut + SweDate.getDeltaT(swed, tjd_ut),
                        iflag, xx, serr);
   }
 
@@ -1668,6 +1681,14 @@ String slast_starname;
   */
   @Override
   public void swe_set_topo(double geolon, double geolat, double geoalt) {
+    // as in the C library: the same position again keeps the positions
+    // calculated so far, e.g. for many charts of one place
+    if (swed.geopos_is_set
+        && swed.topd.geolon == geolon
+        && swed.topd.geolat == geolat
+        && swed.topd.geoalt == geoalt) {
+      return;
+    }
     swed.topd.geolon = geolon;
     swed.topd.geolat = geolat;
     swed.topd.geoalt = geoalt;
@@ -1780,8 +1801,8 @@ String slast_starname;
   * <I>Not yet implemented.</I><BR>
   * attr[7]:&nbsp;&nbsp;&nbsp;distance of moon from opposition in degrees
   * </CODE></BLOCKQUOTE><P><B>Attention: attr must be a double[20]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The Julian Day number in UT
   * @param ifl To indicate, which ephemeris should be used (SEFLG_JPLEPH,
   * SEFLG_SWIEPH or SEFLG_MOSEPH)
@@ -1802,7 +1823,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_TOTAL
   * @see SweConst#SE_ECL_PENUMBRAL
   * @see SweConst#SE_ECL_PARTIAL
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_lun_eclipse_how(double tjd_ut, int ifl, double[] geopos, double[] attr, StringBuilder serr) {
@@ -1822,8 +1843,8 @@ String slast_starname;
   * tret[6]:&nbsp;&nbsp;&nbsp;time of the begin of center line.<BR>
   * tret[7]:&nbsp;&nbsp;&nbsp;time of the end of center line<BR>
   * </CODE><P><B>Attention: tret must be a double[10]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_start The Julian Day number in UT, from when to start searching
   * @param ifl To indicate, which ephemeris should be used (SEFLG_JPLEPH,
   * SEFLG_SWIEPH or SEFLG_MOSEPH)
@@ -1859,7 +1880,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_ANNULAR_TOTAL
   * @see SweConst#SE_ECL_CENTRAL
   * @see SweConst#SE_ECL_NONCENTRAL
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_lun_eclipse_when(double tjd_start, int ifl, int ifltype, double[] tret, int backward, StringBuilder serr) {
@@ -1896,7 +1917,7 @@ String slast_starname;
   * @see SweConst#SE_NODBIT_OSCU
   * @see SweConst#SE_NODBIT_OSCU_BAR
   * @see SweConst#SE_NODBIT_FOPOINT
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_nod_aps(double tjd_et, int ipl, int iflag, int  method, double[] xnasc, double[] xndsc,
@@ -1909,8 +1930,8 @@ String slast_starname;
   * points of the orbital ellipses). This method is identical to
   * swe_nod_aps() with the one exception that the time has to be given
   * in UT (Universal Time) and not in ET (Ephemeris Time or Dynamical Time).<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The time in UT
   * @param ipl Planet number
   * @param iflag Any of the SEFLG_* flags
@@ -1934,7 +1955,7 @@ String slast_starname;
   * @see SweConst#SE_NODBIT_OSCU
   * @see SweConst#SE_NODBIT_OSCU_BAR
   * @see SweConst#SE_NODBIT_FOPOINT
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_nod_aps_ut(double tjd_ut, int ipl, int iflag, int  method, double[] xnasc, double[] xndsc,
@@ -1960,8 +1981,8 @@ String slast_starname;
   * attr[3]:&nbsp;&nbsp;&nbsp;apparent diameter of disc.<BR>
   * attr[4]:&nbsp;&nbsp;&nbsp;apparent magnitude.<BR>
   * </CODE></BLOCKQUOTE><P><B>Attention: attr must be a double[20]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd The Julian Day number in ET.
   * @param ipl The body number to be calculated. See class
   * <A HREF="SweConst.html">SweConst</A> for a list of bodies (SE_*)
@@ -1980,7 +2001,7 @@ String slast_starname;
   * @see SweConst#SEFLG_MOSEPH
   * @see SweConst#SEFLG_TRUEPOS
   * @see SweConst#SEFLG_HELCTR
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_pheno(double tjd, int ipl, int iflag, double[] attr, StringBuilder serr) {
@@ -1998,8 +2019,8 @@ String slast_starname;
   * attr[3]:&nbsp;&nbsp;&nbsp;apparent diameter of disc.<BR>
   * attr[4]:&nbsp;&nbsp;&nbsp;apparent magnitude.<BR>
   * </CODE></BLOCKQUOTE><P><B>Attention: attr must be a double[20]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The Julian Day number in UT (Universal Time).
   * @param ipl The body number to be calculated. See class
   * <A HREF="SweConst.html">SweConst</A> for a list of bodies (SE_*)
@@ -2017,7 +2038,7 @@ String slast_starname;
   * @see SweConst#SEFLG_MOSEPH
   * @see SweConst#SEFLG_TRUEPOS
   * @see SweConst#SEFLG_HELCTR
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_pheno_ut(double tjd_ut, int ipl, int iflag, double[] attr, StringBuilder serr) {
@@ -2117,7 +2138,7 @@ String slast_starname;
   /**
   * Same as swe_rise_trans(), but allows to define the height of the horizon
   * at the point of the rising or setting (horhgt) in degree.<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The Julian Day number in UT, from when to start searching
   * @param ipl Planet number, if times for planet or moon are to be calculated.
   * @param starname The name of the star, if times for a star should be
@@ -2157,7 +2178,7 @@ String slast_starname;
   * @see SweConst#SE_BIT_DISC_CENTER
   * @see SweConst#SE_BIT_NO_REFRACTION
   * @see DblObj
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   public int swe_rise_trans_true_hor(double tjd_ut, int ipl, StringBuilder starname, int epheflag, int rsmi,
                  double[] geopos, double atpress, double attemp, double horhgt, DblObj tret, StringBuilder serr) {
@@ -2179,8 +2200,8 @@ String slast_starname;
   * attr[6]:&nbsp;&nbsp;&nbsp;apparent altitude of sun above horizon at tjd<BR>
   * attr[7]:&nbsp;&nbsp;&nbsp;angular distance of moon from sun in degrees
   * </CODE></BLOCKQUOTE><p><B>Attention: attr must be a double[20]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The Julian Day number in UT
   * @param ifl To indicate, which ephemeris should be used (SEFLG_JPLEPH,
   * SEFLG_SWIEPH or SEFLG_MOSEPH)
@@ -2202,7 +2223,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_PARTIAL
   * @see SweConst#SEFLG_JPLEPH
   * @see SweConst#SEFLG_MOSEPH
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_sol_eclipse_how(double tjd_ut, int ifl, double[] geopos, double[] attr, StringBuilder serr) {
@@ -2227,8 +2248,8 @@ String slast_starname;
   * tret[9]:&nbsp;&nbsp;&nbsp;time, when annular-total eclipse becomes annular
   * again -- <I>Not yet implemented.</I>
   * </CODE></BLOCKQUOTE><P><B>Attention: tret must be a double[10]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_start The Julian Day number in UT, from when to start searching
   * @param ifl To indicate, which ephemeris should be used (SEFLG_JPLEPH,
   * SEFLG_SWIEPH or SEFLG_MOSEPH)
@@ -2255,7 +2276,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_CENTRAL
   * @see SweConst#SEFLG_JPLEPH
   * @see SweConst#SEFLG_MOSEPH
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_sol_eclipse_when_glob(double tjd_start, int ifl, int ifltype, double tret[], int backward, StringBuilder serr) {
@@ -2290,8 +2311,8 @@ String slast_starname;
   * attr[6]:&nbsp;&nbsp;&nbsp;apparent altitude of sun above horizon at tjd.<BR>
   * attr[7]:&nbsp;&nbsp;&nbsp;elongation of moon in degrees.<BR>
   * </CODE><P><B>Attention: attr must be a double[20]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_start The Julian Day number in UT, from when to start searching
   * @param ifl To indicate, which ephemeris should be used (SEFLG_JPLEPH,
   * SEFLG_SWIEPH or SEFLG_MOSEPH)
@@ -2327,7 +2348,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_4TH_VISIBLE
   * @see SweConst#SEFLG_JPLEPH
   * @see SweConst#SEFLG_MOSEPH
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_sol_eclipse_when_loc(double tjd_start, int ifl, double[] geopos, double[] tret,
@@ -2356,8 +2377,8 @@ String slast_starname;
   * attr[7]:&nbsp;&nbsp;&nbsp;angular distance of moon from sun in degrees
   * </CODE></BLOCKQUOTE><P><B>ATTENTION: geopos must be a double[10], attr
   * a double[20]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut The Julian Day number in UT
   * @param ifl To indicate, which ephemeris should be used (SEFLG_JPLEPH,
   * SEFLG_SWIEPH or SEFLG_MOSEPH)
@@ -2382,7 +2403,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_PARTIAL
   * @see SweConst#SEFLG_JPLEPH
   * @see SweConst#SEFLG_MOSEPH
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_sol_eclipse_where(double tjd_ut, int ifl, double[] geopos, double[] attr, StringBuilder serr) {
@@ -2433,8 +2454,8 @@ String slast_starname;
   * attr[6]:&nbsp;&nbsp;&nbsp;apparent altitude of sun above horizon at tjd.<BR>
   * attr[7]:&nbsp;&nbsp;&nbsp;elongation of moon in degrees.<BR>
   * </CODE><P><B>Attention: attr must be a double[20]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_start The Julian Day number in UT, from when to start searching
   * @param ipl Planet number of the occulted planet. See SE_SUN etc. for the
   * planet numbers.
@@ -2484,7 +2505,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_ONE_TRY
   * @see SweConst#SEFLG_JPLEPH
   * @see SweConst#SEFLG_MOSEPH
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_lun_occult_when_loc(double tjd_start, int ipl, StringBuilder starname, int ifl,
@@ -2533,8 +2554,8 @@ String slast_starname;
   * @param starname The fixstar, whose occultation by the moon should be
   * searched. See swe_fixstar() for details. It has to be null or the empty
   * string, if a planet (see parameter ipl) is to be searched.<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param ifl To indicate, which ephemeris should be used (SEFLG_JPLEPH,
   * SEFLG_SWIEPH or SEFLG_MOSEPH)
   * @param geopos A double[10], on return containing the geographic positions.
@@ -2561,7 +2582,7 @@ String slast_starname;
   * SweConst.SE_ECL_PARTIAL<br>
   * @see #swe_sol_eclipse_where(double, int, double[], double[], java.lang.StringBuilder)
   * @see #swe_fixstar_ut(StringBuilder, double, int, double[], StringBuilder)
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_lun_occult_where(double tjd_ut, int ipl, StringBuilder starname, int ifl, double[] geopos,
@@ -2636,8 +2657,8 @@ String slast_starname;
   * tret[9]:&nbsp;&nbsp;&nbsp;time, when annular-total eclipse becomes annular
   * again -- <I>Not yet implemented.</I>
   * </CODE></BLOCKQUOTE><P><B>Attention: tret must be a double[10]!</B><br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_start The Julian Day number in UT, from when to start searching
   * @param ipl planet number of occulted body
   * @param starname name of occulted star. Must be null or &quot;&quot;, if
@@ -2676,7 +2697,7 @@ String slast_starname;
   * @see SweConst#SE_ECL_NONCENTRAL
   * @see SweConst#SEFLG_JPLEPH
   * @see SweConst#SEFLG_MOSEPH
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_lun_occult_when_glob(double tjd_start, int ipl, StringBuilder starname, int ifl, int ifltype,
@@ -2812,6 +2833,21 @@ String slast_starname;
     return getSweHouse().swe_house_pos(armc, geolat, eps, hsys, xpin, serr);
   }
 
+  /**
+  * The house positions of many points for one ARMC, latitude and obliquity. The terms the
+  * house system derives from those three alone are computed once for all points.
+  * @param xlon tropical ecliptic longitudes
+  * @param xlat ecliptic latitudes, null for points on the ecliptic
+  * @param hpos the house positions are returned here, 0 where one cannot be given
+  * @return SweConst.OK, or SweConst.ERR if a position could not be given
+  * @see #swe_house_pos(double, double, double, int, double[], StringBuilder)
+  */
+  @Override
+  public int swe_house_pos(double armc, double geolat, double eps, int hsys,
+                           double[] xlon, double[] xlat, double[] hpos, StringBuilder serr) {
+    return getSweHouse().swe_house_pos(armc, geolat, eps, hsys, xlon, xlat, hpos, serr);
+  }
+
 
   /**
   * Calculates the house positions and other vital points. You would use
@@ -2941,26 +2977,43 @@ String slast_starname;
   }
 
   /**
-  * -- NOT YET IMPLEMENTED -- File to read from and write to the maximum and minimum speeds of planets
+  * File to read from and write to the maximum and minimum speeds of planets
   * and other objects.<br>
   * If the maximum and minimum speeds of a transit object is not known, the
-  * routines calculate some number of random speeds to get an idea of the
+  * routines calculate the speeds at some number of dates to get an idea of the
   * extreme speeds. This is necessary, as one cannot find out about transits,
   * if one doesn't have some idea about their movement.<br>
-  * If the transit speeds file is set, the transit routines will read the
-  * extreme speeds from this file and write findings due to the random
-  * calculations done on initialization of the TransitCalculator to this
-  * file, so the results may become more reliable and the calculations
-  * faster with time.<br>
-  * This method throws IOException if the file cannot be read (or found) or
-  * isn't writeable, if param <code>writeable</code> is true.
+  * These speeds are kept for the whole process anyway, so only the first
+  * TransitCalculator of an object and flags pays for them. If the transit
+  * speeds file is set, the transit routines will read the extreme speeds
+  * from this file and write findings due to the random calculations done on
+  * initialization of the TransitCalculator to this file, so the results may
+  * become more reliable and the calculations faster with time. Speeds found
+  * before the file was set are written to it as well.<br>
+  * The file holds one line <code>planet index flags samples min max</code>
+  * per object and flags, lines starting with '#' are comments.<br>
+  * This method throws a SwissephException if the file cannot be read (or
+  * found) or isn't writeable, if param <code>writeable</code> is true.
   * @param fname The filename to be used. It should be writable, so the
-  * extreme speed values can be further improved.
+  * extreme speed values can be further improved. It may not exist yet, if
+  * <code>writeable</code> is true. Null returns to the speeds of the process,
+  * which take nothing over from the file.
   * @param writeable Say true here, if the file should be improved by newly
   * calculated values, false otherwise. It will be a good idea to keep it
   * writeable.
   */
   public void setTransitSpeedsfile(String fname, boolean writeable) {
+    if ( null == fname ) {
+      transitSpeeds = TransitSpeeds.SHARED;
+      return;
+    }
+    final TransitSpeeds speeds = TransitSpeeds.load(fname, writeable);
+    if ( speeds != transitSpeeds ) speeds.improve(transitSpeeds);
+    transitSpeeds = speeds;
+  }
+
+  TransitSpeeds getTransitSpeeds() {
+    return transitSpeeds;
   }
   
 //////////////////////////////////////////////////////////////////////////////
@@ -7954,7 +8007,7 @@ if (false) {
      * compute UT from ET. this UT will be slightly different
      * from the user's UT, but this difference is extremely small.
      */
-    delt = SweDate.getDeltaT(tjd);
+    delt = SweDate.getDeltaT(swed, tjd);
     tjd_ut = tjd - delt;
     if (swed.oec.teps == tjd && swed.nut.tnut == tjd) {
       eps = swed.oec.eps;
@@ -8048,13 +8101,13 @@ if (false) {
   /**
   * Returns the difference between local apparent and local mean time in
   * days. E = LAT - LMT<br>
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
   * @param tjd_ut input date in julian days (UT)
   * @param E double[1], output value: the difference between the times
   * @param serr buffer for error message on output
   * @return SweConst.ERR on error, SweConst.OK else
-  * @see SweDate#setGlobalTidalAcc(double)
+  * @see #swe_set_tid_acc(double)
   */
   @Override
   public int swe_time_equ(double tjd_ut, double E[], StringBuilder serr) {
@@ -8102,9 +8155,9 @@ if (false) {
   }
 
   /**
-  * <b>ATTENTION: This method possibly (re-)sets a global parameter used
-  * in calculation of delta T. See SweDate.setGlobalTidalAcc(double).</b>
-  * @see SweDate#setGlobalTidalAcc(double)
+  * <b>ATTENTION: This method possibly (re-)sets the tidal acceleration used
+  * in calculation of delta T. See swe_set_tid_acc(double).</b>
+  * @see #swe_set_tid_acc(double)
   */
   private int open_jpl_file(double[] ss, String fname, String fpath, StringBuilder serr) {
     int retc;
@@ -8136,7 +8189,7 @@ if (false) {
     if (retc == SweConst.OK) {
       swed.jpldenum = sj.swi_get_jpl_denum();
       swed.jpl_file_is_open = true;
-      SweDate.swi_set_tid_acc(0, 0, swed.jpldenum);
+      SweDate.swi_set_tid_acc(this, 0, 0, swed.jpldenum);
     }
     return retc;
   }
@@ -8218,22 +8271,22 @@ if (false) {
 
     @Override
     public double swe_deltat(double tjd) {
-        return SweDate.calc_deltaT(tjd);
+        return SweDate.calc_deltaT(swed, tjd);
     }
 
     @Override
     public double swe_deltat_ex(double tjd, int iflag, StringBuilder serr) {
-        return SweDate.calc_deltaT(tjd);
+        return SweDate.calc_deltaT(swed, tjd);
     }
     
     @Override
     public void swe_set_tid_acc(double t_acc) {
-        SweDate.setGlobalTidalAcc(t_acc);
+        SweDate.swe_set_tid_acc(swed, t_acc);
     }
     
     @Override
     public double swe_get_tid_acc() {
-        return SweDate.getGlobalTidalAcc();
+        return swed.tid_acc;
     }
 
     @Override
@@ -8288,20 +8341,25 @@ if (false) {
 
   @Override
   public void swe_revjul(double jd, int gregflag, int[] jYearMonDay, double[] jut) {
-    final SweDate.IDate dt = SweDate.swe_revjul(jd, gregflag == SE_GREG_CAL);
     if (null != jYearMonDay && jYearMonDay.length >= 3) {
-      jYearMonDay[0] = dt.year;
-      jYearMonDay[1] = dt.month;
-      jYearMonDay[2] = dt.day;
+      final int ndat = SweDate.swe_revjul_ndat(jd, gregflag == SE_GREG_CAL);
+      jYearMonDay[0] = Math.floorDiv(ndat, 10000);
+      jYearMonDay[1] = Math.floorMod(ndat, 10000) / 100;
+      jYearMonDay[2] = Math.floorMod(ndat, 100);
     }
     if (null != jut && jut.length >= 1) {
-      jut[0] = dt.hour;
+      jut[0] = (jd - SMath.floor(jd + 0.5) + 0.5) * 24.0;
     }
   }
 
   @Override
   public int swe_utc_to_jd(int iyear, int imonth, int iday, int ihour, int imin, double dsec,
                            int gregflag, double[] dret, StringBuilder serr) {
+    if (null != dret && dret.length >= 2) {
+      // dret[0] = julian day in TT (ET), dret[1] = julian day in UT1
+      SweDate.getJDfromUTC(iyear, imonth, iday, ihour, imin, dsec, gregflag == SE_GREG_CAL, false, dret);
+      return SweConst.OK;
+    }
     final double[] jd = SweDate.getJDfromUTC(iyear, imonth, iday, ihour, imin, dsec,
         gregflag == SE_GREG_CAL, false);
     if (null != dret) {
@@ -8330,6 +8388,12 @@ if (false) {
                                 int[] ioutYearMonthDayHourMin, double[] dsec_out) {
     // the raw call takes the time zone with the sign Swiss Ephemeris documents: positive
     // converts local time to UTC. getLocalTimeFromUTC() wants it the same way round.
+    if (null != ioutYearMonthDayHourMin && ioutYearMonthDayHourMin.length >= 5
+        && null != dsec_out && dsec_out.length >= 1) {
+      SweDate.swe_utc_time_zone(iyear, imonth, iday, ihour, imin, dsec, d_timezone,
+          ioutYearMonthDayHourMin, dsec_out);
+      return;
+    }
     final SDate sd = SweDate.getLocalTimeFromUTC(iyear, imonth, iday, ihour, imin, dsec, d_timezone);
     copyUtcOut(sd, ioutYearMonthDayHourMin, dsec_out);
   }
@@ -8653,7 +8717,7 @@ if (false) {
 
   @Override
   public int swe_get_ayanamsa_ex_ut(double tjd_ut, int iflag, double[] daya, StringBuilder serr) {
-    return swe_get_ayanamsa_ex(tjd_ut + SweDate.getDeltaT(tjd_ut), iflag, daya, serr);
+    return swe_get_ayanamsa_ex(tjd_ut + SweDate.getDeltaT(swed, tjd_ut), iflag, daya, serr);
   }
 
   @Override
@@ -8693,11 +8757,11 @@ if (false) {
   * Houses plus the speed in longitude of every cusp and of every ascmc point, in
   * degrees per day.
   * <p>
-  * The speeds are obtained by central differencing over one second of time, which is what
-  * Swiss Ephemeris itself does for every house system that has no closed-form speed
-  * (see <code>do_interpol</code> in swehouse.c). Differencing the date rather than the ARMC
-  * also picks up the drift of nutation and, in sidereal mode, of the ayanamsa - both far
-  * below the resolution of the difference, but in the right direction.
+  * The speeds are obtained by central differencing over one second, which is what Swiss
+  * Ephemeris itself does for every house system that has no closed-form speed (see
+  * <code>do_interpol</code> in swehouse.c). Delta t, obliquity, nutation, sidereal time
+  * and the ayanamsa are evaluated once, as for a plain {@link #swe_houses}; the samples
+  * either side only advance the ARMC, whose rate is the one that matters at this scale.
   *
   * @param cusp_speed may be null; cusp_speed[1..12] (or [1..36] for Gauquelin) on return
   * @param ascmc_speed may be null; ascmc_speed[0..7] on return
@@ -8706,22 +8770,7 @@ if (false) {
   @Override
   public int swe_houses_ex2(double tjd_ut, int iflag, double geolat, double geolon, int hsys, double[] cusps,
                              double[] ascmc, double[] cusp_speed, double[] ascmc_speed, StringBuilder serr) {
-    final int retc = swe_houses(tjd_ut, iflag, geolat, geolon, hsys, cusps, ascmc);
-    if (retc == SweConst.ERR || (null == cusp_speed && null == ascmc_speed)) {
-      return retc;
-    }
-
-    final double dt = SweHouse.HOUSE_SPEED_DT;
-    final double[] cm = new double[cusps.length], cp = new double[cusps.length];
-    final double[] am = new double[ascmc.length], ap = new double[ascmc.length];
-
-    if (swe_houses(tjd_ut - dt, iflag, geolat, geolon, hsys, cm, am) == SweConst.ERR
-        || swe_houses(tjd_ut + dt, iflag, geolat, geolon, hsys, cp, ap) == SweConst.ERR) {
-      return retc;   // positions are valid, speeds are not available here
-    }
-
-    SweHouse.differentiate(hsys, cusps, ascmc, cm, am, cp, ap, dt, cusp_speed, ascmc_speed);
-    return retc;
+    return getSweHouse().swe_houses_ex2(tjd_ut, iflag, geolat, geolon, hsys, cusps, ascmc, cusp_speed, ascmc_speed);
   }
 
   /**
@@ -8735,23 +8784,7 @@ if (false) {
   @Override
   public int swe_houses_armc_ex2(double armc, double geolat, double eps, int hsys, double[] cusps,
                                   double[] ascmc, double[] cusp_speed, double[] ascmc_speed, StringBuilder serr) {
-    final int retc = swe_houses_armc(armc, geolat, eps, hsys, cusps, ascmc);
-    if (retc == SweConst.ERR || (null == cusp_speed && null == ascmc_speed)) {
-      return retc;
-    }
-
-    final double dt = SweHouse.HOUSE_SPEED_DT;
-    final double darmc = dt * SweHouse.ARMCS;
-    final double[] cm = new double[cusps.length], cp = new double[cusps.length];
-    final double[] am = new double[ascmc.length], ap = new double[ascmc.length];
-
-    if (swe_houses_armc(armc - darmc, geolat, eps, hsys, cm, am) == SweConst.ERR
-        || swe_houses_armc(armc + darmc, geolat, eps, hsys, cp, ap) == SweConst.ERR) {
-      return retc;
-    }
-
-    SweHouse.differentiate(hsys, cusps, ascmc, cm, am, cp, ap, dt, cusp_speed, ascmc_speed);
-    return retc;
+    return getSweHouse().swe_houses_armc_ex2(armc, geolat, eps, hsys, cusps, ascmc, cusp_speed, ascmc_speed);
   }
 
   @Override
@@ -8796,7 +8829,12 @@ if (false) {
   @Override
   public void swe_set_delta_t_userdef(double dt) {
     // SE_DELTAT_AUTOMATIC hands control back to the delta t model; any other value pins it.
-    SweDate.setUserDeltaT(dt);
+    swed.delta_t_userdef = dt;
+  }
+
+  @Override
+  public double swe_get_delta_t_userdef() {
+    return swed.delta_t_userdef;
   }
 
   @Override
@@ -96,6 +96,18 @@ public class SwissephException extends RuntimeException {
   * @see #USER_ERROR
   */
   public static final int BEYOND_USER_TIME_LIMIT        = USER_ERROR | 512*1024;
+  /**
+  * Error code, when a user requested deadline in wall-clock time has passed.
+  * Its current value is 1310720.
+  * @see #USER_ERROR
+  */
+  public static final int BEYOND_USER_DEADLINE          = USER_ERROR | 1024*1024;
+  /**
+  * Error code, when the user has cancelled the calculation.
+  * Its current value is 2359296.
+  * @see #USER_ERROR
+  */
+  public static final int USER_CANCELLED                = USER_ERROR | 2048*1024;
 
 
 
@@ -353,7 +353,15 @@ public class TCHouses extends TransitCalculator {
 
 
     sw.swe_set_topo(geolon, geolat, 0);
-    int ret = sw.swe_houses_ex(jd, flags, geolat, geolon, this.hsys, cusps, ascmc);
+    int ret;
+    if (bracketing) { // The bracketing search takes the speeds along
+      double[] cuspSpeed = new double[cusps.length];
+      double[] ascmcSpeed = new double[10];
+      ret = sw.swe_houses_ex2(jd, flags, geolat, geolon, this.hsys, cusps, ascmc, cuspSpeed, ascmcSpeed, null);
+      lastSpeed = (houseObject < 0 ? cuspSpeed[Math.abs(houseObject)] : ascmcSpeed[houseObject]);
+    } else {
+      ret = sw.swe_houses_ex(jd, flags, geolat, geolon, this.hsys, cusps, ascmc);
+    }
 
     if (ret<0) {
       throw new SwissephException(jd, SwissephException.UNDEFINED_ERROR,
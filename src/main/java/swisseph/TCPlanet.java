@@ -38,6 +38,9 @@ public class TCPlanet extends TransitCalculator {
     private int flags = 0; // The calculation flags for swe_calc()
     private double min = 0;
     private double max = 0;
+    // The range of the speed for speed transits:
+    private double minOffset = 0;
+    private double maxOffset = 0;
 
     // The y = f(x) value to reach, speaking mathematically...
     private double offset = 0.;
@@ -61,7 +64,7 @@ public class TCPlanet extends TransitCalculator {
      *            exception of SweConst.SE_EARTH) have their extreme speeds saved, so
      *            these extreme speeds will be used on calculation.<br>
      *            Other objects
-     *            calculate extreme speeds by randomly calculating by default 200 speed
+     *            calculate extreme speeds by calculating by default 200 speed
      *            values and multiply them by 1.4 as a safety factor.<br>
      *            ATTENTION: be sure to understand that you might be able to miss some
      *            transit or you might get a rather bad transit time in very rare
@@ -120,7 +123,7 @@ public class TCPlanet extends TransitCalculator {
      *            exception of SweConst.SE_EARTH) have their extreme speeds saved, so
      *            these extreme speeds will be used on calculation.<br>
      *            Other objects
-     *            calculate extreme speeds by randomly calculating by default 200 speed
+     *            calculate extreme speeds by calculating by default 200 speed
      *            values and multiply them by 1.4 as a safety factor.<br>
      *            ATTENTION: be sure to understand that you might be able to miss some
      *            transit on these other objects or you might get a rather bad transit
@@ -148,7 +151,7 @@ public class TCPlanet extends TransitCalculator {
      * @param offset This is the desired transit degree or distance (in AU) or transit speed
      *            (in deg/day or AU/day).
      * @param precalcCount When calculating planets without saved extreme speeds,
-     *            you may change the default value of 200 random calculations to search for the
+     *            you may change the default value of 200 calculations at fixed dates to search for the
      *            extreme speeds here.
      * @param precalcSafetyfactor When calculating planets without saved extreme speeds,
      *            you may change the default value of 1.4 as a safety factor to be multiplied with
@@ -234,16 +237,24 @@ public class TCPlanet extends TransitCalculator {
         min = getSpeed(true);
 
         if ( Double.isInfinite(max) || Double.isInfinite(min) ) {
-            // Trying to find some reasonable min- and maxSpeed by randomly testing some speed values.
-            // Limited to ecliptical(?) non-speed calculations so far:
-            if ( idx < 3 ) {
-                double[] minmax = getTestspeed(planet, idx, precalcCount, precalcSafetyfactor);
-                min = minmax[0];
-                max = minmax[1];
-            }
+            // Trying to find some reasonable min- and maxSpeed (or accelerations) by sampling them:
+            double[] minmax = getTestspeed(planet, idx, precalcCount, precalcSafetyfactor);
+            min = minmax[0];
+            max = minmax[1];
         }
         //System.err.println("speeds: " + min + " - " + max);
 
+        if ( (tflags & SweConst.SEFLG_TRANSIT_SPEED) != 0 ) {
+            minOffset = getSpeed(true, false);
+            maxOffset = getSpeed(false, false);
+            if ( Double.isInfinite(minOffset) || Double.isInfinite(maxOffset) ) {
+                // Sampled as well as the accelerations:
+                double[] minmax = getTestspeed(planet, idx - 3, precalcCount, precalcSafetyfactor);
+                minOffset = minmax[0];
+                maxOffset = minmax[1];
+            }
+        }
+
         if ( Double.isInfinite(max) || Double.isInfinite(min) ) {
             int planetno = (planet > SweConst.SE_AST_OFFSET ? planet - SweConst.SE_AST_OFFSET : planet);
             throw new IllegalArgumentException(((flags & SweConst.SEFLG_TOPOCTR) != 0 ? "Topo" : ((flags
@@ -271,7 +282,7 @@ public class TCPlanet extends TransitCalculator {
      */
     public double getMinOffset() {
         if ( (tflags & SweConst.SEFLG_TRANSIT_SPEED) != 0 ) {
-            return getSpeed(true, false);
+            return minOffset;
         }
         return 0.;
     }
@@ -281,7 +292,7 @@ public class TCPlanet extends TransitCalculator {
      */
     public double getMaxOffset() {
         if ( (tflags & SweConst.SEFLG_TRANSIT_SPEED) != 0 ) {
-            return getSpeed(false, false);
+            return maxOffset;
         }
         return 360.;
     }
@@ -358,7 +369,9 @@ public class TCPlanet extends TransitCalculator {
         StringBuilder serr = new StringBuilder(0);
         double[] xx = new double[6];
 
-        int ret = sw.swe_calc(jdET, planet, flags, xx, serr);
+        // The bracketing search takes the speed along for positions:
+        final boolean speed = bracketing && idx < 3;
+        int ret = swe_calc(jdET, planet, speed ? flags | SweConst.SEFLG_SPEED : flags, xx, serr);
         if ( ret < 0 ) {
             int type = SwissephException.UNDEFINED_ERROR;
             // The message is "jd <x> > Swiss Eph. upper limit <y>;" (or "< ... lower limit ...");
@@ -370,6 +383,7 @@ public class TCPlanet extends TransitCalculator {
                 "Calculation failed with return code " + ret + ":\n" + serr.toString());
         }
 
+        if ( speed ) lastSpeed = xx[idx + 3];
         return xx[idx];
     }
 
@@ -657,102 +671,9 @@ public class TCPlanet extends TransitCalculator {
         }
     }
 
-    // This routine returns extreme speed values by randomly calculating the speed
-    // of the planet. Doesn't work for accelerations so far.
+    // Extreme speed values of the planet, sampled at fixed dates unless already known.
     double[] getTestspeed(int planet, int idx, int precalcCount, double precalcSafetyfactor) {
-        StringBuilder serr = new StringBuilder();
-        double min = Double.MAX_VALUE;
-        double max = -Double.MAX_VALUE;
-
-        double[] timerange = new double[] { SwephData.MOSHPLEPH_START, SwephData.MOSHPLEPH_END };
-        if ( planet > SweConst.SE_AST_OFFSET ) {
-            throw new IllegalArgumentException("Planet > SE_AST_OFFSET is not supported");
-            /*
-            // get filename:
-            String fn = SwissLib.swi_gen_filename(2457264.5  doesn't matter , planet);
-            // Unfortunately, the name from swi_gen_filename may be slightly different,
-            // so we have to test opening the filename and change the filename if
-            // the file does not exist or is not readable:
-            FilePtr fptr = null;
-            SwissephException se = null;
-            try {
-            fptr = sw.swi_fopen(SwephData.SEI_FILE_ANY_AST, fn, sw.swed.ephepath, serr);
-            } catch (SwissephException se1) {
-            se = se1;
-            }
-            if (fptr == null) {
-            
-             * try also for short files (..s.se1)
-             
-            if (fn.indexOf("s.") <= 0) {
-              fn = fn.substring(0, fn.indexOf(".")) + "s." + SwephData.SE_FILE_SUFFIX;
-            }
-            try {
-              fptr = sw.swi_fopen(SwephData.SEI_FILE_ANY_AST, fn, sw.getEphePath(), serr);
-            } catch (SwissephException se2) {
-              se = se2;
-            }
-            }
-            if (fptr == null) {
-              throw se;
-            }
-            try {
-            fptr.close();
-            } catch (Exception e) { }
-            
-            // Now finally we have a filename for which we can get the time range,
-            // if the file can be found and is readable:
-            try {
-            timerange = sw.getDatafileTimerange(fn);
-            } catch (SwissephException se3) {
-            }*/
-        }
-
-        double[] xx = new double[6];
-        for (int f = 0; f < precalcCount; f++) {
-            double jdET = RANDOM.nextDouble();
-            jdET = jdET * (timerange[1] - timerange[0]) + timerange[0];
-            int ret = sw.swe_calc(jdET, planet, flags | SweConst.SEFLG_SPEED, xx, serr);
-            if ( ret < 0 ) {
-                //              throw new SwissephException(jdET, SwissephException.UNDEFINED_ERROR,
-                //                  "Calculation failed with return code "+ret+":\n"+serr.toString());
-                continue;
-            }
-            if ( min > xx[idx + 3] ) {
-                min = xx[idx + 3];
-            }
-            if ( max < xx[idx + 3] ) {
-                max = xx[idx + 3];
-            }
-        }
-        if ( min == max || min == Double.MAX_VALUE || max == -Double.MAX_VALUE ) {
-            min = 1. / 0.; // Use as flag
-        } else {
-            // Apply safety factor for randomly calculated extreme speeds:
-            switch ( (int)Math.signum(min) ) {
-                case -1:
-                    min *= precalcSafetyfactor;
-                    break;
-                case 0:
-                    min = -0.1;
-                    break;
-                case 1:
-                    min /= precalcSafetyfactor;
-                    break;
-            }
-            switch ( (int)Math.signum(max) ) {
-                case -1:
-                    max /= precalcSafetyfactor;
-                    break;
-                case 0:
-                    max = 0.1;
-                    break;
-                case 1:
-                    max *= precalcSafetyfactor;
-                    break;
-            }
-        }
-        return new double[] { min, max };
+        return getTestspeed(planet, idx, flags, precalcCount, precalcSafetyfactor);
     }
 
     public String toString() {
@@ -76,7 +76,7 @@ public class TCPlanetHouse extends TransitCalculator {
      *            exception of SweConst.SE_EARTH) have their extreme speeds saved, so
      *            these extreme speeds will be used on calculation.<br>
      *            Other objects
-     *            calculate extreme speeds by randomly calculating by default 200 speed
+     *            calculate extreme speeds by calculating by default 200 speed
      *            values and multiply them by 1.4 as a safety factor.<br>
      *            ATTENTION: be sure to understand that you have some theoretical chance
      *            to miss some transit or you might get a rather bad transit time in very
@@ -170,7 +170,7 @@ public class TCPlanetHouse extends TransitCalculator {
      *            exception of SweConst.SE_EARTH) have their extreme speeds saved, so
      *            these extreme speeds will be used on calculation.<br>
      *            Other objects
-     *            calculate extreme speeds by randomly calculating by default 200 speed
+     *            calculate extreme speeds by calculating by default 200 speed
      *            values and multiply them by 1.4 as a safety factor.<br>
      *            ATTENTION: be sure to understand that you have some theoretical chance
      *            to miss some transit or you might get a rather bad transit time in very
@@ -513,8 +513,8 @@ public class TCPlanetHouse extends TransitCalculator {
         double[] cusps = new double[(this.houseSystem == SweConst.SE_HSYS_GAUQUELIN_SECTORS ? 37 : 13)];
         double[] ascmc = new double[10];
 
-        // Planet calculation:
-        int ret = sw.swe_calc(jdET, planet, planetFlags, xx, serr);
+        // Planet calculation, with the speeds for the bracketing search:
+        int ret = swe_calc(jdET, planet, bracketing ? planetFlags | SweConst.SEFLG_SPEED : planetFlags, xx, serr);
         if ( ret < 0 ) {
             int type = SwissephException.UNDEFINED_ERROR;
             // The message is "jd <x> > Swiss Eph. upper limit <y>;" (or "< ... lower limit ...");
@@ -532,8 +532,16 @@ public class TCPlanetHouse extends TransitCalculator {
         // be SweDate.getDeltaT() unconditionally, i.e. the pure Java value even when sw is
         // SwephNative: the same defect that was fixed in TransitCalculator.getTransit*(),
         // and it also ignored a delta t pinned with swe_set_delta_t_userdef().
-        ret = sw.swe_houses_ex(jdET - deltaT(jdET), houseFlags, houseGeolat, houseGeolon,
-            houseSystem, cusps, ascmc);
+        double[] cuspSpeed = null, ascmcSpeed = null;
+        if ( bracketing ) {
+            cuspSpeed = new double[cusps.length];
+            ascmcSpeed = new double[10];
+            ret = sw.swe_houses_ex2(jdET - deltaT(jdET), houseFlags, houseGeolat, houseGeolon,
+                houseSystem, cusps, ascmc, cuspSpeed, ascmcSpeed, null);
+        } else {
+            ret = sw.swe_houses_ex(jdET - deltaT(jdET), houseFlags, houseGeolat, houseGeolon,
+                houseSystem, cusps, ascmc);
+        }
 
         if ( ret < 0 ) {
             throw new SwissephException(jdET, SwissephException.UNDEFINED_ERROR,
@@ -542,8 +550,10 @@ public class TCPlanetHouse extends TransitCalculator {
         double h = 0;
         if ( houseObject < 0 ) { // Houses have negative index
             h = cusps[Math.abs(houseObject)];
+            if ( bracketing ) lastSpeed = xx[3] - cuspSpeed[Math.abs(houseObject)];
         } else {
             h = ascmc[houseObject];
+            if ( bracketing ) lastSpeed = xx[3] - ascmcSpeed[houseObject];
         }
 
         return xx[0] - h;
@@ -697,103 +707,9 @@ public class TCPlanetHouse extends TransitCalculator {
         return val == offset;
     }
 
-    // This routine returns extreme speed values by randomly calculating the speed
-    // of the planet. Doesn't work for accelerations so far.
+    // Extreme speed values of the planet, sampled at fixed dates unless already known.
     double[] getTestspeed(int planet, int idx, int precalcCount, double precalcSafetyfactor) {
-        StringBuilder serr = new StringBuilder();
-        double min = Double.MAX_VALUE;
-        double max = -Double.MAX_VALUE;
-
-        final double[] timerange = new double[] { SwephData.MOSHPLEPH_START, SwephData.MOSHPLEPH_END };
-        if ( planet > SweConst.SE_AST_OFFSET ) {
-            throw new IllegalArgumentException("Planet > SE_AST_OFFSET is not supported");
-            /*
-            // get filename:
-            String fn = SwissLib.swi_gen_filename(2457264.5  don't care , planet);
-            // Unfortunately, the name from swi_gen_filename may be slightly different,
-            // so we have to test opening the filename and change the filename if
-            // the file does not exist or is not readable:
-            FilePtr fptr = null;
-            SwissephException se = null;
-            try {
-            fptr = sw.swi_fopen(SwephData.SEI_FILE_ANY_AST, fn, sw.getEphePath(), serr);
-            } catch (SwissephException se1) {
-            se = se1;
-            }
-            if (fptr == null) {
-            
-             * try also for short files (..s.se1)
-             
-            if (fn.indexOf("s.") <= 0) {
-              fn = fn.substring(0, fn.indexOf(".")) + "s." + SwephData.SE_FILE_SUFFIX;
-            }
-            try {
-              fptr = sw.swi_fopen(SwephData.SEI_FILE_ANY_AST, fn, sw.getEphePath(), serr);
-            } catch (SwissephException se2) {
-              se = se2;
-            }
-            }
-            if (fptr == null) {
-              throw se;
-            }
-            try {
-            fptr.close();
-            } catch (Exception e) { }
-            
-            // Now finally we have a filename for which we can get the time range,
-            // if the file can be found and is readable:
-            try {
-            timerange = sw.getDatafileTimerange(fn);
-            } catch (SwissephException se3) {
-            }*/
-        }
-
-        java.util.Random rd = new java.util.Random();
-        double[] xx = new double[6];
-        for (int f = 0; f < precalcCount; f++) {
-            double jdET = rd.nextDouble();
-            jdET = jdET * (timerange[1] - timerange[0]) + timerange[0];
-            int ret = sw.swe_calc(jdET, planet, planetFlags | SweConst.SEFLG_SPEED, xx, serr);
-            if ( ret < 0 ) {
-                //              throw new SwissephException(jdET, SwissephException.UNDEFINED_ERROR,
-                //                  "Calculation failed with return code "+ret+":\n"+serr.toString());
-                continue;
-            }
-            if ( min > xx[idx + 3] ) {
-                min = xx[idx + 3];
-            }
-            if ( max < xx[idx + 3] ) {
-                max = xx[idx + 3];
-            }
-        }
-        if ( min == max || min == Double.MAX_VALUE || max == -Double.MAX_VALUE ) {
-            min = 1. / 0.; // Use as flag
-        } else {
-            // Apply safety factor for randomly calculated extreme speeds:
-            switch ( (int)Math.signum(min) ) {
-                case -1:
-                    min *= precalcSafetyfactor;
-                    break;
-                case 0:
-                    min = -0.1;
-                    break;
-                case 1:
-                    min /= precalcSafetyfactor;
-                    break;
-            }
-            switch ( (int)Math.signum(max) ) {
-                case -1:
-                    max /= precalcSafetyfactor;
-                    break;
-                case 0:
-                    max = 0.1;
-                    break;
-                case 1:
-                    max *= precalcSafetyfactor;
-                    break;
-            }
-        }
-        return new double[] { min, max };
+        return getTestspeed(planet, idx, planetFlags, precalcCount, precalcSafetyfactor);
     }
 
     public String toString() {
@@ -80,7 +80,7 @@ public class TCPlanetPlanet extends TransitCalculator {
      *            exception of SweConst.SE_EARTH) have their extreme speeds saved, so
      *            these extreme speeds will be used on calculation.<br>
      *            Other objects
-     *            calculate extreme speeds by randomly calculating by default 200 speed
+     *            calculate extreme speeds by calculating by default 200 speed
      *            values and multiply them by 1.4 as a safety factor.<br>
      *            ATTENTION: be sure to understand that you might be able to miss some
      *            transit or you might get a rather bad transit time in very rare
@@ -155,7 +155,7 @@ public class TCPlanetPlanet extends TransitCalculator {
      *            exception of SweConst.SE_EARTH) have their extreme speeds saved, so
      *            these extreme speeds will be used on calculation.<br>
      *            Other objects
-     *            calculate extreme speeds by randomly calculating by default 200 speed
+     *            calculate extreme speeds by calculating by default 200 speed
      *            values and multiply them by 1.4 as a safety factor.<br>
      *            ATTENTION: be sure to understand that you might be able to miss some
      *            transit or you might get a rather bad transit time in very rare
@@ -316,13 +316,10 @@ public class TCPlanetPlanet extends TransitCalculator {
         maxSpeed2 = getSpeed(false, pl2);
         minSpeed2 = getSpeed(true, pl2);
         if ( Double.isInfinite(maxSpeed1) || Double.isInfinite(minSpeed1) ) {
-            // Trying to find some reasonable min- and maxSpeed by randomly testing some speed values.
-            // Limited to ecliptical(?) non-speed calculations so far:
-            if ( idx < 3 ) {
-                double[] minmax = getTestspeed(pl1, idx, precalcCount, precalcSafetyfactor);
-                minSpeed1 = minmax[0];
-                maxSpeed1 = minmax[1];
-            }
+            // Trying to find some reasonable min- and maxSpeed (or accelerations) by sampling them:
+            double[] minmax = getTestspeed(pl1, idx, precalcCount, precalcSafetyfactor);
+            minSpeed1 = minmax[0];
+            maxSpeed1 = minmax[1];
         }
         //System.err.println("speeds: " + minSpeed1 + " - " + maxSpeed1);
 
@@ -337,13 +334,10 @@ public class TCPlanetPlanet extends TransitCalculator {
         }
 
         if ( Double.isInfinite(maxSpeed2) || Double.isInfinite(minSpeed2) ) {
-            // Trying to find some reasonable min- and maxSpeed by randomly testing some speed values.
-            // Limited to ecliptical(?) non-speed calculations so far:
-            if ( idx < 3 ) {
-                double[] minmax = getTestspeed(pl2, idx, precalcCount, precalcSafetyfactor);
-                minSpeed2 = minmax[0];
-                maxSpeed2 = minmax[1];
-            }
+            // Trying to find some reasonable min- and maxSpeed (or accelerations) by sampling them:
+            double[] minmax = getTestspeed(pl2, idx, precalcCount, precalcSafetyfactor);
+            minSpeed2 = minmax[0];
+            maxSpeed2 = minmax[1];
         }
         //System.err.println("speeds: " + minSpeed2 + " - " + maxSpeed2);
 
@@ -569,7 +563,11 @@ public class TCPlanetPlanet extends TransitCalculator {
         double[] xx1 = new double[6];
         double[] xx2 = new double[6];
 
-        int ret = sw.swe_calc(jdET, pl1, flags, xx1, serr);
+        // The bracketing search takes the speeds along for positions:
+        final boolean speed = bracketing && idx < 3;
+        final int iflag = speed ? flags | SweConst.SEFLG_SPEED : flags;
+
+        int ret = swe_calc(jdET, pl1, iflag, xx1, serr);
         if ( ret < 0 ) {
             int type = SwissephException.UNDEFINED_ERROR;
             // The message is "jd <x> > Swiss Eph. upper limit <y>;" (or "< ... lower limit ...");
@@ -582,7 +580,7 @@ public class TCPlanetPlanet extends TransitCalculator {
                 "Calculation failed with return code " + ret + ":\n" + serr.toString());
         }
 
-        ret = sw.swe_calc(jdET, pl2, flags, xx2, serr);
+        ret = swe_calc(jdET, pl2, iflag, xx2, serr);
         if ( ret < 0 ) {
             int type = SwissephException.UNDEFINED_ERROR;
             // The message is "jd <x> > Swiss Eph. upper limit <y>;" (or "< ... lower limit ...");
@@ -633,8 +631,10 @@ public class TCPlanetPlanet extends TransitCalculator {
             }
             return ((xx1[idx] % rolloverVal) - (xx2[idx] % rolloverVal) + rolloverVal) % rolloverVal;
         } else if ( calcYoga ) {
+            if ( speed ) lastSpeed = xx1[idx + 3] + xx2[idx + 3];
             return xx1[idx] + xx2[idx];
         }
+        if ( speed ) lastSpeed = xx1[idx + 3] - xx2[idx + 3];
         return xx1[idx] - xx2[idx];
     }
 
@@ -923,6 +923,11 @@ public class TCPlanetPlanet extends TransitCalculator {
         }
     }
 
+    // Partile transits jump from degree to degree, they cannot be bracketed:
+    boolean canBracket() {
+        return !calcPartile && !calcNonPartile;
+    }
+
     protected boolean checkIdenticalResult(double offset, double val) {
         if ( calcPartile ) {
             boolean res = (((lon1 % 1) < 1E-9 || (lon2 % 1) < 1E-9) && // leave other values to the interpolation after the checkResult() call otherwise
@@ -1012,103 +1017,9 @@ public class TCPlanetPlanet extends TransitCalculator {
         return super.getNextJD(jdET, val, offset, min, max, back);
     }
 
-    // This routine returns extreme speed values by randomly calculating the speed
-    // of the planet. Doesn't work for accelerations so far.
+    // Extreme speed values of the planet, sampled at fixed dates unless already known.
     double[] getTestspeed(int planet, int idx, int precalcCount, double precalcSafetyfactor) {
-        StringBuilder serr = new StringBuilder();
-        double min = Double.MAX_VALUE;
-        double max = -Double.MAX_VALUE;
-
-        final double[] timerange = new double[] { SwephData.MOSHPLEPH_START, SwephData.MOSHPLEPH_END };
-        if ( planet > SweConst.SE_AST_OFFSET ) {
-            throw new IllegalArgumentException("Planet > SE_AST_OFFSET is not supported");
-            /*
-            // get filename:
-            String fn = SwissLib.swi_gen_filename(2457264.5  don't care , planet);
-            // Unfortunately, the name from swi_gen_filename may be slightly different,
-            // so we have to test opening the filename and change the filename if
-            // the file does not exist or is not readable:
-            FilePtr fptr = null;
-            SwissephException se = null;
-            try {
-            fptr = sw.swi_fopen(SwephData.SEI_FILE_ANY_AST, fn, sw.swed.ephepath, serr);
-            } catch (SwissephException se1) {
-            se = se1;
-            }
-            if (fptr == null) {
-            
-             * try also for short files (..s.se1)
-             
-            if (fn.indexOf("s.") <= 0) {
-              fn = fn.substring(0, fn.indexOf(".")) + "s." + SwephData.SE_FILE_SUFFIX;
-            }
-            try {
-              fptr = sw.swi_fopen(SwephData.SEI_FILE_ANY_AST, fn, sw.getEphePath(), serr);
-            } catch (SwissephException se2) {
-              se = se2;
-            }
-            }
-            if (fptr == null) {
-              throw se;
-            }
-            try {
-            fptr.close();
-            } catch (Exception e) { }
-            
-            // Now finally we have a filename for which we can get the time range,
-            // if the file can be found and is readable:
-            try {
-            timerange = sw.getDatafileTimerange(fn);
-            } catch (SwissephException se3) {
-            }*/
-        }
-
-        java.util.Random rd = new java.util.Random();
-        double[] xx = new double[6];
-        for (int f = 0; f < precalcCount; f++) {
-            double jdET = rd.nextDouble();
-            jdET = jdET * (timerange[1] - timerange[0]) + timerange[0];
-            int ret = sw.swe_calc(jdET, planet, flags | SweConst.SEFLG_SPEED, xx, serr);
-            if ( ret < 0 ) {
-                //              throw new SwissephException(jdET, SwissephException.UNDEFINED_ERROR,
-                //                  "Calculation failed with return code "+ret+":\n"+serr.toString());
-                continue;
-            }
-            if ( min > xx[idx + 3] ) {
-                min = xx[idx + 3];
-            }
-            if ( max < xx[idx + 3] ) {
-                max = xx[idx + 3];
-            }
-        }
-        if ( min == max || min == Double.MAX_VALUE || max == -Double.MAX_VALUE ) {
-            min = 1. / 0.; // Use as flag
-        } else {
-            // Apply safety factor for randomly calculated extreme speeds:
-            switch ( (int)Math.signum(min) ) {
-                case -1:
-                    min *= precalcSafetyfactor;
-                    break;
-                case 0:
-                    min = -0.1;
-                    break;
-                case 1:
-                    min /= precalcSafetyfactor;
-                    break;
-            }
-            switch ( (int)Math.signum(max) ) {
-                case -1:
-                    max /= precalcSafetyfactor;
-                    break;
-                case 0:
-                    max = 0.1;
-                    break;
-                case 1:
-                    max *= precalcSafetyfactor;
-                    break;
-            }
-        }
-        return new double[] { min, max };
+        return getTestspeed(planet, idx, flags, precalcCount, precalcSafetyfactor);
     }
 
     public String toString() {
@@ -2,14 +2,19 @@ package swisseph;
 
 import org.swisseph.ISwissEph;
 
-import java.util.Random;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
 * Interface for different calculation- and comparison-classes used for
 * transit calculations.
 */
 public abstract class TransitCalculator {
-    protected static final Random RANDOM = new Random();
+    // days around a date to take the acceleration from
+    static final double ACCEL_STEP = .5;
     
     protected final ISwissEph sw;
   
@@ -132,6 +137,119 @@ public abstract class TransitCalculator {
   protected abstract double calc(double jdET);
 
 
+  // Search strategy and statistics of the last getTransit*() call, see
+  // setBracketing() and getEvaluations():
+  boolean bracketing = false;
+  int evaluations = 0;
+  // The rate of change of the value of the last calc() per day, if the
+  // calculation came with it, NaN otherwise:
+  double lastSpeed = Double.NaN;
+
+  /**
+  * Selects the search strategy of the getTransit*() methods. By default they
+  * step towards the transit with the extreme speeds of the object, which can
+  * never overshoot it, but takes many small steps whenever the object is
+  * much slower than its extreme speed, e.g. close to a station. The
+  * bracketing search looks ahead to where the current speed of the object
+  * reaches the transit point and, once a transit lies between two dates,
+  * converges on it by Newton and secant steps, falling back to bisection if
+  * they do not narrow the bracket. The speed is the one swe_calc() and
+  * swe_houses_ex2() return along with the positions; speed transits have
+  * none, they are refined by secant steps but do not look ahead.
+  * The result has the same precision; the look ahead is only taken while the
+  * speed keeps its direction on both of its ends, so that a transit touched
+  * and left again within it is not jumped over.
+  * @param bracketing true for the bracketing search, false for the default
+  * stepping search.
+  * @see #getEvaluations()
+  */
+  public void setBracketing(boolean bracketing) {
+    this.bracketing = bracketing;
+  }
+  /**
+  * @return true, if the getTransit*() methods use the bracketing search.
+  * @see #setBracketing(boolean)
+  */
+  public boolean isBracketing() {
+    return bracketing;
+  }
+  /**
+  * Returns the number of calculations of the object, each of them a
+  * swe_calc() or swe_houses() call or two, that the last getTransit*() call
+  * took.
+  * @return The number of calculations of the last transit search.
+  */
+  public int getEvaluations() {
+    return evaluations;
+  }
+
+  // The proxy to search on, see setProxy(), and true while a search runs on
+  // it:
+  SweChebyshevProxy proxy;
+  boolean proxied = false;
+
+  /**
+  * Lets the getTransit*() methods search on the polynomials of a
+  * SweChebyshevProxy instead of the engine. Only the date found on them is
+  * refined on the engine, by a few exact calculations, to the precision of
+  * the search without a proxy. The windows of the proxy are kept from one
+  * search to the next, so this pays off for many searches over the same
+  * time, e.g. of one calculator for several offsets or dates, or of several
+  * calculators sharing the proxy, while a single search may take more
+  * calculations than without it.<p>
+  * The proxy has to be of the same engine. It does not apply to the houses
+  * of TCHouses and TCPlanetHouse, nor to partile transits, and
+  * getTransitsUT() always searches on the engine.
+  * @param proxy The proxy to search on, null to search on the engine only.
+  * @see SweChebyshevProxy#calculations()
+  */
+  public void setProxy(SweChebyshevProxy proxy) {
+    if (null != proxy && proxy.getSwissEph() != sw) {
+      throw new IllegalArgumentException("The proxy has to be of the engine of the calculator");
+    }
+    this.proxy = proxy;
+  }
+  /**
+  * @return The proxy the getTransit*() methods search on, or null.
+  * @see #setProxy(SweChebyshevProxy)
+  */
+  public SweChebyshevProxy getProxy() {
+    return proxy;
+  }
+
+  // swe_calc() of the calculators, on the proxy while a search runs on it:
+  protected int swe_calc(double jdET, int ipl, int iflag, double[] xx, StringBuilder serr) {
+    return proxied ? proxy.swe_calc(jdET, ipl, iflag, xx, serr) : sw.swe_calc(jdET, ipl, iflag, xx, serr);
+  }
+
+  // The limits of the running search beyond its date, see the getTransitUT()
+  // with a timeout: the System.nanoTime() the search has to end by, if any,
+  // and the check for a cancellation, or null.
+  boolean timed = false;
+  long deadline;
+  BooleanSupplier cancelled;
+
+  // The counted calc(), as called by the transit search:
+  final double evaluate(double jdET) {
+    if (timed && System.nanoTime() - deadline > 0) {
+      throw new SwissephException(jdET, SwissephException.BEYOND_USER_DEADLINE,
+          -1, "User deadline has passed after " + evaluations + " calculations.");
+    }
+    if (null != cancelled && cancelled.getAsBoolean()) {
+      throw new SwissephException(jdET, SwissephException.USER_CANCELLED,
+          -1, "Transit search has been cancelled after " + evaluations + " calculations.");
+    }
+    evaluations++;
+    lastSpeed = Double.NaN;
+    return calc(jdET);
+  }
+
+  // False for calculators whose values are no continuous function of the
+  // time, which only the stepping search can handle:
+  boolean canBracket() {
+    return true;
+  }
+
   // This routine allows for changing jdET before starting calculations.
   double preprocessDate(double jdET, boolean back) {
     return jdET;
@@ -151,6 +269,66 @@ public abstract class TransitCalculator {
   protected double deltaT(double jd) {
     return sw.swe_deltat(jd);
   }
+
+  /**
+   * Extreme speeds of {@code xx[idx + 3]} of {@code swe_calc()} for objects without built-in
+   * speeds, with the safety factor applied; for a speed transit (idx 3..5) extreme
+   * accelerations, differentiating the speed numerically. They come from the
+   * {@link TransitSpeeds} of the engine, the registry of the process unless a speeds file was
+   * set, which samples every object and flags once at {@code precalcCount} fixed dates.
+   * @return {min, max}, min being infinite if no speeds could be found
+   */
+  double[] getTestspeed(int planet, int idx, int flags, int precalcCount, double precalcSafetyfactor) {
+    if ( planet > SweConst.SE_AST_OFFSET ) {
+      // the time range of the asteroid file would have to be looked up
+      throw new IllegalArgumentException("Planet > SE_AST_OFFSET is not supported");
+    }
+
+    final TransitSpeeds speeds = sw instanceof SwissEph ? ((SwissEph) sw).getTransitSpeeds() : TransitSpeeds.SHARED;
+    final StringBuilder serr = new StringBuilder();
+    final double[] xx = new double[6];
+    final int iflag = flags | SweConst.SEFLG_SPEED;
+
+    final double[] entry = speeds.extremes(planet, idx, flags, precalcCount, idx < 3
+        ? jdET -> sw.swe_calc(jdET, planet, iflag, xx, serr) < 0 ? Double.NaN : xx[idx + 3]
+        : jdET -> {
+          if ( sw.swe_calc(jdET + ACCEL_STEP, planet, iflag, xx, serr) < 0 ) return Double.NaN;
+          final double speed = xx[idx];
+          if ( sw.swe_calc(jdET - ACCEL_STEP, planet, iflag, xx, serr) < 0 ) return Double.NaN;
+          return (speed - xx[idx]) / (2 * ACCEL_STEP);
+        });
+
+    if ( !(entry[0] < entry[1]) ) {
+      return new double[] { 1. / 0., 1. / 0. }; // Use as flag
+    }
+
+    double min = entry[0];
+    double max = entry[1];
+    // Apply safety factor for sampled extreme speeds:
+    switch ( (int)Math.signum(min) ) {
+      case -1:
+        min *= precalcSafetyfactor;
+        break;
+      case 0:
+        min = -0.1;
+        break;
+      case 1:
+        min /= precalcSafetyfactor;
+        break;
+    }
+    switch ( (int)Math.signum(max) ) {
+      case -1:
+        max /= precalcSafetyfactor;
+        break;
+      case 0:
+        max = 0.1;
+        break;
+      case 1:
+        max *= precalcSafetyfactor;
+        break;
+    }
+    return new double[] { min, max };
+  }
   // These routines check the result if it meets the stop condition
   protected boolean checkIdenticalResult(double offset, double val) {
     return val == offset;
@@ -313,17 +491,166 @@ public abstract class TransitCalculator {
    * @see swisseph.TCPlanet
    * @see swisseph.TCPlanetPlanet
    */
-   protected static double getTransitUT(
+   public static double getTransitUT(
            TransitCalculator tc,
            double jdUT,
            boolean backwards,
            double jdLimit)
           throws IllegalArgumentException, SwissephException {
+     boolean calcUT = (tc instanceof TCHouses);
      double jdET = Extensions.getTransit(
                            tc,
-                           jdUT + tc.deltaT(jdUT),
+                           jdUT + (calcUT ? 0 : tc.deltaT(jdUT)),
                            backwards,
-                           jdLimit + tc.deltaT(jdLimit));
-     return jdET - tc.deltaT(jdET);
+                           jdLimit + (calcUT ? 0 : tc.deltaT(jdLimit)));
+     return jdET - (calcUT ? 0 : tc.deltaT(jdET));
+   }
+   /**
+   * Searches for the next or previous transit like
+   * getTransitUT(tc, jdUT, backwards, jdLimit), but gives up on it after a
+   * time on the clock or when cancelled, so that a transit that is very far
+   * away or does not occur at all cannot keep a thread busy for long. Both
+   * are checked before every calculation of the object. The search throws a
+   * SwissephException of the type BEYOND_USER_TIME_LIMIT, when it reaches
+   * jdLimit, of BEYOND_USER_DEADLINE, when the timeout has passed, or of
+   * USER_CANCELLED, when cancelled. In any case getEvaluations() tells the
+   * number of calculations the search took up to there, e.g.:<p>
+   * <pre>
+   *   try {
+   *     jdUT = TransitCalculator.getTransitUT(tc, jdUT, false, jdUT + 3650, 50, cancelled::get);
+   *   } catch (SwissephException e) {
+   *     if ((e.getType() &amp; SwissephException.USER_ERROR) == 0) { throw e; }
+   *     log.info("no transit: " + e.getMessage() + ", " + tc.getEvaluations());
+   *   }
+   * </pre>
+   *
+   * @param tc The TransitCalculator that should be used here.
+   * @param jdUT The date (and time) in UT, from where to start searching.
+   * @param backwards If backward search should be performed.
+   * @param jdLimit The date (and time) in UT the search is stopped at, even
+   * if no transit point had been found up to then.
+   * @param timeoutMillis The milliseconds the search may take at most, or 0
+   * for no timeout. Anything above about 146 years, e.g. Long.MAX_VALUE, is
+   * taken as 146 years.
+   * @param cancelled Returns true, when the search should be stopped, or null.
+   * @return return A double containing the julian day number for the next /
+   * previous transit as UT.
+   * @see #getEvaluations()
+   * @see SwissephException#BEYOND_USER_DEADLINE
+   * @see SwissephException#USER_CANCELLED
+   */
+   public static double getTransitUT(
+           TransitCalculator tc,
+           double jdUT,
+           boolean backwards,
+           double jdLimit,
+           long timeoutMillis,
+           BooleanSupplier cancelled)
+          throws IllegalArgumentException, SwissephException {
+     if (timeoutMillis < 0) {
+       throw new IllegalArgumentException("Invalid timeout: " + timeoutMillis);
+     }
+     tc.timed = (timeoutMillis > 0);
+     // within half the range of the nanoseconds, so that the deadline is compared
+     // to System.nanoTime() without an overflow
+     tc.deadline = System.nanoTime() + SMath.min(timeoutMillis, Long.MAX_VALUE / 2_000_000L) * 1_000_000L;
+     tc.cancelled = cancelled;
+     try {
+       return getTransitUT(tc, jdUT, backwards, jdLimit);
+     } finally {
+       tc.timed = false;
+       tc.cancelled = null;
+     }
+   }
+
+   /**
+   * Searches for all transits over any of several offsets within a time
+   * range, in one pass over it. Each calculation of the object serves all of
+   * the offsets, where a getTransitUT() per offset would calculate the same
+   * positions again for every one of them. So an ingress table of the twelve
+   * signs, the 27 nakshatras or the 108 navamsha boundaries takes about the
+   * calculations of a single transit search over the range, each transit
+   * having the precision of getTransitUT(). The setBracketing() choice applies
+   * here as well.<p>
+   * The offset of the TransitCalculator itself is not used, nor changed.
+   * Partile transits of a TCPlanetPlanet cannot be searched for this way.
+   *
+   * @param tc The TransitCalculator that should be used here.
+   * @param offsets The degrees or other values of the position or speed to
+   * transit, in any order.
+   * @param jdUT The date (and time) in UT, from where to start searching.
+   * A transit on that very date is not returned.
+   * @param jdLimit The date (and time) in UT the search ends with.
+   * @return The transits in the order of time, each one with the index
+   * of its offset in offsets[].
+   * @see #getTransitUT(TransitCalculator, double, boolean)
+   * @see #getEvaluations()
+   */
+   public static TransitEvent[] getTransitsUT(
+           TransitCalculator tc,
+           double[] offsets,
+           double jdUT,
+           double jdLimit)
+          throws IllegalArgumentException, SwissephException {
+     if (!tc.canBracket()) {
+       throw new IllegalArgumentException("Partile transits cannot be searched for several offsets at once.");
+     }
+     if (!(jdLimit > jdUT)) {
+       throw new IllegalArgumentException("Invalid time range: " + jdUT + " - " + jdLimit);
+     }
+     boolean calcUT = (tc instanceof TCHouses);
+     List<TransitEvent> transits = Extensions.getTransits(tc, offsets,
+         jdUT + (calcUT ? 0 : tc.deltaT(jdUT)),
+         jdLimit + (calcUT ? 0 : tc.deltaT(jdLimit)));
+
+     // dates in ET but for TCHouses
+     TransitEvent[] events = new TransitEvent[transits.size()];
+     for (int i = 0; i < events.length; i++) {
+       TransitEvent t = transits.get(i);
+       events[i] = (calcUT ? t :
+           new TransitEvent(t.index, t.offset, t.tjdUT - tc.deltaT(t.tjdUT), t.direction));
+     }
+     return events;
+   }
+
+   /**
+   * The transits over any of several offsets within a time range as a lazy
+   * stream, in the order of time. The range is searched window by window
+   * with getTransitsUT(), as far as the stream is consumed: findFirst() or
+   * limit() stop the search early. No transit is returned twice, and no
+   * start date has to be moved past a transit found.<p>
+   * A parallel() stream splits the time range and calculates every split
+   * with a TransitCalculator of its own, taken from the supplier. A
+   * TransitCalculator and its ISwissEph are not meant for more than one
+   * thread, so for a parallel stream the supplier should return a new one
+   * each time, on an engine of its own:
+   * <pre>
+   * TransitCalculator.streamTransitsUT(
+   *     () -&gt; new TCPlanet(new SwissEph(path), SE_MOON, flags, 0.),
+   *     nakshatras, jdUT, jdLimit).parallel().collect(...);
+   * </pre>
+   *
+   * @param calculators Returns the TransitCalculator for a split of the
+   * time range, called once per split on first use.
+   * @param offsets The degrees or other values of the position or speed to
+   * transit, in any order.
+   * @param jdUT The date (and time) in UT, from where to start searching.
+   * A transit on that very date is not returned.
+   * @param jdLimit The date (and time) in UT the search ends with.
+   * @return The transits in the order of time, each one with the index
+   * of its offset in offsets[].
+   * @see #getTransitsUT(TransitCalculator, double[], double, double)
+   */
+   public static Stream<TransitEvent> streamTransitsUT(
+           Supplier<? extends TransitCalculator> calculators,
+           double[] offsets,
+           double jdUT,
+           double jdLimit)
+          throws IllegalArgumentException {
+     if (!(jdLimit > jdUT)) {
+       throw new IllegalArgumentException("Invalid time range: " + jdUT + " - " + jdLimit);
+     }
+     return StreamSupport.stream(
+         new TransitSpliterator(calculators, offsets.clone(), jdUT, jdLimit), false);
    }
 }
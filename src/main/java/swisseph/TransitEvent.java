@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+/**
+ * A transit over one of several offsets, as found by
+ * {@link TransitCalculator#getTransitsUT(TransitCalculator, double[], double, double)}.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public final class TransitEvent {
+    /**
+     * Index of the offset in the array the search was given
+     */
+    public final int index;
+    public final double offset;
+    public final double tjdUT;
+    /**
+     * 1 if the value grows through the offset, -1 if it falls through it, e.g. a
+     * retrograde planet
+     */
+    public final int direction;
+
+    TransitEvent(int index, double offset, double tjdUT, int direction) {
+        this.index = index;
+        this.offset = offset;
+        this.tjdUT = tjdUT;
+        this.direction = direction;
+    }
+
+    @Override
+    public String toString() {
+        return "TransitEvent{index=" + index + ", offset=" + offset + ", tjdUT=" + tjdUT
+                + ", direction=" + direction + '}';
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Extreme speeds and accelerations of transit objects found by sampling {@code swe_calc()},
+ * for the bodies and flags the tables of {@link SwephData} do not cover.
+ * <p>
+ * Every entry holds the lowest and highest value seen and how many dates they were sampled
+ * from, without any safety factor. The dates are not random but the additive recurrence of
+ * the golden ratio over the time range of the Moshier ephemeris: any number of them spreads
+ * evenly over the range, and a larger number continues a smaller one. A calculator asking
+ * for more samples than an entry has computes only the missing ones, so every combination is
+ * sampled once and the same request always gives the same speeds. Entries are locked one by
+ * one, calculators of other objects do not wait for each other.
+ * <p>
+ * {@link #SHARED} is the registry of the process, used by every engine without a speeds
+ * file. With a file the entries outlive the process: one line
+ * {@code planet index flags samples min max} per entry, rewritten whenever an entry improves.
+ * See {@link SwissEph#setTransitSpeedsfile}.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+final class TransitSpeeds {
+    static final String HEADER = "# extreme speeds of transit objects: planet index flags samples min max";
+
+    /**
+     * The registry of the process
+     */
+    static final TransitSpeeds SHARED = new TransitSpeeds();
+
+    static final double GOLDEN = (Math.sqrt(5.) - 1.) / 2.;
+
+    private final ConcurrentNavigableMap<Long, Entry> speeds = new ConcurrentSkipListMap<>();
+    private final Path file;
+    private final boolean writeable;
+
+    /**
+     * An empty store kept in memory only
+     */
+    TransitSpeeds() {
+        this.file = null;
+        this.writeable = false;
+    }
+
+    private TransitSpeeds(Path file, boolean writeable) {
+        this.file = file;
+        this.writeable = writeable;
+    }
+
+    /**
+     * @param fname     the speeds file, may not exist yet if writeable
+     * @param writeable true to write improved speeds back to the file
+     * @throws SwissephException if the file cannot be read, is damaged or cannot be written
+     */
+    static TransitSpeeds load(String fname, boolean writeable) {
+        final Path file = Paths.get(fname);
+        final TransitSpeeds store = new TransitSpeeds(file, writeable);
+
+        if (Files.exists(file)) {
+            if (!Files.isReadable(file) || (writeable && !Files.isWritable(file))) {
+                throw new SwissephException(1. / 0., SwissephException.FILE_OPEN_FAILED,
+                        "Transit speeds file " + fname + " is not " + (writeable ? "writeable" : "readable"));
+            }
+            store.read();
+        } else if (!writeable) {
+            throw new SwissephException(1. / 0., SwissephException.FILE_NOT_FOUND,
+                    "Transit speeds file " + fname + " not found");
+        } else {
+            final Path dir = file.toAbsolutePath().getParent();
+            if (null == dir || !Files.isDirectory(dir) || !Files.isWritable(dir)) {
+                throw new SwissephException(1. / 0., SwissephException.FILE_OPEN_FAILED,
+                        "Transit speeds file " + fname + " cannot be created");
+            }
+        }
+
+        return store;
+    }
+
+    /**
+     * The extremes of an object, sampled up to {@code count} dates first if the entry holds
+     * fewer.
+     *
+     * @param sampler the value at a date in ET, NaN if it cannot be computed
+     * @return {min, max}, min not below max if nothing could be computed
+     */
+    double[] extremes(int planet, int idx, int flags, int count, DoubleUnaryOperator sampler) {
+        final Entry entry = speeds.computeIfAbsent(key(planet, idx, flags), k -> new Entry());
+        final double[] extremes;
+        boolean improved = false;
+
+        synchronized (entry) {
+            for (int k = entry.samples; k < count; k++) {
+                final double value = sampler.applyAsDouble(date(k));
+                if (value != value) continue; // failed dates count as samples too
+
+                entry.min = Math.min(entry.min, value);
+                entry.max = Math.max(entry.max, value);
+            }
+
+            if (count > entry.samples) {
+                entry.samples = count;
+                improved = true;
+            }
+
+            extremes = new double[]{entry.min, entry.max};
+        }
+
+        if (improved && writeable) write();
+        return extremes;
+    }
+
+    /**
+     * @return {samples, min, max} of the entry, null if there is none
+     */
+    double[] get(int planet, int idx, int flags) {
+        final Entry entry = speeds.get(key(planet, idx, flags));
+        if (null == entry) return null;
+
+        synchronized (entry) {
+            return new double[]{entry.samples, entry.min, entry.max};
+        }
+    }
+
+    /**
+     * Takes over the entries of another store, e.g. those sampled before a file was set.
+     */
+    void improve(TransitSpeeds other) {
+        for (Map.Entry<Long, Entry> e : other.speeds.entrySet()) {
+            final Entry entry = e.getValue();
+            synchronized (entry) {
+                merge(e.getKey(), entry.samples, entry.min, entry.max);
+            }
+        }
+
+        if (!other.speeds.isEmpty() && writeable) write();
+    }
+
+    int size() {
+        return speeds.size();
+    }
+
+    /**
+     * @return the k-th sampling date in ET
+     */
+    static double date(int k) {
+        final double f = .5 + k * GOLDEN;
+        return SwephData.MOSHPLEPH_START + (f - Math.floor(f)) * (SwephData.MOSHPLEPH_END - SwephData.MOSHPLEPH_START);
+    }
+
+    /**
+     * The dates are the same everywhere, so the longer of two runs covers the shorter one.
+     */
+    private void merge(long key, int samples, double min, double max) {
+        final Entry entry = speeds.computeIfAbsent(key, k -> new Entry());
+
+        synchronized (entry) {
+            entry.samples = Math.max(entry.samples, samples);
+            entry.min = Math.min(entry.min, min);
+            entry.max = Math.max(entry.max, max);
+        }
+    }
+
+    private void read() {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                final String[] t = line.split("\\s+");
+                if (t.length != 6) throw new NumberFormatException(line);
+
+                merge(key(Integer.parseInt(t[0]), Integer.parseInt(t[1]), Integer.parseInt(t[2])),
+                        Integer.parseInt(t[3]), Double.parseDouble(t[4]), Double.parseDouble(t[5]));
+            }
+        } catch (NumberFormatException e) {
+            throw new SwissephException(1. / 0., SwissephException.DAMAGED_FILE_ERROR,
+                    "Transit speeds file " + file + " is damaged: " + e.getMessage());
+        } catch (IOException e) {
+            throw new SwissephException(1. / 0., SwissephException.FILE_READ_ERROR,
+                    "Transit speeds file " + file + " cannot be read: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a temporary file and moves it over the speeds file, so a reader never sees
+     * half of it.
+     */
+    private synchronized void write() {
+        final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.US_ASCII)) {
+                writer.write(HEADER);
+                writer.newLine();
+
+                for (Map.Entry<Long, Entry> e : speeds.entrySet()) {
+                    final long key = e.getKey();
+                    final Entry entry = e.getValue();
+
+                    synchronized (entry) {
+                        if (entry.samples == 0) continue;
+                        writer.write((key >>> 40) + " " + ((key >>> 32) & 0xff) + " " + (int) key + " "
+                                + entry.samples + " " + entry.min + " " + entry.max);
+                    }
+                    writer.newLine();
+                }
+            }
+
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new SwissephException(1. / 0., SwissephException.FILE_ERROR,
+                    "Transit speeds file " + file + " cannot be written: " + e.getMessage());
+        }
+    }
+
+    private static long key(int planet, int idx, int flags) {
+        return ((long) planet << 40) | ((long) (idx & 0xff) << 32) | (flags & 0xffffffffL);
+    }
+
+    /**
+     * Extremes sampled from the first {@code samples} dates
+     */
+    private static final class Entry {
+        int samples;
+        double min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package swisseph;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The transits over a time range, found lazily one window after the other by
+ * {@link TransitCalculator#getTransitsUT(TransitCalculator, double[], double, double)}.
+ * <p>
+ * Two neighbouring windows, as well as two splits, meet at a date both of them calculate the
+ * same way: a transit on one side of it belongs to one of them only, so there is nothing to
+ * step past or to find twice. The window grows while it holds no transit and shrinks while it
+ * holds too many, so the first one comes soon and a slow planet does not take a search per day.
+ * <p>
+ * A split takes the first half of the range that is left, with a calculator of its own from
+ * the supplier: one engine per split if the supplier makes a new engine every time. The size
+ * estimate is the days left, which keeps the number of splits to about the parallelism.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ * @see TransitCalculator#streamTransitsUT(Supplier, double[], double, double)
+ */
+final class TransitSpliterator implements Spliterator<TransitEvent> {
+    static final double MIN_WINDOW = 1. / 24;
+    static final double FIRST_WINDOW = 1.;
+    static final double MIN_SPLIT = 1.;
+    static final int MAX_EVENTS = 32; // per window
+
+    private final Supplier<? extends TransitCalculator> calculators;
+    private final double[] offsets;
+    private final double jdLimit;
+    private final ArrayDeque<TransitEvent> events = new ArrayDeque<>();
+    private TransitCalculator tc;
+    private double jdUT, window = FIRST_WINDOW;
+
+    TransitSpliterator(Supplier<? extends TransitCalculator> calculators, double[] offsets,
+                       double jdUT, double jdLimit) {
+        this.calculators = calculators;
+        this.offsets = offsets;
+        this.jdUT = jdUT;
+        this.jdLimit = jdLimit;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TransitEvent> action) {
+        while (events.isEmpty()) {
+            if (!(jdUT < jdLimit)) return false;
+            search();
+        }
+
+        action.accept(events.poll());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TransitEvent> action) {
+        while (tryAdvance(action)) {
+            // one window after the other
+        }
+    }
+
+    /**
+     * @return the first half of the range left, none while this one has transits waiting
+     */
+    @Override
+    public Spliterator<TransitEvent> trySplit() {
+        if (!events.isEmpty() || !(jdLimit - jdUT >= 2 * MIN_SPLIT)) return null;
+
+        final double middle = jdUT + (jdLimit - jdUT) / 2;
+        final TransitSpliterator prefix = new TransitSpliterator(calculators, offsets, jdUT, middle);
+        prefix.window = window;
+        jdUT = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return events.size() + (long) Math.ceil(Math.max(0., jdLimit - jdUT));
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    /**
+     * The transits of the next window
+     */
+    private void search() {
+        if (null == tc) tc = calculators.get();
+
+        final double end = Math.min(jdUT + window, jdLimit);
+        final TransitEvent[] found = TransitCalculator.getTransitsUT(tc, offsets, jdUT, end);
+        for (TransitEvent event : found) events.add(event);
+        jdUT = end;
+
+        if (found.length == 0) {
+            window *= 2;
+        } else if (found.length > MAX_EVENTS) {
+            window = Math.max(window / 2, MIN_WINDOW);
+        }
+    }
+}
@@ -24,7 +24,10 @@ import static org.swisseph.api.ISweObjects.CUSPS_COUNT;
 import static org.swisseph.api.ISweObjects.LG;
 import static org.swisseph.app.SweAyanamsa.TRUE_CITRA;
 import static org.swisseph.app.SweHouseSystem.*;
+import static swisseph.SweConst.SEFLG_RADIANS;
+import static swisseph.SweConst.SEFLG_SIDEREAL;
 import static swisseph.SweConst.SEFLG_SWIEPH;
+import static swisseph.SweConst.SE_SIDM_FAGAN_BRADLEY;
 import static swisseph.SweConst.SE_NASCMC;
 
 /**
@@ -197,6 +200,48 @@ public class CuspsTest extends AbstractTest {
         }
     }
 
+    /**
+     * The speeds come from the epoch evaluated once and the ARMC moved either side. They must
+     * match differencing two complete house calculations a second apart, tropical, sidereal
+     * and in radians, far inside the resolution of the speed itself.
+     */
+    @Test
+    void armcSpeedsMatchFullTimeDifferencing() {
+        final double jdUT = new SweDate(1977, 10, 4, 12.33).getJulDay();
+        final double dt = 1. / 86400.;
+        final ISwissEph swissEph = getSwissEph();
+        swissEph.swe_set_sid_mode(TRUE_CITRA.fid(), 0, 0);
+
+        try {
+            for (int iflag : new int[]{SEFLG_SWIEPH, SEFLG_SWIEPH | SEFLG_SIDEREAL, SEFLG_SWIEPH | SEFLG_RADIANS}) {
+                final double unit = (iflag & SEFLG_RADIANS) != 0 ? Math.toRadians(1.) : 1.;
+
+                for (ISweHouseSystem hsys : SweHouseSystem.values()) {
+                    if (hsys == NIL || hsys == WHOLE_SIGN) continue;
+                    double[] c = new double[CUSPS_COUNT], a = new double[ASCMC_COUNT];
+                    double[] cs = new double[CUSPS_COUNT], as = new double[ASCMC_COUNT];
+                    double[] cm = new double[CUSPS_COUNT], am = new double[ASCMC_COUNT];
+                    double[] cp = new double[CUSPS_COUNT], ap = new double[ASCMC_COUNT];
+
+                    swissEph.swe_houses_ex2(jdUT, iflag, GEO_LAT, GEO_LON, hsys.fid(), c, a, cs, as, null);
+                    swissEph.swe_houses_ex(jdUT - dt, iflag, GEO_LAT, GEO_LON, hsys.fid(), cm, am);
+                    swissEph.swe_houses_ex(jdUT + dt, iflag, GEO_LAT, GEO_LON, hsys.fid(), cp, ap);
+
+                    for (int h = 1; h <= 12; h++) {
+                        final double d = swissEph.swe_difdeg2n(cp[h] / unit, cm[h] / unit) / (2. * dt);
+                        assertEquals(d, cs[h] / unit, .01, hsys.name() + " " + iflag + " cusp " + h);
+                    }
+                    for (int i = 0; i < SE_NASCMC; i++) {
+                        final double d = swissEph.swe_difdeg2n(ap[i] / unit, am[i] / unit) / (2. * dt);
+                        assertEquals(d, as[i] / unit, .01, hsys.name() + " " + iflag + " point " + i);
+                    }
+                }
+            }
+        } finally {
+            swissEph.swe_set_sid_mode(SE_SIDM_FAGAN_BRADLEY, 0, 0);
+        }
+    }
+
     /**
      * Pins a difference between the engines rather than a requirement. For the cusps that are
      * neither the ascendant nor the MC, the speed the <b>native</b> library reports is not the
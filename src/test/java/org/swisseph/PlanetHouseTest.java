@@ -15,6 +15,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.swisseph.api.ISweObjects.*;
 import static org.swisseph.app.SweAyanamsa.LAHIRI;
 import static org.swisseph.app.SweHouseSystem.*;
+import static swisseph.SweConst.ERR;
+import static swisseph.SweConst.OK;
 
 /**
  * {@link ISweObjects#calculatePlanetHousePosition(int)} and the house numbers derived
@@ -243,4 +245,56 @@ public class PlanetHouseTest extends AbstractTest {
         assertEquals(23 + 26 / 60. + 26.0489 / 3600., o.trueObliquity(), 1e-7);
         assertEquals(o.trueObliquity(), o.trueObliquity());
     }
+
+    // ------------------------------------------------------- batch house positions
+
+    /**
+     * The batch <code>swe_house_pos()</code> computes the terms every point shares once; it
+     * must still give exactly what one call per point gives, for every system the single
+     * call knows, inside and beyond the polar circles.
+     */
+    @Test
+    void batchHousePositionsEqualOneCallPerPoint() {
+        final ISwissEph swissEph = getSwissEph();
+        final double[] xlon = new double[72], xlat = new double[72], hpos = new double[72];
+        for (int i = 0; i < xlon.length; i++) {
+            xlon[i] = i * 5. + .25;
+            xlat[i] = (i % 9 - 4) * 1.5;
+        }
+
+        for (char hsys : "PKORCAEVWXHTBMUGYNFILQSD".toCharArray()) {
+            for (double geolat : new double[]{-70., -35.5, 0., 16.2, 51.5, 68., 80.}) {
+                for (double armc : new double[]{0., 89.99, 123.4, 270., 301.7}) {
+                    final StringBuilder serr = new StringBuilder();
+                    final int retc = swissEph.swe_house_pos(armc, geolat, 23.44, hsys, xlon, xlat, hpos, serr);
+
+                    boolean failed = false;
+                    for (int i = 0; i < xlon.length; i++) {
+                        final double single = swissEph.swe_house_pos(armc, geolat, 23.44, hsys,
+                                new double[]{xlon[i], xlat[i]}, null);
+                        assertEquals(single, hpos[i], 0., hsys + " at " + geolat + "/" + armc + " point " + i);
+                        failed |= single < 1.;
+                    }
+                    assertEquals(failed ? ERR : OK, retc);
+                }
+            }
+        }
+    }
+
+    @Test
+    void completeBuildGivesTheHousesOfOneCallPerObject() {
+        for (SweHouseSystem hsys : SweHouseSystem.values()) {
+            if (NIL == hsys) continue;
+
+            final ISweObjects o = new SweObjects(getSwissEph(),
+                    new SweJulianDate(new int[]{1976, 4, 18, 23, 21}, 3f, 23.35),
+                    new SweGeoLocation(JHD.longitude(), JHD.latitude(), 0),
+                    new SweObjectsOptions.Builder().ayanamsa(LAHIRI).houseSystem(hsys).build())
+                    .completeBuild();
+
+            for (int i = LG; i <= PL; i++) {
+                assertEquals(o.calculatePlanetHouse(i), o.houses()[i], hsys + " object " + i);
+            }
+        }
+    }
 }
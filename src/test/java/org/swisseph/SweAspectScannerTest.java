@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SweAspectScanner;
+import swisseph.SweAspectScanner.Aspect;
+import swisseph.TCPlanetPlanet;
+import swisseph.TransitCalculator;
+import swisseph.TransitEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * {@link SweAspectScanner} must find the exact aspects the {@link TCPlanetPlanet} searches of
+ * every pair find, at a fraction of the calculations.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweAspectScannerTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final double DELTA = 1. / 1440;
+    static final int[] PLANETS = {SE_SUN, SE_MOON, SE_MERCURY, SE_VENUS, SE_MARS,
+            SE_JUPITER, SE_SATURN, SE_URANUS, SE_NEPTUNE, SE_PLUTO};
+    static final double[] MAJOR = {0., 60., 90., 120., 180.};
+
+    @Test
+    void tenPlanetsMatchPairwiseSearches() {
+        final SweAspectScanner scanner = new SweAspectScanner(getSwissEph(), PLANETS, MAJOR, SEFLG_SWIEPH);
+        final Aspect[] aspects = scanner.aspects(J2000, J2000 + 120);
+        final int[] calculations = {0};
+        final List<Expected> expected = pairwise(PLANETS, MAJOR, J2000, J2000 + 120, calculations);
+
+        assertMatch(expected, aspects);
+        for (int k = 1; k < aspects.length; k++) assertTrue(aspects[k - 1].tjdUT <= aspects[k].tjdUT);
+        assertTrue(scanner.calculations() * 3 < calculations[0], scanner.calculations() + " vs " + calculations[0]);
+    }
+
+    @Test
+    void retrogradePlanetsMakeRepeatedAspects() {
+        // Mercury retrograde in spring and summer 2000 repeats its aspects to the outer planets
+        final int[] bodies = {SE_MERCURY, SE_VENUS, SE_JUPITER, SE_SATURN};
+        final double[] aspects = {0., 45., 90., 135., 180.};
+        final Aspect[] found = new SweAspectScanner(getSwissEph(), bodies, aspects, SEFLG_SWIEPH)
+                .aspects(J2000, J2000 + 365);
+
+        assertMatch(pairwise(bodies, aspects, J2000, J2000 + 365, new int[1]), found);
+        assertTrue(found.length > 20);
+    }
+
+    @Test
+    void separationsTellWaxingFromWaning() {
+        final Aspect[] found = new SweAspectScanner(getSwissEph(), new int[]{SE_MOON, SE_SUN}, new double[]{90.},
+                SEFLG_SWIEPH).aspects(J2000, J2000 + 29.5);
+
+        assertEquals(2, found.length);
+        assertNotEquals(found[0].separation, found[1].separation);
+        for (final Aspect aspect : found) {
+            assertEquals(90., aspect.aspect);
+            assertTrue(aspect.separation == 90. || aspect.separation == 270., aspect.toString());
+        }
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SweAspectScanner(getSwissEph(),
+                new int[]{SE_SUN}, MAJOR, SEFLG_SWIEPH));
+        assertThrows(IllegalArgumentException.class, () -> new SweAspectScanner(getSwissEph(),
+                PLANETS, new double[0], SEFLG_SWIEPH));
+        assertThrows(IllegalArgumentException.class, () -> new SweAspectScanner(getSwissEph(),
+                PLANETS, MAJOR, SEFLG_SWIEPH).aspects(J2000, J2000));
+    }
+
+    private static void assertMatch(final List<Expected> expected, final Aspect[] actual) {
+        assertEquals(expected.size(), actual.length);
+
+        for (final Expected e : expected) {
+            boolean matched = false;
+            for (final Aspect a : actual) {
+                if (a.planet1 == e.planet1 && a.planet2 == e.planet2 && a.separation == e.separation
+                        && Math.abs(a.tjdUT - e.tjdUT) < DELTA) {
+                    assertEquals(e.aspect, a.aspect);
+                    matched = true;
+                    break;
+                }
+            }
+            assertTrue(matched, "not found: " + e);
+        }
+    }
+
+    /**
+     * The aspects of one {@link TransitCalculator#getTransitsUT} per pair, over the separations
+     * {@code lon1 - lon2} they are exact at
+     */
+    private static List<Expected> pairwise(final int[] bodies, final double[] aspects, final double jdUT0,
+                                           final double jdUT1, final int[] calculations) {
+        final List<Double> offsets = new ArrayList<>();
+        final List<Double> aspectOf = new ArrayList<>();
+        for (final double aspect : aspects) {
+            for (final double separation : new double[]{aspect, (360. - aspect) % 360.}) {
+                if (offsets.contains(separation)) continue; // 0 and 180 are their own opposites
+                offsets.add(separation);
+                aspectOf.add(aspect);
+            }
+        }
+        final double[] separations = offsets.stream().mapToDouble(Double::doubleValue).toArray();
+
+        final List<Expected> found = new ArrayList<>();
+        for (int i = 0; i < bodies.length; i++) {
+            for (int j = i + 1; j < bodies.length; j++) {
+                final TCPlanetPlanet tc = new TCPlanetPlanet(getSwissEph(), bodies[i], bodies[j],
+                        SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE, 0.);
+                for (final TransitEvent event : TransitCalculator.getTransitsUT(tc, separations, jdUT0, jdUT1)) {
+                    found.add(new Expected(bodies[i], bodies[j], aspectOf.get(event.index), event.offset, event.tjdUT));
+                }
+                calculations[0] += 2 * tc.getEvaluations(); // both planets each time
+            }
+        }
+        return found;
+    }
+
+    private static final class Expected {
+        final int planet1, planet2;
+        final double aspect, separation, tjdUT;
+
+        Expected(int planet1, int planet2, double aspect, double separation, double tjdUT) {
+            this.planet1 = planet1;
+            this.planet2 = planet2;
+            this.aspect = aspect;
+            this.separation = separation;
+            this.tjdUT = tjdUT;
+        }
+
+        @Override
+        public String toString() {
+            return planet1 + "/" + planet2 + " " + separation + " at " + tjdUT;
+        }
+    }
+}
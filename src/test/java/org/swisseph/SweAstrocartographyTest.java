@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import swisseph.SweAstrocartography;
+import swisseph.SweAstrocartography.Line;
+import swisseph.SweHouseGrid;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * Astrocartography lines checked against the charts cast on them: on a zodiacal ASC or MC
+ * line the ascendant or MC of {@code swe_houses_armc()} is the body's degree, on an in mundo
+ * ASC line the body is on the horizon.
+ * <p>
+ * {@code -Dswe.benchmark=true} also times the lines against finding them by brute force on
+ * a grid of charts.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweAstrocartographyTest extends AbstractTest {
+
+    static final double TJD_UT = 2443421.24306;
+    static final int[] BODIES = {SE_SUN, SE_MOON, SE_MERCURY, SE_VENUS, SE_MARS,
+            SE_JUPITER, SE_SATURN, SE_URANUS, SE_NEPTUNE, SE_PLUTO};
+    static final double DELTA = 1e-7;
+
+    @Test
+    void zodiacalLinesCarryTheBodyOnTheAngles() {
+        final ISwissEph swissEph = getSwissEph();
+        final SweAstrocartography map = new SweAstrocartography(swissEph, TJD_UT, SEFLG_SWIEPH, BODIES, false);
+        final SweHouseGrid epoch = map.epoch();
+        final Line[] lines = map.lines(SweAstrocartography.latitudes(-66, 66, 3), true);
+        assertEquals(BODIES.length * 4, lines.length);
+
+        final double[] xx = new double[6], cusp = new double[13], ascmc = new double[10];
+
+        for (int i = 0; i < BODIES.length; i++) {
+            assertNotEquals(ERR, swissEph.swe_calc(epoch.julianDayET(), BODIES[i], SEFLG_SWIEPH, xx, null));
+            final double lon = xx[0];
+
+            for (Line line : new Line[]{lines[i * 4], lines[i * 4 + 1], lines[i * 4 + 2], lines[i * 4 + 3]}) {
+                assertEquals(BODIES[i], line.body);
+
+                for (int k = 0; k < line.size(); k++) {
+                    epoch.houses(epoch.armc(line.longitudes[k]), line.latitudes[k], SE_HSYS_PORPHYRIUS, cusp, ascmc);
+                    final String at = line + " at " + line.latitudes[k];
+
+                    switch (line.angle) {
+                        case SweAstrocartography.MC:
+                            assertEquals(0., swissEph.swe_difdeg2n(lon, ascmc[SE_MC]), DELTA, at);
+                            break;
+                        case SweAstrocartography.IC:
+                            assertEquals(0., swissEph.swe_difdeg2n(lon + 180., ascmc[SE_MC]), DELTA, at);
+                            break;
+                        case SweAstrocartography.ASC:
+                            assertEquals(0., swissEph.swe_difdeg2n(lon, ascmc[SE_ASC]), DELTA, at);
+                            break;
+                        default:
+                            assertEquals(0., swissEph.swe_difdeg2n(lon + 180., ascmc[SE_ASC]), DELTA, at);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void inMundoAscAndDscLinesAreOnTheHorizon() {
+        final ISwissEph swissEph = getSwissEph();
+        final SweAstrocartography map = new SweAstrocartography(swissEph, TJD_UT, SEFLG_SWIEPH, BODIES, true);
+        final double[] xin = new double[3], xaz = new double[3];
+
+        for (int i = 0; i < BODIES.length; i++) {
+            xin[0] = map.rightAscension(i);
+            xin[1] = map.declination(i);
+            xin[2] = 1.;
+
+            for (double lat = -60; lat <= 60; lat += 7.5) {
+                for (double lon : new double[]{map.ascLongitude(i, lat), map.dscLongitude(i, lat)}) {
+                    swissEph.swe_azalt(TJD_UT, SE_EQU2HOR, new double[]{lon, lat, 0}, 0, 10, xin, xaz);
+                    assertEquals(0., xaz[1], DELTA, BODIES[i] + " at " + lat + "/" + lon);
+                }
+            }
+
+            // circumpolar beyond 90 - |decl|
+            final double beyond = Math.copySign(90. - Math.abs(map.declination(i)) + .5, map.declination(i));
+            assertTrue(Double.isNaN(map.ascLongitude(i, beyond)));
+        }
+
+        // in mundo and zodiacal lines agree for the sun
+        final SweAstrocartography zodiacal = new SweAstrocartography(swissEph, TJD_UT, SEFLG_SWIEPH, BODIES, false);
+        assertEquals(map.mcLongitude(0), zodiacal.mcLongitude(0), 1e-4);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "swe.benchmark", matches = "true")
+    void benchmarkAgainstGridBruteForce() {
+        final ISwissEph swissEph = getSwissEph();
+        final double[] latitudes = SweAstrocartography.latitudes(-66, 66, 1);
+        final double[] longitudes = SweAstrocartography.latitudes(-180, 179.5, .5);
+        final int rounds = 20;
+
+        long lines = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            lines += new SweAstrocartography(swissEph, TJD_UT + r, SEFLG_SWIEPH, BODIES, false)
+                    .lines(latitudes, false).length;
+        }
+        final long linesNanos = System.nanoTime() - start;
+
+        // brute force: every chart of the grid, then each body's ascendant crossing per row
+        final double[] xx = new double[6];
+        final double[] ascmc = new double[latitudes.length * longitudes.length * SE_NASCMC];
+        long crossings = 0;
+        start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            final SweHouseGrid grid = new SweHouseGrid(swissEph, TJD_UT + r, 0);
+            grid.houses(latitudes, longitudes, SE_HSYS_PORPHYRIUS, null, ascmc, false);
+
+            for (int body : BODIES) {
+                swissEph.swe_calc(grid.julianDayET(), body, SEFLG_SWIEPH, xx, null);
+                for (int p = 0; p < latitudes.length * longitudes.length - 1; p++) {
+                    final double d0 = swissEph.swe_difdeg2n(ascmc[p * SE_NASCMC], xx[0]);
+                    final double d1 = swissEph.swe_difdeg2n(ascmc[(p + 1) * SE_NASCMC], xx[0]);
+                    if (d0 <= 0 && d1 > 0 && d1 - d0 < 90) crossings++;
+                }
+            }
+        }
+        final long bruteNanos = System.nanoTime() - start;
+
+        System.out.printf("Astrocartography: %d lines in %.2f ms, grid brute force (%d crossings) in %.2f ms%n",
+                lines, linesNanos / 1e6, crossings, bruteNanos / 1e6);
+        assertTrue(lines > 0 && crossings > 0);
+    }
+}
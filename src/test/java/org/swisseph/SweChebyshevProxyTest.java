@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SweChebyshevProxy;
+import swisseph.TCPlanet;
+import swisseph.TCPlanetPlanet;
+import swisseph.TransitCalculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * {@link SweChebyshevProxy} must stay close to the engine, and the transit searches on it
+ * must find the transits of the engine with far fewer calculations of the engine.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweChebyshevProxyTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final double DELTA = 1. / 86400; // a second
+    static final int LON = SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE;
+
+    @Test
+    void proxyStaysCloseToTheEngine() {
+        final ISwissEph swissEph = getSwissEph();
+        final SweChebyshevProxy proxy = new SweChebyshevProxy(swissEph);
+        final double[] xx = new double[6], yy = new double[6];
+        final StringBuilder serr = new StringBuilder();
+
+        for (final int planet : new int[]{SE_SUN, SE_MOON, SE_MERCURY, SE_MARS, SE_SATURN, SE_MEAN_NODE}) {
+            for (double jd = J2000; jd < J2000 + 365; jd += .37) {
+                assertTrue(proxy.swe_calc(jd, planet, SEFLG_SWIEPH, xx, serr) >= 0);
+                assertTrue(swissEph.swe_calc(jd, planet, SEFLG_SWIEPH | SEFLG_SPEED, yy, serr) >= 0);
+
+                assertEquals(0., Math.IEEEremainder(xx[0] - yy[0], 360.), 5 * SweChebyshevProxy.DEFAULT_TOLERANCE);
+                assertEquals(yy[1], xx[1], 5 * SweChebyshevProxy.DEFAULT_TOLERANCE);
+                assertEquals(yy[2], xx[2], 5 * SweChebyshevProxy.DEFAULT_TOLERANCE);
+                assertEquals(yy[3], xx[3], 1e-2); // the derivative of the polynomial
+            }
+        }
+
+        // far fewer windows than days
+        assertTrue(proxy.windows() < 6 * 120, "windows: " + proxy.windows());
+    }
+
+    @Test
+    void nakshatrasOfTheMoonOnTheProxy() {
+        assertSameTransits(() -> new TCPlanet(getSwissEph(), SE_MOON, LON, 0.), 27, 90, false);
+        assertSameTransits(() -> new TCPlanet(getSwissEph(), SE_MOON, LON, 0.), 27, 90, true);
+    }
+
+    @Test
+    void retrogradeTransitsOnTheProxy() {
+        assertSameTransits(() -> new TCPlanet(getSwissEph(), SE_MERCURY, LON, 0.), 12, 1000, true);
+        assertSameTransits(() -> new TCPlanet(getSwissEph(), SE_MARS, LON, 0.), 12, 1000, false);
+    }
+
+    @Test
+    void phasesOfTheMoonOnTheProxy() {
+        assertSameTransits(() -> new TCPlanetPlanet(getSwissEph(), SE_MOON, SE_SUN, LON, 0.), 4, 180, false);
+    }
+
+    @Test
+    void backwardSearchOnTheProxy() {
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_MARS, LON, 100.);
+        final double expected = TransitCalculator.getTransitUT(tc, J2000, true);
+
+        tc.setProxy(new SweChebyshevProxy(getSwissEph()));
+        assertEquals(expected, TransitCalculator.getTransitUT(tc, J2000, true), DELTA);
+    }
+
+    @Test
+    void proxyOfAnotherEngineIsRejected() {
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_SUN, LON, 0.);
+        try (ISwissEph other = newSwissEph()) {
+            assertThrows(IllegalArgumentException.class, () -> tc.setProxy(new SweChebyshevProxy(other)));
+        }
+    }
+
+    private static void assertSameTransits(final Supplier<TransitCalculator> calculator, final int offsets,
+                                           final double days, final boolean bracketing) {
+        final TransitCalculator engine = calculator.get(), proxied = calculator.get();
+        engine.setBracketing(bracketing);
+        proxied.setBracketing(bracketing);
+        final SweChebyshevProxy proxy = new SweChebyshevProxy(getSwissEph());
+        proxied.setProxy(proxy);
+
+        final int[] calculations = {0, 0};
+        final List<Double> expected = transits(engine, offsets, days, calculations);
+        final List<Double> actual = transits(proxied, offsets, days, new int[1]);
+        calculations[1] = proxy.calculations();
+
+        assertEquals(expected.size(), actual.size());
+        for (int k = 0; k < expected.size(); k++) {
+            assertEquals(expected.get(k), actual.get(k), DELTA, "transit " + k);
+        }
+        assertTrue(calculations[1] < calculations[0], calculations[1] + " vs " + calculations[0]);
+    }
+
+    /**
+     * @return the transits over {@code offsets} equal parts of the circle, one search after
+     * the other, calculations of the engine added up in calculations[0]
+     */
+    private static List<Double> transits(final TransitCalculator tc, final int offsets, final double days,
+                                         final int[] calculations) {
+        final List<Double> transits = new ArrayList<>();
+
+        for (int i = 0; i < offsets; i++) {
+            tc.setOffset(i * 360. / offsets);
+            double jdUT = J2000;
+
+            while (true) {
+                jdUT = TransitCalculator.getTransitUT(tc, jdUT, false);
+                calculations[0] += tc.getEvaluations();
+                if (jdUT >= J2000 + days) break;
+
+                transits.add(jdUT);
+                jdUT += 1e-4;
+            }
+        }
+
+        return transits;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import swisseph.SweHouseContext;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * One {@link SweHouseContext} reused across house systems, latitudes and obliquities
+ * must give bit for bit what {@code swe_houses_armc()} gives.
+ * <p>
+ * {@code -Dswe.benchmark=true} also times every house system with a reused context
+ * against a fresh one per call.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweHouseContextTest extends AbstractTest {
+
+    static final String SYSTEMS = "PKORCAEVWXHTBMUGYNFILQSD";
+
+    @Test
+    void reusedContextGivesTheResultsOfSweHousesArmc() {
+        final ISwissEph swissEph = getSwissEph();
+        final SweHouseContext ctx = new SweHouseContext();
+        final double[] cusp = new double[37], ascmc = new double[10];
+        final double[] expectedCusp = new double[37], expectedAscmc = new double[10];
+
+        for (double eps : new double[]{23.44, 23.0}) {
+            for (double geolat = -89.5; geolat <= 90.; geolat += 11.3) {
+                for (char hsys : SYSTEMS.toCharArray()) {
+                    for (double armc = 0.; armc < 360.; armc += 17.1) {
+                        final String at = hsys + " at " + geolat + "/" + armc + "/" + eps;
+
+                        assertEquals(swissEph.swe_houses_armc(armc, geolat, eps, hsys, expectedCusp, expectedAscmc),
+                                ctx.houses(armc, geolat, eps, hsys, cusp, ascmc), at);
+                        assertArrayEquals(expectedCusp, cusp, 0., at);
+                        assertArrayEquals(expectedAscmc, ascmc, 0., at);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "swe.benchmark", matches = "true")
+    void benchmarkReusedContextAgainstAFreshOne() {
+        final double[] cusp = new double[37], ascmc = new double[10];
+        final int n = 200_000;
+
+        for (char hsys : SYSTEMS.toCharArray()) {
+            final SweHouseContext ctx = new SweHouseContext();
+            double sink = 0.;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                new SweHouseContext().houses(i * .0018, 51.48, 23.44, hsys, cusp, ascmc);
+                sink += ascmc[0];
+            }
+            final long fresh = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                ctx.houses(i * .0018, 51.48, 23.44, hsys, cusp, ascmc);
+                sink += ascmc[0];
+            }
+            final long reused = System.nanoTime() - start;
+
+            System.out.printf("%c: fresh context %.1f ns/call, reused %.1f ns/call (%.0f)%n",
+                    hsys, fresh / (double) n, reused / (double) n, sink);
+        }
+    }
+}
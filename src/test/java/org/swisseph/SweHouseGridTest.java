@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.swisseph.api.ISweHouseSystem;
+import org.swisseph.app.SweHouseSystem;
+import swisseph.SweHouseGrid;
+import swisseph.SweHouseSeries;
+import swisseph.SweLagnaTable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static swisseph.SweConst.*;
+
+/**
+ * Every position of a {@link SweHouseGrid} must carry the houses {@code swe_houses_ex()}
+ * computes for it alone, tropical and sidereal, for every house system.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweHouseGridTest extends AbstractTest {
+
+    static final double TJD_UT = 2451545.25;
+    static final double DELTA = 1e-8;
+
+    static final double[] LATITUDES = {-72.5, -45., -10.25, 0., 13.08, 51.48, 66., 78.2};
+    static final double[] LONGITUDES = {-179.5, -120., -0.1, 0., 30.5, 80.27, 150., 179.9};
+
+    @Test
+    void tropicalGridMatchesSweHousesEx() {
+        assertGrid(0);
+    }
+
+    @Test
+    void siderealGridMatchesSweHousesEx() {
+        getSwissEph().swe_set_sid_mode(SE_SIDM_LAHIRI, 0, 0);
+
+        try {
+            assertGrid(SEFLG_SIDEREAL);
+            assertGrid(SEFLG_SIDEREAL | SEFLG_NONUT);
+        } finally {
+            getSwissEph().swe_set_sid_mode(SE_SIDM_FAGAN_BRADLEY, 0, 0);
+        }
+    }
+
+    @Test
+    void projectedSiderealModesAreRejected() {
+        final ISwissEph swissEph = getSwissEph();
+
+        try {
+            for (final int mode : new int[]{SE_SIDM_LAHIRI | SE_SIDBIT_ECL_T0,
+                    SE_SIDM_LAHIRI | SE_SIDBIT_SSY_PLANE, SE_SIDM_J2000}) {
+                swissEph.swe_set_sid_mode(mode, 0, 0);
+                assertThrows(IllegalArgumentException.class, () -> new SweHouseGrid(swissEph, TJD_UT, SEFLG_SIDEREAL));
+                assertThrows(IllegalArgumentException.class,
+                        () -> new SweHouseSeries(swissEph, 51.48, 0., SEFLG_SIDEREAL, SweHouseSeries.DEFAULT_TOLERANCE));
+                assertThrows(IllegalArgumentException.class, () -> new SweLagnaTable(swissEph, 51.48, 0., SEFLG_SIDEREAL));
+
+                // tropical houses do not depend on the mode
+                new SweHouseGrid(swissEph, TJD_UT, 0);
+            }
+
+            // the bits do not apply to a star based ayanamsa and are dropped
+            swissEph.swe_set_sid_mode(SE_SIDM_TRUE_CITRA | SE_SIDBIT_ECL_T0, 0, 0);
+            assertGrid(SEFLG_SIDEREAL);
+        } finally {
+            swissEph.swe_set_sid_mode(SE_SIDM_FAGAN_BRADLEY, 0, 0);
+        }
+    }
+
+    @Test
+    void nilHouseSystemIsRejected() {
+        final SweHouseGrid grid = new SweHouseGrid(getSwissEph(), TJD_UT, 0);
+        assertThrows(IllegalArgumentException.class, () -> grid.houses(LATITUDES, LONGITUDES,
+                SweHouseSystem.NIL, null, null, false));
+        assertThrows(IllegalArgumentException.class, () -> grid.houses(LATITUDES, LONGITUDES,
+                SE_HSYS_PLACIDUS, new double[12], null, false));
+    }
+
+    private static void assertGrid(final int iflag) {
+        final ISwissEph swissEph = getSwissEph();
+        final SweHouseGrid grid = new SweHouseGrid(swissEph, TJD_UT, iflag);
+        final int points = LATITUDES.length * LONGITUDES.length;
+
+        for (ISweHouseSystem hsys : SweHouseSystem.values()) {
+            if (hsys == SweHouseSystem.NIL) continue;
+
+            final double[] cusps = new double[points * 12], ascmc = new double[points * SE_NASCMC];
+            final int failed = grid.houses(LATITUDES, LONGITUDES, hsys, cusps, ascmc, true);
+
+            final double[] cusp = new double[13], points10 = new double[10];
+            int expectedFailed = 0;
+
+            for (int r = 0; r < LATITUDES.length; r++) {
+                for (int c = 0; c < LONGITUDES.length; c++) {
+                    if (swissEph.swe_houses_ex(TJD_UT, iflag, LATITUDES[r], LONGITUDES[c],
+                            hsys.fid(), cusp, points10) == ERR) expectedFailed++;
+
+                    final int p = r * LONGITUDES.length + c;
+                    final String at = hsys + " " + iflag + " at " + LATITUDES[r] + "/" + LONGITUDES[c];
+
+                    for (int i = 1; i <= 12; i++) {
+                        assertEquals(0., swissEph.swe_difdeg2n(cusp[i], cusps[p * 12 + i - 1]), DELTA, at + " cusp " + i);
+                    }
+                    for (int i = 0; i < SE_NASCMC; i++) {
+                        assertEquals(0., swissEph.swe_difdeg2n(points10[i], ascmc[p * SE_NASCMC + i]), DELTA, at + " point " + i);
+                    }
+                }
+            }
+
+            assertEquals(expectedFailed, failed, hsys.toString());
+        }
+    }
+}
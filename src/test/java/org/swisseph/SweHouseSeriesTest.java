@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SweHouseSeries;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * Every moment of a {@link SweHouseSeries} must carry the houses {@code swe_houses_ex()}
+ * computes for it alone, while the epoch is refreshed a few times a day at most.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweHouseSeriesTest extends AbstractTest {
+
+    static final double TJD_UT = 2451545.25;
+    static final double DELTA = 1e-5;
+    static final double STEP = 7. / 1440;
+    static final int COUNT = 3 * 1440 / 7;
+
+    @Test
+    void tropicalSeriesMatchesSweHousesEx() {
+        assertSeries(0, 13.08, 80.27, SE_HSYS_PLACIDUS);
+        assertSeries(0, -33.87, 151.21, SE_HSYS_KOCH);
+        assertSeries(0, 51.48, 0., SE_HSYS_EQUAL);
+    }
+
+    @Test
+    void siderealSeriesMatchesSweHousesEx() {
+        getSwissEph().swe_set_sid_mode(SE_SIDM_LAHIRI, 0, 0);
+
+        try {
+            assertSeries(SEFLG_SIDEREAL, 13.08, 80.27, SE_HSYS_WHOLE_SIGN);
+            assertSeries(SEFLG_SIDEREAL | SEFLG_NONUT, 28.61, 77.21, SE_HSYS_PLACIDUS);
+        } finally {
+            getSwissEph().swe_set_sid_mode(SE_SIDM_FAGAN_BRADLEY, 0, 0);
+        }
+    }
+
+    @Test
+    void invalidSeriesIsRejected() {
+        final SweHouseSeries series = new SweHouseSeries(getSwissEph(), 13.08, 80.27, 0, SweHouseSeries.DEFAULT_TOLERANCE);
+        assertThrows(IllegalArgumentException.class, () -> series.houses(TJD_UT, 0., 2, SE_HSYS_PLACIDUS, null, null));
+        assertThrows(IllegalArgumentException.class, () -> series.houses(TJD_UT, STEP, 2, SE_HSYS_PLACIDUS, new double[12], null));
+        assertThrows(IllegalArgumentException.class, () -> new SweHouseSeries(getSwissEph(), 0., 0., 0, -1.));
+    }
+
+    private static void assertSeries(final int iflag, final double geolat, final double geolon, final int hsys) {
+        final ISwissEph swissEph = getSwissEph();
+        final SweHouseSeries series = new SweHouseSeries(swissEph, geolat, geolon, iflag, SweHouseSeries.DEFAULT_TOLERANCE);
+
+        final double[] cusps = new double[COUNT * 12], ascmc = new double[COUNT * SE_NASCMC];
+        final int failed = series.houses(TJD_UT, STEP, COUNT, hsys, cusps, ascmc);
+        final double[] cusp = new double[13], points10 = new double[10];
+
+        for (int k = 0; k < COUNT; k++) {
+            assertNotEquals(ERR, swissEph.swe_houses_ex(TJD_UT + k * STEP, iflag, geolat, geolon, hsys, cusp, points10));
+            final String at = (char) hsys + " " + iflag + " at " + k;
+
+            for (int i = 1; i <= 12; i++) {
+                assertEquals(0., swissEph.swe_difdeg2n(cusp[i], cusps[k * 12 + i - 1]), DELTA, at + " cusp " + i);
+            }
+            for (int i = 0; i < SE_NASCMC; i++) {
+                assertEquals(0., swissEph.swe_difdeg2n(points10[i], ascmc[k * SE_NASCMC + i]), DELTA, at + " point " + i);
+            }
+        }
+
+        assertEquals(0, failed);
+        assertTrue(series.epochs() <= 12, "epochs " + series.epochs());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.swisseph.api.ISweJulianDate;
+import org.swisseph.api.ISweObjects;
+import org.swisseph.api.ISweObjectsOptions;
+import org.swisseph.app.SweJulianDate;
+import org.swisseph.app.SweJulianDateCache;
+import org.swisseph.app.SweObjects;
+import org.swisseph.app.SweObjectsOptions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * A cached date resolution must give exactly what {@link ISwissEph#initJulianDate} and
+ * {@code swe_deltat_ex()} give, follow the tidal acceleration and stay within its bound.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweJulianDateCacheTest extends AbstractTest {
+
+    static final int[] BIRTH = {1977, 10, 4, 17, 50};
+
+    @Test
+    void cachedResolutionEqualsTheDirectOne() {
+        final SweJulianDateCache cache = new SweJulianDateCache(16);
+        final ISweJulianDate expected = getSwissEph().initJulianDate(new SweJulianDate(BIRTH, 5.5f, 17.8333));
+
+        for (int i = 0; i < 10; i++) {
+            final ISweJulianDate cached = cache.initJulianDate(getSwissEph(), new SweJulianDate(BIRTH, 5.5f, 17.8333));
+            assertArrayEquals(expected.values(), cached.values(), 0.);
+            assertArrayEquals(expected.date(), cached.date());
+        }
+
+        assertEquals(1, cache.misses());
+        assertEquals(9, cache.hits());
+        assertEquals(.9, cache.hitRate(), 1e-12);
+
+        // a different zone is a different key
+        cache.initJulianDate(getSwissEph(), new SweJulianDate(BIRTH, 3f, 17.8333));
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void deltaTFollowsTheTidalAcceleration() {
+        final SweJulianDateCache cache = new SweJulianDateCache(16);
+        final ISwissEph swissEph = getSwissEph();
+        final double jd = 2086307.5;
+
+        try {
+            swissEph.swe_set_tid_acc(SE_TIDAL_26);
+            final double expected26 = swissEph.swe_deltat_ex(jd, SEFLG_SWIEPH, null);
+            assertEquals(expected26, cache.deltaT(swissEph, jd, SEFLG_SWIEPH), 0.);
+            assertEquals(expected26, cache.deltaT(swissEph, jd, SEFLG_SWIEPH), 0.);
+
+            swissEph.swe_set_tid_acc(SE_TIDAL_DE200);
+            final double expectedDE200 = swissEph.swe_deltat_ex(jd, SEFLG_SWIEPH, null);
+            assertNotEquals(expected26, expectedDE200);
+            assertEquals(expectedDE200, cache.deltaT(swissEph, jd, SEFLG_SWIEPH), 0.);
+        } finally {
+            swissEph.swe_set_tid_acc(SE_TIDAL_AUTOMATIC);
+        }
+
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void deltaTPinnedOnAnotherThreadIsNotShared() throws Exception {
+        final SweJulianDateCache cache = new SweJulianDateCache(16);
+        final double jd = 2451545., pinned = 100. / 86400;
+        final double[] seen = new double[2];
+
+        final Thread other = new Thread(() -> {
+            try (ISwissEph swissEph = newSwissEph()) {
+                swissEph.swe_set_delta_t_userdef(pinned);
+                seen[0] = cache.deltaT(swissEph, jd, SEFLG_SWIEPH);
+                seen[1] = cache.deltaT(swissEph, jd, SEFLG_SWIEPH);
+            }
+        });
+        other.start();
+        other.join();
+
+        assertEquals(pinned, seen[0], 0.);
+        assertEquals(pinned, seen[1], 0.);
+
+        final ISwissEph swissEph = getSwissEph();
+        assertEquals(SE_DELTAT_AUTOMATIC, swissEph.swe_get_delta_t_userdef(), 0.);
+        final double expected = swissEph.swe_deltat_ex(jd, SEFLG_SWIEPH, null);
+        assertNotEquals(pinned, expected);
+        assertEquals(expected, cache.deltaT(swissEph, jd, SEFLG_SWIEPH), 0.);
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void chartsBuiltThroughTheCacheAreUnchanged() {
+        final SweJulianDateCache cache = new SweJulianDateCache(16);
+        final ISweObjectsOptions options = new SweObjectsOptions.Builder().build();
+
+        final ISweObjects expected = new SweObjects(getSwissEph(),
+                new SweJulianDate(BIRTH, 5.5f, 17.8333), GEO_CHENNAI, options).completeBuild();
+
+        for (int i = 0; i < 3; i++) {
+            final ISweObjects objects = new SweObjects(getSwissEph(), cache,
+                    new SweJulianDate(BIRTH, 5.5f, 17.8333), GEO_CHENNAI, options, true).completeBuild();
+            assertArrayEquals(expected.sweJulianDate().values(), objects.sweJulianDate().values(), 0.);
+            assertArrayEquals(expected.longitudes(), objects.longitudes(), 0.);
+        }
+
+        assertEquals(4, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void sizeIsBounded() {
+        final SweJulianDateCache cache = new SweJulianDateCache(8);
+
+        for (int minute = 0; minute < 50; minute++) {
+            cache.initJulianDate(getSwissEph(), new SweJulianDate(BIRTH, 5.5f, 17. + minute / 60.));
+        }
+
+        assertEquals(8, cache.size());
+        assertEquals(0., cache.hitRate());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new SweJulianDateCache(0));
+    }
+}
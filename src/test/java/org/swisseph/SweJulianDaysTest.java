@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.swisseph.api.ISweJulianDate;
+import org.swisseph.app.SweJulianDays;
+import swisseph.SwissEph;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.swisseph.api.ISweConstants.EPHE_PATH;
+import static swisseph.SweConst.SE_GREG_CAL;
+import static swisseph.SweConst.SE_JUL_CAL;
+
+/**
+ * {@link SweJulianDays} must give, row by row, exactly what the single-date calls give -
+ * sequentially and in parallel alike.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweJulianDaysTest extends AbstractTest {
+
+    static final int ROWS = 3 * SweJulianDays.PARALLEL_CHUNK + 17;
+
+    final int[] year = new int[ROWS], month = new int[ROWS], day = new int[ROWS];
+    final int[] hour = new int[ROWS], minute = new int[ROWS];
+    final double[] second = new double[ROWS], timeZone = new double[ROWS];
+
+    {
+        final Random random = new Random(20261019L);
+        for (int i = 0; i < ROWS; i++) {
+            year[i] = 1800 + random.nextInt(300);
+            month[i] = 1 + random.nextInt(12);
+            day[i] = 1 + random.nextInt(28);
+            hour[i] = random.nextInt(24);
+            minute[i] = random.nextInt(60);
+            second[i] = random.nextInt(60000) / 1000.;
+            timeZone[i] = (random.nextInt(53) - 24) / 2.;
+        }
+    }
+
+    @Test
+    void juldayAndRevjulMatchTheSingleCalls() {
+        final ISwissEph swissEph = getSwissEph();
+        final double[] decimalHour = new double[ROWS];
+        for (int i = 0; i < ROWS; i++) decimalHour[i] = hour[i] + minute[i] / 60. + second[i] / 3600.;
+
+        for (int gregflag : new int[]{SE_GREG_CAL, SE_JUL_CAL}) {
+            final double[] julDay = new double[ROWS];
+            SweJulianDays.julday(year, month, day, decimalHour, gregflag, julDay, true);
+
+            final int[] y = new int[ROWS], m = new int[ROWS], d = new int[ROWS];
+            final double[] h = new double[ROWS];
+            SweJulianDays.revjul(julDay, gregflag, y, m, d, h, true);
+
+            for (int i = 0; i < ROWS; i++) {
+                assertEquals(swissEph.swe_julday(year[i], month[i], day[i], decimalHour[i], gregflag), julDay[i], 0.);
+
+                final ISweJulianDate single = swissEph.swe_revjul(julDay[i], gregflag);
+                assertEquals(single.year(), y[i], "row " + i);
+                assertEquals(single.month(), m[i], "row " + i);
+                assertEquals(single.day(), d[i], "row " + i);
+                assertEquals(single.utime(), h[i], 1e-9, "row " + i);
+            }
+        }
+    }
+
+    @Test
+    void revjulHandlesNegativeYears() {
+        final double[] julDay = {0., 1000.25, 1721057.5, 1721423.5};
+        final int[] y = new int[4], m = new int[4], d = new int[4];
+        final double[] h = new double[4];
+
+        SweJulianDays.revjul(julDay, SE_JUL_CAL, y, m, d, h, false);
+
+        for (int i = 0; i < julDay.length; i++) {
+            final ISweJulianDate single = getSwissEph().swe_revjul(julDay[i], SE_JUL_CAL);
+            assertEquals(single.year(), y[i]);
+            assertEquals(single.month(), m[i]);
+            assertEquals(single.day(), d[i]);
+        }
+    }
+
+    @Test
+    void localDatesGiveTheJulianDayOfInitJulianDay() {
+        final double[] julDay = new double[ROWS];
+        SweJulianDays.julday(year, month, day, hour, minute, second, timeZone, SE_GREG_CAL, julDay, true);
+
+        for (int i = 0; i < ROWS; i += 97) {
+            final ISweJulianDate single = getSwissEph().getJulianDate(
+                    new int[]{year[i], month[i], day[i], hour[i], minute[i], (int) second[i]}, (float) timeZone[i],
+                    hour[i] + minute[i] / 60. + second[i] / 3600.);
+            assertEquals(single.julianDay(), julDay[i], 1e-8, "row " + i);
+        }
+    }
+
+    @Test
+    void utcTimeZoneConvertsInPlaceAndBack() {
+        final int[] y = year.clone(), m = month.clone(), d = day.clone(), h = hour.clone(), mi = minute.clone();
+        final double[] s = second.clone();
+
+        SweJulianDays.utcTimeZone(y, m, d, h, mi, s, timeZone, false, true);
+
+        final int[] ymdhm = new int[5];
+        final double[] dsec = new double[1];
+        for (int i = 0; i < ROWS; i += 89) {
+            getSwissEph().swe_utc_time_zone(year[i], month[i], day[i], hour[i], minute[i], second[i],
+                    timeZone[i], ymdhm, dsec);
+            assertEquals(ymdhm[0], y[i]);
+            assertEquals(ymdhm[1], m[i]);
+            assertEquals(ymdhm[2], d[i]);
+            assertEquals(ymdhm[3], h[i]);
+            assertEquals(ymdhm[4], mi[i]);
+            assertEquals(dsec[0], s[i], 0.);
+        }
+
+        SweJulianDays.utcTimeZone(y, m, d, h, mi, s, timeZone, true, true);
+
+        for (int i = 0; i < ROWS; i++) {
+            final double back = y[i] * 1e4 + m[i] * 1e2 + d[i] + (h[i] + mi[i] / 60. + s[i] / 3600.) / 24.;
+            final double orig = year[i] * 1e4 + month[i] * 1e2 + day[i]
+                    + (hour[i] + minute[i] / 60. + second[i] / 3600.) / 24.;
+            assertEquals(orig, back, 1e-6, "row " + i);
+        }
+    }
+
+    @Test
+    void utcToJdMatchesSweUtcToJdOnSeveralEngines() {
+        final int rows = 2000;
+        final double[] jdET = new double[rows], jdUT1 = new double[rows];
+
+        try (ISwissEph second1 = new SwissEph(EPHE_PATH); ISwissEph second2 = new SwissEph(EPHE_PATH)) {
+            final SweJulianDays days = new SweJulianDays(getSwissEph(), second1, second2);
+            assertEquals(0, days.utcToJd(year, month, day, hour, minute, second, timeZone,
+                    SE_GREG_CAL, jdET, jdUT1, true));
+        }
+
+        final double[] dret = new double[2];
+        final int[] ymdhm = new int[5];
+        final double[] dsec = new double[1];
+        for (int i = 0; i < rows; i++) {
+            getSwissEph().swe_utc_time_zone(year[i], month[i], day[i], hour[i], minute[i], second[i],
+                    timeZone[i], ymdhm, dsec);
+            getSwissEph().swe_utc_to_jd(ymdhm[0], ymdhm[1], ymdhm[2], ymdhm[3], ymdhm[4], dsec[0],
+                    SE_GREG_CAL, dret, null);
+            assertEquals(dret[0], jdET[i], 0., "row " + i);
+            assertEquals(dret[1], jdUT1[i], 0., "row " + i);
+        }
+    }
+
+    @Test
+    void shortArraysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SweJulianDays.julday(year, month, new int[1],
+                new double[ROWS], SE_GREG_CAL, new double[ROWS], false));
+        assertThrows(IllegalArgumentException.class, SweJulianDays::new);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.swisseph.api.ISweJulianDate;
+import org.swisseph.api.ISweObjects;
+import org.swisseph.api.ISweObjectsOptions;
+import org.swisseph.app.SweJulianDate;
+import org.swisseph.app.SweJulianInstant;
+import org.swisseph.app.SweObjects;
+import org.swisseph.app.SweObjectsOptions;
+import org.swisseph.app.SweRuntimeException;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.swisseph.api.ISweJulianDate.SE_GREG_CAL;
+
+/**
+ * {@link SweJulianInstant} must derive the very same local date and time that
+ * {@link ISwissEph#initJulianDate} computes for a {@link SweJulianDate}, and give a chart
+ * the same positions.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweJulianInstantTest extends AbstractTest {
+
+    static final double DELTA_TIME = 1e-9;
+
+    @Test
+    void derivedFieldsMatchInitJulianDate() {
+        final Random random = new Random(20261019L);
+        final ISwissEph swissEph = getSwissEph();
+
+        for (int i = 0; i < 5000; i++) {
+            final double jd = 1000000. + random.nextDouble() * 1600000.;
+            final float tz = (random.nextInt(57) - 24) / 2f;
+            final Boolean calendar = i % 5 == 0 ? SE_GREG_CAL : null;
+
+            final ISweJulianDate expected = swissEph.initJulianDate(
+                    new SweJulianDate(jd, tz).calendar(calendar));
+            final ISweJulianDate instant = swissEph.initJulianDate(new SweJulianInstant(jd, tz, calendar));
+
+            assertEquals(calendar, instant.calendar());
+            assertArrayEquals(new int[]{expected.year(), expected.month(), expected.day()},
+                    instant.date(), "jd " + jd + " tz " + tz);
+            assertEquals(expected.localTime(), instant.localTime(), DELTA_TIME, "jd " + jd + " tz " + tz);
+            assertEquals(expected.utime(), instant.utime(), DELTA_TIME, "jd " + jd);
+            assertEquals(expected.gregorianCalendar(), instant.gregorianCalendar(), "jd " + jd);
+        }
+    }
+
+    @Test
+    void chartIsTheSameAsWithSweJulianDate() {
+        final ISweObjectsOptions options = new SweObjectsOptions.Builder().build();
+        final double jd = 2451545.25;
+
+        final ISweObjects expected = new SweObjects(getSwissEph(),
+                new SweJulianDate(jd, 5.5f), GEO_CHENNAI, options).completeBuild();
+        final ISweObjects objects = new SweObjects(getSwissEph(),
+                new SweJulianInstant(jd, 5.5f), GEO_CHENNAI, options).completeBuild();
+
+        final ISweJulianDate julianDate = objects.sweJulianDate();
+        assertEquals(expected.sweJulianDate().deltaT(), julianDate.deltaT(), 0.);
+        assertEquals(expected.sweJulianDate().epheTime(), julianDate.epheTime(), 0.);
+        assertArrayEquals(expected.longitudes(), objects.longitudes(), 0.);
+        assertArrayEquals(expected.sweJulianDate().values(), julianDate.values(), DELTA_TIME);
+    }
+
+    @Test
+    void engineValuesAreAttached() {
+        for (final ISweJulianDate julianDate : new ISweJulianDate[]{
+                new SweJulianDate(2451545.), new SweJulianInstant(2451545.)}) {
+            julianDate.deltaT(7.4e-4);
+            julianDate.epheTime(2451545.00074);
+            assertEquals(7.4e-4, julianDate.deltaT(), 0.);
+            assertEquals(2451545.00074, julianDate.epheTime(), 0.);
+            assertEquals(7.4e-4, julianDate.values()[ISweJulianDate.IDXD_DELTAT], 0.);
+            assertEquals(2451545.00074, julianDate.values()[ISweJulianDate.IDXD_ETIME], 0.);
+        }
+    }
+
+    @Test
+    void localTimeMovesTheTimeZone() {
+        final SweJulianInstant julianDate = new SweJulianInstant(2451545.);
+        julianDate.localTime(17.5);
+        assertEquals(5.5f, julianDate.timeZone());
+        assertEquals(17.5, julianDate.localTime(), DELTA_TIME);
+        assertArrayEquals(new int[]{2000, 1, 1}, julianDate.date());
+
+        julianDate.localTime(1.);
+        assertEquals(13f, julianDate.timeZone());
+        assertArrayEquals(new int[]{2000, 1, 2}, julianDate.date());
+        assertEquals(2451545., julianDate.julianDay(), 0.);
+        assertThrows(SweRuntimeException.class, () -> julianDate.localTime(Double.NaN));
+    }
+
+    @Test
+    void invalidJulianDayIsRejected() {
+        assertThrows(SweRuntimeException.class, () -> new SweJulianInstant(Double.NaN));
+        assertThrows(SweRuntimeException.class, () -> new SweJulianInstant(-1.));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SweLagnaTable;
+import swisseph.SweLagnaTable.Ingress;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * Every ingress of a {@link SweLagnaTable} must be where {@code swe_houses_ex()} gives the
+ * sign boundary as the ascendant, one per sign and sidereal day.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweLagnaTableTest extends AbstractTest {
+
+    static final double TJD_UT = 2451545.25;
+    static final double DELTA = 1e-5;
+    static final int DAYS = 3;
+
+    @Test
+    void tropicalIngressesMatchSweHousesEx() {
+        assertIngresses(0, 13.08, 80.27);
+        assertIngresses(0, -33.87, 151.21);
+        assertIngresses(0, 59.93, 30.31);
+    }
+
+    @Test
+    void siderealIngressesMatchSweHousesEx() {
+        getSwissEph().swe_set_sid_mode(SE_SIDM_LAHIRI, 0, 0);
+
+        try {
+            assertIngresses(SEFLG_SIDEREAL, 13.08, 80.27);
+            assertIngresses(SEFLG_SIDEREAL | SEFLG_NONUT, 28.61, 77.21);
+        } finally {
+            getSwissEph().swe_set_sid_mode(SE_SIDM_FAGAN_BRADLEY, 0, 0);
+        }
+    }
+
+    @Test
+    void batchGivesTheIngressesOfEveryLocation() {
+        final double[] latitudes = {13.08, 28.61, -33.87, 51.48}, longitudes = {80.27, 77.21, 151.21, 0.};
+        final Ingress[][] batch = SweLagnaTable.ingresses(AbstractTest::getSwissEph, latitudes, longitudes, 0,
+                TJD_UT, TJD_UT + DAYS, true);
+
+        for (int i = 0; i < latitudes.length; i++) {
+            final Ingress[] expected = new SweLagnaTable(getSwissEph(), latitudes[i], longitudes[i], 0)
+                    .ingresses(TJD_UT, TJD_UT + DAYS);
+            assertEquals(expected.length, batch[i].length);
+
+            for (int k = 0; k < expected.length; k++) {
+                assertEquals(expected[k].sign, batch[i][k].sign);
+                assertEquals(expected[k].tjdUT, batch[i][k].tjdUT, 0.);
+            }
+        }
+    }
+
+    @Test
+    void polarLatitudesAreRejected() {
+        final SweLagnaTable table = new SweLagnaTable(getSwissEph(), 70., 25., 0);
+        assertThrows(IllegalArgumentException.class, () -> table.ingresses(TJD_UT, TJD_UT + 1));
+        assertThrows(IllegalArgumentException.class, () -> new SweLagnaTable(getSwissEph(), 13.08, 80.27, 0)
+                .ingresses(TJD_UT, TJD_UT - 1));
+    }
+
+    private static void assertIngresses(final int iflag, final double geolat, final double geolon) {
+        final ISwissEph swissEph = getSwissEph();
+        final SweLagnaTable table = new SweLagnaTable(swissEph, geolat, geolon, iflag);
+        final Ingress[] ingresses = table.ingresses(TJD_UT, TJD_UT + DAYS);
+        final double[] cusp = new double[13], ascmc = new double[10];
+
+        assertTrue(Math.abs(ingresses.length - 12 * DAYS) <= 1, "ingresses " + ingresses.length);
+        assertTrue(table.evaluations() <= 2 * ingresses.length, "evaluations " + table.evaluations());
+
+        for (int k = 0; k < ingresses.length; k++) {
+            final Ingress ingress = ingresses[k];
+            final String at = iflag + " " + geolat + " " + ingress;
+
+            assertTrue(ingress.tjdUT >= TJD_UT && ingress.tjdUT < TJD_UT + DAYS, at);
+            if (k > 0) {
+                assertEquals((ingresses[k - 1].sign + 1) % 12, ingress.sign, at);
+                assertTrue(ingresses[k - 1].tjdUT < ingress.tjdUT, at);
+            }
+
+            assertNotEquals(ERR, swissEph.swe_houses_ex(ingress.tjdUT, iflag, geolat, geolon, SE_HSYS_EQUAL, cusp, ascmc));
+            assertEquals(0., swissEph.swe_difdeg2n(ascmc[SE_ASC], ingress.sign * 30.), DELTA, at);
+
+            // a minute earlier the ascendant is still in the sign before
+            swissEph.swe_houses_ex(ingress.tjdUT - 1. / 1440, iflag, geolat, geolon, SE_HSYS_EQUAL, cusp, ascmc);
+            assertEquals((ingress.sign + 11) % 12, (int) (ascmc[SE_ASC] / 30.), at);
+        }
+    }
+}
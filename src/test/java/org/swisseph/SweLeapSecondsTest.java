@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SweDate;
+import swisseph.SweLeapSeconds;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.swisseph.api.ISweConstants.EPHE_PATH;
+import static swisseph.SweDate.SE_GREG_CAL;
+
+/**
+ * The leap seconds table is looked up by binary search and can be replaced for all engines
+ * at once; the UTC conversions must follow it.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweLeapSecondsTest extends AbstractTest {
+
+    static final int LEAP_2016 = 20161231;
+
+    @Test
+    void countBeforeMatchesALinearSearch() {
+        final SweLeapSeconds table = SweLeapSeconds.BUILT_IN;
+
+        for (int year = 1970; year <= 2020; year++) {
+            for (int md : new int[]{101, 630, 701, 1231}) {
+                final int ndat = year * 10000 + md;
+
+                int linear = 0;
+                while (linear < table.size() && ndat > table.date(linear)) linear++;
+
+                assertEquals(linear, table.countBefore(ndat), "" + ndat);
+                assertEquals(linear < table.size() && ndat == table.date(linear), table.isLeapSecondDay(ndat));
+            }
+        }
+    }
+
+    @Test
+    void loadersOnlyAddLaterDates() throws Exception {
+        final String file = "# comment\n\n20081231\n19990101\n" + LEAP_2016 + "\n";
+        final SweLeapSeconds loaded = SweLeapSeconds.load(
+                new ByteArrayInputStream(file.getBytes(StandardCharsets.US_ASCII)));
+
+        assertEquals(SweLeapSeconds.BUILT_IN.size() + 1, loaded.size());
+        assertEquals(LEAP_2016, loaded.last());
+        assertFalse(loaded.isLeapSecondDay(19990101));
+
+        // the file shipped with the ephemeris knows no later leap second than the built-in table
+        assertEquals(SweLeapSeconds.BUILT_IN, SweLeapSeconds.loadFromEphePath(EPHE_PATH));
+        assertThrows(FileNotFoundException.class, () -> SweLeapSeconds.loadResource("no-such-seleapsec.txt"));
+        assertEquals(SweLeapSeconds.of(20120630, 19720630), SweLeapSeconds.of(19720630, 20120630, 19720630));
+    }
+
+    @Test
+    void utcConversionsFollowTheInstalledTable() {
+        assertNotNull(SweDate.getInvalidUTCDateError(2016, 12, 31, 23, 59, 60.5, SE_GREG_CAL));
+        final double before = SweDate.getJDfromUTC(2017, 1, 1, 0, 0, 0., SE_GREG_CAL, false)[0];
+
+        SweDate.setLeapSeconds(SweLeapSeconds.of(append(SweLeapSeconds.BUILT_IN, LEAP_2016)));
+
+        try {
+            assertNull(SweDate.getInvalidUTCDateError(2016, 12, 31, 23, 59, 60.5, SE_GREG_CAL));
+            final double after = SweDate.getJDfromUTC(2017, 1, 1, 0, 0, 0., SE_GREG_CAL, false)[0];
+            assertEquals(1., (after - before) * 86400., 1e-4);
+
+            final int[] utc = SweDate.getUTCfromJDET(after - 0.5 / 86400., SE_GREG_CAL).date();
+            assertArrayEquals(new int[]{2016, 12, 31, 23, 59}, utc);
+            assertEquals(60.5, SweDate.getUTCfromJDET(after - 0.5 / 86400., SE_GREG_CAL).second(), 1e-3);
+        } finally {
+            SweDate.setLeapSeconds(null);
+        }
+
+        assertSame(SweLeapSeconds.BUILT_IN, SweDate.getLeapSeconds());
+    }
+
+    @Test
+    void secondsAroundABuiltInLeapSecond() {
+        final double jdET = SweDate.getJDfromUTC(2015, 7, 1, 0, 0, 0., SE_GREG_CAL, false)[0];
+
+        assertArrayEquals(new int[]{2015, 6, 30, 23, 59}, SweDate.getUTCfromJDET(jdET - .5 / 86400., SE_GREG_CAL).date());
+        assertEquals(60.5, SweDate.getUTCfromJDET(jdET - .5 / 86400., SE_GREG_CAL).second(), 1e-3);
+
+        assertArrayEquals(new int[]{2015, 7, 1, 0, 0}, SweDate.getUTCfromJDET(jdET + .5 / 86400., SE_GREG_CAL).date());
+        assertEquals(.5, SweDate.getUTCfromJDET(jdET + .5 / 86400., SE_GREG_CAL).second(), 1e-3);
+    }
+
+    private static int[] append(final SweLeapSeconds table, final int ndat) {
+        final int[] dates = new int[table.size() + 1];
+        for (int i = 0; i < table.size(); i++) dates[i] = table.date(i);
+        dates[table.size()] = ndat;
+        return dates;
+    }
+}
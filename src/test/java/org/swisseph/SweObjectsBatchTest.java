@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.swisseph.api.ISweGeoLocation;
+import org.swisseph.api.ISweObjects;
+import org.swisseph.api.ISweObjectsOptions;
+import org.swisseph.app.SweJulianDate;
+import org.swisseph.app.SweObjects;
+import org.swisseph.app.SweObjectsBatch;
+import org.swisseph.app.SweObjectsBatch.Chart;
+import org.swisseph.app.SweObjectsBatch.Input;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.swisseph.app.SweObjectsOptions.*;
+
+/**
+ * {@link SweObjectsBatch} must build every chart the way a {@link SweObjects} of its own
+ * builds it, in the order of the inputs, whatever order the engines of the pool took them in.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweObjectsBatchTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final ISweObjectsOptions[] OPTIONS = {LAHIRI_AYANAMSA, TROPICAL_ZODIAC, TRUECITRA_AYANAMSA_TRUE_NODE};
+    static final ISweGeoLocation[] LOCATIONS = {GEO_CHENNAI, GEO_LUCKNOW, GEO_GREENWICH};
+
+    @Test
+    void chartsMatchThoseBuiltOneByOne() {
+        final List<Input> inputs = inputs(300);
+
+        try (SweObjectsBatch batch = new SweObjectsBatch(AbstractTest::newSwissEph, 3)) {
+            final List<Chart> charts = batch.build(inputs);
+            assertEquals(inputs.size(), charts.size());
+
+            for (int i = 0; i < inputs.size(); i++) {
+                final Chart chart = charts.get(i);
+                assertEquals(i, chart.index);
+                assertNull(chart.error, chart.toString());
+                assertSameChart(inputs.get(i), chart.objects);
+            }
+        }
+    }
+
+    @Test
+    void failedChartsAreReportedInPlace() {
+        final List<Input> inputs = inputs(40);
+        inputs.set(7, new Input(null, GEO_CHENNAI, LAHIRI_AYANAMSA));
+        inputs.set(23, new Input(new SweJulianDate(J2000), GEO_CHENNAI, null));
+
+        try (SweObjectsBatch batch = new SweObjectsBatch(AbstractTest::newSwissEph, 2)) {
+            final List<Chart> charts = batch.build(inputs);
+
+            for (int i = 0; i < inputs.size(); i++) {
+                if (i == 7 || i == 23) {
+                    assertNull(charts.get(i).objects);
+                    assertNotNull(charts.get(i).error);
+                } else {
+                    assertNull(charts.get(i).error, charts.get(i).toString());
+                    assertSameChart(inputs.get(i), charts.get(i).objects);
+                }
+            }
+        }
+    }
+
+    @Test
+    void enginesArePooled() {
+        final AtomicInteger engines = new AtomicInteger();
+
+        try (SweObjectsBatch batch = new SweObjectsBatch(() -> {
+            engines.incrementAndGet();
+            return newSwissEph();
+        }, 2)) {
+            batch.build(inputs(200));
+            batch.build(inputs(200));
+            assertTrue(batch.build(new ArrayList<>()).isEmpty());
+        }
+
+        assertTrue(engines.get() >= 1 && engines.get() <= 2, "engines: " + engines.get());
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SweObjectsBatch(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> new SweObjectsBatch(AbstractTest::newSwissEph, 0));
+
+        final SweObjectsBatch batch = new SweObjectsBatch(AbstractTest::newSwissEph, 1);
+        batch.close();
+        assertThrows(IllegalStateException.class, () -> batch.build(inputs(1)));
+    }
+
+    private static void assertSameChart(final Input input, final ISweObjects actual) {
+        final SweObjects expected = new SweObjects(getSwissEph(), new SweJulianDate(input.julianDate.julianDay()),
+                input.location, input.options).completeBuild();
+
+        assertArrayEquals(expected.longitudes(), actual.longitudes(), 1e-9);
+        assertArrayEquals(expected.latitudes(), actual.latitudes(), 1e-9);
+        assertArrayEquals(expected.cusps(), actual.cusps(), 1e-9);
+        assertArrayEquals(expected.houses(), actual.houses());
+        assertEquals(expected.ayanamsa(), actual.ayanamsa(), 1e-9);
+    }
+
+    /**
+     * Charts of a few places and ayanamsas, mixed up
+     */
+    private static List<Input> inputs(final int count) {
+        final List<Input> inputs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            inputs.add(new Input(new SweJulianDate(J2000 + i * 37.3 % 36525 + i % 7 * .11),
+                    LOCATIONS[i % LOCATIONS.length], OPTIONS[i / 2 % OPTIONS.length]));
+        }
+        return inputs;
+    }
+}
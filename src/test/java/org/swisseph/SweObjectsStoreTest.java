@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.swisseph.api.ISweGeoLocation;
+import org.swisseph.api.ISweObjects;
+import org.swisseph.api.ISweObjectsOptions;
+import org.swisseph.app.SweJulianDate;
+import org.swisseph.app.SweObjects;
+import org.swisseph.app.SweObjectsBatch;
+import org.swisseph.app.SweObjectsBatch.Chart;
+import org.swisseph.app.SweObjectsBatch.Input;
+import org.swisseph.app.SweObjectsOptions;
+import org.swisseph.app.SweObjectsStore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.swisseph.api.ISweObjects.*;
+import static org.swisseph.app.SweObjectsOptions.*;
+
+/**
+ * {@link SweObjectsStore} must give back the charts it was given, row by row and column by
+ * column, from memory and from a file opened again.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweObjectsStoreTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final ISweObjectsOptions[] OPTIONS = {LAHIRI_AYANAMSA, TROPICAL_ZODIAC, TRUECITRA_AYANAMSA_TRUE_NODE};
+    static final ISweGeoLocation[] LOCATIONS = {GEO_CHENNAI, GEO_LUCKNOW, GEO_GREENWICH};
+
+    @Test
+    void rowsAreTheChartsAdded() {
+        final List<ISweObjects> charts = charts(200);
+        final SweObjectsStore store = new SweObjectsStore(charts.size());
+        for (int i = 0; i < charts.size(); i++) assertEquals(i, store.add(charts.get(i)));
+
+        assertEquals(charts.size(), store.size());
+        for (int i = 0; i < charts.size(); i++) assertSameChart(charts.get(i), store.row(i));
+    }
+
+    @Test
+    void columnsAreTheValuesOfTheRows() {
+        final List<ISweObjects> charts = charts(100);
+        final SweObjectsStore store = new SweObjectsStore(150);
+        charts.forEach(store::add);
+
+        final DoubleBuffer moon = store.longitudes(CH);
+        final ByteBuffer signs = store.signs(CH), houses = store.houses(SA);
+        final DoubleBuffer cusps = store.cusps(1), asc = store.ascmc(0), days = store.julianDays();
+        assertEquals(charts.size(), moon.limit());
+        assertTrue(moon.isReadOnly());
+
+        for (int i = 0; i < charts.size(); i++) {
+            final ISweObjects chart = charts.get(i);
+            assertEquals(chart.longitudes()[CH], moon.get(i));
+            assertEquals(chart.signs()[CH], signs.get(i));
+            assertEquals(chart.houses()[SA], houses.get(i));
+            assertEquals(chart.cusps()[1], cusps.get(i));
+            assertEquals(chart.ascmc()[0], asc.get(i));
+            assertEquals(chart.sweJulianDate().julianDay(), days.get(i));
+            assertEquals(chart.ayanamsa(), store.ayanamsas().get(i));
+            for (int obj = 0; obj < OBJECTS_COUNT; obj++) {
+                assertEquals(chart.retrogrades()[obj], store.retrograde(i, obj));
+                assertEquals(chart.retrogrades()[obj], (store.retrogrades().get(i) & 1 << obj) != 0);
+            }
+        }
+    }
+
+    @Test
+    void rowsRebuildWithAnEngine() {
+        final ISweObjects chart = charts(1).get(0);
+        final SweObjectsStore store = new SweObjectsStore(1);
+        final ISweObjects row = store.row(store.add(chart));
+
+        assertNull(row.swissEph());
+        assertSame(LAHIRI_AYANAMSA, row.sweOptions());
+        assertEquals(chart.calculatePlanetHouse(SA), row.completeRebuild(getSwissEph()).calculatePlanetHouse(SA));
+        assertArrayEquals(chart.longitudes(), row.longitudes(), 1e-12);
+    }
+
+    @Test
+    void mappedStoreIsOpenedAgain(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("charts.swe");
+        final List<ISweObjects> charts = charts(60);
+
+        final SweObjectsStore written = SweObjectsStore.map(file, 100);
+        for (int i = 0; i < 40; i++) written.add(charts.get(i));
+        written.force();
+
+        final SweObjectsStore read = SweObjectsStore.map(file, 1);
+        assertEquals(100, read.capacity());
+        assertEquals(40, read.size());
+        for (int i = 40; i < 60; i++) read.add(charts.get(i));
+        read.force();
+
+        final SweObjectsStore again = SweObjectsStore.map(file, 1);
+        assertEquals(60, again.size());
+        for (int i = 0; i < charts.size(); i++) {
+            final ISweObjects row = again.row(i);
+            assertSameChart(charts.get(i), row);
+            // the options are read back from the file
+            assertEquals(charts.get(i).sweOptions().toString(), row.sweOptions().toString());
+        }
+        assertSame(again.options(0), again.options(3 * OPTIONS.length));
+    }
+
+    @Test
+    void invalidUseIsRejected(@TempDir Path dir) throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new SweObjectsStore(0));
+        assertThrows(IllegalArgumentException.class, () -> new SweObjectsStore(SweObjectsStore.maxCapacity() + 1));
+
+        final SweObjectsStore store = new SweObjectsStore(2);
+        final List<ISweObjects> charts = charts(3);
+        store.add(charts.get(0));
+        store.add(charts.get(1));
+        assertThrows(IllegalStateException.class, () -> store.add(charts.get(2)));
+        assertThrows(IllegalArgumentException.class, () -> store.row(2));
+        assertThrows(IllegalArgumentException.class, () -> store.longitudes(OBJECTS_COUNT));
+        assertThrows(IllegalArgumentException.class, () -> store.retrograde(0, OBJECTS_COUNT));
+
+        final SweObjectsStore options = new SweObjectsStore(SweObjectsStore.MAX_OPTIONS + 1);
+        for (int i = 0; i < SweObjectsStore.MAX_OPTIONS; i++) {
+            options.add(chart(new SweObjectsOptions.Builder().houseFlags(i).build(), J2000));
+        }
+        assertThrows(IllegalStateException.class,
+                () -> options.add(chart(new SweObjectsOptions.Builder().houseFlags(-1).build(), J2000)));
+
+        final Path file = dir.resolve("not-a-store");
+        Files.write(file, new byte[128]);
+        assertThrows(IOException.class, () -> SweObjectsStore.map(file, 10));
+
+        final Path other = dir.resolve("other-version");
+        SweObjectsStore.map(other, 10).force();
+        final byte[] bytes = Files.readAllBytes(other);
+        bytes[4]++;
+        Files.write(other, bytes);
+        assertThrows(IOException.class, () -> SweObjectsStore.map(other, 10));
+    }
+
+    private static void assertSameChart(final ISweObjects expected, final ISweObjects actual) {
+        assertArrayEquals(expected.longitudes(), actual.longitudes());
+        assertArrayEquals(expected.latitudes(), actual.latitudes());
+        assertArrayEquals(expected.cusps(), actual.cusps());
+        assertArrayEquals(expected.ascmc(), actual.ascmc());
+        assertArrayEquals(expected.houses(), actual.houses());
+        assertArrayEquals(expected.signs(), actual.signs());
+        assertArrayEquals(expected.retrogrades(), actual.retrogrades());
+        assertEquals(expected.ayanamsa(), actual.ayanamsa());
+        assertEquals(expected.trueObliquity(), actual.trueObliquity());
+        assertEquals(expected.sweJulianDate().julianDay(), actual.sweJulianDate().julianDay());
+        assertEquals(expected.sweJulianDate().deltaT(), actual.sweJulianDate().deltaT());
+        assertEquals(expected.sweJulianDate().epheTime(), actual.sweJulianDate().epheTime());
+        assertArrayEquals(expected.sweLocation().coordinates(), actual.sweLocation().coordinates());
+        assertEquals(expected.sweOptions().ayanamsa(), actual.sweOptions().ayanamsa());
+        assertEquals(expected.sweOptions().trueNode(), actual.sweOptions().trueNode());
+    }
+
+    private static ISweObjects chart(final ISweObjectsOptions options, final double jd) {
+        final SweObjects objects = new SweObjects(getSwissEph(), new SweJulianDate(jd), GEO_CHENNAI, options)
+                .completeBuild();
+        objects.ayanamsa();
+        return objects;
+    }
+
+    /**
+     * Charts of a few places and ayanamsas, built by a batch
+     */
+    private static List<ISweObjects> charts(final int count) {
+        final List<Input> inputs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            inputs.add(new Input(new SweJulianDate(J2000 + i * 37.3 % 36525 + i % 7 * .11),
+                    LOCATIONS[i % LOCATIONS.length], OPTIONS[i % OPTIONS.length]));
+        }
+
+        final List<ISweObjects> charts = new ArrayList<>();
+        try (SweObjectsBatch batch = new SweObjectsBatch(AbstractTest::newSwissEph, 2)) {
+            for (final Chart chart : batch.build(inputs)) charts.add(chart.objects);
+        }
+        return charts;
+    }
+}
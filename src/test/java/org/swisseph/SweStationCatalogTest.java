@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.swisseph.api.ISweStation;
+import org.swisseph.app.SweStationCatalog;
+import org.swisseph.app.SweStations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * {@link SweStationCatalog} must answer with the stations {@link SweStations} finds, the
+ * same whether built in parallel or read back from a stream.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class SweStationCatalogTest extends AbstractTest {
+
+    static final double Y2000 = 2451544.5;
+    static final double Y2010 = Y2000 + 3653;
+    /** searches started from other dates differ by the precision of the search, see SweStationsTest */
+    static final double DELTA = 60. / 86400;
+    static final int[] PLANETS = {SE_SUN, SE_MERCURY, SE_VENUS, SE_MARS, SE_JUPITER, SE_SATURN};
+
+    @Test
+    void lookupsMatchTheSearch() {
+        final SweStations stations = new SweStations(getSwissEph());
+        final SweStationCatalog catalog = SweStationCatalog.build(stations, PLANETS, Y2000, Y2010);
+
+        for (final int planet : new int[]{SE_MERCURY, SE_MARS, SE_SATURN}) {
+            final List<ISweStation> expected = stations.between(planet, Y2000, Y2010);
+            assertSame(expected, catalog.between(planet, Y2000, Y2010));
+
+            for (double jd = Y2000 + 50; jd < Y2010 - 400; jd += 97.3) {
+                assertSame(stations.next(planet, jd), catalog.next(planet, jd));
+                final ISweStation previous = stations.previous(planet, jd);
+                // one before the range is not in the catalog
+                assertSame(previous.julianDate().julianDay() < Y2000 ? null : previous,
+                        catalog.previous(planet, jd));
+            }
+        }
+    }
+
+    @Test
+    void stationDatesAreInclusive() {
+        final SweStationCatalog catalog = SweStationCatalog.build(new SweStations(getSwissEph()),
+                new int[]{SE_MERCURY}, Y2000, Y2010);
+        final ISweStation first = catalog.next(SE_MERCURY, Y2000);
+        final double jd = first.julianDate().julianDay();
+
+        assertSame(first, catalog.next(SE_MERCURY, jd));
+        assertSame(first, catalog.previous(SE_MERCURY, jd));
+        assertEquals(1, catalog.between(SE_MERCURY, jd, jd).size());
+        assertNull(catalog.previous(SE_MERCURY, Math.nextDown(jd)));
+        assertNotSame(first, catalog.next(SE_MERCURY, Math.nextUp(jd)));
+    }
+
+    @Test
+    void planetsWithoutStationsHaveNone() {
+        final SweStationCatalog catalog = SweStationCatalog.build(new SweStations(getSwissEph()),
+                PLANETS, Y2000, Y2010);
+
+        assertNull(catalog.next(SE_SUN, Y2000));
+        assertNull(catalog.previous(SE_SUN, Y2010));
+        assertTrue(catalog.between(SE_SUN, Y2000, Y2010).isEmpty());
+    }
+
+    @Test
+    void parallelBuildAndStreamRoundTrip() throws IOException {
+        final SweStationCatalog sequential = SweStationCatalog.build(new SweStations(getSwissEph()),
+                PLANETS, Y2000, Y2010);
+        final SweStationCatalog parallel = SweStationCatalog.build(() -> new SweStations(getSwissEph()),
+                PLANETS, Y2000, Y2010);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parallel.write(out);
+        final SweStationCatalog read = SweStationCatalog.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(Y2000, read.fromJdUT());
+        assertEquals(Y2010, read.toJdUT());
+        for (final int planet : PLANETS) {
+            assertSame(sequential.between(planet, Y2000, Y2010), parallel.between(planet, Y2000, Y2010));
+            assertSame(sequential.between(planet, Y2000, Y2010), read.between(planet, Y2000, Y2010));
+        }
+    }
+
+    @Test
+    void streamsOtherThanACatalogAreRejected() throws IOException {
+        final SweStationCatalog catalog = SweStationCatalog.build(new SweStations(getSwissEph()),
+                new int[]{SE_MERCURY}, Y2000, Y2000 + 365);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        catalog.write(out);
+        final byte[] bytes = out.toByteArray();
+
+        // a serialized object is not read
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+            oos.writeObject(new ArrayList<>(catalog.between(SE_MERCURY, Y2000, Y2000 + 365)));
+        }
+        assertThrows(IOException.class, () -> SweStationCatalog.read(new ByteArrayInputStream(serialized.toByteArray())));
+
+        // nor a truncated catalog
+        assertThrows(IOException.class, () -> SweStationCatalog.read(
+                new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 5))));
+
+        // nor one with stations out of order: the second one moved to the start of the range
+        final ByteBuffer tampered = ByteBuffer.wrap(bytes.clone());
+        tampered.putDouble(4 + 4 + 8 + 8 + 4 + 4 + 4 + 8 + 8 + 1, Y2000);
+        assertThrows(IOException.class, () -> SweStationCatalog.read(new ByteArrayInputStream(tampered.array())));
+    }
+
+    @Test
+    void queriesBeyondTheCatalogAreRejected() {
+        final SweStationCatalog catalog = SweStationCatalog.build(new SweStations(getSwissEph()),
+                new int[]{SE_MARS}, Y2000, Y2010);
+
+        assertFalse(catalog.covers(SE_MARS, Y2010 + 1));
+        assertFalse(catalog.covers(SE_VENUS, Y2000 + 1));
+        assertThrows(IllegalArgumentException.class, () -> catalog.next(SE_MARS, Y2010 + 1));
+        assertThrows(IllegalArgumentException.class, () -> catalog.previous(SE_MARS, Y2000 - 1));
+        assertThrows(IllegalArgumentException.class, () -> catalog.between(SE_MARS, Y2000, Y2010 + 1));
+        assertThrows(IllegalArgumentException.class, () -> catalog.next(SE_VENUS, Y2000 + 1));
+        assertThrows(IllegalArgumentException.class, () -> SweStationCatalog.build(
+                new SweStations(getSwissEph()), PLANETS, Y2010, Y2000));
+    }
+
+    private static void assertSame(final ISweStation expected, final ISweStation actual) {
+        if (null == expected) {
+            assertNull(actual);
+            return;
+        }
+        assertNotNull(actual, "missing " + expected);
+        assertEquals(expected.planet(), actual.planet());
+        assertEquals(expected.retrograde(), actual.retrograde(), actual.toString());
+        assertEquals(expected.julianDate().julianDay(), actual.julianDate().julianDay(), DELTA, actual.toString());
+        assertEquals(expected.longitude(), actual.longitude(), 1e-6, actual.toString());
+    }
+
+    private static void assertSame(final List<ISweStation> expected, final List<ISweStation> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) assertSame(expected.get(i), actual.get(i));
+    }
+}
@@ -6,13 +6,19 @@
 package org.swisseph;
 
 import org.junit.jupiter.api.Test;
+import org.swisseph.api.ISweRetrogradeCycle;
 import org.swisseph.api.ISweStation;
 import org.swisseph.app.SweStations;
 import swisseph.SweDate;
+import swisseph.TCPlanet;
+import swisseph.TransitCalculator;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -303,8 +309,118 @@ public class SweStationsTest extends AbstractTest {
         assertEquals(SE_MERCURY, retro.planet());
     }
 
+    // ==================================================== several planets at once
+
+    /** the kind is taken from the speeds the search saw, so it must agree with the speeds */
+    @Test
+    void theKindOfEveryStationFollowsTheSpeedAcrossIt() {
+        SweStations st = new SweStations(getSwissEph());
+        for (int planet : new int[]{SE_MERCURY, SE_MARS, SE_SATURN, SE_TRUE_NODE}) {
+            for (ISweStation s : st.between(planet, Y2000, Y2000 + 1500)) {
+                assertEquals(turnsRetrograde(planet, s.julianDate().julianDay()), s.retrograde(), s.toString());
+            }
+            for (double jd = Y2000; jd < Y2000 + 1500; jd += 123.4) {
+                ISweStation previous = st.previous(planet, jd);
+                assertEquals(turnsRetrograde(planet, previous.julianDate().julianDay()), previous.retrograde(),
+                        previous.toString());
+            }
+        }
+    }
+
+    @Test
+    void severalPlanetsAtOnceFindWhatEachOneFinds() {
+        int[] planets = {SE_SUN, SE_MERCURY, SE_VENUS, SE_MARS, SE_JUPITER, SE_SATURN};
+        SweStations st = new SweStations(getSwissEph());
+        Map<Integer, List<ISweStation>> sequential = st.between(planets, Y2000, Y2000 + 1000);
+        Map<Integer, List<ISweStation>> parallel = SweStations.between(
+                () -> new SweStations(getSwissEph()), planets, Y2000, Y2000 + 1000);
+
+        assertArrayEquals(planets, sequential.keySet().stream().mapToInt(Integer::intValue).toArray());
+        assertArrayEquals(planets, parallel.keySet().stream().mapToInt(Integer::intValue).toArray());
+        for (int planet : planets) {
+            List<ISweStation> expected = new SweStations(getSwissEph()).between(planet, Y2000, Y2000 + 1000);
+            for (List<ISweStation> found : Arrays.asList(sequential.get(planet), parallel.get(planet))) {
+                assertEquals(expected.size(), found.size(), "object " + planet);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).julianDate().julianDay(), found.get(i).julianDate().julianDay(),
+                            1e-9, "object " + planet + " station " + i);
+                    assertEquals(expected.get(i).retrograde(), found.get(i).retrograde());
+                }
+            }
+        }
+        assertTrue(sequential.get(SE_SUN).isEmpty());
+    }
+
+    // ================================================================== shadows
+
+    /** each end of a shadow is where a longitude transit search from the station finds it */
+    @Test
+    void shadowsEndWhereTheLongitudeSearchesFindThem() {
+        SweStations st = new SweStations(getSwissEph());
+        for (int planet : new int[]{SE_MERCURY, SE_VENUS, SE_MARS, SE_JUPITER, SE_PLUTO}) {
+            List<ISweRetrogradeCycle> cycles = st.retrogrades(planet, Y2000, Y2000 + 1500);
+            assertFalse(cycles.isEmpty(), "object " + planet);
+
+            for (ISweRetrogradeCycle c : cycles) {
+                double retrograde = c.retrogradeStation().julianDate().julianDay();
+                double direct = c.directStation().julianDate().julianDay();
+                assertTrue(c.retrogradeStation().retrograde() && !c.directStation().retrograde(), c.toString());
+                assertTrue(c.shadowStart().julianDay() < retrograde && retrograde < direct
+                        && direct < c.shadowEnd().julianDay(), c.toString());
+                assertTrue(retrograde >= Y2000 && retrograde <= Y2000 + 1500, c.toString());
+
+                double start = TransitCalculator.getTransitUT(new TCPlanet(getSwissEph(), planet,
+                        SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE, c.directStation().longitude()), retrograde, true);
+                double end = TransitCalculator.getTransitUT(new TCPlanet(getSwissEph(), planet,
+                        SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE, c.retrogradeStation().longitude()), direct, false);
+                assertEquals(start, c.shadowStart().julianDay(), 1. / 86400., c.toString());
+                assertEquals(end, c.shadowEnd().julianDay(), 1. / 86400., c.toString());
+            }
+        }
+    }
+
+    /** Mercury was retrograde three times in 2000, see above */
+    @Test
+    void mercuryHadThreeShadowsIn2000() {
+        List<ISweRetrogradeCycle> cycles = new SweStations(getSwissEph()).retrogrades(SE_MERCURY, Y2000, Y2001);
+        assertEquals(3, cycles.size());
+        assertEquals(20000221, day(cycles.get(0).retrogradeStation().julianDate().julianDay()));
+        assertEquals(20001108, day(cycles.get(2).directStation().julianDate().julianDay()));
+        assertTrue(new SweStations(getSwissEph()).retrogrades(SE_SUN, Y2000, Y2001).isEmpty());
+    }
+
+    @Test
+    void shadowsOfSeveralPlanetsAtOnce() {
+        int[] planets = {SE_SUN, SE_MERCURY, SE_VENUS, SE_MARS, SE_SATURN};
+        Map<Integer, List<ISweRetrogradeCycle>> sequential = new SweStations(getSwissEph())
+                .retrogrades(planets, Y2000, Y2000 + 2000);
+        Map<Integer, List<ISweRetrogradeCycle>> parallel = SweStations.retrogrades(
+                () -> new SweStations(getSwissEph()), planets, Y2000, Y2000 + 2000);
+
+        for (int planet : planets) {
+            List<ISweRetrogradeCycle> a = sequential.get(planet), b = parallel.get(planet);
+            assertEquals(a.size(), b.size(), "object " + planet);
+            for (int i = 0; i < a.size(); i++) {
+                assertEquals(a.get(i).shadowStart().julianDay(), b.get(i).shadowStart().julianDay(), 1e-9);
+                assertEquals(a.get(i).shadowEnd().julianDay(), b.get(i).shadowEnd().julianDay(), 1e-9);
+            }
+        }
+    }
+
     // ================================================================== helpers
 
+    /** whether the speed goes from positive to negative across the date */
+    private static boolean turnsRetrograde(int planet, double jdUT) {
+        double[] xx = new double[6];
+        StringBuilder serr = new StringBuilder();
+        ISwissEph swissEph = getSwissEph();
+        double jdET = jdUT + swissEph.swe_deltat(jdUT);
+        assertTrue(swissEph.swe_calc(jdET - .25, planet, SEFLG_SWIEPH | SEFLG_SPEED, xx, serr) >= 0);
+        double before = xx[3];
+        assertTrue(swissEph.swe_calc(jdET + .25, planet, SEFLG_SWIEPH | SEFLG_SPEED, xx, serr) >= 0);
+        return xx[3] < before;
+    }
+
     private double[] positionAt(int planet, double jdUT) {
         double[] xx = new double[6];
         StringBuilder serr = new StringBuilder();
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SwissEph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.swisseph.api.ISweConstants.EPHE_PATH;
+import static swisseph.SweConst.*;
+
+/**
+ * The tidal acceleration and the user delta t of the pure Java engine belong to the engine
+ * they are set on, whatever thread uses it: charts computed in parallel on several engines
+ * must each see their own settings, and give the very same delta t as when they are computed
+ * one after the other.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class TidalAccelerationTest extends AbstractTest {
+
+    static final double JD_1000 = 2086307.5;    // 1 January 1000, far enough back for the tidal term
+    static final int ROUNDS = 200;
+
+    @Test
+    void enginesDoNotSeeEachOthersTidalAcceleration() throws Exception {
+        final double expected26 = deltaT(SE_TIDAL_26, JD_1000);
+        final double expectedDE200 = deltaT(SE_TIDAL_DE200, JD_1000);
+        assertNotEquals(expected26, expectedDE200, "the two accelerations must give different delta t");
+
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<double[]>> futures = new ArrayList<>();
+
+            for (int task = 0; task < 8; task++) {
+                final double tidAcc = task % 2 == 0 ? SE_TIDAL_26 : SE_TIDAL_DE200;
+                futures.add(pool.submit(() -> {
+                    final double[] result = new double[ROUNDS];
+                    for (int i = 0; i < ROUNDS; i++) result[i] = deltaT(tidAcc, JD_1000);
+                    return result;
+                }));
+            }
+
+            for (int task = 0; task < futures.size(); task++) {
+                final double expected = task % 2 == 0 ? expected26 : expectedDE200;
+                for (double deltaT : futures.get(task).get()) {
+                    assertEquals(expected, deltaT, 0., "task " + task);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void enginesOnOneThreadKeepTheirOwnSettings() {
+        try (ISwissEph first = new SwissEph(EPHE_PATH); ISwissEph second = new SwissEph(EPHE_PATH)) {
+            first.swe_set_tid_acc(SE_TIDAL_DE200);
+            second.swe_set_delta_t_userdef(100. / 86400.);
+
+            assertEquals(SE_TIDAL_DE200, first.swe_get_tid_acc(), 0.);
+            assertEquals(SE_TIDAL_DEFAULT, second.swe_get_tid_acc(), 0.);
+            assertEquals(SE_DELTAT_AUTOMATIC, first.swe_get_delta_t_userdef(), 0.);
+            assertEquals(deltaT(SE_TIDAL_DE200, JD_1000), first.swe_deltat(JD_1000), 0.);
+            assertEquals(100. / 86400., second.swe_deltat(JD_1000), 0.);
+
+            second.swe_close();
+            assertEquals(SE_TIDAL_DE200, first.swe_get_tid_acc(), 0.);
+        }
+    }
+
+    @Test
+    void settingsGoWithTheEngineToOtherThreads() throws Exception {
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        try (ISwissEph swissEph = new SwissEph(EPHE_PATH)) {
+            swissEph.swe_set_tid_acc(SE_TIDAL_DE200);
+            swissEph.swe_set_delta_t_userdef(100. / 86400.);
+
+            assertEquals(SE_TIDAL_DE200, pool.submit(swissEph::swe_get_tid_acc).get(), 0.);
+            assertEquals(100. / 86400., pool.submit(() -> swissEph.swe_deltat(JD_1000)).get(), 0.);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void userDeltaTStaysWithTheEngineThatSetIt() throws Exception {
+        final double automatic = getSwissEph().swe_deltat(JD_1000);
+        final double pinned = 100. / 86400.;
+
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        try {
+            final double other = pool.submit(() -> {
+                try (ISwissEph swissEph = new SwissEph(EPHE_PATH)) {
+                    swissEph.swe_set_delta_t_userdef(pinned);
+                    try {
+                        return swissEph.swe_deltat(JD_1000);
+                    } finally {
+                        swissEph.swe_set_delta_t_userdef(SE_DELTAT_AUTOMATIC);
+                    }
+                }
+            }).get();
+
+            assertEquals(pinned, other, 0.);
+            assertEquals(automatic, getSwissEph().swe_deltat(JD_1000), 0.);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static double deltaT(double tidAcc, double jdUT) {
+        final ISwissEph swissEph = getSwissEph();
+        swissEph.swe_set_tid_acc(tidAcc);
+
+        try {
+            return swissEph.swe_deltat(jdUT);
+        } finally {
+            swissEph.swe_set_tid_acc(SE_TIDAL_AUTOMATIC);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import swisseph.TCHouses;
+import swisseph.TCPlanet;
+import swisseph.TCPlanetHouse;
+import swisseph.TCPlanetPlanet;
+import swisseph.TransitCalculator;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * The bracketing search of {@link TransitCalculator#setBracketing} must find the transits
+ * of the stepping search, with fewer calculations. A speed transit has no speed of its own
+ * to look ahead with, it must not take more.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class TransitBracketingTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final double DELTA = 1. / 1440; // a minute, or the value precision near stations
+    static final int LON = SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE;
+    static final int TRANSITS = 12;
+
+    @Test
+    void tcPlanetFindsTheSameTransits() {
+        assertFewerEvaluations("Sun", () -> new TCPlanet(getSwissEph(), SE_SUN, LON, 0.));
+        assertFewerEvaluations("Moon", () -> new TCPlanet(getSwissEph(), SE_MOON, LON, 123.));
+        assertFewerEvaluations("Mercury", () -> new TCPlanet(getSwissEph(), SE_MERCURY, LON, 15.));
+        assertFewerEvaluations("Saturn", () -> new TCPlanet(getSwissEph(), SE_SATURN, LON, 55.));
+        assertFewerEvaluations("Mars latitude", () -> new TCPlanet(getSwissEph(), SE_MARS,
+                SEFLG_SWIEPH | SEFLG_TRANSIT_LATITUDE, 0.));
+    }
+
+    @Test
+    void retrogradeLoopWithinAStepIsNoTransit() {
+        // from 30 degrees in May 2001 Mercury loops back in Nov 2001 and reaches 30
+        // degrees in April 2002 only
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_MERCURY, LON, 30.);
+        final double expected = TransitCalculator.getTransitUT(tc, 2452021.4, false);
+        tc.setBracketing(true);
+        assertEquals(expected, TransitCalculator.getTransitUT(tc, 2452021.4, false), DELTA);
+        assertTrue(expected > 2452366.5);
+    }
+
+    @Test
+    void speedTransitsTakeNoMoreCalculations() {
+        final double[] expected = new double[TRANSITS], actual = new double[TRANSITS];
+        final long stepping = transits(new TCPlanet(getSwissEph(), SE_JUPITER, LON | SEFLG_TRANSIT_SPEED, 0.),
+                false, false, TRANSITS, expected)[0];
+        final long bracketing = transits(new TCPlanet(getSwissEph(), SE_JUPITER, LON | SEFLG_TRANSIT_SPEED, 0.),
+                true, false, TRANSITS, actual)[0];
+
+        assertArrayEquals(expected, actual, DELTA);
+        assertTrue(bracketing <= stepping, bracketing + " vs " + stepping + " calculations");
+    }
+
+    @Test
+    void tcPlanetPlanetFindsTheSameTransits() {
+        assertFewerEvaluations("Moon/Sun", () -> new TCPlanetPlanet(getSwissEph(), SE_MOON, SE_SUN, LON, 0.));
+        assertFewerEvaluations("Mars/Jupiter", () -> new TCPlanetPlanet(getSwissEph(), SE_MARS, SE_JUPITER, LON, 90.));
+    }
+
+    @Test
+    void tcHousesFindsTheSameTransits() {
+        assertFewerEvaluations("ascendant", () -> new TCHouses(getSwissEph(), SE_ASC, SE_HSYS_PLACIDUS,
+                80.27, 13.08, 0, 100.));
+        assertFewerEvaluations("cusp 11", () -> new TCHouses(getSwissEph(), -11, SE_HSYS_KOCH,
+                0., 51.48, 0, 250.));
+    }
+
+    @Test
+    void tcPlanetHouseFindsTheSameTransits() {
+        assertFewerEvaluations("Moon/ascendant", () -> new TCPlanetHouse(getSwissEph(), SE_MOON, LON,
+                SE_ASC, SE_HSYS_PLACIDUS, 0, 0., 51.48, 0.));
+        assertFewerEvaluations("Venus/MC", () -> new TCPlanetHouse(getSwissEph(), SE_VENUS, LON,
+                SE_MC, SE_HSYS_PLACIDUS, 0, 80.27, 13.08, 0.));
+    }
+
+    @Test
+    void backwardSearchFindsTheSameTransits() {
+        assertFewerEvaluations("Mars backwards", true, () -> new TCPlanet(getSwissEph(), SE_MARS, LON, 100.));
+        assertFewerEvaluations("Moon/Sun backwards", true, () -> new TCPlanetPlanet(getSwissEph(), SE_MOON, SE_SUN, LON, 90.));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "swe.benchmark", matches = "true")
+    void benchmarkBracketingAgainstStepping() {
+        benchmark("TCPlanet Moon", () -> new TCPlanet(getSwissEph(), SE_MOON, LON, 123.));
+        benchmark("TCPlanet Jupiter speed", () -> new TCPlanet(getSwissEph(), SE_JUPITER, LON | SEFLG_TRANSIT_SPEED, 0.));
+        benchmark("TCPlanetPlanet Moon/Sun", () -> new TCPlanetPlanet(getSwissEph(), SE_MOON, SE_SUN, LON, 0.));
+        benchmark("TCPlanetPlanet Mars/Jupiter", () -> new TCPlanetPlanet(getSwissEph(), SE_MARS, SE_JUPITER, LON, 90.));
+        benchmark("TCHouses ascendant", () -> new TCHouses(getSwissEph(), SE_ASC, SE_HSYS_PLACIDUS, 80.27, 13.08, 0, 100.));
+        benchmark("TCPlanetHouse Moon/ascendant", () -> new TCPlanetHouse(getSwissEph(), SE_MOON, LON,
+                SE_ASC, SE_HSYS_PLACIDUS, 0, 0., 51.48, 0.));
+    }
+
+    private static void benchmark(final String name, final Supplier<TransitCalculator> calculator) {
+        for (int round = 0; round < 3; round++) {
+            final long[] stepping = transits(calculator.get(), false, false, 5 * TRANSITS, null);
+            final long[] bracketing = transits(calculator.get(), true, false, 5 * TRANSITS, null);
+
+            System.out.printf("%s: %d transits, stepping %d calculations %d ms, bracketing %d calculations %d ms%n",
+                    name, 5 * TRANSITS, stepping[0], stepping[1] / 1_000_000, bracketing[0], bracketing[1] / 1_000_000);
+        }
+    }
+
+    private static void assertFewerEvaluations(final String name, final Supplier<TransitCalculator> calculator) {
+        assertFewerEvaluations(name, false, calculator);
+    }
+
+    private static void assertFewerEvaluations(final String name, final boolean back,
+                                               final Supplier<TransitCalculator> calculator) {
+        final double[] expected = new double[TRANSITS], actual = new double[TRANSITS];
+        final long stepping = transits(calculator.get(), false, back, TRANSITS, expected)[0];
+        final long bracketing = transits(calculator.get(), true, back, TRANSITS, actual)[0];
+
+        for (int k = 0; k < TRANSITS; k++) {
+            assertEquals(expected[k], actual[k], DELTA, name + " transit " + k);
+        }
+        assertTrue(bracketing < stepping, name + ": " + bracketing + " vs " + stepping + " calculations");
+    }
+
+    /**
+     * @return {calculations, nanoseconds} of consecutive transits
+     */
+    private static long[] transits(final TransitCalculator tc, final boolean bracketing, final boolean back,
+                                   final int count, final double[] transits) {
+        tc.setBracketing(bracketing);
+        final long start = System.nanoTime();
+        long evaluations = 0;
+        double jdUT = J2000;
+
+        for (int k = 0; k < count; k++) {
+            jdUT = TransitCalculator.getTransitUT(tc, jdUT, back);
+            evaluations += tc.getEvaluations();
+            if (null != transits) transits[k] = jdUT;
+            jdUT += back ? -1e-3 : 1e-3;
+        }
+
+        return new long[]{evaluations, System.nanoTime() - start};
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SwissephException;
+import swisseph.TCPlanet;
+import swisseph.TransitCalculator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * The transit search with a time limit, a timeout and a cancellation must stop at whichever
+ * comes first, tell why and how many calculations it took, and find the same transit as
+ * without them otherwise.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class TransitDeadlineTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final int LON = SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE;
+
+    @Test
+    void transitWithinTheLimitsIsFound() {
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_MOON, LON, 123.);
+        final double expected = TransitCalculator.getTransitUT(tc, J2000, false);
+
+        assertEquals(expected, TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 30, 60_000, () -> false));
+        assertEquals(expected, TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 30, 0, null));
+        assertEquals(expected, TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 30, Long.MAX_VALUE, null));
+        assertEquals(expected, TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 30));
+        assertTrue(tc.getEvaluations() > 0);
+    }
+
+    @Test
+    void searchStopsAtTheTimeLimit() {
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_SATURN, LON, 0.);
+        final SwissephException e = assertThrows(SwissephException.class,
+                () -> TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 365, 60_000, null));
+
+        assertEquals(SwissephException.BEYOND_USER_TIME_LIMIT, e.getType());
+        assertTrue(e.getJD() > J2000 + 365);
+    }
+
+    @Test
+    void searchStopsWhenCancelled() {
+        final AtomicInteger checks = new AtomicInteger();
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_PLUTO, LON, 250.);
+        final SwissephException e = assertThrows(SwissephException.class,
+                () -> TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 100_000, 0,
+                        () -> checks.incrementAndGet() > 20));
+
+        assertEquals(SwissephException.USER_CANCELLED, e.getType());
+        assertEquals(20, tc.getEvaluations());
+
+        // the limits were those of the search cancelled only
+        final double jdUT = TransitCalculator.getTransitUT(tc, J2000, false);
+        assertTrue(jdUT > J2000 + 200 * 365, String.valueOf(jdUT));
+    }
+
+    @Test
+    void searchStopsAtTheDeadline() {
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_PLUTO, LON, 250.);
+        final long start = System.nanoTime();
+        final SwissephException e = assertThrows(SwissephException.class,
+                () -> TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 100_000, 20, () -> {
+                    try {
+                        Thread.sleep(2); // a slow calculation
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                }));
+
+        assertEquals(SwissephException.BEYOND_USER_DEADLINE, e.getType());
+        assertTrue(tc.getEvaluations() > 0 && tc.getEvaluations() <= 10, String.valueOf(tc.getEvaluations()));
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+    }
+
+    @Test
+    void invalidTimeoutIsRejected() {
+        final TCPlanet tc = new TCPlanet(getSwissEph(), SE_SUN, LON, 0.);
+        assertThrows(IllegalArgumentException.class,
+                () -> TransitCalculator.getTransitUT(tc, J2000, false, J2000 + 365, -1, null));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import swisseph.SwissEph;
+import swisseph.SwissephException;
+import swisseph.TCPlanet;
+import swisseph.TransitCalculator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * {@link SwissEph#setTransitSpeedsfile} must keep the extreme speeds sampled for objects
+ * without built-in ones, sample only what an entry lacks and give them to a new engine. The
+ * sampling must not depend on chance or on how many runs it took.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class TransitSpeedsfileTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final int FLAGS = SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE;
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void sampledSpeedsAreWrittenAndReused() throws IOException {
+        final Path file = tmp.resolve("speeds.txt");
+        final double expected;
+
+        try (SwissEph swissEph = (SwissEph) newSwissEph()) {
+            swissEph.setTransitSpeedsfile(file.toString(), true);
+
+            expected = TransitCalculator.getTransitUT(new TCPlanet(swissEph, SE_CUPIDO, FLAGS, 120., 200, 1.4), J2000, false);
+            assertEquals(200, samples(file, SE_CUPIDO));
+
+            // the entry is good enough: a lookup only
+            new TCPlanet(swissEph, SE_CUPIDO, FLAGS, 120., 200, 1.4);
+            assertEquals(200, samples(file, SE_CUPIDO));
+
+            // it lacks 100 samples
+            new TCPlanet(swissEph, SE_CUPIDO, FLAGS, 120., 300, 1.4);
+            assertEquals(300, samples(file, SE_CUPIDO));
+        }
+
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.US_ASCII);
+
+        try (SwissEph swissEph = (SwissEph) newSwissEph()) {
+            swissEph.setTransitSpeedsfile(file.toString(), false);
+
+            final TCPlanet tc = new TCPlanet(swissEph, SE_CUPIDO, FLAGS, 120., 300, 1.4);
+            assertEquals(expected, TransitCalculator.getTransitUT(tc, J2000, false), 1e-6);
+            assertEquals(lines, Files.readAllLines(file, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void speedsFoundBeforeTheFileAreWrittenToIt() throws IOException {
+        final Path file = tmp.resolve("later.txt");
+
+        try (SwissEph swissEph = (SwissEph) newSwissEph()) {
+            new TCPlanet(swissEph, SE_HADES, FLAGS, 0., 150, 1.4);
+            swissEph.setTransitSpeedsfile(file.toString(), true);
+            assertTrue(samples(file, SE_HADES) >= 150);
+        }
+    }
+
+    @Test
+    void samplingIsDeterministicAndContinuesAShorterRun() throws IOException {
+        final Path stepwise = tmp.resolve("stepwise.txt"), direct = tmp.resolve("direct.txt");
+
+        try (SwissEph swissEph = (SwissEph) newSwissEph()) {
+            swissEph.setTransitSpeedsfile(stepwise.toString(), true);
+            new TCPlanet(swissEph, SE_ZEUS, FLAGS, 0., 100, 1.4);
+            new TCPlanet(swissEph, SE_ZEUS, FLAGS, 0., 250, 1.4);
+        }
+
+        try (SwissEph swissEph = (SwissEph) newSwissEph()) {
+            swissEph.setTransitSpeedsfile(direct.toString(), true);
+            new TCPlanet(swissEph, SE_ZEUS, FLAGS, 0., 250, 1.4);
+        }
+
+        assertEquals(entry(stepwise, SE_ZEUS, 0), entry(direct, SE_ZEUS, 0));
+    }
+
+    @Test
+    void accelerationsAreSampledForSpeedTransits() {
+        final ISwissEph swissEph = getSwissEph();
+        final TCPlanet tc = new TCPlanet(swissEph, SE_KRONOS, FLAGS | SEFLG_TRANSIT_SPEED, 0., 200, 1.4);
+
+        // speed 0: the next station
+        final double station = TransitCalculator.getTransitUT(tc, J2000, false);
+        final double[] xx = new double[6];
+        assertNotEquals(ERR, swissEph.swe_calc_ut(station, SE_KRONOS, SEFLG_SWIEPH | SEFLG_SPEED, xx, null));
+        assertEquals(0., xx[3], 1e-6);
+        assertTrue(station > J2000 && station < J2000 + 366);
+    }
+
+    @Test
+    void missingOrDamagedFileIsRejected() throws IOException {
+        final Path damaged = tmp.resolve("damaged.txt");
+        Files.write(damaged, "41 0 2 many 1.0 2.0\n".getBytes(StandardCharsets.US_ASCII));
+
+        try (SwissEph swissEph = (SwissEph) newSwissEph()) {
+            assertThrows(SwissephException.class, () -> swissEph.setTransitSpeedsfile(
+                    tmp.resolve("missing.txt").toString(), false));
+            assertThrows(SwissephException.class, () -> swissEph.setTransitSpeedsfile(
+                    tmp.resolve("no/such/dir.txt").toString(), true));
+            assertThrows(SwissephException.class, () -> swissEph.setTransitSpeedsfile(damaged.toString(), false));
+        }
+    }
+
+    private static int samples(final Path file, final int planet) throws IOException {
+        return Integer.parseInt(entry(file, planet, 0).split(" ")[3]);
+    }
+
+    private static String entry(final Path file, final int planet, final int idx) throws IOException {
+        final String key = planet + " " + idx + " " + SEFLG_SWIEPH + " ";
+        final List<String> entries = Files.readAllLines(file, StandardCharsets.US_ASCII).stream()
+                .filter(line -> line.startsWith(key)).collect(Collectors.toList());
+        assertEquals(1, entries.size(), entries.toString());
+        return entries.get(0);
+    }
+}
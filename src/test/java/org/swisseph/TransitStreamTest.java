@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.TCPlanet;
+import swisseph.TransitCalculator;
+import swisseph.TransitEvent;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * {@link TransitCalculator#streamTransitsUT} must give the transits of one
+ * {@link TransitCalculator#getTransitsUT} over the whole range, each one once, whether
+ * sequential or parallel, and search no further than it is consumed.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class TransitStreamTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final double DELTA = 1. / 1440;
+    static final int LON = SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE;
+
+    @Test
+    void sequentialStreamFindsEveryTransitOnce() {
+        assertStream(() -> new TCPlanet(getSwissEph(), SE_MOON, LON, 0.), nakshatras(), J2000, J2000 + 90, false);
+        assertStream(() -> new TCPlanet(getSwissEph(), SE_MERCURY, LON, 0.), signs(), J2000, J2000 + 730, false);
+    }
+
+    @Test
+    void parallelStreamFindsEveryTransitOnce() {
+        final AtomicInteger calculators = new AtomicInteger();
+        final Supplier<TransitCalculator> supplier = () -> {
+            calculators.incrementAndGet();
+            return new TCPlanet(getSwissEph(), SE_MOON, LON, 0.);
+        };
+
+        assertStream(supplier, nakshatras(), J2000, J2000 + 365, true);
+        assertTrue(calculators.get() > 1, "splits: " + calculators.get());
+    }
+
+    @Test
+    void streamSearchesNoFurtherThanConsumed() {
+        final AtomicInteger calculators = new AtomicInteger();
+        final TransitCalculator tc = new TCPlanet(getSwissEph(), SE_MOON, LON, 0.);
+
+        // a sweep of seven centuries would take far more than the first window
+        final Iterator<TransitEvent> transits = TransitCalculator.streamTransitsUT(() -> {
+            calculators.incrementAndGet();
+            return tc;
+        }, nakshatras(), J2000, J2000 + 250_000).iterator();
+
+        final TransitEvent first = transits.next(), second = transits.next();
+        assertTrue(first.tjdUT > J2000 && first.tjdUT < J2000 + 1.5, first.toString());
+        assertTrue(second.tjdUT > first.tjdUT && second.tjdUT < J2000 + 2.5, second.toString());
+        assertEquals(1, calculators.get());
+        assertTrue(tc.getEvaluations() < 100, "calculations: " + tc.getEvaluations());
+    }
+
+    @Test
+    void invalidRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TransitCalculator.streamTransitsUT(
+                () -> new TCPlanet(getSwissEph(), SE_SUN, LON, 0.), signs(), J2000, J2000));
+    }
+
+    private static void assertStream(final Supplier<TransitCalculator> calculators, final double[] offsets,
+                                     final double jdUT0, final double jdUT1, final boolean parallel) {
+        final TransitEvent[] expected = TransitCalculator.getTransitsUT(calculators.get(), offsets, jdUT0, jdUT1);
+        final List<TransitEvent> actual = (parallel
+                ? TransitCalculator.streamTransitsUT(calculators, offsets, jdUT0, jdUT1).parallel()
+                : TransitCalculator.streamTransitsUT(calculators, offsets, jdUT0, jdUT1)).collect(Collectors.toList());
+
+        assertEquals(expected.length, actual.size());
+        for (int k = 0; k < expected.length; k++) {
+            final TransitEvent event = actual.get(k);
+            assertEquals(expected[k].index, event.index, event.toString());
+            assertEquals(expected[k].direction, event.direction, event.toString());
+            assertEquals(expected[k].tjdUT, event.tjdUT, DELTA, event.toString());
+        }
+    }
+
+    private static double[] signs() {
+        final double[] offsets = new double[12];
+        for (int i = 0; i < offsets.length; i++) offsets[i] = i * 30.;
+        return offsets;
+    }
+
+    private static double[] nakshatras() {
+        final double[] offsets = new double[27];
+        for (int i = 0; i < offsets.length; i++) offsets[i] = i * 360. / 27;
+        return offsets;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) By the Author
+ * Author    Yura Krymlov
+ * Created   2026-10
+ */
+package org.swisseph;
+
+import org.junit.jupiter.api.Test;
+import swisseph.SwissephException;
+import swisseph.TCHouses;
+import swisseph.TCPlanet;
+import swisseph.TCPlanetPlanet;
+import swisseph.TransitCalculator;
+import swisseph.TransitEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static swisseph.SweConst.*;
+
+/**
+ * {@link TransitCalculator#getTransitsUT(TransitCalculator, double[], double, double)} must
+ * find every transit a {@code getTransitUT()} per offset finds, in the order of time and
+ * with far fewer calculations.
+ *
+ * @author Yura Krymlov
+ * @version 1.0, 2026-10
+ */
+public class TransitSweepTest extends AbstractTest {
+
+    static final double J2000 = 2451544.5;
+    static final double DELTA = 1. / 1440;
+    static final int LON = SEFLG_SWIEPH | SEFLG_TRANSIT_LONGITUDE;
+
+    @Test
+    void signIngressesOfTheSun() {
+        final TransitEvent[] events = assertSweep(() -> new TCPlanet(getSwissEph(), SE_SUN, LON, 0.),
+                boundaries(12), J2000, J2000 + 730, false);
+        assertEquals(24, events.length);
+    }
+
+    @Test
+    void retrogradeIngressesOfMercury() {
+        final TransitEvent[] events = assertSweep(() -> new TCPlanet(getSwissEph(), SE_MERCURY, LON, 0.),
+                boundaries(12), J2000, J2000 + 730, true);
+        assertTrue(events.length > 24);
+        assertTrue(Arrays.stream(events).anyMatch(e -> e.direction < 0));
+    }
+
+    @Test
+    void nakshatrasOfTheMoon() {
+        assertSweep(() -> new TCPlanet(getSwissEph(), SE_MOON, LON, 0.), boundaries(27), J2000, J2000 + 60, false);
+        assertSweep(() -> new TCPlanet(getSwissEph(), SE_MOON, LON, 0.), boundaries(27), J2000, J2000 + 60, true);
+    }
+
+    @Test
+    void aspectsAndHouses() {
+        assertSweep(() -> new TCPlanetPlanet(getSwissEph(), SE_MOON, SE_SUN, LON, 0.),
+                new double[]{0., 90., 180., 270.}, J2000, J2000 + 90, true);
+        assertSweep(() -> new TCHouses(getSwissEph(), SE_ASC, SE_HSYS_PLACIDUS, 80.27, 13.08, 0, 0.),
+                boundaries(12), J2000, J2000 + 2, false);
+    }
+
+    @Test
+    void latitudeTargetsWithoutRollover() {
+        assertSweep(() -> new TCPlanet(getSwissEph(), SE_MOON, SEFLG_SWIEPH | SEFLG_TRANSIT_LATITUDE, 0.),
+                new double[]{4., 1., 0., 2., 3.}, J2000, J2000 + 60, true);
+    }
+
+    @Test
+    void invalidSweepIsRejected() {
+        final TransitCalculator tc = new TCPlanet(getSwissEph(), SE_SUN, LON, 0.);
+        assertThrows(IllegalArgumentException.class, () -> TransitCalculator.getTransitsUT(tc, boundaries(12), J2000, J2000));
+        assertThrows(SwissephException.class, () -> TransitCalculator.getTransitsUT(
+                new TCPlanet(getSwissEph(), SE_MOON, SEFLG_SWIEPH | SEFLG_TRANSIT_LATITUDE, 0.),
+                new double[]{0., -2.}, J2000, J2000 + 10));
+        assertThrows(IllegalArgumentException.class, () -> TransitCalculator.getTransitsUT(
+                new TCPlanetPlanet(getSwissEph(), SE_MARS, SE_VENUS, LON | SEFLG_PARTILE_TRANSIT, 0.),
+                boundaries(12), J2000, J2000 + 10));
+    }
+
+    private static TransitEvent[] assertSweep(final Supplier<TransitCalculator> calculator, final double[] offsets,
+                                              final double jdUT0, final double jdUT1, final boolean bracketing) {
+        final TransitCalculator tc = calculator.get();
+        tc.setBracketing(bracketing);
+        final int[] calculations = {0};
+        final List<double[]> expected = searchesPerOffset(tc, offsets, jdUT0, jdUT1, calculations);
+
+        final TransitEvent[] events = TransitCalculator.getTransitsUT(tc, offsets, jdUT0, jdUT1);
+        assertEquals(expected.size(), events.length);
+        assertTrue(tc.getEvaluations() < calculations[0], tc.getEvaluations() + " vs " + calculations[0]);
+
+        for (int k = 0; k < events.length; k++) {
+            final TransitEvent event = events[k];
+            assertEquals(expected.get(k)[1], event.index, event.toString());
+            assertEquals(offsets[event.index], event.offset, 0., event.toString());
+            assertEquals(expected.get(k)[0], event.tjdUT, DELTA, event.toString());
+            if (k > 0) assertTrue(events[k - 1].tjdUT <= event.tjdUT, event.toString());
+        }
+
+        return events;
+    }
+
+    /**
+     * @return {tjdUT, index} of the transits of a search per offset, in the order of time
+     */
+    private static List<double[]> searchesPerOffset(final TransitCalculator tc, final double[] offsets,
+                                                    final double jdUT0, final double jdUT1, final int[] calculations) {
+        final List<double[]> transits = new ArrayList<>();
+
+        for (int i = 0; i < offsets.length; i++) {
+            tc.setOffset(offsets[i]);
+            double jdUT = jdUT0;
+
+            while (true) {
+                jdUT = TransitCalculator.getTransitUT(tc, jdUT, false);
+                calculations[0] += tc.getEvaluations();
+                if (jdUT >= jdUT1) break;
+
+                transits.add(new double[]{jdUT, i});
+                jdUT += 1e-4;
+            }
+        }
+
+        transits.sort((t1, t2) -> Double.compare(t1[0], t2[0]));
+        return transits;
+    }
+
+    private static double[] boundaries(final int count) {
+        final double[] offsets = new double[count];
+        for (int i = 0; i < count; i++) offsets[i] = i * 360. / count;
+        return offsets;
+    }
+}